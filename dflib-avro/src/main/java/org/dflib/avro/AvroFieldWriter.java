@@ -0,0 +1,276 @@
+package org.dflib.avro;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.apache.avro.Conversion;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.util.Utf8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Writes the values of a single DataFrame column to an Avro encoder, as a field of a record. Writers are compiled once
+ * per column from the field schema, so that the type and the union branch of the field are resolved upfront instead of
+ * for every value. Primitive Series are written without boxing.
+ */
+abstract class AvroFieldWriter {
+
+    static AvroFieldWriter of(Schema.Field field, Series<?> data) {
+
+        Schema schema = field.schema();
+
+        switch (schema.getType()) {
+            case INT:
+                return data instanceof IntSeries && schema.getLogicalType() == null
+                        ? new IntWriter((IntSeries) data)
+                        : new ObjectWriter(field.name(), data, valueWriter(schema));
+            case LONG:
+                return data instanceof LongSeries && schema.getLogicalType() == null
+                        ? new LongWriter((LongSeries) data)
+                        : new ObjectWriter(field.name(), data, valueWriter(schema));
+            case DOUBLE:
+                return data instanceof DoubleSeries && schema.getLogicalType() == null
+                        ? new DoubleWriter((DoubleSeries) data)
+                        : new ObjectWriter(field.name(), data, valueWriter(schema));
+            case BOOLEAN:
+                return data instanceof BooleanSeries && schema.getLogicalType() == null
+                        ? new BoolWriter((BooleanSeries) data)
+                        : new ObjectWriter(field.name(), data, valueWriter(schema));
+            case NULL:
+                return new NullWriter();
+            case UNION:
+                return nullableWriter(field, data);
+            default:
+                return new ObjectWriter(field.name(), data, valueWriter(schema));
+        }
+    }
+
+    private static AvroFieldWriter nullableWriter(Schema.Field field, Series<?> data) {
+
+        List<Schema> types = field.schema().getTypes();
+
+        // we only know how to handle union with NULL; other unions are resolved per value by Avro
+        int nullIndex = -1;
+        int valueIndex = -1;
+        int len = types.size();
+        for (int i = 0; i < len; i++) {
+            if (types.get(i).getType() == Schema.Type.NULL) {
+                nullIndex = i;
+            } else if (valueIndex < 0) {
+                valueIndex = i;
+            } else {
+                return new GenericWriter(data, genericWriter(field.schema()));
+            }
+        }
+
+        if (nullIndex < 0) {
+            return new GenericWriter(data, genericWriter(field.schema()));
+        }
+
+        if (valueIndex < 0) {
+            return new NullWriter();
+        }
+
+        return new NullableWriter(data, nullIndex, valueIndex, valueWriter(types.get(valueIndex)));
+    }
+
+    private static ValueWriter valueWriter(Schema schema) {
+
+        LogicalType logicalType = schema.getLogicalType();
+        if (logicalType != null) {
+            Conversion<?> conversion = GenericData.get().getConversionFor(logicalType);
+            if (conversion != null) {
+                ValueWriter rawWriter = rawValueWriter(schema);
+                return (out, v) -> rawWriter.write(out, Conversions.convertToRawType(v, schema, logicalType, conversion));
+            }
+        }
+
+        return rawValueWriter(schema);
+    }
+
+    private static ValueWriter rawValueWriter(Schema schema) {
+        switch (schema.getType()) {
+            case INT:
+                return (out, v) -> out.writeInt(((Number) v).intValue());
+            case LONG:
+                return (out, v) -> out.writeLong(((Number) v).longValue());
+            case FLOAT:
+                return (out, v) -> out.writeFloat(((Number) v).floatValue());
+            case DOUBLE:
+                return (out, v) -> out.writeDouble(((Number) v).doubleValue());
+            case BOOLEAN:
+                return (out, v) -> out.writeBoolean((Boolean) v);
+            case STRING:
+                return (out, v) -> {
+                    if (v instanceof Utf8) {
+                        out.writeString((Utf8) v);
+                    } else {
+                        out.writeString(v.toString());
+                    }
+                };
+            case BYTES:
+                return (out, v) -> out.writeBytes((ByteBuffer) v);
+            case FIXED:
+                return (out, v) -> out.writeFixed(((GenericFixed) v).bytes());
+            case ENUM:
+                // both Java enums and Avro enum symbols are matched by name
+                return (out, v) -> out.writeEnum(schema.getEnumOrdinal(v.toString()));
+            default:
+                return genericWriter(schema);
+        }
+    }
+
+    // a fallback for complex types that are not produced by AvroSchemaCompiler, but may appear in explicit schemas
+    private static ValueWriter genericWriter(Schema schema) {
+        GenericDatumWriter<Object> writer = new GenericDatumWriter<>(schema);
+        return (out, v) -> writer.write(v, out);
+    }
+
+    abstract void write(Encoder out, int row) throws IOException;
+
+    @FunctionalInterface
+    interface ValueWriter {
+        void write(Encoder out, Object value) throws IOException;
+    }
+
+    static class IntWriter extends AvroFieldWriter {
+
+        private final IntSeries data;
+
+        IntWriter(IntSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            out.writeInt(data.getInt(row));
+        }
+    }
+
+    static class LongWriter extends AvroFieldWriter {
+
+        private final LongSeries data;
+
+        LongWriter(LongSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            out.writeLong(data.getLong(row));
+        }
+    }
+
+    static class DoubleWriter extends AvroFieldWriter {
+
+        private final DoubleSeries data;
+
+        DoubleWriter(DoubleSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            out.writeDouble(data.getDouble(row));
+        }
+    }
+
+    static class BoolWriter extends AvroFieldWriter {
+
+        private final BooleanSeries data;
+
+        BoolWriter(BooleanSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            out.writeBoolean(data.getBool(row));
+        }
+    }
+
+    static class NullWriter extends AvroFieldWriter {
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            out.writeNull();
+        }
+    }
+
+    static class ObjectWriter extends AvroFieldWriter {
+
+        private final String name;
+        private final Series<?> data;
+        private final ValueWriter valueWriter;
+
+        ObjectWriter(String name, Series<?> data, ValueWriter valueWriter) {
+            this.name = name;
+            this.data = data;
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            Object v = data.get(row);
+            if (v == null) {
+                throw new NullPointerException("null value in a non-nullable Avro field '" + name + "', row " + row);
+            }
+
+            valueWriter.write(out, v);
+        }
+    }
+
+    static class GenericWriter extends AvroFieldWriter {
+
+        private final Series<?> data;
+        private final ValueWriter valueWriter;
+
+        GenericWriter(Series<?> data, ValueWriter valueWriter) {
+            this.data = data;
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            valueWriter.write(out, data.get(row));
+        }
+    }
+
+    static class NullableWriter extends AvroFieldWriter {
+
+        private final Series<?> data;
+        private final int nullIndex;
+        private final int valueIndex;
+        private final ValueWriter valueWriter;
+
+        NullableWriter(Series<?> data, int nullIndex, int valueIndex, ValueWriter valueWriter) {
+            this.data = data;
+            this.nullIndex = nullIndex;
+            this.valueIndex = valueIndex;
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        void write(Encoder out, int row) throws IOException {
+            Object v = data.get(row);
+            if (v != null) {
+                out.writeIndex(valueIndex);
+                valueWriter.write(out, v);
+            } else {
+                out.writeIndex(nullIndex);
+                out.writeNull();
+            }
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package org.dflib.avro;
 
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.Exp;
 import org.dflib.Extractor;
 import org.dflib.Index;
+import org.dflib.Series;
 import org.dflib.avro.schema.AvroSchemaUtils;
 import org.dflib.avro.types.AvroTypeExtensions;
 import org.dflib.builder.DataFrameAppender;
+import org.dflib.concat.SeriesConcat;
+import org.dflib.concurrent.Futures;
 import org.apache.avro.Schema;
 import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.SeekableByteArrayInput;
@@ -18,15 +22,23 @@ import org.apache.avro.generic.GenericRecord;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 public class AvroLoader {
 
+    // the smallest byte range worth decoding in a separate task
+    private static final long MIN_SPLIT_SIZE = 1024 * 1024;
+
     static {
         AvroTypeExtensions.initIfNeeded();
     }
 
     private Schema schema;
+    private String[] columns;
+    private boolean parallelBlocks;
 
     /**
      * Sets an explicit "reader" schema. If not set, embedded "writer" schema of the file will be used. Of course
@@ -38,7 +50,39 @@ public class AvroLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to only process the specified columns, and include them in the DataFrame in the specified
+     * order. The columns are projected by narrowing the "reader" schema, so the Avro decoder skips the values of
+     * the other fields instead of materializing them.
+     *
+     * @return this loader instance
+     * @since 1.0.0-M23
+     */
+    public AvroLoader cols(String... columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    /**
+     * Configures the loader to decode the data blocks of a file in parallel using {@link Environment#threadPool()}.
+     * The file is split into byte ranges, one per available CPU, and each range is decoded by a separate reader
+     * starting at the first sync marker within the range. This speeds up loading of large files with multiple blocks,
+     * especially the compressed ones. Does not apply to {@link #loadBatches(File, int, Consumer)}.
+     *
+     * @return this loader instance
+     * @since 1.0.0-M23
+     */
+    public AvroLoader parallelBlocks() {
+        this.parallelBlocks = true;
+        return this;
+    }
+
     public DataFrame load(File file) {
+
+        if (parallelBlocks) {
+            return loadSplits(() -> new SeekableFileInput(file), file.length(), splitCount(file.length()));
+        }
+
         try (SeekableFileInput in = new SeekableFileInput(file)) {
             return load(in);
         } catch (IOException e) {
@@ -55,6 +99,11 @@ public class AvroLoader {
     }
 
     public DataFrame load(byte[] bytes) {
+
+        if (parallelBlocks) {
+            return loadSplits(() -> new SeekableByteArrayInput(bytes), bytes.length, splitCount(bytes.length));
+        }
+
         try (SeekableByteArrayInput in = new SeekableByteArrayInput(bytes)) {
             return load(in);
         } catch (IOException e) {
@@ -62,6 +111,51 @@ public class AvroLoader {
         }
     }
 
+    /**
+     * Loads the file data as a sequence of DataFrames with up to "batchSize" rows each, passing each one to the
+     * consumer as soon as it is decoded. Only one batch is held in memory at a time, so this method can be used to
+     * process files that would not fit in memory as a single DataFrame. If the file has no rows, the consumer is not
+     * invoked.
+     *
+     * @param batchSize max number of rows in each batch. Must be positive.
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(File file, int batchSize, Consumer<DataFrame> batchConsumer) {
+        try (SeekableFileInput in = new SeekableFileInput(file)) {
+            loadBatches(in, batchSize, batchConsumer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Avro file: " + file, e);
+        }
+    }
+
+    /**
+     * @see #loadBatches(File, int, Consumer)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(Path filePath, int batchSize, Consumer<DataFrame> batchConsumer) {
+        loadBatches(filePath.toFile(), batchSize, batchConsumer);
+    }
+
+    /**
+     * @see #loadBatches(File, int, Consumer)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(String filePath, int batchSize, Consumer<DataFrame> batchConsumer) {
+        loadBatches(new File(filePath), batchSize, batchConsumer);
+    }
+
+    /**
+     * @see #loadBatches(File, int, Consumer)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(byte[] bytes, int batchSize, Consumer<DataFrame> batchConsumer) {
+        try (SeekableByteArrayInput in = new SeekableByteArrayInput(bytes)) {
+            loadBatches(in, batchSize, batchConsumer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Avro bytes", e);
+        }
+    }
+
     protected DataFrame load(SeekableInput in) throws IOException {
 
         // Passing "reader" schema to GenericDatumReader. It is allowed to be null.
@@ -70,13 +164,9 @@ public class AvroLoader {
 
         GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
         DataFileReader<GenericRecord> inReader = new DataFileReader<>(in, reader);
-        Schema schema = reader.getExpected();
+        Schema schema = project(reader);
 
-        Index index = createIndex(schema);
-        DataFrameAppender<GenericRecord> appender = DataFrame
-                .byRow(mapColumns(schema))
-                .columnIndex(index)
-                .appender();
+        DataFrameAppender<GenericRecord> appender = createAppender(schema, 0);
 
         // reuse "record" flyweight
         GenericRecord record = null;
@@ -89,6 +179,136 @@ public class AvroLoader {
         return fromAvroTypes(df, schema);
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    protected void loadBatches(SeekableInput in, int batchSize, Consumer<DataFrame> batchConsumer) throws IOException {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+        DataFileReader<GenericRecord> inReader = new DataFileReader<>(in, reader);
+        Schema schema = project(reader);
+
+        // reuse "record" flyweight
+        GenericRecord record = null;
+        while (inReader.hasNext()) {
+
+            DataFrameAppender<GenericRecord> appender = createAppender(schema, batchSize);
+            for (int i = 0; i < batchSize && inReader.hasNext(); i++) {
+                record = inReader.next(record);
+                appender.append(record);
+            }
+
+            batchConsumer.accept(fromAvroTypes(appender.toDataFrame(), schema));
+        }
+    }
+
+    // package-private to allow testing the splits independently of the number of CPUs
+    DataFrame loadSplits(SeekableInputFactory input, long length, int splits) {
+
+        if (splits < 2) {
+            try (SeekableInput in = input.open()) {
+                return load(in);
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading Avro data", e);
+            }
+        }
+
+        // resolving the schema once, so that the split readers don't have to redo the projection
+        Schema schema = schemaOf(input);
+
+        List<Callable<DataFrame>> tasks = new ArrayList<>(splits);
+        long splitSize = length / splits;
+        for (int i = 0; i < splits; i++) {
+            long start = i * splitSize;
+            long end = i == splits - 1 ? length : start + splitSize;
+            tasks.add(() -> loadSplit(input, schema, start, end));
+        }
+
+        DataFrame[] parts = Futures.invokeAll(Environment.commonEnv().threadPool(), tasks).toArray(new DataFrame[0]);
+        return fromAvroTypes(assemble(parts), schema);
+    }
+
+    // decodes the blocks that start within the [start, end) byte range. Per Avro sync marker semantics, a block that
+    // starts at the range boundary belongs to the next range, so each block is decoded exactly once
+    private DataFrame loadSplit(SeekableInputFactory input, Schema schema, long start, long end) throws IOException {
+        try (SeekableInput in = input.open()) {
+
+            DataFileReader<GenericRecord> inReader = new DataFileReader<>(in, new GenericDatumReader<>(schema));
+            DataFrameAppender<GenericRecord> appender = createAppender(schema, 0);
+
+            inReader.sync(start);
+
+            // reuse "record" flyweight
+            GenericRecord record = null;
+            while (inReader.hasNext() && !inReader.pastSync(end)) {
+                record = inReader.next(record);
+                appender.append(record);
+            }
+
+            return appender.toDataFrame();
+        }
+    }
+
+    // reads the file header to resolve the schema of the loaded data
+    private Schema schemaOf(SeekableInputFactory input) {
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+        try (DataFileReader<GenericRecord> inReader = new DataFileReader<>(input.open(), reader)) {
+            return project(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Avro data", e);
+        }
+    }
+
+    /**
+     * Narrows the "expected" schema of the reader to the columns configured via {@link #cols(String...)}. The fields
+     * that are not present in the expected schema are skipped by the Avro decoder.
+     *
+     * @return the schema of the loaded data
+     */
+    private Schema project(GenericDatumReader<GenericRecord> reader) {
+
+        Schema expected = reader.getExpected();
+        if (columns == null) {
+            return expected;
+        }
+
+        List<Schema.Field> fields = new ArrayList<>(columns.length);
+        for (String c : columns) {
+            Schema.Field f = expected.getField(c);
+            if (f == null) {
+                throw new IllegalArgumentException("Column '" + c + "' is not present in the Avro schema");
+            }
+
+            fields.add(new Schema.Field(f, f.schema()));
+        }
+
+        Schema projected = Schema.createRecord(
+                expected.getName(),
+                expected.getDoc(),
+                expected.getNamespace(),
+                expected.isError(),
+                fields);
+
+        reader.setExpected(projected);
+        return projected;
+    }
+
+    private DataFrameAppender<GenericRecord> createAppender(Schema schema, int capacity) {
+        return DataFrame
+                .byRow(mapColumns(schema))
+                .columnIndex(createIndex(schema))
+                .capacity(capacity)
+                .appender();
+    }
+
+    private int splitCount(long length) {
+        return (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), length / MIN_SPLIT_SIZE));
+    }
+
     protected Index createIndex(Schema schema) {
         // TODO: do we need to explicitly sort field by "order" to recreate save order?
         String[] labels = schema.getFields().stream().map(Schema.Field::name).toArray(String[]::new);
@@ -186,4 +406,31 @@ public class AvroLoader {
 
         return df;
     }
+
+    private static DataFrame assemble(DataFrame[] parts) {
+
+        int len = parts.length;
+        Index columns = parts[0].getColumnsIndex();
+        int w = columns.size();
+
+        List<Series<?>> concatenated = new ArrayList<>(w);
+        for (int j = 0; j < w; j++) {
+            Series<?>[] columnParts = new Series[len];
+            for (int i = 0; i < len; i++) {
+                columnParts[i] = parts[i].getColumn(j);
+            }
+
+            concatenated.add(SeriesConcat.primitiveConcat(columnParts));
+        }
+
+        return DataFrame.byColumn(columns).ofIterable(concatenated);
+    }
+
+    /**
+     * Opens a new independent input over the same Avro data, allowing multiple readers to decode it in parallel.
+     */
+    @FunctionalInterface
+    interface SeekableInputFactory {
+        SeekableInput open() throws IOException;
+    }
 }
@@ -1,22 +1,27 @@
 package org.dflib.avro;
 
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.Exp;
 import org.dflib.avro.schema.AvroSchemaUtils;
-import org.dflib.row.RowProxy;
+import org.dflib.concurrent.Futures;
 import org.apache.avro.Schema;
 import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileStream;
 import org.apache.avro.file.DataFileWriter;
 import org.apache.avro.file.SyncableFileOutputStream;
-import org.apache.avro.generic.GenericData;
-import org.apache.avro.generic.GenericDatumWriter;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.DatumWriter;
+import org.apache.avro.generic.GenericDatumReader;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Saves DataFrames to binary ".avro" files with an embedded schema and optional compression.
@@ -25,7 +30,12 @@ import java.nio.file.Path;
  */
 public class AvroSaver extends BaseSaver<AvroSaver> {
 
+    // the smallest number of rows worth encoding in a separate task
+    private static final int MIN_CHUNK_ROWS = 10_000;
+
     private CodecFactory codec;
+    private int syncInterval;
+    private boolean parallelBlocks;
     private Schema schema;
 
     public AvroSaver codec(CodecFactory codec) {
@@ -33,6 +43,33 @@ public class AvroSaver extends BaseSaver<AvroSaver> {
         return this;
     }
 
+    /**
+     * Sets the approximate size in bytes of the uncompressed data blocks separated by sync markers. Larger blocks
+     * compress better, while smaller blocks allow the readers to split the file at finer granularity. If not set,
+     * the Avro default of 64000 bytes is used.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public AvroSaver syncInterval(int syncInterval) {
+        this.syncInterval = syncInterval;
+        return this;
+    }
+
+    /**
+     * Configures the saver to encode and compress the data blocks in parallel using {@link Environment#threadPool()}.
+     * The DataFrame rows are split into chunks, each encoded into a sequence of blocks by a separate task, and the
+     * blocks are appended to the output in the order of rows. This speeds up saving of large DataFrames, especially
+     * with a compression codec.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public AvroSaver parallelBlocks() {
+        this.parallelBlocks = true;
+        return this;
+    }
+
     /**
      * Save data with the explicit Schema. If not set, a Schema will be generated automatically based on the
      * DataFrame contents.
@@ -80,37 +117,108 @@ public class AvroSaver extends BaseSaver<AvroSaver> {
     protected void doSave(DataFrame df, Schema schema, OutputStream out) throws IOException {
 
         DataFrame avroReadyDf = makeAvroReady(df, schema);
+        int h = avroReadyDf.height();
+        int chunkRows = chunkRows(h);
 
-        DatumWriter<GenericRecord> writer = new GenericDatumWriter<>(schema);
+        if (parallelBlocks && h > chunkRows) {
+            doSaveParallel(avroReadyDf, schema, out, chunkRows);
+            return;
+        }
 
         // DataFileWriter includes Schema in the output
-        try (DataFileWriter<GenericRecord> outWriter = new DataFileWriter<>(writer)) {
+        try (DataFileWriter<Integer> outWriter = createWriter(avroReadyDf)) {
+            outWriter.create(schema, out);
 
-            if (codec != null) {
-                outWriter.setCodec(codec);
+            // the rows are passed to DataFrameDatumWriter as positions, and the values are read from the columns
+            for (int i = 0; i < h; i++) {
+                outWriter.append(i);
             }
+        }
+    }
+
+    // package-private to allow testing the chunks independently of the number of CPUs
+    void doSaveParallel(DataFrame df, Schema schema, OutputStream out, int chunkRows) throws IOException {
 
+        ExecutorService pool = Environment.commonEnv().threadPool();
+
+        // limiting the number of chunks that were encoded, but not written yet, to cap the memory use
+        int maxPending = Runtime.getRuntime().availableProcessors();
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+
+        try (DataFileWriter<Integer> outWriter = createWriter(df)) {
             outWriter.create(schema, out);
 
-            // using flyweight wrapper around DFLib RowProxy
-            RowToAvroRecordAdapter record = new RowToAvroRecordAdapter(schema);
-            for (RowProxy r : avroReadyDf) {
-                outWriter.append(record.resetRow(r));
+            int h = df.height();
+            for (int from = 0; from < h; from += chunkRows) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(h, from + chunkRows);
+
+                if (pending.size() >= maxPending) {
+                    appendChunk(outWriter, Futures.get(pending.poll()));
+                }
+
+                pending.add(pool.submit(() -> encodeChunk(df, schema, chunkFrom, chunkTo)));
+            }
+
+            while (!pending.isEmpty()) {
+                appendChunk(outWriter, Futures.get(pending.poll()));
             }
+        } catch (RuntimeException | IOException e) {
+            Futures.cancel(pending);
+
+            throw e;
+        }
+    }
+
+    // encodes and compresses a range of rows as a standalone in-memory Avro file with the same schema and codec
+    private byte[] encodeChunk(DataFrame df, Schema schema, int from, int to) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataFileWriter<Integer> chunkWriter = createWriter(df)) {
+            chunkWriter.create(schema, out);
+            for (int i = from; i < to; i++) {
+                chunkWriter.append(i);
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    // copies the compressed blocks of the chunk to the output as is, with the output file sync markers
+    private static void appendChunk(DataFileWriter<Integer> outWriter, byte[] chunk) throws IOException {
+        try (DataFileStream<Integer> in = new DataFileStream<>(new ByteArrayInputStream(chunk), new GenericDatumReader<>())) {
+            outWriter.appendAllFrom(in, false);
         }
     }
 
+    private DataFileWriter<Integer> createWriter(DataFrame df) {
+
+        DataFileWriter<Integer> writer = new DataFileWriter<>(new DataFrameDatumWriter(df));
+
+        if (codec != null) {
+            writer.setCodec(codec);
+        }
+
+        if (syncInterval > 0) {
+            writer.setSyncInterval(syncInterval);
+        }
+
+        return writer;
+    }
+
+    private static int chunkRows(int h) {
+        int chunks = Runtime.getRuntime().availableProcessors() * 2;
+        return Math.max(MIN_CHUNK_ROWS, (h + chunks - 1) / chunks);
+    }
+
     protected DataFrame makeAvroReady(DataFrame df, Schema schema) {
 
-        // 1. enum values must be converted to GenericEnumSymbol
-        // 2. unmapped types must be converted to Strings
+        // unmapped types must be converted to Strings. Enum values are written by name, and require no conversion
 
         for (Schema.Field f : schema.getFields()) {
             Schema fSchema = f.schema().isUnion() ? AvroSchemaUtils.unpackUnion(f.schema()) : f.schema();
 
-            if (AvroSchemaUtils.isEnum(fSchema)) {
-                df = df.cols(f.name()).merge(Exp.$col(f.name()).mapVal(v -> new GenericData.EnumSymbol(fSchema, v)));
-            } else if (AvroSchemaUtils.isUnmapped(fSchema)) {
+            if (AvroSchemaUtils.isUnmapped(fSchema)) {
                 df = df.cols(f.name()).merge(Exp.$col(f.name()).castAsStr());
             }
         }
@@ -0,0 +1,50 @@
+package org.dflib.avro;
+
+import org.dflib.DataFrame;
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A DatumWriter that writes DataFrame rows referenced by their positions straight to the Avro encoder, walking the
+ * columns via per-field writers compiled from the record schema. Schema fields are matched with the DataFrame columns
+ * by position.
+ */
+class DataFrameDatumWriter implements DatumWriter<Integer> {
+
+    private final DataFrame df;
+    private AvroFieldWriter[] fieldWriters;
+
+    DataFrameDatumWriter(DataFrame df) {
+        this.df = df;
+    }
+
+    @Override
+    public void setSchema(Schema schema) {
+
+        List<Schema.Field> fields = schema.getFields();
+        int w = fields.size();
+        if (w > df.width()) {
+            throw new IllegalArgumentException("Avro schema has " + w + " fields, while the DataFrame only has "
+                    + df.width() + " columns");
+        }
+
+        AvroFieldWriter[] fieldWriters = new AvroFieldWriter[w];
+        for (int i = 0; i < w; i++) {
+            fieldWriters[i] = AvroFieldWriter.of(fields.get(i), df.getColumn(i));
+        }
+
+        this.fieldWriters = fieldWriters;
+    }
+
+    @Override
+    public void write(Integer row, Encoder out) throws IOException {
+        int r = row;
+        for (AvroFieldWriter w : fieldWriters) {
+            w.write(out, r);
+        }
+    }
+}
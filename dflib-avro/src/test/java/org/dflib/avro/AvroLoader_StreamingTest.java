@@ -0,0 +1,117 @@
+package org.dflib.avro;
+
+import org.apache.avro.file.SeekableByteArrayInput;
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AvroLoader_StreamingTest extends BaseAvroSerializationTest {
+
+    // large enough to be saved as multiple Avro blocks
+    private static final int H = 20_000;
+
+    @TempDir
+    static File destination;
+
+    private static DataFrame df;
+    private static byte[] bytes;
+
+    @BeforeAll
+    static void saveData() {
+        int[] ints = new int[H];
+        String[] strings = new String[H];
+        double[] doubles = new double[H];
+        for (int i = 0; i < H; i++) {
+            ints[i] = i;
+            strings[i] = i % 5 == 0 ? null : "s" + i;
+            doubles[i] = i / 2.;
+        }
+
+        df = DataFrame.byColumn("i", "s", "d").of(Series.ofInt(ints), Series.of(strings), Series.ofDouble(doubles));
+        bytes = new AvroLoader_StreamingTest().save(df);
+    }
+
+    @Test
+    public void cols() {
+        DataFrame loaded = Avro.loader().cols("d", "i").load(bytes);
+
+        new DataFrameAsserts(loaded, "d", "i")
+                .expectHeight(H)
+                .expectRow(0, 0., 0)
+                .expectRow(H - 1, (H - 1) / 2., H - 1);
+    }
+
+    @Test
+    public void cols_Unknown() {
+        assertThrows(IllegalArgumentException.class, () -> Avro.loader().cols("i", "x").load(bytes));
+    }
+
+    @Test
+    public void loadSplits() {
+        for (int splits : new int[]{2, 3, 7, 50}) {
+            DataFrame loaded = Avro.loader().loadSplits(() -> new SeekableByteArrayInput(bytes), bytes.length, splits);
+
+            assertEquals(H, loaded.height(), "Splits: " + splits);
+            assertInstanceOf(IntSeries.class, loaded.getColumn("i"));
+            assertEquals(df.getColumn("i").toList(), loaded.getColumn("i").toList());
+            assertEquals(df.getColumn("s").toList(), loaded.getColumn("s").toList());
+            assertEquals(df.getColumn("d").toList(), loaded.getColumn("d").toList());
+        }
+    }
+
+    @Test
+    public void loadSplits_Cols() {
+        DataFrame loaded = Avro.loader()
+                .cols("s")
+                .loadSplits(() -> new SeekableByteArrayInput(bytes), bytes.length, 4);
+
+        new DataFrameAsserts(loaded, "s").expectHeight(H);
+        assertEquals(df.getColumn("s").toList(), loaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void parallelBlocks_File() {
+        File file = new File(destination, "parallelBlocks.avro");
+        Avro.save(df, file);
+
+        DataFrame loaded = Avro.loader().parallelBlocks().load(file);
+        assertEquals(H, loaded.height());
+        assertEquals(df.getColumn("s").toList(), loaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void loadBatches() {
+        List<DataFrame> batches = new ArrayList<>();
+        Avro.loader().cols("i").loadBatches(bytes, 7_000, batches::add);
+
+        assertEquals(3, batches.size());
+        new DataFrameAsserts(batches.get(0), "i").expectHeight(7_000).expectRow(0, 0);
+        new DataFrameAsserts(batches.get(1), "i").expectHeight(7_000).expectRow(0, 7_000);
+        new DataFrameAsserts(batches.get(2), "i").expectHeight(6_000).expectRow(5_999, H - 1);
+    }
+
+    @Test
+    public void loadBatches_Empty() {
+        List<DataFrame> batches = new ArrayList<>();
+        Avro.loader().loadBatches(save(DataFrame.empty("a", "b")), 10, batches::add);
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    public void loadBatches_InvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> Avro.loader().loadBatches(bytes, 0, b -> {}));
+        assertThrows(IllegalArgumentException.class, () -> Avro.loader().loadBatches(bytes, -1, b -> {}));
+    }
+}
@@ -0,0 +1,106 @@
+package org.dflib.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AvroSaver_BlocksTest {
+
+    private static final int H = 5_000;
+
+    private static DataFrame df;
+
+    @BeforeAll
+    static void createData() {
+        int[] ints = new int[H];
+        long[] longs = new long[H];
+        Integer[] nullableInts = new Integer[H];
+        String[] strings = new String[H];
+        X[] enums = new X[H];
+        LocalDate[] dates = new LocalDate[H];
+
+        for (int i = 0; i < H; i++) {
+            ints[i] = i;
+            longs[i] = i * 1_000_000_000L;
+            nullableInts[i] = i % 3 == 0 ? null : -i;
+            strings[i] = i % 5 == 0 ? null : "s" + i;
+            enums[i] = i % 7 == 0 ? null : X.values()[i % 2];
+            dates[i] = LocalDate.of(2024, 1, 1).plusDays(i);
+        }
+
+        df = DataFrame.byColumn("i", "l", "ni", "s", "e", "d").of(
+                Series.ofInt(ints),
+                Series.ofLong(longs),
+                Series.of(nullableInts),
+                Series.of(strings),
+                Series.of(enums),
+                Series.of(dates));
+    }
+
+    @Test
+    public void save() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Avro.saver().save(df, out);
+        assertEqualData(Avro.load(out.toByteArray()));
+    }
+
+    @Test
+    public void save_CodecAndSyncInterval() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Avro.saver().codec(CodecFactory.deflateCodec(6)).syncInterval(1024).save(df, out);
+        assertEqualData(Avro.load(out.toByteArray()));
+    }
+
+    @Test
+    public void doSaveParallel() throws IOException {
+        AvroSaver saver = Avro.saver().codec(CodecFactory.deflateCodec(6)).syncInterval(4096);
+        Schema schema = saver.getOrCreateSchema(df);
+
+        for (int chunkRows : new int[]{1, 999, 2_500, H}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            saver.doSaveParallel(df, schema, out, chunkRows);
+            assertEqualData(Avro.load(out.toByteArray()));
+        }
+    }
+
+    @Test
+    public void parallelBlocks() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Avro.saver().parallelBlocks().save(df, out);
+        assertEqualData(Avro.load(out.toByteArray()));
+    }
+
+    @Test
+    public void save_NullsOnly() {
+        DataFrame nulls = DataFrame.foldByRow("a", "b").of(null, 1, null, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Avro.saver().save(nulls, out);
+
+        new DataFrameAsserts(Avro.load(out.toByteArray()), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, null, 1)
+                .expectRow(1, null, 2);
+    }
+
+    private static void assertEqualData(DataFrame loaded) {
+        assertEquals(H, loaded.height());
+        for (String c : df.getColumnsIndex()) {
+            assertEquals(df.getColumn(c).toList(), loaded.getColumn(c).toList(), c);
+        }
+    }
+
+    enum X {
+        a, b
+    }
+}
@@ -0,0 +1,96 @@
+package org.dflib.csv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression codecs for CSV files that are supported in DFLib without extra dependencies. When loading or saving
+ * files, a codec can be set explicitly or detected automatically from the file extension (and, when loading, from the
+ * "magic" bytes at the beginning of the file).
+ *
+ * @since 1.0.0-M23
+ */
+public enum CompressionCodec {
+
+    /**
+     * GZIP format (RFC 1952), usually stored in files with ".gz" extension.
+     */
+    GZIP,
+
+    /**
+     * ZLIB-wrapped DEFLATE format (RFC 1950), usually stored in files with ".deflate" or ".zz" extensions.
+     */
+    DEFLATE;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns a codec matching the file name extension, or null if the extension doesn't correspond to any known
+     * compression format.
+     */
+    public static CompressionCodec ofFileName(String fileName) {
+
+        String lcName = fileName.toLowerCase(Locale.ROOT);
+
+        if (lcName.endsWith(".gz") || lcName.endsWith(".gzip")) {
+            return GZIP;
+        }
+
+        if (lcName.endsWith(".deflate") || lcName.endsWith(".zz")) {
+            return DEFLATE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a codec matching the "magic" header bytes of a compressed stream, or null if the header is not recognized.
+     * The stream must support "mark", as it is reset back to the beginning after the header is read. Only GZIP has a
+     * header that is distinct enough to be reliably told apart from plain text. DEFLATE streams must be recognized by
+     * the file extension or configured explicitly.
+     */
+    static CompressionCodec ofMagicBytes(InputStream in) throws IOException {
+
+        byte[] header = new byte[2];
+
+        in.mark(header.length);
+        int len = in.readNBytes(header, 0, header.length);
+        in.reset();
+
+        if (len == header.length && (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b) {
+            return GZIP;
+        }
+
+        return null;
+    }
+
+    InputStream decompress(InputStream in) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            case DEFLATE:
+                return new InflaterInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+            default:
+                throw new IllegalStateException("Unsupported compression codec: " + this);
+        }
+    }
+
+    OutputStream compress(OutputStream out) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(out, BUFFER_SIZE);
+            case DEFLATE:
+                return new DeflaterOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+            default:
+                throw new IllegalStateException("Unsupported compression codec: " + this);
+        }
+    }
+}
@@ -34,6 +34,15 @@ public class Csv {
         return new CsvLoader();
     }
 
+    /**
+     * Returns a loader of multiple CSV files with the same structure, combined in a single DataFrame.
+     *
+     * @since 1.0.0-M23
+     */
+    public static CsvDatasetLoader datasetLoader() {
+        return new CsvDatasetLoader();
+    }
+
     /**
      * @since 0.11
      */
@@ -15,9 +15,13 @@ import org.dflib.builder.DataFrameByRowBuilder;
 import org.dflib.collection.Iterators;
 import org.dflib.sample.Sampler;
 
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -34,11 +38,16 @@ import java.util.Random;
  */
 public class CsvLoader {
 
+    // the size of decompressed data chunks and the max number of chunks decoded ahead of the parser
+    private static final int PIPELINE_CHUNK_SIZE = 64 * 1024;
+    private static final int PIPELINE_MAX_CHUNKS = 16;
+
     private HeaderStrategy headerStrategy;
     private ColumnExtractStrategy columnExtractStrategy;
     private final List<ColumnConfig> columnConfigs;
 
     private CSVFormat format;
+    private CompressionCodec compressionCodec;
 
     private RowPredicate rowCondition;
     private int rowSampleSize;
@@ -699,6 +708,19 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Explicitly sets the compression codec of the loaded CSV. If not set, the codec is detected from the file name
+     * extension or from the "magic" bytes at the beginning of the data, and uncompressed data is read as is.
+     * Decompression is performed on a separate thread, feeding the CSV parser via a bounded buffer.
+     *
+     * @return this loader instance
+     * @since 1.0.0-M23
+     */
+    public CsvLoader compression(CompressionCodec codec) {
+        this.compressionCodec = codec;
+        return this;
+    }
+
     /**
      * @since 0.11
      */
@@ -707,7 +729,7 @@ public class CsvLoader {
     }
 
     public DataFrame load(File file) {
-        try (Reader r = new FileReader(file)) {
+        try (Reader r = openReader(new FileInputStream(file), file.getName())) {
             return load(r);
         } catch (IOException e) {
             throw new RuntimeException("Error reading file: " + file, e);
@@ -715,10 +737,29 @@ public class CsvLoader {
     }
 
     public DataFrame load(String filePath) {
-        try (Reader r = new FileReader(filePath)) {
+        return load(new File(filePath));
+    }
+
+    /**
+     * Loads a DataFrame from a stream of bytes that may be compressed. Unless the codec was set explicitly via
+     * {@link #compression(CompressionCodec)}, compression is detected from the leading bytes of the stream. The bytes
+     * are decoded using the default platform charset. The stream is not closed by this method.
+     *
+     * @since 1.0.0-M23
+     */
+    public DataFrame load(InputStream in) {
+
+        // the caller owns the stream, so prevent it from being closed together with the reader
+        InputStream nonClosing = new FilterInputStream(in) {
+            @Override
+            public void close() {
+            }
+        };
+
+        try (Reader r = openReader(nonClosing, null)) {
             return load(r);
         } catch (IOException e) {
-            throw new RuntimeException("Error reading file: " + filePath, e);
+            throw new RuntimeException("Error reading CSV", e);
         }
     }
 
@@ -767,6 +808,37 @@ public class CsvLoader {
         return appender.toDataFrame();
     }
 
+    private Reader openReader(InputStream in, String fileName) throws IOException {
+
+        try {
+            InputStream bufferedIn = new BufferedInputStream(in, PIPELINE_CHUNK_SIZE);
+            CompressionCodec codec = compressionCodec(bufferedIn, fileName);
+
+            InputStream decompressedIn = codec != null
+                    ? new PipelinedInputStream(
+                    codec.decompress(bufferedIn),
+                    "dflib-csv-decompressor",
+                    PIPELINE_CHUNK_SIZE,
+                    PIPELINE_MAX_CHUNKS)
+                    : bufferedIn;
+
+            return new InputStreamReader(decompressedIn);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private CompressionCodec compressionCodec(InputStream in, String fileName) throws IOException {
+
+        if (compressionCodec != null) {
+            return compressionCodec;
+        }
+
+        CompressionCodec byName = fileName != null ? CompressionCodec.ofFileName(fileName) : null;
+        return byName != null ? byName : CompressionCodec.ofMagicBytes(in);
+    }
+
     private Iterator<CSVRecord> read(Reader reader) {
         try {
             return format.parse(reader).iterator();
@@ -6,15 +6,25 @@ import org.dflib.row.RowProxy;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 
 public class CsvSaver {
 
+    // the size of uncompressed data chunks and the max number of chunks formatted ahead of the compressor
+    private static final int PIPELINE_CHUNK_SIZE = 64 * 1024;
+    private static final int PIPELINE_MAX_CHUNKS = 16;
+
     private CSVFormat format;
+    private CompressionCodec compressionCodec;
     private boolean createMissingDirs;
     private boolean printHeader;
 
@@ -59,6 +69,19 @@ public class CsvSaver {
         return this;
     }
 
+    /**
+     * Explicitly sets the compression codec of the saved CSV files. If not set, the codec is determined by the file
+     * name extension (e.g. ".gz"), and the files with no known compression extension are saved uncompressed.
+     * Compression is performed on a separate thread, fed by the CSV printer via a bounded buffer.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public CsvSaver compression(CompressionCodec codec) {
+        this.compressionCodec = codec;
+        return this;
+    }
+
     public void save(DataFrame df, File file) {
 
         if (createMissingDirs) {
@@ -68,7 +91,7 @@ public class CsvSaver {
             }
         }
 
-        try (FileWriter out = new FileWriter(file)) {
+        try (Writer out = openWriter(file)) {
             save(df, out);
         } catch (IOException e) {
             throw new RuntimeException("Error writing CSV to " + file + ": " + e.getMessage(), e);
@@ -111,6 +134,27 @@ public class CsvSaver {
         return out.toString();
     }
 
+    private Writer openWriter(File file) throws IOException {
+
+        CompressionCodec codec = compressionCodec != null ? compressionCodec : CompressionCodec.ofFileName(file.getName());
+        if (codec == null) {
+            return new FileWriter(file);
+        }
+
+        OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(file), PIPELINE_CHUNK_SIZE);
+
+        try {
+            return new OutputStreamWriter(new PipelinedOutputStream(
+                    codec.compress(fileOut),
+                    "dflib-csv-compressor",
+                    PIPELINE_CHUNK_SIZE,
+                    PIPELINE_MAX_CHUNKS));
+        } catch (IOException | RuntimeException e) {
+            fileOut.close();
+            throw e;
+        }
+    }
+
     private void printHeader(CSVPrinter printer, Index index) throws IOException {
         for (String label : index) {
             printer.print(label);
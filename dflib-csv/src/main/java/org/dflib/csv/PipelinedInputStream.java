@@ -0,0 +1,128 @@
+package org.dflib.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An InputStream that reads its source on a separate background thread, handing filled chunks over to the consumer via
+ * a bounded queue. Used to run CSV decompression concurrently with parsing. The background thread owns the source
+ * stream and closes it when done.
+ */
+class PipelinedInputStream extends InputStream {
+
+    private static final byte[] EOF = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks;
+    private final Thread producer;
+    private volatile IOException producerError;
+
+    private byte[] chunk;
+    private int pos;
+    private boolean eof;
+    private boolean closed;
+
+    PipelinedInputStream(InputStream source, String threadName, int chunkSize, int maxChunks) {
+        this.chunks = new ArrayBlockingQueue<>(maxChunks);
+        this.producer = new Thread(() -> produce(source, chunkSize), threadName);
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureChunk()) {
+            return -1;
+        }
+
+        return chunk[pos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!ensureChunk()) {
+            return -1;
+        }
+
+        int n = Math.min(len, chunk.length - pos);
+        System.arraycopy(chunk, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+
+            // if the consumer stopped early, the producer may be blocked on a full queue
+            producer.interrupt();
+        }
+    }
+
+    private boolean ensureChunk() throws IOException {
+
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        while (!eof && (chunk == null || pos == chunk.length)) {
+
+            try {
+                chunk = chunks.take();
+                pos = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for data", e);
+            }
+
+            if (chunk == EOF) {
+                eof = true;
+            }
+        }
+
+        if (eof) {
+            IOException error = this.producerError;
+            if (error != null) {
+                throw error;
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private void produce(InputStream source, int chunkSize) {
+
+        try (InputStream in = source) {
+
+            int read;
+            do {
+                byte[] buffer = new byte[chunkSize];
+                read = in.readNBytes(buffer, 0, chunkSize);
+                if (read > 0) {
+                    chunks.put(read < chunkSize ? Arrays.copyOf(buffer, read) : buffer);
+                }
+            } while (read == chunkSize);
+
+        } catch (IOException e) {
+            producerError = e;
+        } catch (InterruptedException e) {
+            // the consumer has closed the stream, no need to report EOF
+            return;
+        }
+
+        try {
+            chunks.put(EOF);
+        } catch (InterruptedException e) {
+            // the consumer has closed the stream
+        }
+    }
+}
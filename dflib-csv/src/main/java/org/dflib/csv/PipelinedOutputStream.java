@@ -0,0 +1,151 @@
+package org.dflib.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An OutputStream that accumulates written bytes in chunks and hands them over via a bounded queue to a separate
+ * background thread that writes them to the target stream. Used to run CSV compression concurrently with formatting.
+ * The background thread owns the target stream and closes it when this stream is closed.
+ */
+class PipelinedOutputStream extends OutputStream {
+
+    private static final byte[] EOF = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks;
+    private final Thread consumer;
+    private volatile IOException consumerError;
+
+    private final byte[] buffer;
+    private int pos;
+    private boolean closed;
+
+    PipelinedOutputStream(OutputStream target, String threadName, int chunkSize, int maxChunks) {
+        this.buffer = new byte[chunkSize];
+        this.chunks = new ArrayBlockingQueue<>(maxChunks);
+        this.consumer = new Thread(() -> consume(target), threadName);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (pos == buffer.length) {
+            handOver();
+        }
+
+        buffer[pos++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (pos == buffer.length) {
+                handOver();
+            }
+
+            int n = Math.min(len, buffer.length - pos);
+            System.arraycopy(b, off, buffer, pos, n);
+            pos += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Hands over the buffered bytes to the background thread without waiting for them to be written to the target.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (pos > 0) {
+            handOver();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            flush();
+            put(EOF);
+            consumer.join();
+        } catch (InterruptedException e) {
+            consumer.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data to be written", e);
+        } finally {
+            closed = true;
+        }
+
+        checkConsumerError();
+    }
+
+    private void handOver() throws IOException {
+        checkConsumerError();
+
+        try {
+            put(Arrays.copyOf(buffer, pos));
+        } catch (InterruptedException e) {
+            consumer.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing data", e);
+        }
+
+        pos = 0;
+    }
+
+    private void put(byte[] chunk) throws IOException, InterruptedException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        chunks.put(chunk);
+    }
+
+    private void checkConsumerError() throws IOException {
+        IOException error = this.consumerError;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void consume(OutputStream target) {
+
+        boolean eof = false;
+        try (OutputStream out = target) {
+
+            byte[] chunk;
+            while ((chunk = chunks.take()) != EOF) {
+                out.write(chunk);
+            }
+
+            eof = true;
+
+        } catch (IOException e) {
+            consumerError = e;
+
+            // keep draining the queue, so that the producer is not blocked on a full queue, and can see the error
+            if (!eof) {
+                drain();
+            }
+        } catch (InterruptedException e) {
+            // the producer has abandoned the stream
+        }
+    }
+
+    private void drain() {
+        try {
+            while (chunks.take() != EOF) {
+                // discard
+            }
+        } catch (InterruptedException e) {
+            // the producer has abandoned the stream
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.dflib.csv;
+
+import org.dflib.DataFrame;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvDatasetLoaderTest {
+
+    @TempDir
+    static Path dir;
+
+    @BeforeAll
+    static void createDataset() throws IOException {
+        Files.writeString(dir.resolve("d2.csv"), "A,B\n3,c\n4,d\n");
+        Files.writeString(dir.resolve("d1.csv"), "A,B\n1,a\n2,b\n");
+        Files.writeString(dir.resolve("d4.csv"), "A,B\n");
+        Files.writeString(dir.resolve("readme.txt"), "not a CSV");
+        Csv.saver().save(DataFrame.foldByRow("A", "B").of(5, "e"), dir.resolve("d3.csv.gz"));
+    }
+
+    @Test
+    public void load() {
+        DataFrame df = Csv.datasetLoader().load(dir);
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(5)
+                .expectRow(0, "1", "a")
+                .expectRow(1, "2", "b")
+                .expectRow(2, "3", "c")
+                .expectRow(3, "4", "d")
+                .expectRow(4, "5", "e");
+    }
+
+    @Test
+    public void load_FileLoader() {
+        DataFrame df = Csv.datasetLoader()
+                .fileLoader(Csv.loader().intCol("A"))
+                .load(dir);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(5)
+                .expectIntColumns(0)
+                .expectRow(0, 1, "a")
+                .expectRow(1, 2, "b")
+                .expectRow(2, 3, "c")
+                .expectRow(3, 4, "d")
+                .expectRow(4, 5, "e");
+    }
+
+    @Test
+    public void load_Glob() {
+        DataFrame df = Csv.datasetLoader()
+                .glob("d[12].csv")
+                .load(dir);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(4)
+                .expectRow(0, "1", "a")
+                .expectRow(1, "2", "b")
+                .expectRow(2, "3", "c")
+                .expectRow(3, "4", "d");
+    }
+
+    @Test
+    public void load_SourceFileCol() {
+        DataFrame df = Csv.datasetLoader()
+                .sourceFileCol("file")
+                .load(dir);
+
+        new DataFrameAsserts(df, "A", "B", "file")
+                .expectHeight(5)
+                .expectRow(0, "1", "a", "d1.csv")
+                .expectRow(1, "2", "b", "d1.csv")
+                .expectRow(2, "3", "c", "d2.csv")
+                .expectRow(3, "4", "d", "d2.csv")
+                .expectRow(4, "5", "e", "d3.csv.gz");
+    }
+
+    @Test
+    public void load_FileList() {
+        DataFrame df = Csv.datasetLoader()
+                .load(List.of(dir.resolve("d2.csv"), dir.resolve("d1.csv")));
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(4)
+                .expectRow(0, "3", "c")
+                .expectRow(1, "4", "d")
+                .expectRow(2, "1", "a")
+                .expectRow(3, "2", "b");
+    }
+
+    @Test
+    public void load_NoFiles() {
+        DataFrame df = Csv.datasetLoader().glob("*.xyz").load(dir);
+        new DataFrameAsserts(df).expectHeight(0);
+    }
+
+    @Test
+    public void load_ColumnsMismatch() throws IOException {
+        Path mismatched = dir.resolve("mismatched");
+        Files.createDirectory(mismatched);
+        Files.writeString(mismatched.resolve("m1.csv"), "A,B\n1,a\n");
+        Files.writeString(mismatched.resolve("m2.csv"), "A,C\n2,b\n");
+
+        assertThrows(RuntimeException.class, () -> Csv.datasetLoader().load(mismatched));
+    }
+}
@@ -0,0 +1,155 @@
+package org.dflib.csv;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Csv_CompressionTest extends BaseCsvTest {
+
+    static final DataFrame df = DataFrame.foldByRow("A", "B").of(
+            1, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd",
+            2, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd",
+            3, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+
+    @Test
+    public void load_GzipByExtension() {
+        DataFrame loaded = new CsvLoader().load(inPath("f1.csv.gz"));
+        new DataFrameAsserts(loaded, "A", "b", "C")
+                .expectHeight(2)
+                .expectRow(0, "1", "2", "3")
+                .expectRow(1, "4", "5", "6");
+    }
+
+    @Test
+    public void load_GzipByMagicBytes() throws IOException {
+        File file = new File(outPath("gzip-no-ext.csv"));
+        Files.copy(new File(inPath("f1.csv.gz")).toPath(), file.toPath());
+
+        DataFrame loaded = new CsvLoader().load(file);
+        new DataFrameAsserts(loaded, "A", "b", "C")
+                .expectHeight(2)
+                .expectRow(0, "1", "2", "3")
+                .expectRow(1, "4", "5", "6");
+    }
+
+    @Test
+    public void load_InputStream() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write("A,B\n1,2\n3,4".getBytes());
+        }
+
+        DataFrame loaded = new CsvLoader().load(new ByteArrayInputStream(bytes.toByteArray()));
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, "1", "2")
+                .expectRow(1, "3", "4");
+    }
+
+    @Test
+    public void load_InputStream_Uncompressed() {
+        DataFrame loaded = new CsvLoader().load(new ByteArrayInputStream("A,B\n1,2\n3,4".getBytes()));
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(2)
+                .expectRow(0, "1", "2")
+                .expectRow(1, "3", "4");
+    }
+
+    @Test
+    public void saveLoad_Gzip() throws IOException {
+        File file = new File(outPath("saveLoad.csv.gz"));
+        new CsvSaver().save(df, file);
+
+        assertGzip(file);
+
+        DataFrame loaded = new CsvLoader().intCol("A").load(file);
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, 1, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(1, 2, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(2, 3, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    }
+
+    @Test
+    public void saveLoad_Deflate() {
+        File file = new File(outPath("saveLoad.csv.deflate"));
+        new CsvSaver().save(df, file);
+
+        assertTrue(file.length() > 0);
+        assertTrue(file.length() < new CsvSaver().saveToString(df).length());
+
+        DataFrame loaded = new CsvLoader().intCol("A").load(file);
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, 1, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(1, 2, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(2, 3, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    }
+
+    @Test
+    public void saveLoad_ExplicitCodec() throws IOException {
+        File file = new File(outPath("saveLoad_explicit.csv"));
+        new CsvSaver().compression(CompressionCodec.DEFLATE).save(df, file);
+
+        DataFrame loaded = new CsvLoader().compression(CompressionCodec.DEFLATE).intCol("A").load(file);
+        new DataFrameAsserts(loaded, "A", "B")
+                .expectHeight(3)
+                .expectRow(0, 1, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(1, 2, "abcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcdabcd")
+                .expectRow(2, 3, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    }
+
+    @Test
+    public void saveLoad_Large() {
+
+        // big enough to span multiple pipeline chunks
+        int h = 100_000;
+        DataFrame large = DataFrame.byColumn("A").of(Series.ofInt(IntStream.range(0, h).toArray()));
+
+        File file = new File(outPath("saveLoad_large.csv.gz"));
+        new CsvSaver().save(large, file);
+
+        DataFrame loaded = new CsvLoader().intCol("A").load(file);
+        new DataFrameAsserts(loaded, "A")
+                .expectHeight(h)
+                .expectRow(0, 0)
+                .expectRow(h - 1, h - 1);
+    }
+
+    @Test
+    public void load_Limit_DoesNotReadTillTheEnd() throws IOException {
+
+        int h = 100_000;
+        DataFrame large = DataFrame.byColumn("A").of(Series.ofInt(IntStream.range(0, h).toArray()));
+
+        File file = new File(outPath("limit.csv.gz"));
+        new CsvSaver().save(large, file);
+
+        DataFrame loaded = new CsvLoader().limit(2).load(file);
+        new DataFrameAsserts(loaded, "A")
+                .expectHeight(2)
+                .expectRow(0, "0")
+                .expectRow(1, "1");
+    }
+
+    private static void assertGzip(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            assertEquals(0x1f, in.read());
+            assertEquals(0x8b, in.read());
+        }
+    }
+}
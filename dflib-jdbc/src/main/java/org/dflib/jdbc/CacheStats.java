@@ -0,0 +1,82 @@
+package org.dflib.jdbc;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit / miss counters of a DFLib JDBC cache, such as the PreparedStatement caches of a connector or a connection pool,
+ * or the DB metadata caches. Can be used to choose the cache size: a high number of evictions relative to the number
+ * of hits means that the cache is too small for the working set.
+ *
+ * @since 1.0.0-M23
+ */
+public class CacheStats {
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public CacheStats() {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Records a lookup that found a usable cached value.
+     */
+    public void hit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a lookup that had to create or load the value, because it was not cached or was expired.
+     */
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * Records a removal of an entry to keep the cache within its size bound.
+     */
+    public void eviction() {
+        evictions.increment();
+    }
+
+    /**
+     * Returns the number of times a value was returned from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times a value had to be created or loaded, because it was not cached or was expired.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed from the cache to keep it within the size bound.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total > 0 ? (double) h / total : 0.;
+    }
+
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "hits: " + getHits() + ", misses: " + getMisses() + ", evictions: " + getEvictions();
+    }
+}
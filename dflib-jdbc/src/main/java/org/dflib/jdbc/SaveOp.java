@@ -13,5 +13,13 @@ import org.dflib.jdbc.connector.TableSaver;
  */
 public enum SaveOp {
 
-    insert, update, skip
+    insert, update, skip,
+
+    /**
+     * A row was either inserted or updated by a DB-native "upsert", and the DB did not report which of the two
+     * operations took place.
+     *
+     * @since 1.0.0-M23
+     */
+    upsert
 }
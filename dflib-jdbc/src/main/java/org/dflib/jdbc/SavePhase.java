@@ -0,0 +1,28 @@
+package org.dflib.jdbc;
+
+import org.dflib.jdbc.connector.SaveStats;
+
+/**
+ * Phases of a DataFrame save operation, timed separately and reported via {@link SaveStats#getPhaseTime(SavePhase)}.
+ *
+ * @since 1.0.0-M23
+ */
+public enum SavePhase {
+
+    /**
+     * Deleting table rows prior to saving the data.
+     */
+    delete,
+
+    /**
+     * Reading the previously saved rows matching the DataFrame keys, and comparing them with the DataFrame.
+     */
+    read,
+
+    insert, update,
+
+    /**
+     * Saving rows with a DB-native "upsert".
+     */
+    upsert
+}
@@ -2,9 +2,12 @@ package org.dflib.jdbc.connector;
 
 import org.dflib.Extractor;
 import org.dflib.Printers;
+import org.dflib.jdbc.CacheStats;
 import org.dflib.jdbc.connector.loader.JdbcExtractorFactory;
+import org.dflib.jdbc.connector.loader.QueryCache;
 import org.dflib.jdbc.connector.metadata.DbMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.statement.StatementCache;
 import org.dflib.jdbc.connector.statement.ValueConverter;
 import org.dflib.jdbc.connector.statement.ValueConverterFactory;
 
@@ -29,10 +32,98 @@ public class DefaultJdbcConnector implements JdbcConnector {
     private final ValueConverterFactory preBindConverterFactory;
     private final SqlLogger sqlLogger;
 
+    private final int statementCacheSize;
+    private final CacheStats statementCacheStats;
+    private final QueryCache queryCache;
+    private final QueryExecutor queryExecutor;
+    private final boolean closeDataSource;
+
     public DefaultJdbcConnector(
             DataSource dataSource,
             DbMetadata metadata,
             Map<Integer, JdbcExtractorFactory> extractorFactories) {
+        this(dataSource, metadata, extractorFactories, 0, new CacheStats());
+    }
+
+    /**
+     * @param statementCacheSize  max number of PreparedStatements cached per transaction connection. Zero disables
+     *                            caching.
+     * @param statementCacheStats counters shared by the connector statement caches
+     * @since 1.0.0-M23
+     */
+    public DefaultJdbcConnector(
+            DataSource dataSource,
+            DbMetadata metadata,
+            Map<Integer, JdbcExtractorFactory> extractorFactories,
+            int statementCacheSize,
+            CacheStats statementCacheStats) {
+        this(dataSource, metadata, extractorFactories, statementCacheSize, statementCacheStats, null);
+    }
+
+    /**
+     * @param queryCache a cache of query results, or null to disable result caching
+     * @since 1.0.0-M23
+     */
+    public DefaultJdbcConnector(
+            DataSource dataSource,
+            DbMetadata metadata,
+            Map<Integer, JdbcExtractorFactory> extractorFactories,
+            int statementCacheSize,
+            CacheStats statementCacheStats,
+            QueryCache queryCache) {
+        this(
+                dataSource,
+                metadata,
+                extractorFactories,
+                statementCacheSize,
+                statementCacheStats,
+                queryCache,
+                new QueryExecutor(null, Integer.MAX_VALUE));
+    }
+
+    /**
+     * @param queryExecutor an executor of concurrent connector operations
+     * @since 1.0.0-M23
+     */
+    public DefaultJdbcConnector(
+            DataSource dataSource,
+            DbMetadata metadata,
+            Map<Integer, JdbcExtractorFactory> extractorFactories,
+            int statementCacheSize,
+            CacheStats statementCacheStats,
+            QueryCache queryCache,
+            QueryExecutor queryExecutor) {
+        this(
+                dataSource,
+                metadata,
+                extractorFactories,
+                statementCacheSize,
+                statementCacheStats,
+                queryCache,
+                queryExecutor,
+                false);
+    }
+
+    /**
+     * @param closeDataSource whether {@link #close()} should close the DataSource, which must be {@link AutoCloseable}
+     *                        in this case. Should only be "true" if the DataSource was created for this connector.
+     * @since 1.0.0-M23
+     */
+    public DefaultJdbcConnector(
+            DataSource dataSource,
+            DbMetadata metadata,
+            Map<Integer, JdbcExtractorFactory> extractorFactories,
+            int statementCacheSize,
+            CacheStats statementCacheStats,
+            QueryCache queryCache,
+            QueryExecutor queryExecutor,
+            boolean closeDataSource) {
+
+        this.closeDataSource = closeDataSource;
+        this.queryCache = queryCache;
+        this.queryExecutor = queryExecutor;
+        this.statementCacheSize = statementCacheSize;
+        this.statementCacheStats = statementCacheStats;
 
         this.dataSource = dataSource;
         this.metadata = metadata;
@@ -74,6 +165,40 @@ public class DefaultJdbcConnector implements JdbcConnector {
         return new SqlLogger(Printers.inline);
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public StatementCache createStatementCache() {
+        return statementCacheSize > 0 ? new StatementCache(statementCacheSize, statementCacheStats) : null;
+    }
+
+    /**
+     * Returns hit / miss counters of the PreparedStatement caches created by this connector, as well as the caches
+     * of its connection pool, if the pool was configured via {@link JdbcConnectorBuilder}.
+     *
+     * @since 1.0.0-M23
+     */
+    public CacheStats getStatementCacheStats() {
+        return statementCacheStats;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public QueryExecutor getQueryExecutor() {
+        return queryExecutor;
+    }
+
     @Override
     public TableSaver tableSaver(String tableName) {
         return tableSaver(getMetadata().parseTableName(tableName));
@@ -192,6 +317,22 @@ public class DefaultJdbcConnector implements JdbcConnector {
         return dataSource;
     }
 
+    /**
+     * Closes the connector DataSource if it was created by the connector builder.
+     *
+     * @since 1.0.0-M23
+     */
+    @Override
+    public void close() {
+        if (closeDataSource) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                throw new RuntimeException("Error closing DataSource", e);
+            }
+        }
+    }
+
     /**
      * @since 0.6
      */
@@ -1,8 +1,11 @@
 package org.dflib.jdbc.connector;
 
+import org.dflib.Environment;
 import org.dflib.Extractor;
+import org.dflib.jdbc.connector.loader.QueryCache;
 import org.dflib.jdbc.connector.metadata.DbMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.statement.StatementCache;
 import org.dflib.jdbc.connector.statement.ValueConverterFactory;
 
 import javax.sql.DataSource;
@@ -15,7 +18,7 @@ import java.sql.ResultSet;
  *
  * @since 0.6
  */
-public interface JdbcConnector {
+public interface JdbcConnector extends AutoCloseable {
 
     TableSaver tableSaver(String tableName);
 
@@ -98,4 +101,55 @@ public interface JdbcConnector {
     SqlLogger getSqlLogger();
 
     ValueConverterFactory getBindConverterFactory();
+
+    /**
+     * Creates a PreparedStatement cache for a long-lived connection, such as a transaction connection. Returns null
+     * if statement caching is disabled, which is the default.
+     *
+     * @since 1.0.0-M23
+     */
+    default StatementCache createStatementCache() {
+        return null;
+    }
+
+    /**
+     * Returns a cache of query results used by the loaders configured with "cached(..)", or null if result caching is
+     * disabled, which is the default.
+     *
+     * @since 1.0.0-M23
+     */
+    default QueryCache getQueryCache() {
+        return null;
+    }
+
+    /**
+     * Returns an executor for running connector operations concurrently, with the number of concurrently running
+     * operations limited per connector. The default implementation uses the common DFLib thread pool with no limit.
+     *
+     * @since 1.0.0-M23
+     */
+    default QueryExecutor getQueryExecutor() {
+        return new QueryExecutor(Environment.commonEnv().threadPool(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link MultiQuery} to run a number of independent loads concurrently via
+     * {@link #getQueryExecutor()}.
+     *
+     * @since 1.0.0-M23
+     */
+    default MultiQuery multiQuery() {
+        return new MultiQuery(this);
+    }
+
+    /**
+     * Releases the resources owned by the connector, such as the connection pool created by
+     * {@link JdbcConnectorBuilder} from a JDBC URL. A DataSource provided by the caller is not closed, as it is
+     * owned by the caller. The default implementation does nothing.
+     *
+     * @since 1.0.0-M23
+     */
+    @Override
+    default void close() {
+    }
 }
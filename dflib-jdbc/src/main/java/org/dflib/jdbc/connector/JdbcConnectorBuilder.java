@@ -1,15 +1,21 @@
 package org.dflib.jdbc.connector;
 
+import org.dflib.jdbc.CacheStats;
 import org.dflib.jdbc.connector.loader.JdbcExtractorFactory;
+import org.dflib.jdbc.connector.loader.QueryCache;
 import org.dflib.jdbc.connector.metadata.DbMetadata;
+import org.dflib.jdbc.connector.statement.StatementCache;
+import org.dflib.jdbc.datasource.PooledDataSource;
 import org.dflib.jdbc.datasource.SimpleDataSource;
 
 import javax.sql.DataSource;
 import java.sql.Driver;
 import java.sql.Types;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 public class JdbcConnectorBuilder {
 
@@ -18,6 +24,16 @@ public class JdbcConnectorBuilder {
     private String driver;
     private String url;
     private DataSource dataSource;
+    private int minConnections;
+    private int maxConnections;
+    private int statementCacheSize;
+    private Duration queryCacheTtl;
+    private long queryCacheMaxSizeBytes;
+    private Executor queryExecutor;
+    private Duration metadataCacheTtl;
+    private int metadataCacheMaxTables;
+    private int metadataCacheMaxStatements;
+    private int maxConcurrentQueries;
     private Map<Integer, JdbcExtractorFactory> columnBuilderFactories;
 
     public JdbcConnectorBuilder url(String url) {
@@ -43,6 +59,102 @@ public class JdbcConnectorBuilder {
         return this;
     }
 
+    /**
+     * Configures the connector to reuse DB connections via a {@link PooledDataSource} created from the url, user
+     * name, password and driver settings. Without a pool, every query would open a new physical connection. Ignored
+     * if an explicit DataSource is provided. The pool is owned by the connector and is closed by
+     * {@link JdbcConnector#close()}.
+     *
+     * @param minConnections the number of connections kept open by the pool even when they are idle
+     * @param maxConnections the max number of connections open at the same time
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder connectionPool(int minConnections, int maxConnections) {
+        this.minConnections = minConnections;
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Enables per-connection caching of PreparedStatements, so that the statements executed repeatedly on the same
+     * connection are not re-prepared each time. Caching applies to transaction connections (including the
+     * transactions of {@link TableSaver}), and to the pooled connections if the pool is configured via
+     * {@link #connectionPool(int, int)}. The least recently used statements are closed when a cache is full. Cache hit
+     * / miss counters are available via {@link DefaultJdbcConnector#getStatementCacheStats()}. The default is 0, i.e.,
+     * no caching.
+     *
+     * @param statementCacheSize the max number of cached statements per connection
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder statementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
+    /**
+     * Enables caching of query results for the loaders that opt in via {@link SqlLoader#cached(String...)} or
+     * {@link TableLoader#cached()}. Repeated loads with the same SQL, parameters and column configuration within the
+     * TTL return the same DataFrame instance without querying the DB. The least recently used results are evicted when
+     * the estimated total size of the cached DataFrames exceeds the size bound. Results loaded from a table are
+     * invalidated when the table is modified via this connector's {@link TableSaver} or {@link TableDeleter}, and can
+     * be invalidated explicitly via {@link QueryCache#invalidate(String)}.
+     *
+     * @param ttl          time since loading after which a cached result expires
+     * @param maxSizeBytes the max estimated memory size of all the cached results
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder queryCache(Duration ttl, long maxSizeBytes) {
+        this.queryCacheTtl = Objects.requireNonNull(ttl);
+        this.queryCacheMaxSizeBytes = maxSizeBytes;
+        return this;
+    }
+
+    /**
+     * Configures caching of the DB metadata used by the loaders and savers, i.e., table columns and primary keys, and
+     * the parameter types of SQL statements. By default, metadata is cached indefinitely, the number of cached tables
+     * is unbounded, and the parameter metadata is cached for up to {@link DbMetadata#DEFAULT_MAX_STATEMENTS}
+     * statements. Cached metadata can be invalidated explicitly via {@link DbMetadata#invalidate(String)}, and the
+     * cache hit / miss counters are available via {@link DbMetadata#getTableCacheStats()} and
+     * {@link DbMetadata#getParamsCacheStats()}.
+     *
+     * @param ttl           time since loading after which cached metadata expires. Zero means no expiration
+     * @param maxTables     the max number of tables with cached metadata
+     * @param maxStatements the max number of SQL statements with cached parameter metadata
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder metadataCache(Duration ttl, int maxTables, int maxStatements) {
+        this.metadataCacheTtl = Objects.requireNonNull(ttl);
+        this.metadataCacheMaxTables = maxTables;
+        this.metadataCacheMaxStatements = maxStatements;
+        return this;
+    }
+
+    /**
+     * Sets an executor for the operations run concurrently via {@link JdbcConnector#multiQuery()} or
+     * {@link JdbcConnector#getQueryExecutor()}. If not set, the common DFLib thread pool is used. On JVMs that support
+     * virtual threads, a virtual thread executor is a good choice, as the operations spend most of their time waiting
+     * for the DB.
+     *
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder queryExecutor(Executor executor) {
+        this.queryExecutor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Sets the max number of operations run concurrently via {@link JdbcConnector#multiQuery()} or
+     * {@link JdbcConnector#getQueryExecutor()}. The operations over the limit wait in a queue. If not set, the limit
+     * is equal to the max number of connections of the connector {@link PooledDataSource}, if any, and is unbounded
+     * otherwise.
+     *
+     * @since 1.0.0-M23
+     */
+    public JdbcConnectorBuilder maxConcurrentQueries(int maxConcurrentQueries) {
+        this.maxConcurrentQueries = maxConcurrentQueries;
+        return this;
+    }
+
     /**
      * @since 0.8
      */
@@ -73,8 +185,31 @@ public class JdbcConnectorBuilder {
     }
 
     public JdbcConnector build() {
-        DataSource dataSource = this.dataSource != null ? this.dataSource : createDataSource();
-        return new DefaultJdbcConnector(dataSource, DbMetadata.create(dataSource), createColumnBuilderFactories());
+        CacheStats statementCacheStats = new CacheStats();
+        DataSource dataSource = this.dataSource != null ? this.dataSource : createDataSource(statementCacheStats);
+        return new DefaultJdbcConnector(
+                dataSource,
+                metadataCacheTtl != null
+                        ? DbMetadata.create(dataSource, metadataCacheTtl, metadataCacheMaxTables, metadataCacheMaxStatements)
+                        : DbMetadata.create(dataSource),
+                createColumnBuilderFactories(),
+                Math.max(statementCacheSize, 0),
+                statementCacheStats,
+                queryCacheTtl != null ? new QueryCache(queryCacheTtl, queryCacheMaxSizeBytes) : null,
+                new QueryExecutor(queryExecutor, resolveMaxConcurrentQueries(dataSource)),
+                this.dataSource == null && dataSource instanceof PooledDataSource);
+    }
+
+    private int resolveMaxConcurrentQueries(DataSource dataSource) {
+
+        if (maxConcurrentQueries > 0) {
+            return maxConcurrentQueries;
+        }
+
+        // running more queries than there are connections would only make them wait for the pool
+        return dataSource instanceof PooledDataSource
+                ? ((PooledDataSource) dataSource).getMaxConnections()
+                : Integer.MAX_VALUE;
     }
 
     private Map<Integer, JdbcExtractorFactory> createColumnBuilderFactories() {
@@ -92,9 +227,20 @@ public class JdbcConnectorBuilder {
         return factories;
     }
 
-    private DataSource createDataSource() {
+    private DataSource createDataSource(CacheStats statementCacheStats) {
         Driver driver = createDriver();
-        return new SimpleDataSource(url, userName, password, driver);
+        DataSource dataSource = new SimpleDataSource(url, userName, password, driver);
+        int statementCacheSize = this.statementCacheSize;
+
+        return maxConnections > 0
+                ? PooledDataSource.builder(dataSource)
+                .minConnections(minConnections)
+                .maxConnections(maxConnections)
+                .connectionAttachment(statementCacheSize > 0
+                        ? () -> new StatementCache(statementCacheSize, statementCacheStats)
+                        : null)
+                .build()
+                : dataSource;
     }
 
     private Driver createDriver() {
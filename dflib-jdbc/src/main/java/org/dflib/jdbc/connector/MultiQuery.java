@@ -0,0 +1,107 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.concurrent.Futures;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A set of independent named queries that are executed concurrently via the connector {@link QueryExecutor}. The
+ * total time of loading all the queries is close to that of the slowest query, as long as the number of queries
+ * doesn't exceed the connector concurrency limit.
+ *
+ * @since 1.0.0-M23
+ */
+public class MultiQuery {
+
+    private final JdbcConnector connector;
+    private final Map<String, Supplier<DataFrame>> queries;
+
+    public MultiQuery(JdbcConnector connector) {
+        this.connector = Objects.requireNonNull(connector);
+        this.queries = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds a query loading a DataFrame with the provided loader and parameters.
+     */
+    public MultiQuery add(String name, SqlLoader loader, Object... params) {
+        return add(name, () -> loader.load(params));
+    }
+
+    public MultiQuery add(String name, TableLoader loader) {
+        return add(name, loader::load);
+    }
+
+    /**
+     * Adds an arbitrary operation that produces a DataFrame.
+     */
+    public MultiQuery add(String name, Supplier<DataFrame> query) {
+
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(query);
+
+        if (queries.put(name, query) != null) {
+            throw new IllegalArgumentException("Duplicate query name: " + name);
+        }
+
+        return this;
+    }
+
+    /**
+     * Starts all the queries, returning their futures in the order the queries were added.
+     */
+    public Map<String, CompletableFuture<DataFrame>> submit() {
+
+        QueryExecutor executor = connector.getQueryExecutor();
+
+        Map<String, CompletableFuture<DataFrame>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<DataFrame>> e : queries.entrySet()) {
+            futures.put(e.getKey(), executor.submit(e.getValue()));
+        }
+
+        return futures;
+    }
+
+    /**
+     * Runs all the queries, waiting for them to complete. Returns a map of the results in the order the queries were
+     * added. If any of the queries fails, the queries that haven't started yet are cancelled, and the exception is
+     * rethrown. If called from a thread pool task (e.g., from another MultiQuery query), the queries are run one by one
+     * in the calling thread, as waiting for them on a pool thread may deadlock the pool or the connector
+     * {@link QueryExecutor}.
+     */
+    public Map<String, DataFrame> load() {
+
+        if (Futures.inParallelTask()) {
+            return loadInCallerThread();
+        }
+
+        Map<String, CompletableFuture<DataFrame>> futures = submit();
+        Map<String, DataFrame> results = new LinkedHashMap<>();
+
+        try {
+            for (Map.Entry<String, CompletableFuture<DataFrame>> e : futures.entrySet()) {
+                results.put(e.getKey(), Futures.get(e.getValue()));
+            }
+        } catch (RuntimeException e) {
+            Futures.cancel(futures.values());
+            throw e;
+        }
+
+        return results;
+    }
+
+    private Map<String, DataFrame> loadInCallerThread() {
+
+        Map<String, DataFrame> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<DataFrame>> e : queries.entrySet()) {
+            results.put(e.getKey(), e.getValue().get());
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,173 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.Index;
+import org.dflib.Series;
+import org.dflib.concat.SeriesConcat;
+import org.dflib.concurrent.Futures;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Loads a table as a number of partitions, running each partition query on its own connection, and combining the
+ * results in the partition order. Partitions are either defined by ranges of a single column values, or by the chunks
+ * of a big "eq" condition. For the former, "N" split points produce "N + 1" partitions, the first and the last of them
+ * open-ended, so the partitions cover all rows regardless of the actual column value range. NULL values are included
+ * in the first partition.
+ */
+class PartitionedLoaderWorker {
+
+    private final Function<Integer, DataFrame> partitionLoader;
+    private final int partitions;
+    private final boolean parallel;
+
+    PartitionedLoaderWorker(Function<Integer, DataFrame> partitionLoader, int partitions, boolean parallel) {
+        this.partitionLoader = partitionLoader;
+        this.partitions = partitions;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Calculates "partitions - 1" evenly spaced split points between the min and the max values of a column. Supports
+     * numbers, dates and timestamps. May return fewer split points than requested for narrow ranges of integral values.
+     */
+    static Object[] splitPoints(Object min, Object max, int partitions) {
+
+        if (min == null || max == null || partitions < 2) {
+            return new Object[0];
+        }
+
+        if (min instanceof Integer || min instanceof Long || min instanceof Short || min instanceof Byte) {
+            long[] points = splitLongRange(((Number) min).longValue(), ((Number) max).longValue(), partitions);
+            Object[] result = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                result[i] = min instanceof Long ? points[i] : (Object) (int) points[i];
+            }
+            return result;
+        }
+
+        if (min instanceof BigDecimal) {
+            BigDecimal bmin = (BigDecimal) min;
+            BigDecimal step = ((BigDecimal) max).subtract(bmin).divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL64);
+            if (step.signum() <= 0) {
+                return new Object[0];
+            }
+
+            Object[] result = new Object[partitions - 1];
+            for (int i = 1; i < partitions; i++) {
+                result[i - 1] = bmin.add(step.multiply(BigDecimal.valueOf(i)));
+            }
+            return result;
+        }
+
+        if (min instanceof Number) {
+            double dmin = ((Number) min).doubleValue();
+            double step = (((Number) max).doubleValue() - dmin) / partitions;
+            if (!(step > 0.)) {
+                return new Object[0];
+            }
+
+            Object[] result = new Object[partitions - 1];
+            for (int i = 1; i < partitions; i++) {
+                result[i - 1] = dmin + step * i;
+            }
+            return result;
+        }
+
+        if (min instanceof LocalDate) {
+            long[] points = splitLongRange(((LocalDate) min).toEpochDay(), ((LocalDate) max).toEpochDay(), partitions);
+            return Arrays.stream(points).mapToObj(LocalDate::ofEpochDay).toArray();
+        }
+
+        if (min instanceof LocalDateTime) {
+            long[] points = splitLongRange(
+                    ((LocalDateTime) min).toEpochSecond(ZoneOffset.UTC),
+                    ((LocalDateTime) max).toEpochSecond(ZoneOffset.UTC),
+                    partitions);
+            return Arrays.stream(points).mapToObj(s -> LocalDateTime.ofEpochSecond(s, 0, ZoneOffset.UTC)).toArray();
+        }
+
+        throw new IllegalArgumentException("Can't calculate partition bounds for values of type "
+                + min.getClass().getName() + ". Specify explicit bounds instead");
+    }
+
+    private static long[] splitLongRange(long min, long max, int partitions) {
+
+        // calculating in "double" to avoid overflows on very wide ranges
+        double step = ((double) max - (double) min) / partitions;
+
+        long[] points = new long[partitions - 1];
+        int len = 0;
+        long last = min;
+
+        for (int i = 1; i < partitions; i++) {
+            long p = min + (long) (step * i);
+
+            // skip duplicates resulting from ranges narrower than the number of partitions
+            if (p > last) {
+                points[len++] = p;
+                last = p;
+            }
+        }
+
+        return len < points.length ? Arrays.copyOf(points, len) : points;
+    }
+
+    DataFrame load() {
+        DataFrame[] parts = parallel && partitions > 1 ? loadParallel() : loadSerial();
+        return concat(parts);
+    }
+
+    private DataFrame[] loadSerial() {
+        DataFrame[] parts = new DataFrame[partitions];
+        for (int i = 0; i < partitions; i++) {
+            parts[i] = partitionLoader.apply(i);
+        }
+
+        return parts;
+    }
+
+    private DataFrame[] loadParallel() {
+
+        List<Callable<DataFrame>> tasks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partition = i;
+            tasks.add(() -> partitionLoader.apply(partition));
+        }
+
+        return Futures.invokeAll(Environment.commonEnv().threadPool(), tasks).toArray(new DataFrame[0]);
+    }
+
+    // all partitions select the same columns, so the columns (and their types) are expected to match
+    private static DataFrame concat(DataFrame[] parts) {
+
+        if (parts.length == 1) {
+            return parts[0];
+        }
+
+        Index columnsIndex = parts[0].getColumnsIndex();
+        int w = columnsIndex.size();
+        List<Series<?>> columns = new ArrayList<>(w);
+
+        for (int j = 0; j < w; j++) {
+            Series<?>[] columnParts = new Series[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                columnParts[i] = parts[i].getColumn(j);
+            }
+
+            columns.add(SeriesConcat.primitiveConcat(columnParts));
+        }
+
+        return DataFrame.byColumn(columnsIndex).ofIterable(columns);
+    }
+}
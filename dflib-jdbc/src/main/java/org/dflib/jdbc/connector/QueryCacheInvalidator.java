@@ -0,0 +1,27 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.jdbc.connector.loader.QueryCache;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
+
+/**
+ * Invalidates the connector query cache entries of a modified table. Within a transaction, the entries are
+ * invalidated both immediately and after the commit, as a concurrent reader outside the transaction may cache the
+ * old data in between.
+ */
+class QueryCacheInvalidator {
+
+    static void tableChanged(JdbcConnector connector, TableFQName tableName) {
+
+        QueryCache cache = connector.getQueryCache();
+        if (cache == null) {
+            return;
+        }
+
+        cache.invalidate(tableName);
+
+        if (connector instanceof TxJdbcConnector) {
+            ((TxJdbcConnector) connector).afterCommit(() -> cache.invalidate(tableName));
+        }
+    }
+}
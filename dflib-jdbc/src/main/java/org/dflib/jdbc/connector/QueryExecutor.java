@@ -0,0 +1,125 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.Environment;
+import org.dflib.concurrent.Futures;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Runs connector operations (loads, saves, or any other DB calls) asynchronously, limiting the number of the
+ * operations running at the same time. The limit is usually set to the size of the connector's connection pool, so
+ * that the operations don't block each other waiting for connections. The operations exceeding the limit are queued
+ * without occupying executor threads, and are started in the submission order as the running operations complete.
+ *
+ * @since 1.0.0-M23
+ */
+public class QueryExecutor {
+
+    private final Executor executor;
+    private final int maxConcurrentQueries;
+    private final Queue<QueryTask<?>> pending;
+
+    private int running;
+
+    /**
+     * @param executor             an executor to run the operations, or null to use the common DFLib thread pool from
+     *                             {@link Environment#threadPool()}
+     * @param maxConcurrentQueries the max number of operations running at the same time
+     */
+    public QueryExecutor(Executor executor, int maxConcurrentQueries) {
+
+        if (maxConcurrentQueries <= 0) {
+            throw new IllegalArgumentException("Max concurrent queries must be positive: " + maxConcurrentQueries);
+        }
+
+        this.executor = executor;
+        this.maxConcurrentQueries = maxConcurrentQueries;
+        this.pending = new ArrayDeque<>();
+    }
+
+    /**
+     * Creates an executor that runs each operation in the calling thread when it is submitted. Used when the
+     * operations must share a single connection, e.g., within a transaction.
+     */
+    public static QueryExecutor sameThread() {
+        return new QueryExecutor(Runnable::run, Integer.MAX_VALUE);
+    }
+
+    public int getMaxConcurrentQueries() {
+        return maxConcurrentQueries;
+    }
+
+    /**
+     * Schedules an operation for execution, returning a future for its result. Cancelling the future of an operation
+     * that hasn't started yet prevents it from running.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+
+        QueryTask<T> task = new QueryTask<>(operation);
+
+        synchronized (this) {
+            if (running >= maxConcurrentQueries) {
+                pending.add(task);
+                return task.future;
+            }
+
+            running++;
+        }
+
+        dispatch(task);
+        return task.future;
+    }
+
+    private void dispatch(QueryTask<?> task) {
+        try {
+            // marking the task, so that the nested parallel operations run in its thread instead of waiting for the pool
+            (executor != null ? executor : Environment.commonEnv().threadPool()).execute(Futures.parallelTask(task));
+        } catch (RuntimeException e) {
+            task.future.completeExceptionally(e);
+            onTaskDone();
+        }
+    }
+
+    private void onTaskDone() {
+
+        QueryTask<?> next;
+        synchronized (this) {
+            next = pending.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+
+        // the permit of the completed task is passed to the next task
+        dispatch(next);
+    }
+
+    private class QueryTask<T> implements Runnable {
+
+        final Supplier<T> operation;
+        final CompletableFuture<T> future;
+
+        QueryTask(Supplier<T> operation) {
+            this.operation = operation;
+            this.future = new CompletableFuture<>();
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!future.isDone()) {
+                    future.complete(operation.get());
+                }
+            } catch (Throwable th) {
+                future.completeExceptionally(th);
+            } finally {
+                onTaskDone();
+            }
+        }
+    }
+}
@@ -4,7 +4,10 @@ import org.dflib.DataFrame;
 import org.dflib.Series;
 import org.dflib.SeriesGroupBy;
 import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.SavePhase;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -19,12 +22,42 @@ import java.util.function.Supplier;
 public class SaveStats {
 
     private Supplier<Series<SaveOp>> statsSupplier;
+    private Map<SavePhase, Duration> phaseTimes;
+    private Duration totalTime;
 
     private volatile Series<SaveOp> rowSaveStatuses;
     private volatile SeriesGroupBy<SaveOp> rowSaveStatusesByOp;
 
     public SaveStats(Supplier<Series<SaveOp>> statsSupplier) {
+        this(statsSupplier, Collections.emptyMap(), Duration.ZERO);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public SaveStats(Supplier<Series<SaveOp>> statsSupplier, Map<SavePhase, Duration> phaseTimes, Duration totalTime) {
         this.statsSupplier = statsSupplier;
+        this.phaseTimes = phaseTimes;
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Returns the time spent in a given phase of the save operation. For parallel saves, this is the time summed
+     * across all the connections.
+     *
+     * @since 1.0.0-M23
+     */
+    public Duration getPhaseTime(SavePhase phase) {
+        return phaseTimes.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Returns the elapsed time of the save operation.
+     *
+     * @since 1.0.0-M23
+     */
+    public Duration getTotalTime() {
+        return totalTime;
     }
 
     public DataFrame changedRows(DataFrame savedDf) {
@@ -53,6 +86,16 @@ public class SaveStats {
         return getOpCount(SaveOp.skip);
     }
 
+    /**
+     * Returns the number of rows that were either inserted or updated by a DB-native "upsert", without the DB
+     * reporting which operation took place.
+     *
+     * @since 1.0.0-M23
+     */
+    public int getUpsertCount() {
+        return getOpCount(SaveOp.upsert);
+    }
+
     protected int getOpCount(SaveOp op) {
 
         // No synchronization. Presuming the supplier is reentrant, and stats consumers are either no or low-concurrency.
@@ -69,6 +112,12 @@ public class SaveStats {
         map.put("inserted", getInsertCount());
         map.put("updated", getUpdateCount());
         map.put("unchanged", getSkipCount());
+
+        int upserted = getUpsertCount();
+        if (upserted > 0) {
+            map.put("upserted", upserted);
+        }
+
         return map.toString();
     }
 }
@@ -0,0 +1,54 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.builder.DataFrameAppender;
+import org.dflib.builder.DataFrameByRowBuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Reads a ResultSet as a sequence of DataFrames of a fixed max height, passing each one to the consumer as soon as it
+ * is filled. Only a single batch of rows is kept in memory at any given moment.
+ */
+class SqlBatchLoaderWorker {
+
+    protected final DataFrameByRowBuilder<ResultSet, ?> builder;
+    protected final int batchSize;
+    protected final int limit;
+
+    public SqlBatchLoaderWorker(DataFrameByRowBuilder<ResultSet, ?> builder, int batchSize, int limit) {
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.builder = builder;
+        this.batchSize = batchSize;
+        this.limit = limit < 0 ? Integer.MAX_VALUE : limit;
+    }
+
+    void load(ResultSet rs, Consumer<DataFrame> batchConsumer) throws SQLException {
+
+        int size = 0;
+        int batchHeight = 0;
+        DataFrameAppender<ResultSet> appender = builder.appender();
+
+        // check the limit first to avoid fetching an extra row from the cursor
+        while (size < limit && rs.next()) {
+            size++;
+            appender.append(rs);
+
+            if (++batchHeight == batchSize) {
+                batchConsumer.accept(appender.toDataFrame());
+                appender = builder.appender();
+                batchHeight = 0;
+            }
+        }
+
+        if (batchHeight > 0) {
+            batchConsumer.accept(appender.toDataFrame());
+        }
+    }
+}
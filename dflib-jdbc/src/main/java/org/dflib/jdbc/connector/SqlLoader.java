@@ -2,17 +2,27 @@ package org.dflib.jdbc.connector;
 
 import org.dflib.DataFrame;
 import org.dflib.builder.DataFrameAppender;
+import org.dflib.builder.DataFrameByRowBuilder;
 import org.dflib.Extractor;
 import org.dflib.Index;
 import org.dflib.Series;
+import org.dflib.jdbc.connector.loader.JdbcExtractorFactory;
+import org.dflib.jdbc.connector.loader.QueryCache;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
 import org.dflib.sample.Sampler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Loads DB data from DB as a DataFrame via custom SQL. Instances of this class can be reused for different sets of
@@ -26,24 +36,38 @@ public class SqlLoader {
     private final String sql;
 
     protected int limit;
+    private int fetchSize;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private Map<String, JdbcExtractorFactory<?>> columnExtractors;
+    private Map<String, Object> columnExtractorKeys;
+    private String[] cacheTables;
 
     public SqlLoader(JdbcConnector connector, String sql) {
         this.connector = connector;
         this.limit = Integer.MAX_VALUE;
         this.sql = sql;
+        this.columnExtractors = Map.of();
+        this.columnExtractorKeys = Map.of();
     }
 
     protected SqlLoader copy() {
         SqlLoader copy = new SqlLoader(connector, sql);
         copy.limit = this.limit;
+        copy.fetchSize = this.fetchSize;
         copy.rowSampleSize = this.rowSampleSize;
         copy.rowsSampleRandom = this.rowsSampleRandom;
+        copy.columnExtractors = this.columnExtractors;
+        copy.columnExtractorKeys = this.columnExtractorKeys;
+        copy.cacheTables = this.cacheTables;
         return copy;
     }
 
     /**
+     * Limits the number of loaded rows. As the SQL is provided by the caller, the limit is not added to the SQL, but
+     * is passed to the JDBC driver as the statement "max rows", so that the driver and the DB can stop producing rows
+     * early.
+     *
      * @since 1.0.0-M20
      */
     public SqlLoader limit(int limit) {
@@ -56,6 +80,25 @@ public class SqlLoader {
         return copy;
     }
 
+    /**
+     * Sets a hint to the JDBC driver for the number of rows fetched from the DB in a single round trip. Without it,
+     * some drivers (e.g., PostgreSQL) would buffer the entire ResultSet in memory before returning the first row.
+     * Combined with {@link #loadBatches(int, Consumer, Object...)}, this allows to process very large results with
+     * constant memory. Note that MySQL driver would only stream the results if "useCursorFetch=true" is set on the
+     * connection URL.
+     *
+     * @since 1.0.0-M23
+     */
+    public SqlLoader fetchSize(int fetchSize) {
+        if (this.fetchSize == fetchSize) {
+            return this;
+        }
+
+        SqlLoader copy = copy();
+        copy.fetchSize = fetchSize;
+        return copy;
+    }
+
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#rowsSample(int, Random)}, this method can be used on potentially very large
@@ -91,6 +134,90 @@ public class SqlLoader {
         return copy;
     }
 
+    /**
+     * Configures a nullable int column to be loaded as a primitive {@link org.dflib.IntSeries}, with NULLs replaced
+     * with the "forNull" value. The column is identified by its label in the ResultSet. Without this setting, only the
+     * columns declared as NOT NULL are loaded as primitives.
+     *
+     * @since 1.0.0-M23
+     */
+    public SqlLoader intCol(String column, int forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$int(pos, forNull), List.of("int", forNull));
+    }
+
+    /**
+     * Configures a nullable long column to be loaded as a primitive {@link org.dflib.LongSeries}, with NULLs replaced
+     * with the "forNull" value.
+     *
+     * @see #intCol(String, int)
+     * @since 1.0.0-M23
+     */
+    public SqlLoader longCol(String column, long forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$long(pos, forNull), List.of("long", forNull));
+    }
+
+    /**
+     * Configures a nullable double column to be loaded as a primitive {@link org.dflib.DoubleSeries}, with NULLs
+     * replaced with the "forNull" value.
+     *
+     * @see #intCol(String, int)
+     * @since 1.0.0-M23
+     */
+    public SqlLoader doubleCol(String column, double forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$double(pos, forNull), List.of("double", forNull));
+    }
+
+    /**
+     * Configures a TIMESTAMP column to be loaded as a primitive {@link org.dflib.LongSeries} of milliseconds since
+     * epoch, with NULLs replaced with the "forNull" value. This is much cheaper in terms of memory than the default
+     * Series of LocalDateTime.
+     *
+     * @see JdbcExtractorFactory#$epochMillis(int, long)
+     * @since 1.0.0-M23
+     */
+    public SqlLoader epochMillisCol(String column, long forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$epochMillis(pos, forNull), List.of("epochMillis", forNull));
+    }
+
+    /**
+     * Configures a custom extractor for a column identified by its label in the ResultSet.
+     *
+     * @since 1.0.0-M23
+     */
+    public <T> SqlLoader colExtractor(String column, JdbcExtractorFactory<T> extractorFactory) {
+        return colExtractor(column, extractorFactory, extractorFactory);
+    }
+
+    /**
+     * Configures a column extractor with a key that identifies the extractor configuration in the query result cache.
+     */
+    <T> SqlLoader colExtractor(String column, JdbcExtractorFactory<T> extractorFactory, Object cacheKey) {
+        SqlLoader copy = copy();
+        copy.columnExtractors = new HashMap<>(this.columnExtractors);
+        copy.columnExtractors.put(column, extractorFactory);
+        copy.columnExtractorKeys = new HashMap<>(this.columnExtractorKeys);
+        copy.columnExtractorKeys.put(column, cacheKey);
+        return copy;
+    }
+
+    /**
+     * Configures the loader to use the connector {@link QueryCache}, so that repeated loads with the same parameters
+     * return a cached DataFrame instead of querying the DB. The cache key includes the SQL, the parameters, the limit
+     * and the column configuration. The cache must be enabled on the connector via
+     * {@link JdbcConnectorBuilder#queryCache(java.time.Duration, long)}, otherwise this setting is ignored. It is also ignored
+     * within transactions, for sampling loaders and for the batched loads.
+     *
+     * @param tables names of the tables the query reads from. The cached results are invalidated when any of these
+     *               tables is modified via {@link TableSaver} or {@link TableDeleter}, or via
+     *               {@link QueryCache#invalidate(String)}.
+     * @since 1.0.0-M23
+     */
+    public SqlLoader cached(String... tables) {
+        SqlLoader copy = copy();
+        copy.cacheTables = tables;
+        return copy;
+    }
+
     /**
      * @since 0.8
      */
@@ -103,17 +230,90 @@ public class SqlLoader {
      */
     public DataFrame load(Series<?> params) {
 
-        LOGGER.debug("loading DataFrame...");
+        QueryCache cache = queryCache();
+        return cache != null
+                ? cache.get(cacheKey(params), cacheTables, () -> loadUncached(params))
+                : loadUncached(params);
+    }
+
+    private DataFrame loadUncached(Series<?> params) {
 
-        // TODO: should "limit" be translated into the SQL LIMIT clause?
-        //  Some DBs have crazy limit syntax, so this may be hard to generalize..
+        LOGGER.debug("loading DataFrame...");
 
         return connector
                 .createStatementBuilder(sql)
                 .bind(params)
+                .fetchSize(fetchSize)
+                .maxRows(maxRows())
                 .select(this::loadDataFrame);
     }
 
+    /**
+     * Loads the data as a sequence of DataFrames with up to "batchSize" rows each, passing each one to the consumer
+     * while the DB cursor is still open. Only one batch is held in memory at a time, so this method can be used to
+     * process results that would not fit in memory as a single DataFrame. Unless set explicitly, the fetch size is
+     * set to the batch size. If the query returns no rows, the consumer is not invoked. Row sampling is not supported
+     * in this mode.
+     *
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> batchConsumer, Object... params) {
+        loadBatches(batchSize, batchConsumer, Series.of(params));
+    }
+
+    /**
+     * Loads the data as a sequence of DataFrames with up to "batchSize" rows each, passing each one to the consumer
+     * while the DB cursor is still open.
+     *
+     * @see #loadBatches(int, Consumer, Object...)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> batchConsumer, Series<?> params) {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading data in batches");
+        }
+
+        LOGGER.debug("loading DataFrame in batches of {} rows...", batchSize);
+
+        connector
+                .createStatementBuilder(sql)
+                .bind(params)
+                .fetchSize(fetchSize > 0 ? fetchSize : batchSize)
+                .maxRows(maxRows())
+                .select(rs -> {
+                    loadDataFrameBatches(rs, batchSize, batchConsumer);
+                    return null;
+                });
+    }
+
+    private QueryCache queryCache() {
+
+        // results of a transaction may include uncommitted changes, and sampled results are random
+        return cacheTables != null && rowSampleSize <= 0 && !(connector instanceof TxJdbcConnector)
+                ? connector.getQueryCache()
+                : null;
+    }
+
+    private Object cacheKey(Series<?> params) {
+
+        int len = params.size();
+        List<Object> paramsKey = new ArrayList<>(len);
+        for (int i = 0; i < len; i++) {
+            Object p = params.get(i);
+
+            // arrays are compared by identity, so converting them to a value-comparable form
+            paramsKey.add(p instanceof byte[] ? ByteBuffer.wrap(((byte[]) p).clone()) : p);
+        }
+
+        return List.of(sql, paramsKey, limit, columnExtractorKeys);
+    }
+
+    private int maxRows() {
+        // zero "max rows" means no limit, so a zero limit is enforced by the loader worker only
+        return limit > 0 && limit < Integer.MAX_VALUE ? limit : 0;
+    }
+
     protected DataFrame loadDataFrame(ResultSet rs) throws SQLException {
         Index columns = createIndex(rs);
 
@@ -129,6 +329,22 @@ public class SqlLoader {
         return new SqlLoaderWorker(appender, limit).load(rs);
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    protected void loadDataFrameBatches(ResultSet rs, int batchSize, Consumer<DataFrame> batchConsumer) throws SQLException {
+        Index columns = createIndex(rs);
+
+        Extractor<ResultSet, ?>[] extractors = createExtractors(rs);
+
+        DataFrameByRowBuilder<ResultSet, ?> builder = DataFrame
+                .byRow(extractors)
+                .columnIndex(columns)
+                .capacity(batchSize);
+
+        new SqlBatchLoaderWorker(builder, batchSize, limit).load(rs, batchConsumer);
+    }
+
     protected Index createIndex(ResultSet rs) throws SQLException {
 
         ResultSetMetaData rsmd = rs.getMetaData();
@@ -149,7 +365,14 @@ public class SqlLoader {
 
         for (int i = 0; i < w; i++) {
             int jdbcPos = i + 1;
-            extractors[i] = connector.createExtractor(
+
+            JdbcExtractorFactory<?> columnExtractor = columnExtractors.isEmpty()
+                    ? null
+                    : columnExtractors.get(rsmd.getColumnLabel(jdbcPos));
+
+            extractors[i] = columnExtractor != null
+                    ? columnExtractor.createExtractor(jdbcPos)
+                    : connector.createExtractor(
                     jdbcPos,
                     rsmd.getColumnType(jdbcPos),
                     rsmd.isNullable(jdbcPos) == ResultSetMetaData.columnNoNulls);
@@ -31,6 +31,8 @@ public class StatementBuilder {
     private DbColumnMetadata[] paramDescriptors;
     private Series<?> params;
     private DataFrame batchParams;
+    private int fetchSize;
+    private int maxRows;
 
     public StatementBuilder(JdbcConnector connector) {
         this.connector = connector;
@@ -62,9 +64,36 @@ public class StatementBuilder {
         return bind(Series.of(params));
     }
 
+    /**
+     * Sets a hint to the JDBC driver for the number of rows fetched from the DB in a single round trip when reading
+     * a ResultSet. Zero or negative values mean that the driver default should be used.
+     *
+     * @since 1.0.0-M23
+     */
+    public StatementBuilder fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows returned by a "select" statement, allowing the driver and the DB to stop producing
+     * results early. Zero or negative values mean no limit.
+     *
+     * @since 1.0.0-M23
+     */
+    public StatementBuilder maxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
     public <T> T select(JdbcFunction<ResultSet, T> resultReader) {
         try (Connection c = connector.getConnection()) {
-            return select(c, resultReader);
+            T result = select(c, resultReader);
+
+            // end the read transaction to release its locks, as not all connection pools do it when the connection
+            // is returned. Otherwise the locks would be held by an idle pooled connection and block the writers
+            c.commit();
+            return result;
         } catch (SQLException e) {
             throw new RuntimeException("Error opening connection: " + e.getMessage(), e);
         }
@@ -117,8 +146,8 @@ public class StatementBuilder {
         }
 
         return (params == null || params.size() == 0)
-                ? new SelectStatementNoParams(sql, connector.getSqlLogger())
-                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger());
+                ? new SelectStatementNoParams(sql, connector.getSqlLogger(), fetchSize, maxRows)
+                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger(), fetchSize, maxRows);
     }
 
     protected UpdateStatement createUpdateStatement() {
@@ -138,7 +167,7 @@ public class StatementBuilder {
     protected StatementBinderFactory createBinderFactory() {
         return paramDescriptors != null
                 ? new FixedParamsBinderFactory(connector.getBindConverterFactory(), paramDescriptors)
-                : new CompiledFromStatementBinderFactory(connector.getMetadata().getFlavor(), connector.getBindConverterFactory());
+                : new CompiledFromStatementBinderFactory(connector.getMetadata(), sql, connector.getBindConverterFactory());
     }
 
 
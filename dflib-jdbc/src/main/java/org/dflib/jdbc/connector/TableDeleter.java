@@ -3,9 +3,11 @@ package org.dflib.jdbc.connector;
 import org.dflib.DataFrame;
 import org.dflib.jdbc.connector.condition.ConditionBuilder;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.tx.Tx;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -18,11 +20,13 @@ public class TableDeleter {
     protected JdbcConnector connector;
     private TableFQName tableName;
     private ConditionBuilder condition;
+    private int conditionChunkSize;
 
     public TableDeleter(JdbcConnector connector, TableFQName tableName) {
         this.connector = Objects.requireNonNull(connector);
         this.tableName = Objects.requireNonNull(tableName);
         this.condition = new ConditionBuilder(connector);
+        this.conditionChunkSize = TableLoader.DEFAULT_CONDITION_CHUNK_SIZE;
     }
 
     public TableDeleter eq(DataFrame condition) {
@@ -35,16 +39,38 @@ public class TableDeleter {
         return this;
     }
 
+    /**
+     * Sets the max number of keys from an {@link #eq(DataFrame)} condition that are included in a single DELETE
+     * statement. Bigger conditions are split into chunks, deleted within a single transaction. Zero or negative value
+     * disables chunking. The default is {@link TableLoader#DEFAULT_CONDITION_CHUNK_SIZE}. A "not in" condition can't be
+     * split, so {@link #neq(DataFrame)} deletes are always done with a single statement.
+     *
+     * @return this deleter instance
+     * @since 1.0.0-M23
+     */
+    public TableDeleter conditionChunkSize(int keys) {
+        this.conditionChunkSize = keys;
+        return this;
+    }
+
     public int delete() {
         if (condition.noCondition()) {
-            return deleteAll();
+            return invalidateQueryCache(deleteAll());
         } else if (condition.nonEmptyCondition()) {
-            return deleteConditional();
+            return invalidateQueryCache(deleteConditional());
         } else {
             return deleteEmptyCondition();
         }
     }
 
+    private int invalidateQueryCache(int deleted) {
+        if (deleted != 0) {
+            QueryCacheInvalidator.tableChanged(connector, tableName);
+        }
+
+        return deleted;
+    }
+
     protected int deleteAll() {
         LOGGER.debug("deleting all rows in '{}'", tableName);
 
@@ -53,12 +79,39 @@ public class TableDeleter {
     }
 
     protected int deleteConditional() {
+
+        if (conditionChunkSize > 0
+                && !condition.negatedCondition()
+                && condition.conditionHeight() > conditionChunkSize) {
+            return deleteConditionalChunked();
+        }
+
         LOGGER.debug("deleting rows in '{}' {}matching DataFrame...", tableName, condition.negatedCondition() ? "not " : " ");
 
         String sql = createDeleteStatement(new StringBuilder()).toString();
         return new SqlSaver(connector, sql).save(condition.bindingParams());
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    protected int deleteConditionalChunked() {
+
+        List<ConditionBuilder> chunks = condition.split(conditionChunkSize);
+        LOGGER.debug("deleting rows in '{}' matching DataFrame in {} chunks...", tableName, chunks.size());
+
+        return Tx.newTransaction(connector).call(c -> {
+
+            int count = 0;
+            for (ConditionBuilder chunk : chunks) {
+                String sql = createDeleteStatement(new StringBuilder(), chunk).toString();
+                count += new SqlSaver(c, sql).save(chunk.bindingParams());
+            }
+
+            return count;
+        });
+    }
+
     protected int deleteEmptyCondition() {
         return condition.negatedCondition() ? deleteAll() : 0;
     }
@@ -68,6 +121,13 @@ public class TableDeleter {
     }
 
     protected StringBuilder createDeleteStatement(StringBuilder buffer) {
+        return createDeleteStatement(buffer, condition);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected StringBuilder createDeleteStatement(StringBuilder buffer, ConditionBuilder condition) {
         createUnqualifiedDeleteStatement(buffer).append(" where ");
         condition.toSqlCondition(buffer);
         return buffer;
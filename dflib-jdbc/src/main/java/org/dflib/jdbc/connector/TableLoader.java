@@ -1,27 +1,68 @@
 package org.dflib.jdbc.connector;
 
+import org.dflib.Condition;
 import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.exp.Column;
+import org.dflib.exp.sort.ExpSorter;
 import org.dflib.jdbc.connector.condition.ConditionBuilder;
+import org.dflib.jdbc.connector.condition.ExpConditionTranslator;
+import org.dflib.jdbc.connector.condition.TranslatedCondition;
+import org.dflib.jdbc.connector.loader.JdbcExtractorFactory;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.metadata.flavors.LimitSyntax;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
 import org.dflib.sample.Sampler;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.function.Consumer;
 
 public class TableLoader {
 
+    /**
+     * The default max number of keys in a single "eq" condition query. Matches the IN-list size limit of Oracle, and
+     * keeps the number of bound parameters within the limits of common drivers for reasonably narrow keys.
+     *
+     * @since 1.0.0-M23
+     */
+    public static final int DEFAULT_CONDITION_CHUNK_SIZE = 1000;
+
     protected JdbcConnector connector;
     protected int limit = -1;
+    private int fetchSize;
     private TableFQName tableName;
     private String[] columns;
     private ConditionBuilder condition;
     private int rowSampleSize;
     private Random rowsSampleRandom;
+    private String partitionColumn;
+    private int partitions;
+    private Object[] partitionBounds;
+    private int conditionChunkSize;
+    private Map<String, JdbcExtractorFactory<?>> columnExtractors;
+    private Map<String, Object> columnExtractorKeys;
+    private boolean cached;
+    private Condition rowFilter;
+    private Sorter[] sorters;
+
+    // per-load state derived from the row filter and the sorters
+    private TranslatedCondition translatedFilter;
+    private String orderBySql;
 
     public TableLoader(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.tableName = tableName;
         this.condition = new ConditionBuilder(connector);
+        this.conditionChunkSize = DEFAULT_CONDITION_CHUNK_SIZE;
+        this.columnExtractors = new LinkedHashMap<>();
+        this.columnExtractorKeys = new HashMap<>();
     }
 
     /**
@@ -61,14 +102,194 @@ public class TableLoader {
     }
 
     /**
+     * Sets the max number of keys from an {@link #eq(DataFrame)} condition that are included in a single query.
+     * Bigger conditions are split into chunks, loaded in parallel (or sequentially within a transaction) and combined,
+     * so that the driver limits on the number of bound parameters are not exceeded, and the DB doesn't have to plan
+     * huge queries. Zero or negative value disables chunking. The default is
+     * {@link #DEFAULT_CONDITION_CHUNK_SIZE}. Chunking doesn't apply to {@link #neq(DataFrame)} conditions, as well as
+     * to the partitioned and the batched loads.
+     *
+     * @return this loader instance
+     * @since 1.0.0-M23
+     */
+    public TableLoader conditionChunkSize(int keys) {
+        this.conditionChunkSize = keys;
+        return this;
+    }
+
+    /**
+     * Configures TableLoader to retrieve rows matching the condition. The condition is translated to SQL whenever
+     * possible, so that the filtering is done by the DB. Column comparisons with constants, "in" / "notIn",
+     * "isNull" / "isNotNull", as well as "and", "or" and "not" combinations of those are translated. If some parts of
+     * the condition can not be translated, they are applied to the loaded data in memory, and in this case the columns
+     * referenced by those parts must be included in the loaded columns. Can be combined with {@link #eq(DataFrame)}
+     * and {@link #neq(DataFrame)} conditions.
+     *
+     * @param condition a condition over the table columns referenced by name
+     * @return this TableLoader
+     * @since 1.0.0-M23
+     */
+    public TableLoader rows(Condition condition) {
+        this.rowFilter = Objects.requireNonNull(condition);
+        return this;
+    }
+
+    /**
+     * Configures TableLoader to sort the result. If all the sorters are over named columns (e.g.,
+     * {@code $col("a").asc()}), the sorting is done by the DB via "ORDER BY", otherwise the data is sorted in memory.
+     * When sorting in the DB, the position of NULLs follows the DB rules, which may differ from DFLib. Sorting makes
+     * the {@link #limit(int)} results predictable.
+     *
+     * @return this TableLoader
+     * @since 1.0.0-M23
+     */
+    public TableLoader sort(Sorter... sorters) {
+        this.sorters = sorters;
+        return this;
+    }
+
+    /**
+     * Configures TableLoader to sort the result by a single column.
+     *
+     * @see #sort(Sorter...)
+     * @since 1.0.0-M23
+     */
+    public TableLoader sort(String column, boolean ascending) {
+        return sort(new ExpSorter(Exp.$col(column), ascending));
+    }
+
+    /**
+     * Limits the number of loaded rows. If the DB flavor has a known limit syntax, and the whole query can be
+     * executed by the DB (i.e., there's no in-memory filtering or sorting), the limit is included in the SQL.
+     * Otherwise, it is applied on the client.
+     *
      * @since 1.0.0-M20
      */
-    // TODO: limit without sorting may return unpredictable data.. should we allow to specify a sort column?
     public TableLoader limit(int limit) {
         this.limit = limit;
         return this;
     }
 
+    /**
+     * Sets a hint to the JDBC driver for the number of rows fetched from the DB in a single round trip.
+     *
+     * @see SqlLoader#fetchSize(int)
+     * @since 1.0.0-M23
+     */
+    public TableLoader fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Configures a nullable int column to be loaded as a primitive {@link org.dflib.IntSeries}, with NULLs replaced
+     * with the "forNull" value.
+     *
+     * @see SqlLoader#intCol(String, int)
+     * @since 1.0.0-M23
+     */
+    public TableLoader intCol(String column, int forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$int(pos, forNull), List.of("int", forNull));
+    }
+
+    /**
+     * Configures a nullable long column to be loaded as a primitive {@link org.dflib.LongSeries}, with NULLs replaced
+     * with the "forNull" value.
+     *
+     * @see SqlLoader#longCol(String, long)
+     * @since 1.0.0-M23
+     */
+    public TableLoader longCol(String column, long forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$long(pos, forNull), List.of("long", forNull));
+    }
+
+    /**
+     * Configures a nullable double column to be loaded as a primitive {@link org.dflib.DoubleSeries}, with NULLs
+     * replaced with the "forNull" value.
+     *
+     * @see SqlLoader#doubleCol(String, double)
+     * @since 1.0.0-M23
+     */
+    public TableLoader doubleCol(String column, double forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$double(pos, forNull), List.of("double", forNull));
+    }
+
+    /**
+     * Configures a TIMESTAMP column to be loaded as a primitive {@link org.dflib.LongSeries} of milliseconds since
+     * epoch, with NULLs replaced with the "forNull" value.
+     *
+     * @see SqlLoader#epochMillisCol(String, long)
+     * @since 1.0.0-M23
+     */
+    public TableLoader epochMillisCol(String column, long forNull) {
+        return colExtractor(column, pos -> JdbcExtractorFactory.$epochMillis(pos, forNull), List.of("epochMillis", forNull));
+    }
+
+    /**
+     * Configures a custom extractor for a table column.
+     *
+     * @since 1.0.0-M23
+     */
+    public <T> TableLoader colExtractor(String column, JdbcExtractorFactory<T> extractorFactory) {
+        return colExtractor(column, extractorFactory, extractorFactory);
+    }
+
+    private <T> TableLoader colExtractor(String column, JdbcExtractorFactory<T> extractorFactory, Object cacheKey) {
+        this.columnExtractors.put(column, Objects.requireNonNull(extractorFactory));
+        this.columnExtractorKeys.put(column, cacheKey);
+        return this;
+    }
+
+    /**
+     * Configures the loader to use the connector {@link org.dflib.jdbc.connector.loader.QueryCache}. The cached
+     * results are invalidated when the table is modified via {@link TableSaver} or {@link TableDeleter}.
+     *
+     * @see SqlLoader#cached(String...)
+     * @since 1.0.0-M23
+     */
+    public TableLoader cached() {
+        this.cached = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to split the table into a number of partitions by ranges of the specified column values,
+     * and load them in parallel, each on its own connection. The range bounds are calculated from the min and max
+     * values of the column, so it should be a numeric, date or timestamp column with a reasonably uniform distribution
+     * of values (e.g., a numeric PK). Partitions are combined in the order of the column values, with NULLs included in
+     * the first partition. Within a transaction, the partitions are loaded sequentially, as all the queries must share
+     * the transaction connection. Partitioning is not compatible with row sampling.
+     *
+     * @param column     a numeric, date or timestamp column used to partition the table
+     * @param partitions the number of partitions
+     * @return this loader instance
+     * @since 1.0.0-M23
+     */
+    public TableLoader partitions(String column, int partitions) {
+        this.partitionColumn = Objects.requireNonNull(column);
+        this.partitions = partitions;
+        this.partitionBounds = null;
+        return this;
+    }
+
+    /**
+     * Configures the loader to split the table into a number of partitions by ranges of the specified column values,
+     * and load them in parallel. Unlike {@link #partitions(String, int)}, the ranges are defined by the explicit
+     * split points, "N" points producing "N + 1" partitions. The first and the last partition are open-ended.
+     *
+     * @param column a column used to partition the table
+     * @param bounds ascending split points between partitions
+     * @return this loader instance
+     * @see #partitions(String, int)
+     * @since 1.0.0-M23
+     */
+    public TableLoader partitionBounds(String column, Object... bounds) {
+        this.partitionColumn = Objects.requireNonNull(column);
+        this.partitions = bounds.length + 1;
+        this.partitionBounds = bounds;
+        return this;
+    }
+
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#rowsSample(int, Random)}, this method can be used on potentially very large
@@ -100,9 +321,53 @@ public class TableLoader {
 
     public DataFrame load() {
         // "no condition" means return all rows; "empty condition" means return no rows
-        return condition.noCondition() || condition.nonEmptyCondition()
-                ? fetchDataFrame()
-                : createEmptyDataFrame();
+        if (condition.noCondition() || condition.nonEmptyCondition()) {
+            prepareQuery();
+            return fetchDataFrame();
+        }
+
+        return createEmptyDataFrame();
+    }
+
+    /**
+     * Loads table data as a sequence of DataFrames with up to "batchSize" rows each, passing each one to the consumer
+     * while the DB cursor is still open. This allows to process tables that would not fit in memory as a single
+     * DataFrame. If no rows match the loader criteria, the consumer is not invoked. Parts of the {@link #rows(Condition)}
+     * condition that can't be translated to SQL are applied to each batch, so such batches may be smaller than
+     * "batchSize". Sorting in memory is not supported in this mode.
+     *
+     * @see SqlLoader#loadBatches(int, Consumer, Object...)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(int batchSize, Consumer<DataFrame> batchConsumer) {
+
+        // "no condition" means return all rows; "empty condition" means return no rows
+        if (condition.noCondition() || condition.nonEmptyCondition()) {
+
+            prepareQuery();
+
+            if (sortInMemory()) {
+                throw new IllegalStateException("Sorting by expressions other than named columns is not supported when loading data in batches");
+            }
+
+            Condition postFilter = postFilter();
+            if (postFilter != null && limit >= 0) {
+                throw new IllegalStateException("Limit can't be combined with conditions that can't be translated to SQL when loading data in batches");
+            }
+
+            Consumer<DataFrame> consumer = postFilter != null
+                    ? df -> {
+                DataFrame filtered = df.rows(postFilter).select();
+                if (filtered.height() > 0) {
+                    batchConsumer.accept(filtered);
+                }
+            }
+                    : batchConsumer;
+
+            createSqlLoader()
+                    .rowsSample(rowSampleSize, rowsSampleRandom)
+                    .loadBatches(batchSize, consumer, bindingParams(condition));
+        }
     }
 
     protected DataFrame createEmptyDataFrame() {
@@ -114,21 +379,218 @@ public class TableLoader {
     }
 
     protected DataFrame fetchDataFrame() {
-        return new SqlLoader(connector, buildSql())
-                .limit(limit)
+
+        if (partitionColumn != null && partitions > 1) {
+            return fetchPartitionedDataFrame();
+        }
+
+        if (conditionChunkSize > 0
+                && !condition.negatedCondition()
+                && condition.conditionHeight() > conditionChunkSize) {
+            return fetchChunkedDataFrame();
+        }
+
+        return fetchSingleDataFrame();
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected DataFrame fetchSingleDataFrame() {
+
+        if (postFilter() != null || sortInMemory()) {
+            return postProcess(createSqlLoader().load(bindingParams(condition)), sortInMemory(), true);
+        }
+
+        return createSqlLoader()
                 .rowsSample(rowSampleSize, rowsSampleRandom)
-                .load(condition.bindingParams());
+                .load(bindingParams(condition));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected SqlLoader createSqlLoader() {
+        return createSqlLoader(buildSql());
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected SqlLoader createSqlLoader(String sql) {
+        SqlLoader loader = new SqlLoader(connector, sql)
+                .limit(sqlLimit())
+                .fetchSize(fetchSize);
+
+        for (Map.Entry<String, JdbcExtractorFactory<?>> e : columnExtractors.entrySet()) {
+            loader = loader.colExtractor(e.getKey(), e.getValue(), columnExtractorKeys.get(e.getKey()));
+        }
+
+        return cached ? loader.cached(tableName.getTable()) : loader;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected DataFrame fetchPartitionedDataFrame() {
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling is not supported when loading partitioned data");
+        }
+
+        Object[] bounds = partitionBounds != null ? partitionBounds : calculatePartitionBounds();
+        int len = bounds.length + 1;
+
+        Series<?> conditionParams = bindingParams(condition);
+        String[] sql = new String[len];
+        Series<?>[] params = new Series[len];
+        for (int i = 0; i < len; i++) {
+            sql[i] = buildPartitionSql(i, len);
+            params[i] = partitionParams(conditionParams, bounds, i);
+        }
+
+        // limit is applied to each partition, and then to the combined result
+        DataFrame df = new PartitionedLoaderWorker(
+                i -> createSqlLoader(sql[i]).load(params[i]),
+                len,
+                // a transaction connection can't be shared between threads
+                !(connector instanceof TxJdbcConnector)).load();
+
+        // partitions are combined in the order of the partition column, so the result needs to be resorted
+        return postProcess(df, hasSorters(), false);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected DataFrame fetchChunkedDataFrame() {
+
+        List<ConditionBuilder> chunks = condition.split(conditionChunkSize);
+
+        // limit is applied to each chunk, and then to the combined result
+        DataFrame df = new PartitionedLoaderWorker(
+                i -> createSqlLoader(buildSql(chunks.get(i))).load(bindingParams(chunks.get(i))),
+                chunks.size(),
+                // a transaction connection can't be shared between threads
+                !(connector instanceof TxJdbcConnector)).load();
+
+        // sampling each chunk would not produce a uniform sample, so sampling the combined result instead
+        return postProcess(df, hasSorters(), true);
+    }
+
+    /**
+     * Applies the parts of the query that were not executed by the DB to the loaded data.
+     */
+    private DataFrame postProcess(DataFrame df, boolean sort, boolean sample) {
+
+        Condition postFilter = postFilter();
+        if (postFilter != null) {
+            df = df.rows(postFilter).select();
+        }
+
+        if (sort) {
+            df = df.sort(sorters);
+        }
+
+        if (limit >= 0 && df.height() > limit) {
+            df = df.head(limit);
+        }
+
+        return sample && rowSampleSize > 0 && rowSampleSize < df.height()
+                ? df.rowsSample(rowSampleSize, rowsSampleRandom).select()
+                : df;
+    }
+
+    private Object[] calculatePartitionBounds() {
+
+        String column = connector.quoteIdentifier(partitionColumn);
+        StringBuilder sql = new StringBuilder("select min(")
+                .append(column)
+                .append("), max(")
+                .append(column)
+                .append(") from ")
+                .append(connector.quoteTableName(tableName));
+        appendWhereSql(sql);
+
+        DataFrame range = new SqlLoader(connector, sql.toString()).load(bindingParams(condition));
+        return PartitionedLoaderWorker.splitPoints(range.getColumn(0).get(0), range.getColumn(1).get(0), partitions);
+    }
+
+    private String buildPartitionSql(int partition, int partitions) {
+
+        StringBuilder sql = new StringBuilder("select ");
+        appendColumnsSql(sql);
+        sql.append(" from ").append(connector.quoteTableName(tableName));
+
+        if (partitions < 2) {
+            appendWhereSql(sql);
+            appendOrderBySql(sql);
+            appendLimitSql(sql);
+            return sql.toString();
+        }
+
+        String column = connector.quoteIdentifier(partitionColumn);
+        sql.append(" where ");
+
+        if (hasWhere(condition)) {
+            sql.append("(");
+            appendConditionSql(sql, condition);
+            sql.append(") and ");
+        }
+
+        if (partition == 0) {
+            sql.append("(").append(column).append(" < ? or ").append(column).append(" is null)");
+        } else if (partition == partitions - 1) {
+            sql.append(column).append(" >= ?");
+        } else {
+            sql.append(column).append(" >= ? and ").append(column).append(" < ?");
+        }
+
+        appendOrderBySql(sql);
+        appendLimitSql(sql);
+        return sql.toString();
+    }
+
+    private static Series<?> partitionParams(Series<?> conditionParams, Object[] bounds, int partition) {
+
+        if (bounds.length == 0) {
+            return conditionParams;
+        }
+
+        boolean lower = partition > 0;
+        boolean upper = partition < bounds.length;
+
+        int clen = conditionParams.size();
+        Object[] params = new Object[clen + (lower ? 1 : 0) + (upper ? 1 : 0)];
+        conditionParams.copyTo(params, 0, 0, clen);
+
+        int i = clen;
+        if (lower) {
+            params[i++] = bounds[partition - 1];
+        }
+
+        if (upper) {
+            params[i] = bounds[partition];
+        }
+
+        return Series.of(params);
     }
 
     protected String buildSql() {
+        return buildSql(condition);
+    }
 
-        // TODO: should "limit"" be translated into the SQL LIMIT clause?
-        //  Some DBs have crazy limit syntax, so this may be hard to generalize..
+    /**
+     * @since 1.0.0-M23
+     */
+    protected String buildSql(ConditionBuilder condition) {
 
         StringBuilder sql = new StringBuilder("select ");
         appendColumnsSql(sql);
         sql.append(" from ").append(connector.quoteTableName(tableName));
-        appendWhereSql(sql);
+        appendWhereSql(sql, condition);
+        appendOrderBySql(sql);
+        appendLimitSql(sql);
 
         return sql.toString();
     }
@@ -155,11 +617,150 @@ public class TableLoader {
     }
 
     protected StringBuilder appendWhereSql(StringBuilder buffer) {
-        if (condition.nonEmptyCondition()) {
+        return appendWhereSql(buffer, condition);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected StringBuilder appendWhereSql(StringBuilder buffer, ConditionBuilder condition) {
+        if (hasWhere(condition)) {
             buffer.append(" where ");
-            condition.toSqlCondition(buffer);
+            appendConditionSql(buffer, condition);
+        }
+
+        return buffer;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected StringBuilder appendOrderBySql(StringBuilder buffer) {
+        if (orderBySql != null) {
+            buffer.append(" order by ").append(orderBySql);
         }
 
         return buffer;
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected StringBuilder appendLimitSql(StringBuilder buffer) {
+
+        // "fetch first 0 rows" is invalid on some DBs, so a zero limit is left to the client
+        int limit = sqlLimit();
+        if (limit <= 0) {
+            return buffer;
+        }
+
+        LimitSyntax syntax = connector.getMetadata().getFlavor().getLimitSyntax();
+        switch (syntax) {
+            case limit:
+                return buffer.append(" limit ").append(limit);
+            case fetchFirst:
+                return buffer.append(" fetch first ").append(limit).append(" rows only");
+            default:
+                return buffer;
+        }
+    }
+
+    private boolean hasWhere(ConditionBuilder condition) {
+        return condition.nonEmptyCondition() || filterSql() != null;
+    }
+
+    private void appendConditionSql(StringBuilder buffer, ConditionBuilder condition) {
+
+        String filterSql = filterSql();
+
+        if (!condition.nonEmptyCondition()) {
+            buffer.append(filterSql);
+        } else if (filterSql == null) {
+            condition.toSqlCondition(buffer);
+        } else {
+            buffer.append("(");
+            condition.toSqlCondition(buffer);
+            buffer.append(") and (").append(filterSql).append(")");
+        }
+    }
+
+    /**
+     * Returns the binding parameters of the DataFrame condition, followed by the parameters of the
+     * {@link #rows(Condition)} condition.
+     */
+    private Series<?> bindingParams(ConditionBuilder condition) {
+
+        Series<?> conditionParams = condition.bindingParams();
+        Object[] filterParams = translatedFilter != null ? translatedFilter.getParams() : new Object[0];
+        if (filterParams.length == 0) {
+            return conditionParams;
+        }
+
+        int clen = conditionParams.size();
+        Object[] params = new Object[clen + filterParams.length];
+        conditionParams.copyTo(params, 0, 0, clen);
+        System.arraycopy(filterParams, 0, params, clen, filterParams.length);
+        return Series.of(params);
+    }
+
+    private void prepareQuery() {
+        this.translatedFilter = rowFilter != null ? new ExpConditionTranslator(connector).translate(rowFilter) : null;
+        this.orderBySql = hasSorters() ? buildOrderBySql() : null;
+    }
+
+    /**
+     * Builds "ORDER BY" columns SQL, or returns null if some of the sorters are not over named columns.
+     */
+    private String buildOrderBySql() {
+
+        StringBuilder sql = new StringBuilder();
+        for (Sorter sorter : sorters) {
+
+            if (!(sorter instanceof ExpSorter)) {
+                return null;
+            }
+
+            ExpSorter expSorter = (ExpSorter) sorter;
+            if (!(expSorter.getExp() instanceof Column)) {
+                return null;
+            }
+
+            String column = ((Column<?>) expSorter.getExp()).getName();
+            if (column == null) {
+                return null;
+            }
+
+            if (sql.length() > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(column)).append(expSorter.isAscending() ? " asc" : " desc");
+        }
+
+        return sql.toString();
+    }
+
+    private String filterSql() {
+        return translatedFilter != null ? translatedFilter.getSql() : null;
+    }
+
+    private Condition postFilter() {
+        return translatedFilter != null ? translatedFilter.getPostFilter() : null;
+    }
+
+    private boolean hasSorters() {
+        return sorters != null && sorters.length > 0;
+    }
+
+    private boolean sortInMemory() {
+        return hasSorters() && orderBySql == null;
+    }
+
+    /**
+     * Returns the limit that can be applied while reading the ResultSet, or -1 if the data must be filtered or sorted
+     * in memory before the limit is applied.
+     */
+    private int sqlLimit() {
+        return postFilter() != null || sortInMemory() ? -1 : limit;
+    }
 }
@@ -1,6 +1,8 @@
 package org.dflib.jdbc.connector;
 
 import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.SaveOp;
 import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
 import org.dflib.jdbc.connector.saver.SaveViaDeleteThenUpsert;
@@ -11,7 +13,9 @@ import org.dflib.jdbc.connector.saver.TableSaveStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class TableSaver {
 
@@ -25,11 +29,15 @@ public class TableSaver {
     private boolean deleteUnmatchedRows;
     private boolean mergeByPk;
     private String[] mergeByColumns;
+    private boolean nativeMerge;
     private int batchSize;
+    private int parallelism;
+    private int conditionChunkSize;
 
     public TableSaver(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
         this.tableName = tableName;
+        this.conditionChunkSize = TableLoader.DEFAULT_CONDITION_CHUNK_SIZE;
     }
 
     /**
@@ -45,6 +53,23 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Configures the saver to save batches (see {@link #batchSize(int)}) in parallel over up to "connections"
+     * connections, each batch in its own transaction. While one connection waits for the DB to execute its batch,
+     * the others are binding and sending theirs. Use it when the save doesn't need to be atomic: if a batch fails,
+     * the batches saved before it are not rolled back. Also, the rows deleted per {@link #deleteTableData()} are deleted
+     * in a separate transaction before saving the batches. Has no effect without "batchSize", or when the saver is
+     * used within a transaction. When the save is itself called from a thread pool task, the batches are saved one by
+     * one in the calling thread, as waiting for them on a pool thread may deadlock the pool.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public TableSaver parallelBatches(int connections) {
+        this.parallelism = connections;
+        return this;
+    }
+
     /**
      * Configures saver to delete all table rows before performing insert operation.
      *
@@ -67,6 +92,23 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Sets the max number of keys included in a single DELETE statement of {@link #deleteUnmatchedRows()}. When the
+     * saved DataFrame has more rows, the delete is split into chunks. For a single numeric or date / time merge
+     * column, the chunks are ranges of the sorted DataFrame keys, and the delete is done entirely on the DB side.
+     * For other merge columns, all the table keys are loaded into memory to find the unmatched rows, so the memory
+     * use is proportional to the table size. Zero or negative value disables chunking, deleting the unmatched rows
+     * with a single "not in" statement regardless of its size. The default is
+     * {@link TableLoader#DEFAULT_CONDITION_CHUNK_SIZE}.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public TableSaver conditionChunkSize(int keys) {
+        this.conditionChunkSize = keys;
+        return this;
+    }
+
     /**
      * Configures saver to perform save as "merge" (aka "upsert") instead of "insert" done by default. TableSaver would
      * identify PK column(s) in the table, and will match them against the DataFrame to be saved. For matching rows an
@@ -102,9 +144,38 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Configures "merge" operations to use a single-statement DB-native upsert ("INSERT .. ON CONFLICT" in
+     * PostgreSQL, "INSERT .. ON DUPLICATE KEY UPDATE" in MySQL, "MERGE" in Derby), instead of reading the matching
+     * rows from DB and comparing them with the DataFrame in memory. Reduces the number of DB round trips and the
+     * memory use, but requires the merge columns to be covered by a PK or a unique constraint, and provides less
+     * precise save statistics, as most DBs can't report whether a row was inserted or updated. Such rows are reported
+     * as {@link org.dflib.jdbc.SaveOp#upsert}. If the DB doesn't support native upsert, the default merge is used.
+     *
+     * @return this saver instance
+     * @since 1.0.0-M23
+     */
+    public TableSaver nativeMerge() {
+        this.nativeMerge = true;
+        return this;
+    }
+
     public SaveStats save(DataFrame df) {
         LOGGER.debug("saving DataFrame...");
-        return new SaveStats(createSaveStrategy().save(df));
+
+        TableSaveStrategy strategy = createSaveStrategy().parallelism(parallelism);
+
+        long t0 = System.nanoTime();
+        Supplier<Series<SaveOp>> ops;
+        try {
+            ops = strategy.save(df);
+        } finally {
+            // even a failed save may have committed some of the batches
+            QueryCacheInvalidator.tableChanged(connector, tableName);
+        }
+        Duration totalTime = Duration.ofNanos(System.nanoTime() - t0);
+
+        return new SaveStats(ops, strategy.getPhaseTimes(), totalTime);
     }
 
     protected TableSaveStrategy createSaveStrategy() {
@@ -125,8 +196,8 @@ public class TableSaver {
         }
 
         return deleteUnmatchedRows
-                ? new SaveViaDeleteThenUpsert(connector, tableName, keyColumns)
-                : new SaveViaUpsert(connector, tableName, keyColumns, batchSize);
+                ? new SaveViaDeleteThenUpsert(connector, tableName, keyColumns, nativeMerge).conditionChunkSize(conditionChunkSize)
+                : new SaveViaUpsert(connector, tableName, keyColumns, batchSize, nativeMerge);
     }
 
     protected String[] getPkColumns() {
@@ -6,6 +6,8 @@ import org.dflib.Series;
 import org.dflib.jdbc.connector.JdbcConnector;
 import org.dflib.series.ByRowSeries;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -39,6 +41,47 @@ public class ConditionBuilder {
         return negateCondition;
     }
 
+    /**
+     * Returns the number of rows in the condition DataFrame, i.e., the number of keys to match.
+     *
+     * @since 1.0.0-M23
+     */
+    public int conditionHeight() {
+        return condition != null ? condition.height() : 0;
+    }
+
+    /**
+     * Splits a non-negated condition into a list of conditions with up to "maxRows" keys each. Duplicate keys are
+     * removed before splitting, so that each DB row matches exactly one of the resulting conditions, and the union of
+     * the results of the split conditions is the same as the result of the original condition.
+     *
+     * @since 1.0.0-M23
+     */
+    public List<ConditionBuilder> split(int maxRows) {
+
+        if (negateCondition) {
+            throw new IllegalStateException("Can't split a negated condition");
+        }
+
+        if (maxRows <= 0 || conditionHeight() <= maxRows) {
+            return List.of(this);
+        }
+
+        DataFrame unique = condition.rows().selectUnique();
+        int h = unique.height();
+        if (h <= maxRows) {
+            return List.of(new ConditionBuilder(connector).condition(unique, false));
+        }
+
+        List<ConditionBuilder> split = new ArrayList<>(h / maxRows + 1);
+        for (int start = 0; start < h; start += maxRows) {
+            int end = Math.min(h, start + maxRows);
+            split.add(new ConditionBuilder(connector).condition(unique.rowsRange(start, end).select(), false));
+        }
+
+        return split;
+    }
+
     public StringBuilder toSqlCondition(StringBuilder buffer) {
         int criteriaHeight = condition != null ? condition.height() : 0;
         if (criteriaHeight == 0) {
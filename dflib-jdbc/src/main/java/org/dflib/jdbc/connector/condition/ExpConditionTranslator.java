@@ -0,0 +1,162 @@
+package org.dflib.jdbc.connector.condition;
+
+import org.dflib.Condition;
+import org.dflib.exp.ConditionTranslator;
+import org.dflib.exp.bool.AndCondition;
+import org.dflib.jdbc.connector.JdbcConnector;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates DFLib {@link Condition} expressions to SQL. Supports comparisons of named columns with constants,
+ * "in" / "notIn", "isNull" / "isNotNull", as well as "and", "or" and "not" combinations of those. Parts of a top-level
+ * "and" that can't be translated are returned as a post-filter to be applied to the loaded data in memory. Other
+ * untranslatable conditions are returned as a post-filter in their entirety.
+ *
+ * <p>The generated SQL preserves the DFLib NULL semantics. E.g., "$col("a").ne(5)" matches NULLs in DFLib, so it is
+ * translated as "(a <> ? or a is null)". Similarly, "not($int("a").gt(5))" matches NULLs in DFLib, as "gt" is false
+ * for a NULL, while in SQL "not (a > ?)" is unknown for a NULL and doesn't match it. So the nested comparison is made
+ * false for NULLs, and the condition is translated as "not ((a > ? and a is not null))".</p>
+ *
+ * @since 1.0.0-M23
+ */
+public class ExpConditionTranslator extends ConditionTranslator<TranslatedCondition, String> {
+
+    private static final Map<String, String> COMPARISONS = Map.of(
+            "=", "=",
+            "!=", "<>",
+            "<", "<",
+            "<=", "<=",
+            ">", ">",
+            ">=", ">=");
+
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    private final JdbcConnector connector;
+
+    public ExpConditionTranslator(JdbcConnector connector) {
+        this.connector = connector;
+    }
+
+    public TranslatedCondition translate(Condition condition) {
+
+        StringBuilder sql = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+        List<Condition> untranslated = new ArrayList<>();
+
+        for (Condition part : conjuncts(condition)) {
+
+            TranslatedCondition translated = translate(part, false);
+            if (translated != null) {
+                if (sql.length() > 0) {
+                    sql.append(" and ");
+                }
+
+                sql.append(translated.getSql());
+                Collections.addAll(params, translated.getParams());
+            } else {
+                untranslated.add(part);
+            }
+        }
+
+        Condition postFilter;
+        switch (untranslated.size()) {
+            case 0:
+                postFilter = null;
+                break;
+            case 1:
+                postFilter = untranslated.get(0);
+                break;
+            default:
+                postFilter = new AndCondition(untranslated.toArray(new Condition[0]));
+                break;
+        }
+
+        return new TranslatedCondition(sql.length() > 0 ? sql.toString() : null, params.toArray(), postFilter);
+    }
+
+    @Override
+    protected String column(String name) {
+        return name != null ? connector.quoteIdentifier(name) : null;
+    }
+
+    @Override
+    protected TranslatedCondition and(List<TranslatedCondition> predicates) {
+        return join(predicates, " and ");
+    }
+
+    @Override
+    protected TranslatedCondition or(List<TranslatedCondition> predicates) {
+        return join(predicates, " or ");
+    }
+
+    @Override
+    protected TranslatedCondition not(TranslatedCondition predicate) {
+        return new TranslatedCondition("not (" + predicate.getSql() + ")", predicate.getParams(), null);
+    }
+
+    @Override
+    protected TranslatedCondition nullCheck(String column, boolean isNull) {
+        return new TranslatedCondition(column + (isNull ? " is null" : " is not null"), NO_PARAMS, null);
+    }
+
+    @Override
+    protected TranslatedCondition compare(String column, String op, Object value) {
+        return bindable(value)
+                ? new TranslatedCondition(column + " " + COMPARISONS.get(op) + " ?", new Object[]{value}, null)
+                : null;
+    }
+
+    @Override
+    protected TranslatedCondition in(String column, Object[] values, boolean negated) {
+
+        for (Object v : values) {
+            if (!bindable(v)) {
+                return null;
+            }
+        }
+
+        if (values.length == 0) {
+            // matches nothing for "in", and everything (including NULLs) for "notIn"
+            return new TranslatedCondition(negated ? "1 = 1" : "1 = 0", NO_PARAMS, null);
+        }
+
+        StringBuilder sql = new StringBuilder(column).append(negated ? " not in (?" : " in (?");
+        for (int i = 1; i < values.length; i++) {
+            sql.append(", ?");
+        }
+        sql.append(")");
+
+        return new TranslatedCondition(sql.toString(), values.clone(), null);
+    }
+
+    private static TranslatedCondition join(List<TranslatedCondition> predicates, String op) {
+
+        StringBuilder sql = new StringBuilder("(");
+        List<Object> params = new ArrayList<>();
+
+        for (TranslatedCondition p : predicates) {
+            if (sql.length() > 1) {
+                sql.append(op);
+            }
+
+            sql.append(p.getSql());
+            Collections.addAll(params, p.getParams());
+        }
+
+        sql.append(")");
+        return new TranslatedCondition(sql.toString(), params.toArray(), null);
+    }
+
+    private static boolean bindable(Object value) {
+        return value instanceof Number
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Temporal
+                || value instanceof java.util.Date;
+    }
+}
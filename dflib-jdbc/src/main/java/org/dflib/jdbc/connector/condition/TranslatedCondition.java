@@ -0,0 +1,42 @@
+package org.dflib.jdbc.connector.condition;
+
+import org.dflib.Condition;
+
+/**
+ * A result of {@link ExpConditionTranslator} translation of a {@link Condition} to SQL. Consists of an SQL condition
+ * with its binding parameters, and a post-filter condition made of the parts that could not be translated.
+ *
+ * @since 1.0.0-M23
+ */
+public class TranslatedCondition {
+
+    private final String sql;
+    private final Object[] params;
+    private final Condition postFilter;
+
+    public TranslatedCondition(String sql, Object[] params, Condition postFilter) {
+        this.sql = sql;
+        this.params = params;
+        this.postFilter = postFilter;
+    }
+
+    /**
+     * Returns an SQL condition with "?" placeholders for parameters, or null if no part of the condition could be
+     * translated to SQL.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    public Object[] getParams() {
+        return params;
+    }
+
+    /**
+     * Returns a condition that must be applied to the rows selected by the SQL condition, or null if the condition
+     * was translated to SQL in its entirety.
+     */
+    public Condition getPostFilter() {
+        return postFilter;
+    }
+}
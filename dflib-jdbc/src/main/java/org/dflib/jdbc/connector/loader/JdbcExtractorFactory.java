@@ -73,6 +73,84 @@ public interface JdbcExtractorFactory<T> {
         return Extractor.$double(mapper);
     }
 
+    /**
+     * Creates an extractor of a nullable int column that produces a primitive Series, with NULLs replaced with the
+     * "forNull" value.
+     *
+     * @since 1.0.0-M23
+     */
+    static Extractor<ResultSet, Integer> $int(int pos, int forNull) {
+        IntValueMapper<ResultSet> mapper = rs -> {
+            try {
+                int i = rs.getInt(pos);
+                return rs.wasNull() ? forNull : i;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$int(mapper);
+    }
+
+    /**
+     * Creates an extractor of a nullable long column that produces a primitive Series, with NULLs replaced with the
+     * "forNull" value.
+     *
+     * @since 1.0.0-M23
+     */
+    static Extractor<ResultSet, Long> $long(int pos, long forNull) {
+        LongValueMapper<ResultSet> mapper = rs -> {
+            try {
+                long l = rs.getLong(pos);
+                return rs.wasNull() ? forNull : l;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$long(mapper);
+    }
+
+    /**
+     * Creates an extractor of a nullable double column that produces a primitive Series, with NULLs replaced with the
+     * "forNull" value.
+     *
+     * @since 1.0.0-M23
+     */
+    static Extractor<ResultSet, Double> $double(int pos, double forNull) {
+        DoubleValueMapper<ResultSet> mapper = rs -> {
+            try {
+                double d = rs.getDouble(pos);
+                return rs.wasNull() ? forNull : d;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$double(mapper);
+    }
+
+    /**
+     * Creates an extractor of a nullable TIMESTAMP column that produces a primitive Series of milliseconds since
+     * epoch (as returned by {@link Timestamp#getTime()}, i.e. interpreting DB timestamps in the JVM default time zone),
+     * with NULLs replaced with the "forNull" value. This avoids storing a LocalDateTime object per value. JDBC has no
+     * primitive accessor for timestamps, so the driver still creates a short-lived Timestamp for each value.
+     *
+     * @since 1.0.0-M23
+     */
+    static Extractor<ResultSet, Long> $epochMillis(int pos, long forNull) {
+        LongValueMapper<ResultSet> mapper = rs -> {
+            try {
+                Timestamp timestamp = rs.getTimestamp(pos);
+                return timestamp != null ? timestamp.getTime() : forNull;
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$long(mapper);
+    }
+
     static Extractor<ResultSet, Object> $col(int pos) {
         return fromJdbcFunction(rs -> rs.getObject(pos));
     }
@@ -85,15 +163,20 @@ public interface JdbcExtractorFactory<T> {
     }
 
     static Extractor<ResultSet, LocalTime> $time(int pos) {
+
+        // extractors are created per ResultSet that is read by a single thread, so the calendar is reused for all the
+        // column values
+        Calendar calendar = Calendar.getInstance();
         return fromJdbcFunction(rs -> {
-            Time time = rs.getTime(pos, Calendar.getInstance());
+            Time time = rs.getTime(pos, calendar);
             return time != null ? time.toLocalTime() : null;
         });
     }
 
     static Extractor<ResultSet, LocalDateTime> $datetime(int pos) {
+        Calendar calendar = Calendar.getInstance();
         return fromJdbcFunction(rs -> {
-            Timestamp timestamp = rs.getTimestamp(pos, Calendar.getInstance());
+            Timestamp timestamp = rs.getTimestamp(pos, calendar);
             return timestamp != null ? timestamp.toLocalDateTime() : null;
         });
     }
@@ -0,0 +1,346 @@
+package org.dflib.jdbc.connector.loader;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A cache of query results shared by the loaders of a connector. Entries expire after a fixed "time to live" since
+ * they were loaded. The total size of the cached DataFrames is bounded by an approximate memory estimate, and the
+ * least recently used entries are evicted when the bound is exceeded. Each entry is tagged with the names of the
+ * tables it was loaded from, so that it can be invalidated when those tables change. As DataFrames are immutable, a
+ * cache hit returns the cached DataFrame instance without copying.
+ *
+ * @since 1.0.0-M23
+ */
+public class QueryCache {
+
+    // the number of object column values inspected to estimate the column size
+    private static final int SIZE_SAMPLE = 100;
+
+    private final long ttlNanos;
+    private final long maxSizeBytes;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Object, Entry> entries;
+
+    private long sizeBytes;
+
+    // incremented on every invalidation, so that the results loaded concurrently with an invalidation are not cached
+    private long generation;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * @param ttl          time since loading after which a cached result expires
+     * @param maxSizeBytes the max estimated size of all cached DataFrames
+     */
+    public QueryCache(Duration ttl, long maxSizeBytes) {
+        this(ttl, maxSizeBytes, System::nanoTime);
+    }
+
+    QueryCache(Duration ttl, long maxSizeBytes, LongSupplier clock) {
+
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        }
+
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("Max size must be positive: " + maxSizeBytes);
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.maxSizeBytes = maxSizeBytes;
+        this.clock = clock;
+
+        // access order for LRU eviction
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Returns a cached DataFrame for the key, loading it and caching it if it is not present or expired.
+     *
+     * @param key    a key that uniquely identifies the query, its parameters and its result configuration
+     * @param tables names of the tables the query reads from, used for invalidation
+     * @param loader a function to load the data on a cache miss
+     */
+    public DataFrame get(Object key, String[] tables, Supplier<DataFrame> loader) {
+
+        long startGeneration;
+
+        synchronized (this) {
+            DataFrame cached = getIfPresent(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+
+            startGeneration = generation;
+        }
+
+        misses.increment();
+
+        DataFrame df = loader.get();
+        put(key, tables, df, startGeneration);
+        return df;
+    }
+
+    /**
+     * Removes all the entries loaded from the table. The name may be qualified with a schema and / or a catalog
+     * ("schema.table"). Qualified and unqualified references to the same table match each other, e.g. invalidating
+     * "table" removes the entries tagged with "schema.table" and vice versa.
+     */
+    public synchronized void invalidate(String table) {
+
+        generation++;
+
+        String[] name = split(normalize(table));
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.loadedFrom(name)) {
+                it.remove();
+                sizeBytes -= e.sizeBytes;
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries loaded from the table.
+     *
+     * @see #invalidate(String)
+     */
+    public void invalidate(TableFQName table) {
+
+        StringBuilder name = new StringBuilder();
+        if (table.hasCatalog()) {
+            name.append(table.getCatalog()).append('.');
+        }
+
+        if (table.hasSchema()) {
+            name.append(table.getSchema()).append('.');
+        }
+
+        invalidate(name.append(table.getTable()).toString());
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    /**
+     * Returns the number of times a query result was returned from the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times a query had to be executed because its result was not cached or was expired.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed from the cache to keep it within the size bound.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated size of all the cached DataFrames in bytes.
+     */
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    private DataFrame getIfPresent(Object key) {
+
+        Entry e = entries.get(key);
+        if (e == null) {
+            return null;
+        }
+
+        if (clock.getAsLong() - e.loadedAt >= ttlNanos) {
+            entries.remove(key);
+            sizeBytes -= e.sizeBytes;
+            return null;
+        }
+
+        return e.df;
+    }
+
+    private void put(Object key, String[] tables, DataFrame df, long startGeneration) {
+
+        long size = estimateSize(df);
+
+        // a result that doesn't fit in the cache would evict everything else and still be evicted itself
+        if (size > maxSizeBytes) {
+            return;
+        }
+
+        List<String[]> normalizedTables = Stream.of(tables).map(t -> split(normalize(t))).collect(Collectors.toList());
+        Entry entry = new Entry(df, normalizedTables, size, clock.getAsLong());
+
+        synchronized (this) {
+
+            if (generation != startGeneration) {
+                return;
+            }
+
+            Entry replaced = entries.put(key, entry);
+            if (replaced != null) {
+                sizeBytes -= replaced.sizeBytes;
+            }
+
+            sizeBytes += size;
+
+            Iterator<Map.Entry<Object, Entry>> it = entries.entrySet().iterator();
+            while (sizeBytes > maxSizeBytes && it.hasNext()) {
+                Entry eldest = it.next().getValue();
+                it.remove();
+                sizeBytes -= eldest.sizeBytes;
+                evictions.increment();
+            }
+        }
+    }
+
+    private static String normalize(String table) {
+        return Objects.requireNonNull(table).toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] split(String table) {
+        return table.split("\\.");
+    }
+
+    /**
+     * Returns an approximate size of the DataFrame in memory. Primitive columns are measured exactly, while the size
+     * of object columns is extrapolated from a sample of values.
+     */
+    static long estimateSize(DataFrame df) {
+
+        int h = df.height();
+        int w = df.width();
+
+        long size = 64;
+        for (int i = 0; i < w; i++) {
+            size += estimateSize(df.getColumn(i), h);
+        }
+
+        return size;
+    }
+
+    private static long estimateSize(Series<?> column, int h) {
+
+        if (column instanceof IntSeries) {
+            return 16 + 4L * h;
+        } else if (column instanceof LongSeries || column instanceof DoubleSeries) {
+            return 16 + 8L * h;
+        } else if (column instanceof BooleanSeries) {
+            return 16 + h;
+        }
+
+        if (h == 0) {
+            return 16;
+        }
+
+        int samples = Math.min(h, SIZE_SAMPLE);
+        int step = h / samples;
+
+        long sampledSize = 0;
+        for (int i = 0; i < samples; i++) {
+            sampledSize += estimateValueSize(column.get(i * step));
+        }
+
+        // 8 bytes per reference, plus the values
+        return 16 + 8L * h + sampledSize * h / samples;
+    }
+
+    private static long estimateValueSize(Object value) {
+
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 40 + ((String) value).length();
+        } else if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return 24;
+        } else if (value instanceof Temporal) {
+            return 48;
+        } else {
+            return 32;
+        }
+    }
+
+    private static class Entry {
+
+        final DataFrame df;
+        final List<String[]> tables;
+        final long sizeBytes;
+        final long loadedAt;
+
+        Entry(DataFrame df, List<String[]> tables, long sizeBytes, long loadedAt) {
+            this.df = df;
+            this.tables = tables;
+            this.sizeBytes = sizeBytes;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean loadedFrom(String[] table) {
+            for (String[] t : tables) {
+                if (sameTable(t, table)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        // the names are compared from the table part, ignoring the qualifiers that are only present in one of them
+        private static boolean sameTable(String[] n1, String[] n2) {
+            int len = Math.min(n1.length, n2.length);
+            for (int i = 1; i <= len; i++) {
+                if (!n1[n1.length - i].equals(n2[n2.length - i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -1,39 +1,80 @@
 package org.dflib.jdbc.connector.metadata;
 
+import org.dflib.jdbc.CacheStats;
 import org.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 import org.dflib.jdbc.connector.metadata.flavors.DbFlavorFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 /**
+ * Provides information about the DB and its tables. Table metadata and statement parameter metadata are cached, as
+ * reading them requires DB round trips. By default, the cached metadata never expires, and the number of cached
+ * tables is unbounded. If the DB schema can change while the app is running, the cache can be configured with a TTL,
+ * and / or invalidated explicitly via {@link #invalidate(String)}.
+ *
  * @since 0.6
  */
 public class DbMetadata {
 
+    /**
+     * The default max number of SQL statements with cached parameter metadata.
+     *
+     * @since 1.0.0-M23
+     */
+    public static final int DEFAULT_MAX_STATEMENTS = 1000;
+
     private DataSource dataSource;
     private DbFlavor flavor;
-    private Map<TableFQName, DbTableMetadata> tables;
+    private MetadataCache<TableFQName, DbTableMetadata> tables;
+    private MetadataCache<String, int[]> paramTypes;
 
     protected DbMetadata(DataSource dataSource, DbFlavor flavor) {
+        this(dataSource, flavor, Duration.ZERO, Integer.MAX_VALUE, DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * @param ttl           time since loading after which cached metadata expires. Zero means no expiration
+     * @param maxTables     the max number of tables with cached metadata
+     * @param maxStatements the max number of SQL statements with cached parameter metadata
+     * @since 1.0.0-M23
+     */
+    protected DbMetadata(DataSource dataSource, DbFlavor flavor, Duration ttl, int maxTables, int maxStatements) {
+        this(dataSource, flavor, ttl, maxTables, maxStatements, System::nanoTime);
+    }
+
+    DbMetadata(
+            DataSource dataSource,
+            DbFlavor flavor,
+            Duration ttl,
+            int maxTables,
+            int maxStatements,
+            LongSupplier clock) {
 
         // note that we can't cache DatabaseMetaData, as it stops working once the underlying connection is closed,
         // so keeping the DataSource around to get it back whenever we need to compile table info, etc.
 
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("TTL must not be negative: " + ttl);
+        }
+
         this.dataSource = dataSource;
         this.flavor = Objects.requireNonNull(flavor);
-
-        // TODO: will grow indefinitely, so a potential memory leak... would be great to have a concurrent LRU Map in Java...
-        this.tables = new ConcurrentHashMap<>();
+        this.tables = new MetadataCache<>(ttl.toNanos(), maxTables, clock);
+        this.paramTypes = new MetadataCache<>(ttl.toNanos(), maxStatements, clock);
     }
 
     public static DbMetadata create(DataSource dataSource) {
@@ -41,6 +82,19 @@ public class DbMetadata {
         return new DbMetadata(dataSource, flavor);
     }
 
+    /**
+     * Creates metadata with a custom cache configuration.
+     *
+     * @param ttl           time since loading after which cached metadata expires. Zero means no expiration
+     * @param maxTables     the max number of tables with cached metadata
+     * @param maxStatements the max number of SQL statements with cached parameter metadata
+     * @since 1.0.0-M23
+     */
+    public static DbMetadata create(DataSource dataSource, Duration ttl, int maxTables, int maxStatements) {
+        DbFlavor flavor = DbFlavorFactory.create(dataSource);
+        return new DbMetadata(dataSource, flavor, ttl, maxTables, maxStatements);
+    }
+
     public DbFlavor getFlavor() {
         return flavor;
     }
@@ -67,7 +121,7 @@ public class DbMetadata {
 
     public DbTableMetadata getTable(String name) {
         TableFQName fqName = parseTableName(name);
-        return tables.computeIfAbsent(fqName, this::loadTableMetadata);
+        return tables.get(fqName, this::loadTableMetadata);
     }
 
     /**
@@ -79,7 +133,74 @@ public class DbMetadata {
         // invariants on the assumption that this is how the caller would like to refer to this table throughout the
         // app... Worst case we'd get some duplicates
 
-        return tables.computeIfAbsent(tableName, this::loadTableMetadata);
+        return tables.get(tableName, this::loadTableMetadata);
+    }
+
+    /**
+     * Returns JDBC types of the statement parameters, reading them from the statement {@link ParameterMetaData} the
+     * first time a given SQL is seen. For the DBs that don't support parameter metadata, the types are
+     * {@link Types#OTHER}, and only the number of parameters is meaningful. The returned array must not be modified.
+     *
+     * @since 1.0.0-M23
+     */
+    public int[] getParamTypes(String sql, PreparedStatement statement) {
+        return paramTypes.get(sql, s -> loadParamTypes(statement));
+    }
+
+    /**
+     * Removes cached metadata of the table, so that it is read from the DB on the next access. Matches all the cached
+     * names referring to the table, qualified or not. As statement parameters may refer to the table columns, all
+     * cached parameter metadata is removed as well.
+     *
+     * @since 1.0.0-M23
+     */
+    public void invalidate(String tableName) {
+        invalidate(parseTableName(tableName));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public void invalidate(TableFQName tableName) {
+        tables.invalidate(n -> n.getTable().equalsIgnoreCase(tableName.getTable())
+                && (tableName.getSchema() == null || tableName.getSchema().equalsIgnoreCase(n.getSchema()))
+                && (tableName.getCatalog() == null || tableName.getCatalog().equalsIgnoreCase(n.getCatalog())));
+        paramTypes.invalidateAll();
+    }
+
+    /**
+     * Removes all cached table and parameter metadata.
+     *
+     * @since 1.0.0-M23
+     */
+    public void invalidateAll() {
+        tables.invalidateAll();
+        paramTypes.invalidateAll();
+    }
+
+    /**
+     * Returns counters of the table metadata cache. Each hit is a metadata round trip to the DB avoided.
+     *
+     * @since 1.0.0-M23
+     */
+    public CacheStats getTableCacheStats() {
+        return tables.getStats();
+    }
+
+    /**
+     * Returns counters of the statement parameter metadata cache.
+     *
+     * @since 1.0.0-M23
+     */
+    public CacheStats getParamsCacheStats() {
+        return paramTypes.getStats();
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public int getCachedTablesCount() {
+        return tables.size();
     }
 
     /**
@@ -124,6 +245,26 @@ public class DbMetadata {
         }
     }
 
+    private int[] loadParamTypes(PreparedStatement statement) {
+
+        try {
+            ParameterMetaData pmd = statement.getParameterMetaData();
+            int len = pmd.getParameterCount();
+            int[] types = new int[len];
+
+            for (int i = 0; i < len; i++) {
+                int jdbcPos = i + 1;
+                types[i] = flavor.supportsParamsMetadata()
+                        ? flavor.columnType(pmd.getParameterType(jdbcPos), pmd.getParameterTypeName(jdbcPos))
+                        : Types.OTHER;
+            }
+
+            return types;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting statement parameters metadata", e);
+        }
+    }
+
     private DbTableMetadata loadTableMetadata(TableFQName tableName) {
 
         Map<String, Integer> columnsAndTypes = new LinkedHashMap<>();
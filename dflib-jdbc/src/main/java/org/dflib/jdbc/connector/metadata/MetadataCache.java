@@ -0,0 +1,134 @@
+package org.dflib.jdbc.connector.metadata;
+
+import org.dflib.jdbc.CacheStats;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe LRU cache of metadata objects with an optional expiration time. A value is loaded once per key, with
+ * concurrent requests for the same key waiting for the first one to load it, while the requests for other keys are
+ * not blocked.
+ */
+class MetadataCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final CacheStats stats;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * @param ttlNanos   time since loading after which an entry expires. Zero or negative means no expiration
+     * @param maxEntries the max number of cached entries
+     */
+    MetadataCache(long ttlNanos, int maxEntries, LongSupplier clock) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+        }
+
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.stats = new CacheStats();
+
+        // access order for LRU eviction
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    V get(K key, Function<K, V> loader) {
+
+        Entry<V> entry;
+        boolean cached;
+
+        synchronized (this) {
+            entry = entries.get(key);
+            cached = entry != null && (ttlNanos <= 0 || clock.getAsLong() - entry.createdAt < ttlNanos);
+
+            if (cached) {
+                stats.hit();
+            } else {
+                entry = new Entry<>(clock.getAsLong());
+                entries.put(key, entry);
+                stats.miss();
+
+                Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+                while (entries.size() > maxEntries && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                    stats.eviction();
+                }
+            }
+        }
+
+        // waiting outside the lock, as the value may still be loaded by another thread
+        if (cached) {
+            return entry.get();
+        }
+
+        try {
+            V value = loader.apply(key);
+            entry.value.complete(value);
+            return value;
+        } catch (Throwable th) {
+
+            // don't cache failures, so that the next request would try again. Also, the concurrent requests waiting
+            // for this entry must be released on any failure, including Errors
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+
+            entry.value.completeExceptionally(th);
+            throw th;
+        }
+    }
+
+    synchronized void invalidate(Predicate<K> filter) {
+        entries.keySet().removeIf(filter);
+    }
+
+    synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    CacheStats getStats() {
+        return stats;
+    }
+
+    private static class Entry<V> {
+
+        final CompletableFuture<V> value;
+        final long createdAt;
+
+        Entry(long createdAt) {
+            this.value = new CompletableFuture<>();
+            this.createdAt = createdAt;
+        }
+
+        V get() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw cause instanceof RuntimeException
+                        ? (RuntimeException) cause
+                        : new RuntimeException("Error loading metadata", cause);
+            }
+        }
+    }
+}
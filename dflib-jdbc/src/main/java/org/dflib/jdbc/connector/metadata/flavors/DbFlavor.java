@@ -18,4 +18,41 @@ public interface DbFlavor {
     boolean supportsSchemas();
 
     int columnType(int jdbcType, String nativeType);
+
+    /**
+     * Returns the max number of bound parameters to use in a single multi-row "insert into .. values (..), (..)"
+     * statement, or zero if multi-row inserts are not supported.
+     *
+     * @since 1.0.0-M23
+     */
+    default int maxMultiRowInsertParams() {
+        return 0;
+    }
+
+    /**
+     * Returns whether the DB supports bulk loading data via "COPY .. FROM STDIN" statement.
+     *
+     * @since 1.0.0-M23
+     */
+    default boolean supportsCopyIn() {
+        return false;
+    }
+
+    /**
+     * Returns the syntax of a single-statement "upsert" supported by the DB.
+     *
+     * @since 1.0.0-M23
+     */
+    default UpsertSyntax getUpsertSyntax() {
+        return UpsertSyntax.none;
+    }
+
+    /**
+     * Returns the syntax of a clause limiting the number of rows returned by a query.
+     *
+     * @since 1.0.0-M23
+     */
+    default LimitSyntax getLimitSyntax() {
+        return LimitSyntax.none;
+    }
 }
@@ -21,4 +21,29 @@ public class DerbyFlavor extends GenericFlavor {
 
         return flavor;
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public int maxMultiRowInsertParams() {
+        // Derby compiles statements to bytecode, and very long statements may exceed JVM method size limits
+        return 1000;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public UpsertSyntax getUpsertSyntax() {
+        return UpsertSyntax.derbyMerge;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public LimitSyntax getLimitSyntax() {
+        return LimitSyntax.fetchFirst;
+    }
 }
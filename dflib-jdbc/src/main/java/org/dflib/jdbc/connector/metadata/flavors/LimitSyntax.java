@@ -0,0 +1,24 @@
+package org.dflib.jdbc.connector.metadata.flavors;
+
+/**
+ * A DB-specific syntax for limiting the number of rows returned by a query.
+ *
+ * @since 1.0.0-M23
+ */
+public enum LimitSyntax {
+
+    /**
+     * Limit clause is not known for the DB, so the limit is applied on the client when reading a ResultSet.
+     */
+    none,
+
+    /**
+     * "LIMIT n" clause at the end of the query. Supported by PostgreSQL, MySQL, H2, SQLite and others.
+     */
+    limit,
+
+    /**
+     * SQL:2008 "FETCH FIRST n ROWS ONLY" clause. Supported by Derby, DB2, Oracle 12c+ and others.
+     */
+    fetchFirst
+}
@@ -25,4 +25,28 @@ public class MySQLFlavor extends GenericFlavor {
         return flavor;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public int maxMultiRowInsertParams() {
+        // the hard limit is 65535, but statements that big may exceed the default "max_allowed_packet" size
+        return 10_000;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public UpsertSyntax getUpsertSyntax() {
+        return UpsertSyntax.mysqlOnDuplicateKey;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public LimitSyntax getLimitSyntax() {
+        return LimitSyntax.limit;
+    }
 }
@@ -22,6 +22,23 @@ public class PostgresFlavor extends GenericFlavor {
         return flavor;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public int maxMultiRowInsertParams() {
+        // the protocol limit on the number of parameters
+        return 32767;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public boolean supportsCopyIn() {
+        return true;
+    }
+
     @Override
     public int columnType(int jdbcType, String nativeType) {
 
@@ -35,4 +52,20 @@ public class PostgresFlavor extends GenericFlavor {
                 return super.columnType(jdbcType, nativeType);
         }
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public UpsertSyntax getUpsertSyntax() {
+        return UpsertSyntax.postgresOnConflict;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public LimitSyntax getLimitSyntax() {
+        return LimitSyntax.limit;
+    }
 }
@@ -0,0 +1,32 @@
+package org.dflib.jdbc.connector.metadata.flavors;
+
+/**
+ * A DB-specific syntax for a single-statement "upsert" (insert a row or update it if a row with the same key already
+ * exists).
+ *
+ * @since 1.0.0-M23
+ */
+public enum UpsertSyntax {
+
+    /**
+     * Single-statement upsert is not supported.
+     */
+    none,
+
+    /**
+     * Derby "MERGE INTO .. USING SYSIBM.SYSDUMMY1 ON .. WHEN MATCHED .. WHEN NOT MATCHED ..". Derby only allows base
+     * tables as a MERGE source, so the standard "USING (VALUES ..)" form can't be used.
+     */
+    derbyMerge,
+
+    /**
+     * PostgreSQL "INSERT .. ON CONFLICT (..) DO UPDATE ..". Requires a unique constraint on the key columns.
+     */
+    postgresOnConflict,
+
+    /**
+     * MySQL "INSERT .. ON DUPLICATE KEY UPDATE ..". Matches rows by any unique key of the table, so the key columns
+     * must be the table PK or another unique key.
+     */
+    mysqlOnDuplicateKey
+}
@@ -0,0 +1,220 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Index;
+import org.dflib.Series;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.statement.ValueConverter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Streams DataFrame rows to a PostgreSQL table via "COPY .. FROM STDIN" in CSV format. Must only be loaded when the
+ * PostgreSQL driver is present on classpath (see {@link TableSaveStrategy#doCopyIn(JdbcConnector, DataFrame)}).
+ * The values are converted with the same per-column converters as the regular insert parameters. Only the converted
+ * values with an unambiguous text form are supported, otherwise the COPY is not started.
+ */
+class PostgresCopyIn {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final JdbcConnector connector;
+    private final TableFQName tableName;
+    private final ValueConverter[] converters;
+
+    PostgresCopyIn(JdbcConnector connector, TableFQName tableName, ValueConverter[] converters) {
+        this.connector = connector;
+        this.tableName = tableName;
+        this.converters = converters;
+    }
+
+    /**
+     * Copies DataFrame rows to the DB table, returning false if the connection is not a PostgreSQL connection, or
+     * if some of the values can't be written in the COPY format.
+     */
+    boolean copyIn(Connection connection, DataFrame df) throws SQLException {
+
+        PGConnection pgConnection;
+        try {
+            pgConnection = connection.unwrap(PGConnection.class);
+        } catch (SQLException e) {
+            return false;
+        }
+
+        if (!canCopy(df)) {
+            return false;
+        }
+
+        String sql = createCopyStatement(df.getColumnsIndex());
+        connector.getSqlLogger().log(sql);
+
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
+        try {
+            writeRows(copyIn, df);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that all the DataFrame values can be written in the COPY format after conversion. Converters produce
+     * the same value type for the same input type, so each value type is only checked once per column.
+     */
+    boolean canCopy(DataFrame df) {
+
+        int w = df.width();
+        for (int j = 0; j < w; j++) {
+
+            Series<?> column = df.getColumn(j);
+            Set<Class<?>> checked = new HashSet<>();
+            int h = column.size();
+            for (int i = 0; i < h; i++) {
+                Object value = column.get(i);
+                if (value != null && checked.add(value.getClass()) && !canEncode(converters[j].convert(value))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private String createCopyStatement(Index columns) {
+
+        StringBuilder sql = new StringBuilder("COPY ")
+                .append(connector.quoteTableName(tableName))
+                .append(" (");
+
+        int len = columns.size();
+        for (int i = 0; i < len; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(columns.get(i)));
+        }
+
+        return sql.append(") FROM STDIN WITH (FORMAT csv)").toString();
+    }
+
+    private void writeRows(CopyIn copyIn, DataFrame df) throws SQLException {
+
+        int w = df.width();
+        int h = df.height();
+
+        Series<?>[] columns = new Series[w];
+        for (int j = 0; j < w; j++) {
+            columns[j] = df.getColumn(j);
+        }
+
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+        for (int i = 0; i < h; i++) {
+
+            for (int j = 0; j < w; j++) {
+                if (j > 0) {
+                    buffer.append(',');
+                }
+
+                Object value = columns[j].get(i);
+                appendCsvValue(buffer, value != null ? converters[j].convert(value) : null);
+            }
+
+            buffer.append('\n');
+
+            if (buffer.length() >= BUFFER_SIZE) {
+                flush(copyIn, buffer);
+            }
+        }
+
+        flush(copyIn, buffer);
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    static boolean canEncode(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof BigDecimal
+                || value instanceof BigInteger
+                || value instanceof Boolean
+                || value instanceof byte[]
+                || value instanceof LocalDate
+                || value instanceof LocalTime
+                || value instanceof LocalDateTime
+                || value instanceof java.sql.Date
+                || value instanceof java.sql.Time
+                || value instanceof java.sql.Timestamp;
+    }
+
+    // in the CSV format, an unquoted empty value is NULL, while a quoted empty value is an empty string
+    static void appendCsvValue(StringBuilder out, Object value) {
+
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof String) {
+            appendQuoted(out, (String) value);
+        } else if (value instanceof byte[]) {
+            appendBytea(out, (byte[]) value);
+        } else if (canEncode(value)) {
+            // numbers, booleans and local date / time values, whose "toString" is understood by PostgreSQL
+            out.append(value);
+        } else {
+            throw new IllegalArgumentException("Value can't be written in the COPY format: " + value.getClass().getName());
+        }
+    }
+
+    private static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+
+        int len = value.length();
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+
+            out.append(c);
+        }
+
+        out.append('"');
+    }
+
+    private static void appendBytea(StringBuilder out, byte[] bytes) {
+        out.append("\\x");
+        for (byte b : bytes) {
+            out.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+        }
+    }
+}
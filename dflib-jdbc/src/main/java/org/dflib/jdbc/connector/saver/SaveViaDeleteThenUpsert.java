@@ -1,18 +1,55 @@
 package org.dflib.jdbc.connector.saver;
 
 import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.Series;
 import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.SqlSaver;
 import org.dflib.jdbc.connector.TableDeleter;
+import org.dflib.jdbc.connector.TableLoader;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.join.JoinIndicator;
+
+import java.time.temporal.Temporal;
+import java.util.Comparator;
+import java.util.Date;
 
 /**
  * @since 0.8
  */
 public class SaveViaDeleteThenUpsert extends SaveViaUpsert {
 
+    // used as a column for join indicator. Semi-random to avoid conflicts with real column names
+    private static final String INDICATOR_COLUMN = "dflib_ind_%$#86AcD3";
+
+    private int conditionChunkSize;
+
     public SaveViaDeleteThenUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns) {
+        this(connector, tableName, keyColumns, false);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public SaveViaDeleteThenUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns, boolean nativeUpsert) {
         // TODO: support batch size for full-sync operations
-        super(connector, tableName, keyColumns, -1);
+        super(connector, tableName, keyColumns, -1, nativeUpsert);
+        this.conditionChunkSize = TableLoader.DEFAULT_CONDITION_CHUNK_SIZE;
+    }
+
+    /**
+     * Sets the max number of keys included in a single DELETE statement. Deleting the rows not matching a bigger
+     * DataFrame is done in chunks. For a single numeric or date / time key column, each chunk is a range of the
+     * sorted keys, deleted on the DB side with a "not in" condition limited to that range. For other keys, all
+     * the table keys are loaded into memory to find the unmatched rows, which are then deleted in "in" chunks.
+     * Zero or negative value disables chunking. The default is {@link TableLoader#DEFAULT_CONDITION_CHUNK_SIZE}.
+     *
+     * @return this strategy instance
+     * @since 1.0.0-M23
+     */
+    public SaveViaDeleteThenUpsert conditionChunkSize(int keys) {
+        this.conditionChunkSize = keys;
+        return this;
     }
 
     @Override
@@ -23,6 +60,114 @@ public class SaveViaDeleteThenUpsert extends SaveViaUpsert {
     @Override
     protected int doDelete(JdbcConnector connector, DataFrame df) {
         DataFrame keyDf = keyValues(df);
-        return new TableDeleter(connector, tableName).neq(keyDf).delete();
+
+        if (conditionChunkSize <= 0 || keyDf.height() <= conditionChunkSize) {
+            return new TableDeleter(connector, tableName).neq(keyDf).delete();
+        }
+
+        Series<?> sortedKeys = sortedKeyValues(keyDf);
+        if (sortedKeys != null) {
+            return deleteUnmatchedByKeyRanges(connector, sortedKeys);
+        }
+
+        // a huge "not in" list can't be split into chunks. Instead, find the keys of the DB rows that are not
+        // in the DataFrame, and delete them with a chunked "eq" condition
+        DataFrame unmatchedKeys = unmatchedKeyValues(connector, keyDf);
+        return unmatchedKeys.height() > 0
+                ? new TableDeleter(connector, tableName).eq(unmatchedKeys).delete()
+                : 0;
+    }
+
+    /**
+     * Returns sorted unique keys for a single-column key whose Java ordering matches the DB ordering (numbers and
+     * dates), or null if the key can't be split into ranges.
+     */
+    private static Series<?> sortedKeyValues(DataFrame keyDf) {
+
+        if (keyDf.width() != 1) {
+            return null;
+        }
+
+        Series<Object> keys = keyDf.getColumn(0);
+        Class<?> type = null;
+        int h = keys.size();
+        for (int i = 0; i < h; i++) {
+            Object k = keys.get(i);
+
+            // "not in" with a null never matches, so the range split can't reproduce its result
+            if (k == null) {
+                return null;
+            }
+
+            if (type == null) {
+                if (!(k instanceof Number || k instanceof Temporal || k instanceof Date) || !(k instanceof Comparable)) {
+                    return null;
+                }
+
+                type = k.getClass();
+            } else if (type != k.getClass()) {
+                return null;
+            }
+        }
+
+        return keys.unique().sort((Comparator<Object>) (k1, k2) -> ((Comparable<Object>) k1).compareTo(k2));
+    }
+
+    // each chunk covers a range of the key values, from its own first key to the first key of the next chunk, with
+    // the first and the last ranges open-ended, so that the ranges cover all the table rows
+    private int deleteUnmatchedByKeyRanges(JdbcConnector connector, Series<?> sortedKeys) {
+
+        String key = connector.quoteIdentifier(keyColumns[0]);
+        String table = connector.quoteTableName(tableName);
+
+        int h = sortedKeys.size();
+        int count = 0;
+
+        for (int from = 0; from < h; from += conditionChunkSize) {
+            int to = Math.min(h, from + conditionChunkSize);
+
+            StringBuilder sql = new StringBuilder("delete from ").append(table).append(" where ");
+            Object[] params = new Object[(from > 0 ? 1 : 0) + (to < h ? 1 : 0) + to - from];
+            int p = 0;
+
+            if (from > 0) {
+                sql.append(key).append(" >= ? and ");
+                params[p++] = sortedKeys.get(from);
+            }
+
+            if (to < h) {
+                sql.append(key).append(" < ? and ");
+                params[p++] = sortedKeys.get(to);
+            }
+
+            sql.append(key).append(" not in (?");
+            for (int i = from + 1; i < to; i++) {
+                sql.append(", ?");
+            }
+            sql.append(")");
+
+            sortedKeys.copyTo(params, from, p, to - from);
+
+            count += new SqlSaver(connector, sql.toString()).save(params);
+        }
+
+        return count;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected DataFrame unmatchedKeyValues(JdbcConnector connector, DataFrame keyDf) {
+
+        DataFrame dbKeys = new TableLoader(connector, tableName).cols(keyColumns).load();
+
+        DataFrame joined = dbKeys.leftJoin(keyDf)
+                .on(keyHasher())
+                .indicatorColumn(INDICATOR_COLUMN)
+                .select();
+
+        Series<JoinIndicator> index = joined.getColumn(INDICATOR_COLUMN);
+        IntSeries unmatchedIndex = index.index(i -> i == JoinIndicator.left_only);
+        return joined.rows(unmatchedIndex).cols(keyColumns).select();
     }
 }
@@ -1,10 +1,14 @@
 package org.dflib.jdbc.connector.saver;
 
 import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.SavePhase;
 import org.dflib.jdbc.connector.JdbcConnector;
 import org.dflib.jdbc.connector.StatementBuilder;
 import org.dflib.jdbc.connector.TableLoader;
+import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import org.dflib.jdbc.connector.metadata.DbTableMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.metadata.flavors.UpsertSyntax;
 import org.dflib.DataFrame;
 import org.dflib.GroupBy;
 import org.dflib.Hasher;
@@ -12,6 +16,7 @@ import org.dflib.Index;
 import org.dflib.IntSeries;
 import org.dflib.Series;
 import org.dflib.join.JoinIndicator;
+import org.dflib.builder.ObjectAccum;
 import org.dflib.row.RowProxy;
 import org.dflib.series.SingleValueSeries;
 
@@ -31,14 +36,38 @@ public class SaveViaUpsert extends TableSaveStrategy {
     private static final String DIFF_COLUMN = "dflib_dif_%4$#96Ac3";
 
     protected String[] keyColumns;
+    private final boolean nativeUpsert;
 
     public SaveViaUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns, int batchSize) {
+        this(connector, tableName, keyColumns, batchSize, false);
+    }
+
+    /**
+     * @param nativeUpsert whether to use a single-statement DB-native upsert if supported by the DB flavor
+     * @since 1.0.0-M23
+     */
+    public SaveViaUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns, int batchSize, boolean nativeUpsert) {
         super(connector, tableName, batchSize);
         this.keyColumns = keyColumns;
+        this.nativeUpsert = nativeUpsert;
     }
 
     @Override
     protected Supplier<Series<SaveOp>> doInsertOrUpdate(JdbcConnector connector, DataFrame df) {
+
+        if (nativeUpsert) {
+            UpsertSyntax syntax = connector.getMetadata().getFlavor().getUpsertSyntax();
+            if (syntax != UpsertSyntax.none) {
+                long t0 = System.nanoTime();
+                try {
+                    return doNativeUpsert(connector, df, syntax);
+                } finally {
+                    phaseEnded(SavePhase.upsert, t0);
+                }
+            }
+        }
+
+        long readStart = System.nanoTime();
         DataFrame keyDf = keyValues(df);
 
         DataFrame previouslySaved = new TableLoader(connector, tableName)
@@ -47,6 +76,7 @@ public class SaveViaUpsert extends TableSaveStrategy {
                 .load();
 
         if (previouslySaved.height() == 0) {
+            phaseEnded(SavePhase.read, readStart);
             doInsert(connector, df);
             return () -> new SingleValueSeries<>(SaveOp.insert, df.height());
         }
@@ -76,6 +106,7 @@ public class SaveViaUpsert extends TableSaveStrategy {
 
         UpsertInfoTracker infoTracker = new UpsertInfoTracker(df.width(), df.height());
         infoTracker.insertAndUpdate(index);
+        phaseEnded(SavePhase.read, readStart);
 
         if (insertIndex.size() > 0) {
             doInsert(connector, df.rows(insertIndex).select());
@@ -93,15 +124,247 @@ public class SaveViaUpsert extends TableSaveStrategy {
                     .cols(joinedIndex).select()
                     .cols().as(mainColumns.toArray());
 
+            long updateStart = System.nanoTime();
             doUpdate(connector,
                     df.rows(updateIndex).select(),
                     previouslySavedOrdered.rows(updateIndex).select(),
                     infoTracker);
+            phaseEnded(SavePhase.update, updateStart);
         }
 
         return infoTracker::getInfo;
     }
 
+    /**
+     * Saves DataFrame rows with a single-statement DB-native upsert executed as a batch, without reading the existing
+     * rows first. Per-row save operations are derived from the update counts, which are not as precise as the
+     * results of the in-memory diff done by the default strategy. E.g., most DBs can't tell an insert from an update.
+     *
+     * @since 1.0.0-M23
+     */
+    protected Supplier<Series<SaveOp>> doNativeUpsert(JdbcConnector connector, DataFrame df, UpsertSyntax syntax) {
+
+        Index columns = df.getColumnsIndex();
+        Index valueColumns = columns.selectExcept(keyColumns);
+
+        String[] paramColumns;
+        String sql;
+        switch (syntax) {
+            case derbyMerge:
+                // MERGE parameters are keys, then updated values, and then all the inserted values
+                paramColumns = concat(keyColumns, valueColumns.toArray(), columns.toArray());
+                sql = createDerbyMergeStatement(columns, valueColumns);
+                break;
+            case postgresOnConflict:
+                paramColumns = columns.toArray();
+                sql = createPostgresUpsertStatement(columns, valueColumns);
+                break;
+            case mysqlOnDuplicateKey:
+                paramColumns = columns.toArray();
+                sql = createMySQLUpsertStatement(columns, valueColumns);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported upsert syntax: " + syntax);
+        }
+
+        // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
+        // metadata in PreparedStatements. See e.g. https://github.com/dflib/dflib/issues/49
+
+        StatementBuilder builder = connector.createStatementBuilder(sql)
+                .paramDescriptors(paramDescriptors(paramColumns))
+                .bindBatch(paramsDataFrame(df, paramColumns));
+
+        int[] updateCounts;
+        try (Connection c = connector.getConnection()) {
+            updateCounts = builder.update(c);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error closing DB connection", e);
+        }
+
+        return () -> upsertOps(updateCounts, syntax);
+    }
+
+    // the same column may appear in the statement parameters more than once, so the labels must be deduplicated
+    private static DataFrame paramsDataFrame(DataFrame df, String[] paramColumns) {
+
+        int w = paramColumns.length;
+        if (w == df.width()) {
+            return df;
+        }
+
+        Series<?>[] params = new Series[w];
+        for (int i = 0; i < w; i++) {
+            params[i] = df.getColumn(paramColumns[i]);
+        }
+
+        return DataFrame.byColumn(Index.ofDeduplicated(paramColumns)).of(params);
+    }
+
+    // unlike "fixedParams", allows repeating columns
+    private DbColumnMetadata[] paramDescriptors(String[] paramColumns) {
+        DbTableMetadata tableMetadata = connector.getMetadata().getTable(tableName);
+
+        int len = paramColumns.length;
+        DbColumnMetadata[] params = new DbColumnMetadata[len];
+        for (int i = 0; i < len; i++) {
+            params[i] = tableMetadata.getColumn(paramColumns[i]);
+        }
+
+        return params;
+    }
+
+    private static String[] concat(String[]... parts) {
+        return Arrays.stream(parts).flatMap(Arrays::stream).toArray(String[]::new);
+    }
+
+    private static Series<SaveOp> upsertOps(int[] updateCounts, UpsertSyntax syntax) {
+
+        ObjectAccum<SaveOp> accum = new ObjectAccum<>(updateCounts.length);
+        for (int c : updateCounts) {
+            switch (c) {
+                case 0:
+                    // the row existed, and the update was skipped as nothing has changed
+                    accum.push(SaveOp.skip);
+                    break;
+                case 2:
+                    // MySQL reports 2 for an update, and 1 for either an insert or an unchanged row (depending on
+                    // the CLIENT_FOUND_ROWS connection flag)
+                    accum.push(syntax == UpsertSyntax.mysqlOnDuplicateKey ? SaveOp.update : SaveOp.upsert);
+                    break;
+                default:
+                    accum.push(SaveOp.upsert);
+                    break;
+            }
+        }
+
+        return accum.toSeries();
+    }
+
+    protected String createDerbyMergeStatement(Index columns, Index valueColumns) {
+
+        StringBuilder sql = new StringBuilder("merge into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" t using SYSIBM.SYSDUMMY1 on ");
+
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(" and ");
+            }
+
+            sql.append("t.").append(connector.quoteIdentifier(keyColumns[i])).append(" = ?");
+        }
+
+        int vlen = valueColumns.size();
+        if (vlen > 0) {
+            sql.append(" when matched then update set ");
+            for (int i = 0; i < vlen; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(connector.quoteIdentifier(valueColumns.get(i))).append(" = ?");
+            }
+        }
+
+        sql.append(" when not matched then insert ");
+        appendInsertColumnsAndValues(sql, columns);
+        return sql.toString();
+    }
+
+    protected String createPostgresUpsertStatement(Index columns, Index valueColumns) {
+
+        StringBuilder sql = new StringBuilder("insert into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" as t ");
+
+        appendInsertColumnsAndValues(sql, columns);
+
+        sql.append(" on conflict (");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(keyColumns[i]));
+        }
+        sql.append(")");
+
+        int vlen = valueColumns.size();
+        if (vlen == 0) {
+            return sql.append(" do nothing").toString();
+        }
+
+        StringBuilder oldValues = new StringBuilder();
+        StringBuilder newValues = new StringBuilder();
+
+        sql.append(" do update set ");
+        for (int i = 0; i < vlen; i++) {
+            String column = connector.quoteIdentifier(valueColumns.get(i));
+
+            if (i > 0) {
+                sql.append(", ");
+                oldValues.append(", ");
+                newValues.append(", ");
+            }
+
+            sql.append(column).append(" = excluded.").append(column);
+            oldValues.append("t.").append(column);
+            newValues.append("excluded.").append(column);
+        }
+
+        // skipping unchanged rows, so that their update count is zero
+        return sql.append(" where (").append(oldValues)
+                .append(") is distinct from (").append(newValues).append(")")
+                .toString();
+    }
+
+    protected String createMySQLUpsertStatement(Index columns, Index valueColumns) {
+
+        StringBuilder sql = new StringBuilder("insert into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" ");
+
+        appendInsertColumnsAndValues(sql, columns);
+
+        sql.append(" on duplicate key update ");
+
+        // if there are no values to update, use a no-op update of a key column
+        Index updateColumns = valueColumns.size() > 0 ? valueColumns : Index.of(keyColumns[0]);
+        int vlen = updateColumns.size();
+        for (int i = 0; i < vlen; i++) {
+            String column = connector.quoteIdentifier(updateColumns.get(i));
+
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(column).append(" = values(").append(column).append(")");
+        }
+
+        return sql.toString();
+    }
+
+    private void appendInsertColumnsAndValues(StringBuilder sql, Index columns) {
+
+        int len = columns.size();
+
+        sql.append("(");
+        for (int i = 0; i < len; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(columns.get(i)));
+        }
+
+        sql.append(") values (");
+        for (int i = 0; i < len; i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+
+        sql.append(")");
+    }
+
     protected DataFrame keyValues(DataFrame df) {
         return df.cols(keyColumns).select();
     }
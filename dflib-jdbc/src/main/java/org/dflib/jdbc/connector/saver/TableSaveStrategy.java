@@ -1,24 +1,40 @@
 package org.dflib.jdbc.connector.saver;
 
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.Index;
 import org.dflib.Series;
 import org.dflib.concat.SeriesConcat;
+import org.dflib.concurrent.Futures;
 import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.SavePhase;
 import org.dflib.jdbc.connector.JdbcConnector;
 import org.dflib.jdbc.connector.StatementBuilder;
 import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import org.dflib.jdbc.connector.metadata.DbTableMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.metadata.flavors.DbFlavor;
+import org.dflib.jdbc.connector.statement.ValueConverter;
+import org.dflib.jdbc.connector.statement.ValueConverterFactory;
 import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
+import org.dflib.series.ByRowSeries;
 import org.dflib.series.SingleValueSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -29,14 +45,63 @@ public abstract class TableSaveStrategy {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TableSaveStrategy.class);
 
+    // PostgresCopyIn refers to the PostgreSQL driver classes, so it must not be loaded if the driver is missing
+    private static final boolean POSTGRES_COPY_API = isPostgresCopyApiPresent();
+
     protected final JdbcConnector connector;
     protected final TableFQName tableName;
     private final int batchSize;
+    private final LongAdder[] phaseNanos;
+    private int parallelism;
 
     public TableSaveStrategy(JdbcConnector connector, TableFQName tableName, int batchSize) {
         this.connector = connector;
         this.tableName = tableName;
         this.batchSize = batchSize;
+
+        SavePhase[] phases = SavePhase.values();
+        this.phaseNanos = new LongAdder[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Configures the strategy to save batches in parallel, using up to "connections" connections, each batch in its
+     * own transaction. Only takes effect when the strategy splits the data in batches, and is not invoked within an
+     * external transaction.
+     *
+     * @return this strategy instance
+     * @since 1.0.0-M23
+     */
+    public TableSaveStrategy parallelism(int connections) {
+        this.parallelism = connections;
+        return this;
+    }
+
+    /**
+     * Returns the time spent in each of the save phases. For parallel saves, the time is summed across all the
+     * connections, and may exceed the elapsed time of the save.
+     *
+     * @since 1.0.0-M23
+     */
+    public Map<SavePhase, Duration> getPhaseTimes() {
+        Map<SavePhase, Duration> times = new EnumMap<>(SavePhase.class);
+        for (SavePhase phase : SavePhase.values()) {
+            times.put(phase, Duration.ofNanos(phaseNanos[phase.ordinal()].sum()));
+        }
+
+        return times;
+    }
+
+    /**
+     * Records the time of a save phase that started at "startNanos" (per {@link System#nanoTime()}) and has just
+     * ended.
+     *
+     * @since 1.0.0-M23
+     */
+    protected void phaseEnded(SavePhase phase, long startNanos) {
+        phaseNanos[phase.ordinal()].add(System.nanoTime() - startNanos);
     }
 
     public Supplier<Series<SaveOp>> save(DataFrame df) {
@@ -49,47 +114,111 @@ public abstract class TableSaveStrategy {
             return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
         }
 
+        if (shouldInsertOrUpdate
+                && parallelism > 1
+                && batchCount(df) > 1
+                && !(connector instanceof TxJdbcConnector)) {
+            return saveParallel(df, shouldDelete);
+        }
+
         return Tx.newTransaction(connector).call(c -> {
             if (shouldDelete) {
-                doDelete(c, df);
+                timedDelete(c, df);
             }
 
             if (!shouldInsertOrUpdate) {
                 return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
             }
 
-            if (batchSize <= 0) {
+            int batches = batchCount(df);
+            if (batches == 1) {
                 return doInsertOrUpdate(c, df);
             }
 
-            List<DataFrame> splits = split(df);
-            List<Supplier<Series<SaveOp>>> results = new ArrayList<>(splits.size());
-            for (DataFrame sdf : splits) {
-                results.add(doInsertOrUpdate(c, sdf));
+            // slicing batches one at a time, so that only one batch is materialized at any moment if the DataFrame
+            // columns are not array-backed
+            List<Supplier<Series<SaveOp>>> results = new ArrayList<>(batches);
+            for (int i = 0; i < batches; i++) {
+                results.add(doInsertOrUpdate(c, batch(df, i)));
             }
 
             return () -> SeriesConcat.concat(results.stream().map(Supplier::get).collect(Collectors.toList()));
         });
     }
 
-    protected List<DataFrame> split(DataFrame df) {
-        int h = df.height();
-        if (batchSize < 1 || batchSize >= h) {
-            return List.of(df);
+    /**
+     * Saves the batches in parallel over multiple connections, each batch in its own transaction. While one
+     * connection is waiting for the DB to execute a batch, the others are binding and sending theirs. The save is not
+     * atomic: if a batch fails, the batches committed before it remain in the DB. If called from a pool thread, the
+     * batch workers run one after another in the calling thread (see {@link Futures#invokeAll(java.util.concurrent.ExecutorService, List)}).
+     *
+     * @since 1.0.0-M23
+     */
+    protected Supplier<Series<SaveOp>> saveParallel(DataFrame df, boolean shouldDelete) {
+
+        if (shouldDelete) {
+            Tx.newTransaction(connector).run(c -> timedDelete(c, df));
         }
 
-        int fullSlots = h / batchSize;
-        int partialSlotSize = h % batchSize;
-        List<DataFrame> split = new ArrayList<>(partialSlotSize > 0 ? fullSlots + 1 : fullSlots);
+        int batches = batchCount(df);
+        int workers = Math.min(parallelism, batches);
+
+        Supplier<Series<SaveOp>>[] results = new Supplier[batches];
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                int i;
+                while (!failed.get() && (i = nextBatch.getAndIncrement()) < batches) {
+                    DataFrame batch = batch(df, i);
+                    try {
+                        results[i] = Tx.newTransaction(connector).call(c -> doInsertOrUpdate(c, batch));
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        Futures.invokeAll(Environment.commonEnv().threadPool(), tasks);
 
-        for (int i = 0; i < fullSlots; i++) {
-            int start = i * batchSize;
-            split.add(df.rowsRange(start, start + batchSize).select());
+        return () -> SeriesConcat.concat(Arrays.stream(results).map(Supplier::get).collect(Collectors.toList()));
+    }
+
+    private void timedDelete(JdbcConnector connector, DataFrame df) {
+        long t0 = System.nanoTime();
+        try {
+            doDelete(connector, df);
+        } finally {
+            phaseEnded(SavePhase.delete, t0);
         }
+    }
 
-        if (partialSlotSize > 0) {
-            int start = fullSlots * batchSize;
-            split.add(df.rowsRange(start, start + partialSlotSize).select());
+    private int batchCount(DataFrame df) {
+        int h = df.height();
+        return batchSize < 1 || batchSize >= h ? 1 : (h + batchSize - 1) / batchSize;
+    }
+
+    // slices share the data with the source DataFrame when its columns are array-backed
+    private DataFrame batch(DataFrame df, int i) {
+        int start = i * batchSize;
+        return df.rowsRange(start, Math.min(start + batchSize, df.height())).select();
+    }
+
+    protected List<DataFrame> split(DataFrame df) {
+        int batches = batchCount(df);
+        if (batches == 1) {
+            return List.of(df);
+        }
+
+        List<DataFrame> split = new ArrayList<>(batches);
+        for (int i = 0; i < batches; i++) {
+            split.add(batch(df, i));
         }
 
         return split;
@@ -109,7 +238,44 @@ public abstract class TableSaveStrategy {
         return -1;
     }
 
+    /**
+     * Inserts DataFrame rows, picking the fastest insert method supported by the DB flavor: PostgreSQL "COPY", multi-row
+     * "insert .. values (..), (..)" statements, or a JDBC batch of single-row inserts.
+     */
     protected int doInsert(JdbcConnector connector, DataFrame df) {
+        long t0 = System.nanoTime();
+        try {
+            return doInsertNoTiming(connector, df);
+        } finally {
+            phaseEnded(SavePhase.insert, t0);
+        }
+    }
+
+    private int doInsertNoTiming(JdbcConnector connector, DataFrame df) {
+
+        int h = df.height();
+        int w = df.width();
+
+        if (h > 1 && w > 0) {
+            DbFlavor flavor = connector.getMetadata().getFlavor();
+
+            if (flavor.supportsCopyIn() && doCopyIn(connector, df)) {
+                return h;
+            }
+
+            int rowsPerStatement = flavor.maxMultiRowInsertParams() / w;
+            if (rowsPerStatement > 1) {
+                return doMultiRowInsert(connector, df, rowsPerStatement);
+            }
+        }
+
+        return doBatchInsert(connector, df);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    protected int doBatchInsert(JdbcConnector connector, DataFrame df) {
 
         StatementBuilder builder = connector.createStatementBuilder(createInsertStatement(df))
 
@@ -128,6 +294,104 @@ public abstract class TableSaveStrategy {
         return df.height();
     }
 
+    /**
+     * Inserts DataFrame rows using a sequence of multi-row "insert .. values (..), (..)" statements, each with up to
+     * "rowsPerStatement" rows.
+     *
+     * @since 1.0.0-M23
+     */
+    protected int doMultiRowInsert(JdbcConnector connector, DataFrame df, int rowsPerStatement) {
+
+        int h = df.height();
+        int w = df.width();
+        DbColumnMetadata[] rowParams = fixedParams(df.getColumnsIndex());
+
+        try (Connection c = connector.getConnection()) {
+
+            String fullSql = null;
+            DbColumnMetadata[] fullParams = null;
+
+            for (int start = 0; start < h; start += rowsPerStatement) {
+
+                int rows = Math.min(rowsPerStatement, h - start);
+                DataFrame chunk = rows == h ? df : df.rowsRange(start, start + rows).select();
+
+                // all the chunks but the last one have the same size, so reuse their SQL and param descriptors
+                String sql;
+                DbColumnMetadata[] params;
+                if (rows == rowsPerStatement) {
+                    if (fullSql == null) {
+                        fullSql = createInsertStatement(df, rows);
+                        fullParams = repeatParams(rowParams, rows);
+                    }
+
+                    sql = fullSql;
+                    params = fullParams;
+                } else {
+                    sql = createInsertStatement(df, rows);
+                    params = repeatParams(rowParams, rows);
+                }
+
+                connector.createStatementBuilder(sql)
+                        .paramDescriptors(params)
+                        .bind(new ByRowSeries(chunk))
+                        .update(c);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error closing DB connection", e);
+        }
+
+        return h;
+    }
+
+    /**
+     * Inserts DataFrame rows using PostgreSQL "COPY .. FROM STDIN" statement. Returns false if the connection
+     * doesn't support the COPY API, or some of the values can't be written in the COPY format, and the caller should
+     * fall back to a regular insert.
+     *
+     * @since 1.0.0-M23
+     */
+    protected boolean doCopyIn(JdbcConnector connector, DataFrame df) {
+
+        // PostgreSQL DB may be accessed via a driver other than the standard one
+        if (!POSTGRES_COPY_API) {
+            return false;
+        }
+
+        // converting the values the same way as the regular insert does, based on the column JDBC types
+        DbColumnMetadata[] columns = fixedParams(df.getColumnsIndex());
+        ValueConverterFactory converterFactory = connector.getBindConverterFactory();
+        ValueConverter[] converters = new ValueConverter[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            converters[i] = converterFactory.findConverter(columns[i].getType());
+        }
+
+        try (Connection c = connector.getConnection()) {
+            return new PostgresCopyIn(connector, tableName, converters).copyIn(c, df);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error running COPY: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isPostgresCopyApiPresent() {
+        try {
+            Class.forName("org.postgresql.copy.CopyManager", false, TableSaveStrategy.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static DbColumnMetadata[] repeatParams(DbColumnMetadata[] rowParams, int rows) {
+        int w = rowParams.length;
+        DbColumnMetadata[] params = Arrays.copyOf(rowParams, w * rows);
+        for (int i = 1; i < rows; i++) {
+            System.arraycopy(rowParams, 0, params, i * w, w);
+        }
+
+        return params;
+    }
+
     protected DbColumnMetadata[] fixedParams(Index index) {
         DbTableMetadata tableMetadata = connector.getMetadata().getTable(tableName);
 
@@ -146,6 +410,10 @@ public abstract class TableSaveStrategy {
     }
 
     private String createInsertStatement(DataFrame df) {
+        return createInsertStatement(df, 1);
+    }
+
+    private String createInsertStatement(DataFrame df, int rows) {
 
         StringBuilder sql = new StringBuilder("insert into ")
                 .append(connector.quoteTableName(tableName))
@@ -164,18 +432,23 @@ public abstract class TableSaveStrategy {
         }
 
         // append value placeholders
-        sql.append(") values (");
+        sql.append(") values ");
 
-        for (int i = 0; i < len; i++) {
-            if (i > 0) {
-                sql.append(", ");
+        for (int r = 0; r < rows; r++) {
+
+            sql.append(r > 0 ? ", (" : "(");
+
+            for (int i = 0; i < len; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append("?");
             }
 
-            sql.append("?");
+            sql.append(")");
         }
 
-        sql.append(")");
-
         return sql.toString();
     }
 }
@@ -20,6 +20,9 @@ public class ByJavaTypeColumnBinder implements ColumnBinder {
     private PreparedStatement statement;
     private int position;
 
+    // reused for all the bound values, same as in DefaultColumnBinder
+    private Calendar calendar;
+
     public ByJavaTypeColumnBinder(PreparedStatement statement, int position) {
         this.statement = statement;
         this.position = position;
@@ -38,17 +41,25 @@ public class ByJavaTypeColumnBinder implements ColumnBinder {
         // MySQL 8 requires a Calendar instance to save local time without undesired TZ conversion.
         // Other DBs work fine with or without the calendar
         else if (boundable instanceof Timestamp) {
-            statement.setTimestamp(position, (Timestamp) boundable, Calendar.getInstance());
+            statement.setTimestamp(position, (Timestamp) boundable, calendar());
         }
         // MySQL 8 requires a Calendar instance to save local time without undesired TZ conversion.
         // Other DBs work fine with or without the calendar
         else if (boundable instanceof Time) {
-            statement.setTime(position, (Time) boundable, Calendar.getInstance());
+            statement.setTime(position, (Time) boundable, calendar());
         } else {
             statement.setObject(position, boundable, FAKE_JDBC_TYPE);
         }
     }
 
+    private Calendar calendar() {
+        if (calendar == null) {
+            calendar = Calendar.getInstance();
+        }
+
+        return calendar;
+    }
+
     private Object normalize(Object o) {
         if (o == null) {
             return o;
@@ -0,0 +1,144 @@
+package org.dflib.jdbc.connector.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * A handle of a PreparedStatement that may be reused across executions. Closing the handle returns a cached statement
+ * back to its {@link StatementCache}, or closes an uncached statement.
+ *
+ * @since 1.0.0-M23
+ */
+public class CachedStatement implements AutoCloseable {
+
+    private final StatementCache cache;
+    private final PreparedStatement statement;
+    private final boolean cached;
+
+    private boolean inUse;
+    private boolean evicted;
+    private boolean fetchSizeChanged;
+    private boolean maxRowsChanged;
+
+    private Object binderKey;
+    private StatementBinder binder;
+
+    CachedStatement(StatementCache cache, PreparedStatement statement, boolean cached) {
+        this.cache = cache;
+        this.statement = Objects.requireNonNull(statement);
+        this.cached = cached;
+    }
+
+    /**
+     * Returns a statement for the SQL, reusing it from the connection {@link StatementCache} if the connection has
+     * one, or preparing a new statement otherwise.
+     */
+    public static CachedStatement prepare(Connection connection, String sql) throws SQLException {
+        StatementCache cache = StatementCache.of(connection);
+        return cache != null
+                ? cache.prepare(connection, sql)
+                : new CachedStatement(null, connection.prepareStatement(sql), false);
+    }
+
+    public PreparedStatement getStatement() {
+        return statement;
+    }
+
+    /**
+     * Returns a binder for the statement, reusing a binder created earlier by an equivalent factory.
+     */
+    public StatementBinder binder(StatementBinderFactory factory) throws SQLException {
+
+        Object key = factory.binderCacheKey();
+        if (key != null && binder != null && key.equals(binderKey)) {
+            return binder;
+        }
+
+        StatementBinder binder = factory.createBinder(statement);
+        if (cached && key != null) {
+            this.binderKey = key;
+            this.binder = binder;
+        }
+
+        return binder;
+    }
+
+    /**
+     * Sets a fetch size on the statement if it is positive. The fetch size is reset when the statement is returned
+     * to the cache, so that it doesn't leak to the next execution.
+     */
+    public void fetchSize(int fetchSize) throws SQLException {
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+            fetchSizeChanged = true;
+        }
+    }
+
+    /**
+     * Sets the max number of rows in the statement ResultSet if it is positive. Like the fetch size, the max rows
+     * value is reset when the statement is returned to the cache.
+     */
+    public void maxRows(int maxRows) throws SQLException {
+        if (maxRows > 0) {
+            statement.setMaxRows(maxRows);
+            maxRowsChanged = true;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (cache != null && cached) {
+            cache.release(this);
+        } else {
+            statement.close();
+        }
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    boolean isValid() throws SQLException {
+        return !evicted && !statement.isClosed();
+    }
+
+    void acquire() {
+        this.inUse = true;
+    }
+
+    void releaseInCache() {
+        this.inUse = false;
+
+        if (evicted) {
+            StatementCache.closeQuietly(statement);
+            return;
+        }
+
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+
+            if (fetchSizeChanged) {
+                statement.setFetchSize(0);
+                fetchSizeChanged = false;
+            }
+
+            if (maxRowsChanged) {
+                statement.setMaxRows(0);
+                maxRowsChanged = false;
+            }
+        } catch (SQLException e) {
+            // a statement that can't be reset is not reusable
+            cache.discard(this);
+        }
+    }
+
+    void evict() {
+        this.evicted = true;
+        if (!inUse) {
+            StatementCache.closeQuietly(statement);
+        }
+    }
+}
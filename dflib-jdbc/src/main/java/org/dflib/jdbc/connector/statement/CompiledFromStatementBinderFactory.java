@@ -1,10 +1,12 @@
 package org.dflib.jdbc.connector.statement;
 
+import org.dflib.jdbc.connector.metadata.DbMetadata;
 import org.dflib.jdbc.connector.metadata.flavors.DbFlavor;
 
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * @since 0.6
@@ -13,17 +15,50 @@ public class CompiledFromStatementBinderFactory implements StatementBinderFactor
 
     protected DbFlavor flavor;
     protected ValueConverterFactory converterFactory;
+    protected DbMetadata metadata;
+    protected String sql;
 
     public CompiledFromStatementBinderFactory(DbFlavor flavor, ValueConverterFactory converterFactory) {
         this.flavor = flavor;
         this.converterFactory = converterFactory;
     }
 
+    /**
+     * Creates a factory that reads the parameter types of the statement SQL via the {@link DbMetadata} cache instead
+     * of querying the statement metadata every time.
+     *
+     * @since 1.0.0-M23
+     */
+    public CompiledFromStatementBinderFactory(DbMetadata metadata, String sql, ValueConverterFactory converterFactory) {
+        this(metadata.getFlavor(), converterFactory);
+        this.metadata = metadata;
+        this.sql = sql;
+    }
+
     @Override
     public StatementBinder createBinder(PreparedStatement statement) throws SQLException {
 
+        if (metadata != null) {
+            return createBinder(statement, metadata.getParamTypes(sql, statement));
+        }
+
         ParameterMetaData pmd = statement.getParameterMetaData();
         int len = pmd.getParameterCount();
+        int[] types = new int[len];
+
+        if (flavor.supportsParamsMetadata()) {
+            for (int i = 0; i < len; i++) {
+                int jdbcPos = i + 1;
+                types[i] = flavor.columnType(pmd.getParameterType(jdbcPos), pmd.getParameterTypeName(jdbcPos));
+            }
+        }
+
+        return createBinder(statement, types);
+    }
+
+    private StatementBinder createBinder(PreparedStatement statement, int[] paramTypes) {
+
+        int len = paramTypes.length;
         ColumnBinder[] columnBinders = new ColumnBinder[len];
 
         for (int i = 0; i < len; i++) {
@@ -31,7 +66,7 @@ public class CompiledFromStatementBinderFactory implements StatementBinderFactor
             int jdbcPos = i + 1;
 
             if (flavor.supportsParamsMetadata()) {
-                int jdbcType = flavor.columnType(pmd.getParameterType(jdbcPos), pmd.getParameterTypeName(jdbcPos));
+                int jdbcType = paramTypes[i];
                 ValueConverter converter = converterFactory.findConverter(jdbcType);
                 columnBinders[i] = new DefaultColumnBinder(statement, jdbcPos, jdbcType, converter);
             } else {
@@ -42,4 +77,13 @@ public class CompiledFromStatementBinderFactory implements StatementBinderFactor
 
         return new StatementBinder(columnBinders);
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public Object binderCacheKey() {
+        // binders are derived from the statement metadata, so they only depend on the flavor and the converters
+        return List.of(CompiledFromStatementBinderFactory.class, flavor, converterFactory);
+    }
 }
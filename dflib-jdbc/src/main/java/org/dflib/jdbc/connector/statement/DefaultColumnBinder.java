@@ -10,6 +10,10 @@ public class DefaultColumnBinder implements ColumnBinder {
     private int position;
     private ValueConverter valueConverter;
 
+    // a binder is only used by one thread at a time, so a single calendar is safe to reuse for all the bound values,
+    // even with the drivers that modify the calendar during the conversion (e.g., Derby)
+    private Calendar calendar;
+
     public DefaultColumnBinder(
             PreparedStatement statement,
             int position,
@@ -30,11 +34,19 @@ public class DefaultColumnBinder implements ColumnBinder {
         } else if (boundable instanceof byte[]) {
             statement.setBytes(position, (byte[]) boundable);
         } else if (boundable instanceof Timestamp && type == Types.TIMESTAMP) {
-            statement.setTimestamp(position, (Timestamp) boundable, Calendar.getInstance());
+            statement.setTimestamp(position, (Timestamp) boundable, calendar());
         } else if (boundable instanceof Time && type == Types.TIME) {
-            statement.setTime(position, (Time) boundable, Calendar.getInstance());
+            statement.setTime(position, (Time) boundable, calendar());
         } else {
             statement.setObject(position, boundable, type);
         }
     }
+
+    private Calendar calendar() {
+        if (calendar == null) {
+            calendar = Calendar.getInstance();
+        }
+
+        return calendar;
+    }
 }
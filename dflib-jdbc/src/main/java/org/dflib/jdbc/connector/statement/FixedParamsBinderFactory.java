@@ -3,6 +3,8 @@ package org.dflib.jdbc.connector.statement;
 import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
 
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @since 0.6
@@ -30,4 +32,20 @@ public class FixedParamsBinderFactory implements StatementBinderFactory {
 
         return new StatementBinder(columnBinders);
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public Object binderCacheKey() {
+        int len = paramDescriptors.length;
+        List<Object> key = new ArrayList<>(len + 2);
+        key.add(FixedParamsBinderFactory.class);
+        key.add(converterFactory);
+        for (int i = 0; i < len; i++) {
+            key.add(paramDescriptors[i].getType());
+        }
+
+        return key;
+    }
 }
@@ -4,7 +4,6 @@ import org.dflib.jdbc.connector.JdbcFunction;
 import org.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -12,10 +11,21 @@ public class SelectStatementNoParams implements SelectStatement {
 
     private String sql;
     private SqlLogger logger;
+    private int fetchSize;
+    private int maxRows;
 
     public SelectStatementNoParams(String sql, SqlLogger logger) {
+        this(sql, logger, 0, 0);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public SelectStatementNoParams(String sql, SqlLogger logger, int fetchSize, int maxRows) {
         this.logger = logger;
         this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
     }
 
     @Override
@@ -23,9 +33,12 @@ public class SelectStatementNoParams implements SelectStatement {
 
         logger.log(sql);
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (CachedStatement cs = CachedStatement.prepare(connection, sql)) {
+
+            cs.fetchSize(fetchSize);
+            cs.maxRows(maxRows);
 
-            try (ResultSet rs = ps.executeQuery()) {
+            try (ResultSet rs = cs.getStatement().executeQuery()) {
 
                 return resultReader.apply(rs);
             }
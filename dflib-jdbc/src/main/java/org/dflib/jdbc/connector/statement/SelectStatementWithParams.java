@@ -5,7 +5,6 @@ import org.dflib.jdbc.connector.JdbcFunction;
 import org.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -15,6 +14,8 @@ public class SelectStatementWithParams implements SelectStatement {
     private Series<?> params;
     private StatementBinderFactory binderFactory;
     private SqlLogger logger;
+    private int fetchSize;
+    private int maxRows;
 
     public SelectStatementWithParams(
             String sql,
@@ -22,10 +23,26 @@ public class SelectStatementWithParams implements SelectStatement {
             StatementBinderFactory binderFactory,
             SqlLogger logger) {
 
+        this(sql, params, binderFactory, logger, 0, 0);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public SelectStatementWithParams(
+            String sql,
+            Series<?> params,
+            StatementBinderFactory binderFactory,
+            SqlLogger logger,
+            int fetchSize,
+            int maxRows) {
+
         this.sql = sql;
         this.params = params;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
     }
 
     @Override
@@ -33,19 +50,21 @@ public class SelectStatementWithParams implements SelectStatement {
 
         logger.log(sql, params);
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (CachedStatement cs = CachedStatement.prepare(connection, sql)) {
 
-            bind(ps);
+            bind(cs);
+            cs.fetchSize(fetchSize);
+            cs.maxRows(maxRows);
 
-            try (ResultSet rs = ps.executeQuery()) {
+            try (ResultSet rs = cs.getStatement().executeQuery()) {
                 return resultReader.apply(rs);
             }
         }
     }
 
-    private void bind(PreparedStatement statement) throws SQLException {
+    private void bind(CachedStatement statement) throws SQLException {
         if (params.size() > 0) {
-            binderFactory.createBinder(statement).bind(params);
+            statement.binder(binderFactory).bind(params);
         }
     }
 }
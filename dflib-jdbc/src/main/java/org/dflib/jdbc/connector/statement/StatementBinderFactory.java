@@ -9,4 +9,15 @@ import java.sql.SQLException;
 public interface StatementBinderFactory {
 
     StatementBinder createBinder(PreparedStatement statement) throws SQLException;
+
+    /**
+     * Returns a key that identifies binders created by this factory for a given statement, so that a binder can be
+     * reused when the same cached statement is executed again. Factories producing equal keys must produce equivalent
+     * binders. Null (the default) means that the binders should not be reused.
+     *
+     * @since 1.0.0-M23
+     */
+    default Object binderCacheKey() {
+        return null;
+    }
 }
@@ -0,0 +1,138 @@
+package org.dflib.jdbc.connector.statement;
+
+import org.dflib.jdbc.CacheStats;
+import org.dflib.jdbc.datasource.ConnectionAttachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache of PreparedStatements of a single connection, keyed by SQL, with the least recently used statements evicted
+ * when the cache is full. Also caches a {@link StatementBinder} for each statement, so the parameter metadata lookups
+ * and the value converter lookups are done once per statement and not on every execution. An instance is attached to
+ * a long-lived connection, i.e. a transaction connection or a pooled connection, and is exposed to the statement
+ * execution code via {@link Connection#unwrap(Class)}.
+ *
+ * @since 1.0.0-M23
+ */
+public class StatementCache implements ConnectionAttachment {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCache.class);
+
+    private final LinkedHashMap<String, CachedStatement> statements;
+    private final CacheStats stats;
+    private boolean closed;
+
+    public StatementCache(int capacity, CacheStats stats) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Statement cache capacity must be positive: " + capacity);
+        }
+
+        this.stats = stats;
+        this.statements = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > capacity) {
+                    StatementCache.this.stats.eviction();
+                    eldest.getValue().evict();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a cache attached to the connection, or null if the connection has no cache.
+     */
+    public static StatementCache of(Connection connection) throws SQLException {
+        return connection.isWrapperFor(StatementCache.class) ? connection.unwrap(StatementCache.class) : null;
+    }
+
+    /**
+     * Returns a statement for the SQL, preparing it on the connection if it is not cached. The statement must be
+     * released by calling {@link CachedStatement#close()}. If a statement with the same SQL is currently in use, a
+     * new uncached statement is returned.
+     */
+    public synchronized CachedStatement prepare(Connection connection, String sql) throws SQLException {
+
+        CachedStatement cached = closed ? null : statements.get(sql);
+        if (cached != null && !cached.isInUse() && cached.isValid()) {
+            stats.hit();
+            cached.acquire();
+            return cached;
+        }
+
+        stats.miss();
+        PreparedStatement statement = connection.prepareStatement(sql);
+
+        // do not replace a statement that is in use by someone else
+        if (closed || (cached != null && cached.isInUse())) {
+            return new CachedStatement(this, statement, false);
+        }
+
+        CachedStatement fresh = new CachedStatement(this, statement, true);
+        fresh.acquire();
+        statements.put(sql, fresh);
+
+        if (cached != null) {
+            cached.evict();
+        }
+
+        return fresh;
+    }
+
+    synchronized void release(CachedStatement statement) {
+        statement.releaseInCache();
+    }
+
+    synchronized void discard(CachedStatement statement) {
+        statements.values().remove(statement);
+        statement.evict();
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Closes all the cached statements. Statements that are currently in use are closed when released.
+     */
+    @Override
+    public synchronized void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        List<CachedStatement> toClose = new ArrayList<>(statements.values());
+        statements.clear();
+
+        for (CachedStatement s : toClose) {
+            s.evict();
+        }
+    }
+
+    static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Error closing a cached statement", e);
+        }
+    }
+}
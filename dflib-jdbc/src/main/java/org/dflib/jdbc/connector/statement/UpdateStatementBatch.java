@@ -32,9 +32,10 @@ public class UpdateStatementBatch implements UpdateStatement {
 
         logger.log(sql, paramsBatch);
 
-        try (PreparedStatement st = c.prepareStatement(sql)) {
+        try (CachedStatement cs = CachedStatement.prepare(c, sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
+            PreparedStatement st = cs.getStatement();
+            StatementBinder binder = cs.binder(binderFactory);
 
             for (RowProxy row : paramsBatch) {
                 binder.bind(row);
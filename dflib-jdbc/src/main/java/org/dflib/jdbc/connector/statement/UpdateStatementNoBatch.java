@@ -35,9 +35,10 @@ public class UpdateStatementNoBatch implements UpdateStatement {
         int len = paramsBatch.height();
         int[] updateCounts = new int[len];
 
-        try (PreparedStatement st = c.prepareStatement(sql)) {
+        try (CachedStatement cs = CachedStatement.prepare(c, sql)) {
 
-            StatementBinder binder = binderFactory.createBinder(st);
+            PreparedStatement st = cs.getStatement();
+            StatementBinder binder = cs.binder(binderFactory);
             int i = 0;
 
             for (RowProxy row : paramsBatch) {
@@ -3,7 +3,6 @@ package org.dflib.jdbc.connector.statement;
 import org.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 public class UpdateStatementNoParams implements UpdateStatement {
@@ -22,8 +21,8 @@ public class UpdateStatementNoParams implements UpdateStatement {
         logger.log(sql);
 
         int[] updateCounts = new int[1];
-        try (PreparedStatement st = c.prepareStatement(sql)) {
-            updateCounts[0] = st.executeUpdate();
+        try (CachedStatement cs = CachedStatement.prepare(c, sql)) {
+            updateCounts[0] = cs.getStatement().executeUpdate();
         }
 
         return updateCounts;
@@ -4,7 +4,6 @@ import org.dflib.Series;
 import org.dflib.jdbc.connector.SqlLogger;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 /**
@@ -35,9 +34,9 @@ public class UpdateStatementParamsRow implements UpdateStatement {
         logger.log(sql, params);
         int[] updateCounts = new int[1];
 
-        try (PreparedStatement st = c.prepareStatement(sql)) {
-            binderFactory.createBinder(st).bind(params);
-            updateCounts[0] = st.executeUpdate();
+        try (CachedStatement cs = CachedStatement.prepare(c, sql)) {
+            cs.binder(binderFactory).bind(params);
+            updateCounts[0] = cs.getStatement().executeUpdate();
         }
 
         return updateCounts;
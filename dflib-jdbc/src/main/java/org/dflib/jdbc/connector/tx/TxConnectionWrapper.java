@@ -1,5 +1,7 @@
 package org.dflib.jdbc.connector.tx;
 
+import org.dflib.jdbc.connector.statement.StatementCache;
+
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -29,9 +31,25 @@ import java.util.concurrent.Executor;
 public class TxConnectionWrapper implements Connection {
 
     private Connection delegate;
+    private StatementCache statementCache;
 
     public TxConnectionWrapper(Connection delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * @param statementCache an optional cache of PreparedStatements that lives as long as the transaction
+     * @since 1.0.0-M23
+     */
+    public TxConnectionWrapper(Connection delegate, StatementCache statementCache) {
         this.delegate = delegate;
+        this.statementCache = statementCache;
+    }
+
+    void closeStatementCache() {
+        if (statementCache != null) {
+            statementCache.close();
+        }
     }
 
     @Override
@@ -296,6 +314,11 @@ public class TxConnectionWrapper implements Connection {
 
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
+
+        if (statementCache != null && iface == StatementCache.class) {
+            return iface.cast(statementCache);
+        }
+
         try {
             return iface.cast(delegate);
         } catch (ClassCastException e) {
@@ -304,7 +327,11 @@ public class TxConnectionWrapper implements Connection {
     }
 
     @Override
-    public boolean isWrapperFor(Class<?> iface) {
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface == StatementCache.class) {
+            return statementCache != null || delegate.isWrapperFor(iface);
+        }
+
         return iface.isAssignableFrom(delegate.getClass());
     }
 }
@@ -2,6 +2,7 @@ package org.dflib.jdbc.connector.tx;
 
 import org.dflib.Extractor;
 import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.QueryExecutor;
 import org.dflib.jdbc.connector.SqlLoader;
 import org.dflib.jdbc.connector.SqlLogger;
 import org.dflib.jdbc.connector.SqlSaver;
@@ -9,8 +10,10 @@ import org.dflib.jdbc.connector.StatementBuilder;
 import org.dflib.jdbc.connector.TableDeleter;
 import org.dflib.jdbc.connector.TableLoader;
 import org.dflib.jdbc.connector.TableSaver;
+import org.dflib.jdbc.connector.loader.QueryCache;
 import org.dflib.jdbc.connector.metadata.DbMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.statement.StatementCache;
 import org.dflib.jdbc.connector.statement.ValueConverterFactory;
 import org.dflib.jdbc.datasource.TxDataSource;
 import org.slf4j.Logger;
@@ -20,6 +23,8 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A connector that provides the same connection to all consumers, opening it lazily when first requested.
@@ -35,11 +40,27 @@ public class TxJdbcConnector implements JdbcConnector, AutoCloseable {
 
     private TxIsolation isolation;
     private volatile TxConnectionWrapper connection;
+    private final List<Runnable> afterCommit;
 
     public TxJdbcConnector(JdbcConnector delegate, TxIsolation isolation) {
         this.isolation = isolation;
         this.delegate = delegate;
         this.nestedTx = delegate instanceof TxJdbcConnector;
+        this.afterCommit = new ArrayList<>();
+    }
+
+    /**
+     * Registers an operation to run after the transaction is committed. If this is a nested transaction, the operation
+     * runs after the outermost transaction is committed. Operations are not run if the transaction is rolled back.
+     *
+     * @since 1.0.0-M23
+     */
+    public void afterCommit(Runnable op) {
+        if (nestedTx) {
+            ((TxJdbcConnector) delegate).afterCommit(op);
+        } else {
+            afterCommit.add(op);
+        }
     }
 
     @Override
@@ -147,6 +168,36 @@ public class TxJdbcConnector implements JdbcConnector, AutoCloseable {
         return delegate.getBindConverterFactory();
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public StatementCache createStatementCache() {
+        return delegate.createStatementCache();
+    }
+
+    /**
+     * Returns the cache of the parent connector. The cache is not used for reading within a transaction, as it may
+     * see uncommitted data, but the transaction writes still invalidate the cached results.
+     *
+     * @since 1.0.0-M23
+     */
+    @Override
+    public QueryCache getQueryCache() {
+        return delegate.getQueryCache();
+    }
+
+    /**
+     * Returns an executor that runs operations sequentially in the calling thread, as the transaction connection can't
+     * be shared between threads.
+     *
+     * @since 1.0.0-M23
+     */
+    @Override
+    public QueryExecutor getQueryExecutor() {
+        return QueryExecutor.sameThread();
+    }
+
     protected TxConnectionWrapper createAndInitConnection() {
 
         Connection connection = delegate.getConnection();
@@ -159,19 +210,40 @@ public class TxJdbcConnector implements JdbcConnector, AutoCloseable {
             }
         }
 
-        return new TxConnectionWrapper(connection);
+        // pooled and nested transaction connections may already have a statement cache that outlives this transaction
+        StatementCache statementCache;
+        try {
+            statementCache = StatementCache.of(connection) == null ? delegate.createStatementCache() : null;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error checking connection statement cache", e);
+        }
+
+        return new TxConnectionWrapper(connection, statementCache);
     }
 
     protected void commit() {
         connectionOp(Connection::commit);
+
+        if (!afterCommit.isEmpty()) {
+            List<Runnable> ops = new ArrayList<>(afterCommit);
+            afterCommit.clear();
+            ops.forEach(Runnable::run);
+        }
     }
 
     protected void rollback() {
+        afterCommit.clear();
         connectionOp(Connection::rollback);
     }
 
     @Override
     public void close() {
+
+        TxConnectionWrapper connection = this.connection;
+        if (connection != null) {
+            connection.closeStatementCache();
+        }
+
         connectionOp(Connection::close);
         this.connection = null;
     }
@@ -0,0 +1,16 @@
+package org.dflib.jdbc.datasource;
+
+import java.sql.Connection;
+
+/**
+ * An object created by {@link PooledDataSource} for each physical connection, such as a PreparedStatement cache. It
+ * lives as long as the physical connection, is available to the callers of the pooled connection via
+ * {@link Connection#unwrap(Class)}, and is closed when the physical connection is closed.
+ *
+ * @since 1.0.0-M23
+ */
+public interface ConnectionAttachment extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,475 @@
+package org.dflib.jdbc.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A lightweight connection pool on top of a non-pooling DataSource (e.g., {@link SimpleDataSource}). Idle connections
+ * are kept in a lock-free LIFO queue, so the checkout of a recently used connection doesn't block, and the total
+ * number of connections is capped with a fair semaphore. The configured minimum of connections is opened when the pool
+ * is created. Connections idle for longer than the idle timeout are closed, down to the configured minimum, both as
+ * the pool is used and periodically by a background task, so that a quiet pool doesn't hold on to the DB resources.
+ * Connections that were idle for a while are validated via {@link Connection#isValid(int)} before being handed to the
+ * caller. The connection state (auto-commit, read-only, transaction isolation, catalog and schema) changed by the
+ * caller is restored when the connection is returned to the pool. The pool should be closed via {@link #close()} when
+ * no longer needed. The background task doesn't keep an unclosed pool from being garbage collected, but its idle
+ * connections are only closed on the next run of the task after that.
+ *
+ * @since 1.0.0-M23
+ */
+public class PooledDataSource implements DataSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledDataSource.class);
+
+    // connections returned to the pool very recently are unlikely to be broken, so skip their validation
+    private static final long VALIDATION_BYPASS_MS = 500;
+
+    private static final long MIN_REAPER_PERIOD_MS = 10;
+
+    // a single daemon thread shared by all the pools is sufficient to close their idle connections
+    private static final ScheduledExecutorService REAPER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "dflib-pool-reaper");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final DataSource nonPoolingDataSource;
+    private final int minConnections;
+    private final int maxConnections;
+    private final long maxQueueWaitMs;
+    private final long idleTimeoutMs;
+    private final int validationTimeoutSec;
+    private final Supplier<? extends ConnectionAttachment> attachmentFactory;
+
+    private final ConcurrentLinkedDeque<PoolEntry> idle;
+    private final Semaphore checkoutPermits;
+    private final AtomicInteger openConnections;
+    private final ScheduledFuture<?> reaper;
+    private volatile boolean closed;
+
+    public static PooledDataSourceBuilder builder(DataSource nonPoolingDataSource) {
+        return new PooledDataSourceBuilder(nonPoolingDataSource);
+    }
+
+    protected PooledDataSource(
+            DataSource nonPoolingDataSource,
+            int minConnections,
+            int maxConnections,
+            long maxQueueWaitMs,
+            long idleTimeoutMs,
+            int validationTimeoutSec) {
+
+        this(nonPoolingDataSource,
+                minConnections,
+                maxConnections,
+                maxQueueWaitMs,
+                idleTimeoutMs,
+                validationTimeoutSec,
+                null);
+    }
+
+    /**
+     * @param attachmentFactory creates an attachment for each physical connection. May be null.
+     * @since 1.0.0-M23
+     */
+    protected PooledDataSource(
+            DataSource nonPoolingDataSource,
+            int minConnections,
+            int maxConnections,
+            long maxQueueWaitMs,
+            long idleTimeoutMs,
+            int validationTimeoutSec,
+            Supplier<? extends ConnectionAttachment> attachmentFactory) {
+
+        this.attachmentFactory = attachmentFactory;
+        this.nonPoolingDataSource = Objects.requireNonNull(nonPoolingDataSource);
+        this.minConnections = minConnections;
+        this.maxConnections = maxConnections;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationTimeoutSec = validationTimeoutSec;
+
+        this.idle = new ConcurrentLinkedDeque<>();
+        this.checkoutPermits = new Semaphore(maxConnections, true);
+        this.openConnections = new AtomicInteger();
+
+        fillToMin();
+
+        long reaperPeriodMs = Math.max(idleTimeoutMs / 2, MIN_REAPER_PERIOD_MS);
+        Reaper reaperTask = new Reaper(this);
+        this.reaper = REAPER.scheduleWithFixedDelay(reaperTask, reaperPeriodMs, reaperPeriodMs, TimeUnit.MILLISECONDS);
+        reaperTask.future = reaper;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        acquirePermit();
+
+        try {
+            return new PooledConnection(this, checkout());
+        } catch (SQLException | RuntimeException e) {
+            checkoutPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new non-pooled connection, as the pool only manages connections for the default user.
+     */
+    @Override
+    public Connection getConnection(String userName, String password) throws SQLException {
+        return nonPoolingDataSource.getConnection(userName, password);
+    }
+
+    /**
+     * Closes all the idle connections. Connections currently in use are closed when returned to the pool.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reaper.cancel(false);
+
+        PoolEntry e;
+        while ((e = idle.pollFirst()) != null) {
+            closePhysical(e);
+        }
+    }
+
+    /**
+     * Returns the number of physical connections currently open, both idle and in use.
+     */
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Returns the number of open connections that are currently not in use.
+     */
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    public int getMinConnections() {
+        return minConnections;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!checkoutPermits.tryAcquire(maxQueueWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Can't obtain a connection: the pool of " + maxConnections
+                        + " connections is exhausted, and none was returned in " + maxQueueWaitMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private PoolEntry checkout() throws SQLException {
+
+        PoolEntry e;
+        while ((e = idle.pollFirst()) != null) {
+            if (validate(e)) {
+                return e;
+            }
+
+            LOGGER.debug("Discarding an invalid pooled connection");
+            closePhysical(e);
+        }
+
+        return open();
+    }
+
+    private PoolEntry open() throws SQLException {
+        Connection c = nonPoolingDataSource.getConnection();
+        openConnections.incrementAndGet();
+
+        try {
+            return new PoolEntry(c, attachmentFactory != null ? attachmentFactory.get() : null);
+        } catch (SQLException | RuntimeException e) {
+            openConnections.decrementAndGet();
+            try {
+                c.close();
+            } catch (SQLException ex) {
+                LOGGER.debug("Error closing pooled connection", ex);
+            }
+
+            throw e;
+        }
+    }
+
+    private boolean validate(PoolEntry e) {
+
+        if (System.currentTimeMillis() - e.lastUsed < VALIDATION_BYPASS_MS) {
+            return true;
+        }
+
+        try {
+            return e.connection.isValid(validationTimeoutSec);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    void release(PoolEntry e) {
+
+        try {
+            if (closed || !resetState(e)) {
+                closePhysical(e);
+                return;
+            }
+
+            e.lastUsed = System.currentTimeMillis();
+            idle.offerFirst(e);
+        } finally {
+            checkoutPermits.release();
+        }
+
+        evictIdle(e.lastUsed);
+    }
+
+    void discard(PoolEntry e) {
+        openConnections.decrementAndGet();
+        checkoutPermits.release();
+    }
+
+    // roll back whatever was left uncommitted, and restore the connection settings changed by the caller, so that
+    // the next user gets a clean connection
+    private boolean resetState(PoolEntry e) {
+        Connection c = e.connection;
+        try {
+            if (c.isClosed()) {
+                return false;
+            }
+
+            boolean autoCommit = c.getAutoCommit();
+            if (!autoCommit) {
+                c.rollback();
+            }
+
+            // must go after the rollback, as changing the auto-commit mode commits the current transaction
+            if (autoCommit != e.autoCommit) {
+                c.setAutoCommit(e.autoCommit);
+            }
+
+            if (c.isReadOnly() != e.readOnly) {
+                c.setReadOnly(e.readOnly);
+            }
+
+            if (c.getTransactionIsolation() != e.transactionIsolation) {
+                c.setTransactionIsolation(e.transactionIsolation);
+            }
+
+            if (e.catalog != null && !e.catalog.equals(c.getCatalog())) {
+                c.setCatalog(e.catalog);
+            }
+
+            if (e.schema != null && !e.schema.equals(c.getSchema())) {
+                c.setSchema(e.schema);
+            }
+
+            c.clearWarnings();
+            return true;
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.debug("Error resetting pooled connection state, discarding it", ex);
+            return false;
+        }
+    }
+
+    private void reap() {
+        evictIdle(System.currentTimeMillis());
+        fillToMin();
+    }
+
+    // opens connections to replace those that were closed as broken, or to pre-fill the pool on startup
+    private void fillToMin() {
+
+        while (!closed && openConnections.get() < minConnections) {
+
+            // only open a connection when the pool is not at capacity
+            if (!checkoutPermits.tryAcquire()) {
+                return;
+            }
+
+            try {
+                PoolEntry e = open();
+                e.lastUsed = System.currentTimeMillis();
+                idle.offerLast(e);
+
+                // the pool may have been closed while the connection was opening
+                if (closed && idle.removeLastOccurrence(e)) {
+                    closePhysical(e);
+                }
+            } catch (SQLException | RuntimeException e) {
+                LOGGER.warn("Error opening a pooled connection", e);
+                return;
+            } finally {
+                checkoutPermits.release();
+            }
+        }
+    }
+
+    // the least recently used connections are at the tail of the queue
+    private void evictIdle(long now) {
+
+        PoolEntry e;
+        while ((e = idle.peekLast()) != null
+                && now - e.lastUsed > idleTimeoutMs
+                && openConnections.get() > minConnections) {
+
+            if (idle.removeLastOccurrence(e)) {
+                closePhysical(e);
+            }
+        }
+    }
+
+    private void closePhysical(PoolEntry e) {
+        openConnections.decrementAndGet();
+
+        if (e.attachment != null) {
+            e.attachment.close();
+        }
+
+        try {
+            e.connection.close();
+        } catch (SQLException ex) {
+            LOGGER.debug("Error closing pooled connection", ex);
+        }
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return nonPoolingDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        nonPoolingDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        throw new SQLFeatureNotSupportedException("Unsupported");
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Unsupported");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Unsupported");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Unsupported");
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    static class PoolEntry {
+
+        final Connection connection;
+        final ConnectionAttachment attachment;
+        volatile long lastUsed;
+
+        // the initial connection state to restore when the connection is returned to the pool
+        final boolean autoCommit;
+        final boolean readOnly;
+        final int transactionIsolation;
+        final String catalog;
+        final String schema;
+
+        PoolEntry(Connection connection, ConnectionAttachment attachment) throws SQLException {
+            this.connection = connection;
+            this.attachment = attachment;
+
+            this.autoCommit = connection.getAutoCommit();
+            this.readOnly = connection.isReadOnly();
+            this.transactionIsolation = connection.getTransactionIsolation();
+            this.catalog = connection.getCatalog();
+            this.schema = readSchema(connection);
+        }
+
+        // some older drivers do not support schemas, and the schema is not restored for them
+        private static String readSchema(Connection connection) {
+            try {
+                return connection.getSchema();
+            } catch (SQLException | AbstractMethodError e) {
+                return null;
+            }
+        }
+    }
+
+    // references the pool weakly, so that a pool that was not closed can still be garbage collected. The task cancels
+    // itself after that, closing the connections that were left idle in the pool
+    private static class Reaper implements Runnable {
+
+        private final WeakReference<PooledDataSource> poolRef;
+        private final ConcurrentLinkedDeque<PoolEntry> idle;
+        volatile ScheduledFuture<?> future;
+
+        Reaper(PooledDataSource pool) {
+            this.poolRef = new WeakReference<>(pool);
+            this.idle = pool.idle;
+        }
+
+        @Override
+        public void run() {
+            PooledDataSource pool = poolRef.get();
+            if (pool != null) {
+                pool.reap();
+                return;
+            }
+
+            // the future is assigned right after scheduling, and can only be null on the very first run
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+
+            PoolEntry e;
+            while ((e = idle.pollFirst()) != null) {
+                if (e.attachment != null) {
+                    e.attachment.close();
+                }
+
+                try {
+                    e.connection.close();
+                } catch (SQLException ex) {
+                    LOGGER.debug("Error closing pooled connection", ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.dflib.jdbc.datasource;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A builder of {@link PooledDataSource}.
+ *
+ * @since 1.0.0-M23
+ */
+public class PooledDataSourceBuilder {
+
+    private final DataSource nonPoolingDataSource;
+    private int minConnections;
+    private int maxConnections;
+    private long maxQueueWaitMs;
+    private long idleTimeoutMs;
+    private int validationTimeoutSec;
+    private Supplier<? extends ConnectionAttachment> attachmentFactory;
+
+    public PooledDataSourceBuilder(DataSource nonPoolingDataSource) {
+        this.nonPoolingDataSource = Objects.requireNonNull(nonPoolingDataSource);
+        this.minConnections = 0;
+        this.maxConnections = 10;
+        this.maxQueueWaitMs = 30_000;
+        this.idleTimeoutMs = 10 * 60_000;
+        this.validationTimeoutSec = 5;
+    }
+
+    /**
+     * Sets the number of connections that are kept open by the pool even when they are idle. The default is 0.
+     */
+    public PooledDataSourceBuilder minConnections(int minConnections) {
+        this.minConnections = minConnections;
+        return this;
+    }
+
+    /**
+     * Sets the max number of connections that can be open at the same time. The default is 10.
+     */
+    public PooledDataSourceBuilder maxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Sets how long a caller would wait for a connection when all the connections are in use, before failing with an
+     * exception. The default is 30 sec.
+     */
+    public PooledDataSourceBuilder maxQueueWaitMs(long maxQueueWaitMs) {
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        return this;
+    }
+
+    /**
+     * Sets how long a connection may stay idle in the pool before it is closed. The default is 10 min.
+     */
+    public PooledDataSourceBuilder idleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        return this;
+    }
+
+    /**
+     * Sets a timeout for the connection validation check done when an idle connection is checked out. The default
+     * is 5 sec.
+     */
+    public PooledDataSourceBuilder validationTimeoutSec(int validationTimeoutSec) {
+        this.validationTimeoutSec = validationTimeoutSec;
+        return this;
+    }
+
+    /**
+     * Sets a factory of objects attached to each physical connection of the pool, e.g., a PreparedStatement cache, so
+     * that the statements executed repeatedly are not re-prepared each time.
+     */
+    public PooledDataSourceBuilder connectionAttachment(Supplier<? extends ConnectionAttachment> attachmentFactory) {
+        this.attachmentFactory = attachmentFactory;
+        return this;
+    }
+
+    public PooledDataSource build() {
+
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("'maxConnections' must be positive: " + maxConnections);
+        }
+
+        if (minConnections < 0 || minConnections > maxConnections) {
+            throw new IllegalArgumentException("'minConnections' must be between 0 and " + maxConnections + ": " + minConnections);
+        }
+
+        return new PooledDataSource(
+                nonPoolingDataSource,
+                minConnections,
+                maxConnections,
+                maxQueueWaitMs,
+                idleTimeoutMs,
+                validationTimeoutSec,
+                attachmentFactory);
+    }
+}
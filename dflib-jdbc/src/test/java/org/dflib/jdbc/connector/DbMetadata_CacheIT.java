@@ -0,0 +1,97 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.Jdbc;
+import org.dflib.jdbc.connector.metadata.DbMetadata;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DbMetadata_CacheIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @BeforeEach
+    void createConnector() {
+        connector = Jdbc.connector()
+                .dataSource(adapter.getDb().getDataSource())
+                .metadataCache(Duration.ofMinutes(5), 1, 10)
+                .build();
+    }
+
+    @Test
+    public void tableSaver() {
+
+        DbMetadata md = connector.getMetadata();
+
+        connector.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(1L, "n1", 1.));
+        connector.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(2L, "n2", 2.));
+
+        assertEquals(1, md.getTableCacheStats().getMisses());
+        assertEquals(1, md.getCachedTablesCount());
+        assertEquals(2, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void invalidate() {
+
+        DbMetadata md = connector.getMetadata();
+
+        assertSame(md.getTable("t1"), md.getTable("t1"));
+        assertEquals(1, md.getTableCacheStats().getHits());
+
+        md.invalidate("t1");
+        assertEquals(0, md.getCachedTablesCount());
+
+        md.getTable("t1");
+        assertEquals(2, md.getTableCacheStats().getMisses());
+    }
+
+    @Test
+    public void maxTables() {
+
+        DbMetadata md = connector.getMetadata();
+
+        md.getTable("t1");
+        md.getTable("t2");
+
+        assertEquals(1, md.getCachedTablesCount());
+        assertEquals(1, md.getTableCacheStats().getEvictions());
+    }
+
+    @Test
+    public void paramTypes() {
+
+        DbMetadata md = connector.getMetadata();
+        SqlLoader loader = connector.sqlLoader(adapter.toNativeSql("select \"id\" from \"t1\" where \"id\" > ?"));
+
+        loader.load(1L);
+        loader.load(2L);
+
+        assertEquals(1, md.getParamsCacheStats().getMisses());
+        assertEquals(1, md.getParamsCacheStats().getHits());
+
+        md.invalidate("t1");
+        loader.load(3L);
+        assertEquals(2, md.getParamsCacheStats().getMisses());
+    }
+
+    @Test
+    public void ttl() {
+
+        JdbcConnector connector = Jdbc.connector()
+                .dataSource(adapter.getDb().getDataSource())
+                .metadataCache(Duration.ofNanos(1), 10, 10)
+                .build();
+
+        DbMetadata md = connector.getMetadata();
+        assertNotSame(md.getTable("t1"), md.getTable("t1"));
+        assertEquals(2, md.getTableCacheStats().getMisses());
+    }
+}
@@ -0,0 +1,221 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.Jdbc;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcConnector_MultiQueryIT extends BaseDbTest {
+
+    // concurrent queries use their own pool instead of the shared test DataSource, as the latter doesn't reset the
+    // state of the returned connections
+    private JdbcConnector connector;
+
+    @BeforeEach
+    void insertData() {
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        connector = Jdbc.connector(adapter.getDb().getDbUrl()).connectionPool(0, 5).build();
+    }
+
+    @AfterEach
+    void closePool() {
+        connector.close();
+    }
+
+    @Test
+    public void load() {
+
+        Map<String, DataFrame> results = connector.multiQuery()
+                .add("byId", connector.sqlLoader(adapter.toNativeSql("select \"name\" from \"t1\" where \"id\" = ?")), 2L)
+                .add("all", connector.tableLoader("t1").cols("id"))
+                .add("custom", () -> DataFrame.foldByRow("a").of(1))
+                .load();
+
+        assertEquals(List.of("byId", "all", "custom"), List.copyOf(results.keySet()));
+        new DataFrameAsserts(results.get("byId"), "name").expectHeight(1).expectRow(0, "n2");
+        new DataFrameAsserts(results.get("all").sort("id", true), "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(2, 3L);
+        new DataFrameAsserts(results.get("custom"), "a").expectHeight(1).expectRow(0, 1);
+    }
+
+    @Test
+    public void load_Concurrently() {
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        JdbcConnector connector = Jdbc.connector()
+                .dataSource(this.connector.getDataSource())
+                .queryExecutor(executor)
+                .build();
+
+        // each query waits for all others to start, so the load can only complete if they run concurrently
+        int queries = 4;
+        CountDownLatch started = new CountDownLatch(queries);
+
+        MultiQuery multiQuery = connector.multiQuery();
+        for (int i = 0; i < queries; i++) {
+            TableLoader loader = connector.tableLoader("t1").cols("id");
+            multiQuery.add("q" + i, () -> {
+                started.countDown();
+                try {
+                    assertTrue(started.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return loader.load();
+            });
+        }
+
+        try {
+            Map<String, DataFrame> results = multiQuery.load();
+            assertEquals(queries, results.size());
+            results.values().forEach(df -> assertEquals(3, df.height()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void maxConcurrentQueries() {
+
+        JdbcConnector connector = Jdbc.connector()
+                .dataSource(this.connector.getDataSource())
+                .maxConcurrentQueries(2)
+                .build();
+
+        assertEquals(2, connector.getQueryExecutor().getMaxConcurrentQueries());
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        MultiQuery multiQuery = connector.multiQuery();
+        for (int i = 0; i < 10; i++) {
+            multiQuery.add("q" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    return connector.tableLoader("t1").load();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        Map<String, DataFrame> results = multiQuery.load();
+        assertEquals(10, results.size());
+        assertTrue(maxRunning.get() <= 2, "Too many concurrent queries: " + maxRunning.get());
+    }
+
+    @Test
+    public void load_Partitioned() {
+
+        Map<String, DataFrame> results = connector.multiQuery()
+                .add("p1", connector.tableLoader("t1").cols("id").partitions("id", 3))
+                .add("p2", connector.tableLoader("t1").cols("name").partitions("id", 2))
+                .load();
+
+        assertEquals(3, results.get("p1").height());
+        assertEquals(3, results.get("p2").height());
+    }
+
+    @Test
+    public void load_Nested() {
+
+        JdbcConnector connector = Jdbc.connector()
+                .dataSource(this.connector.getDataSource())
+                .maxConcurrentQueries(1)
+                .build();
+
+        // the nested queries would wait forever for the only concurrency permit taken by the outer query if they
+        // were submitted to the executor
+        Map<String, DataFrame> results = connector.multiQuery()
+                .add("outer", () -> connector.multiQuery()
+                        .add("inner1", connector.tableLoader("t1"))
+                        .add("inner2", connector.tableLoader("t1").cols("id").partitions("id", 2))
+                        .load()
+                        .get("inner2"))
+                .load();
+
+        new DataFrameAsserts(results.get("outer").sort("id", true), "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(2, 3L);
+    }
+
+    @Test
+    public void maxConcurrentQueries_ConnectionPool() {
+
+        assertEquals(5, connector.getQueryExecutor().getMaxConcurrentQueries());
+    }
+
+    @Test
+    public void submit() throws Exception {
+
+        Map<String, CompletableFuture<DataFrame>> futures = connector.multiQuery()
+                .add("all", connector.tableLoader("t1"))
+                .submit();
+
+        assertEquals(3, futures.get("all").get(10, TimeUnit.SECONDS).height());
+
+        CompletableFuture<SaveStats> saved = connector.getQueryExecutor().submit(() -> connector
+                .tableSaver("t1")
+                .save(DataFrame.foldByRow("id", "name", "salary").of(4L, "n4", 4.)));
+
+        assertEquals(1, saved.get(10, TimeUnit.SECONDS).getInsertCount());
+        assertEquals(4, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void load_Failure() {
+
+        MultiQuery multiQuery = connector.multiQuery()
+                .add("good", connector.tableLoader("t1"))
+                .add("bad", connector.sqlLoader("select * from no_such_table"));
+
+        assertThrows(RuntimeException.class, multiQuery::load);
+    }
+
+    @Test
+    public void load_InTransaction() {
+
+        Thread caller = Thread.currentThread();
+
+        // queries within a transaction run sequentially in the calling thread, and see uncommitted changes
+        Map<String, DataFrame> results = Tx.newTransaction(connector).call(c -> {
+
+            c.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(4L, "n4", 4.));
+
+            return c.multiQuery()
+                    .add("all", c.tableLoader("t1"))
+                    .add("thread", () -> {
+                        assertSame(caller, Thread.currentThread());
+                        return DataFrame.foldByRow("a").of(1);
+                    })
+                    .load();
+        });
+
+        assertEquals(4, results.get("all").height());
+    }
+}
@@ -0,0 +1,152 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.Jdbc;
+import org.dflib.jdbc.connector.loader.QueryCache;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JdbcConnector_QueryCacheIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+
+    @BeforeEach
+    void createConnector() {
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        connector = Jdbc.connector()
+                .dataSource(adapter.getDb().getDataSource())
+                .queryCache(Duration.ofMinutes(5), 10_000_000)
+                .build();
+    }
+
+    @Test
+    public void sqlLoader() {
+
+        SqlLoader loader = connector
+                .sqlLoader(adapter.toNativeSql("select \"id\", \"name\" from \"t1\" where \"id\" > ?"))
+                .cached("t1");
+
+        DataFrame df1 = loader.load(0L);
+        DataFrame df2 = loader.load(0L);
+        DataFrame df3 = loader.load(1L);
+
+        assertSame(df1, df2);
+        new DataFrameAsserts(df3, "id", "name").expectHeight(1).expectRow(0, 2L, "n2");
+
+        QueryCache cache = connector.getQueryCache();
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void sqlLoader_NotCached() {
+
+        SqlLoader loader = connector.sqlLoader(adapter.toNativeSql("select \"id\" from \"t1\""));
+
+        assertNotSame(loader.load(), loader.load());
+        assertEquals(0, connector.getQueryCache().getMisses());
+    }
+
+    @Test
+    public void tableLoader() {
+
+        DataFrame df1 = connector.tableLoader("t1").cols("id", "salary").doubleCol("salary", 0.).cached().load();
+        DataFrame df2 = connector.tableLoader("t1").cols("id", "salary").doubleCol("salary", 0.).cached().load();
+        DataFrame df3 = connector.tableLoader("t1").cols("id", "salary").doubleCol("salary", -1.).cached().load();
+
+        assertSame(df1, df2);
+        assertNotSame(df1, df3);
+    }
+
+    @Test
+    public void invalidateOnSave() {
+
+        DataFrame df1 = connector.tableLoader("t1").cached().load();
+
+        connector.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(3L, "n3", 1.));
+
+        DataFrame df2 = connector.tableLoader("t1").cached().load();
+        assertNotSame(df1, df2);
+        assertEquals(3, df2.height());
+
+        connector.tableDeleter("t1").eq(DataFrame.foldByRow("id").of(3L)).delete();
+        assertEquals(2, connector.tableLoader("t1").cached().load().height());
+    }
+
+    @Test
+    public void invalidateOnSave_Tx() {
+
+        DataFrame df1 = connector.tableLoader("t1").cached().load();
+
+        Tx.newTransaction(connector).run(c -> {
+            c.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(3L, "n3", 1.));
+
+            // the cache is not used within a transaction
+            assertEquals(3, c.tableLoader("t1").cached().load().height());
+        });
+
+        assertEquals(3, connector.tableLoader("t1").cached().load().height());
+        assertEquals(2, df1.height());
+    }
+
+    @Test
+    public void invalidateOnSave_TxCommit() {
+
+        Tx.newTransaction(connector).run(c -> {
+            c.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(3L, "n3", 1.));
+
+            // emulating a concurrent reader outside the transaction that caches the data before the commit
+            connector.getQueryCache().get("k", new String[]{"t1"}, () -> DataFrame.empty("id"));
+            assertEquals(1, connector.getQueryCache().getEntryCount());
+        });
+
+        assertEquals(0, connector.getQueryCache().getEntryCount());
+    }
+
+    @Test
+    public void invalidateOnSave_TxRollback() {
+
+        assertThrows(RuntimeException.class, () -> Tx.newTransaction(connector).run(c -> {
+            c.tableSaver("t1").save(DataFrame.foldByRow("id", "name", "salary").of(3L, "n3", 1.));
+            connector.getQueryCache().get("k", new String[]{"t1"}, () -> DataFrame.empty("id"));
+            throw new IllegalStateException("rollback");
+        }));
+
+        // nothing was committed, so the data cached during the transaction is still valid
+        assertEquals(1, connector.getQueryCache().getEntryCount());
+    }
+
+    @Test
+    public void invalidateOnDelete_Qualified() {
+
+        SqlLoader loader = connector.sqlLoader(adapter.toNativeSql("select \"id\" from \"t1\"")).cached("schema1.t1");
+        DataFrame df1 = loader.load();
+
+        connector.tableDeleter("t1").eq(DataFrame.foldByRow("id").of(1L)).delete();
+        assertEquals(1, loader.load().height());
+        assertEquals(2, df1.height());
+    }
+
+    @Test
+    public void invalidateManually() {
+
+        SqlLoader loader = connector.sqlLoader(adapter.toNativeSql("select \"id\" from \"t1\"")).cached("t1");
+
+        DataFrame df1 = loader.load();
+        connector.getQueryCache().invalidate("t1");
+        assertNotSame(df1, loader.load());
+    }
+}
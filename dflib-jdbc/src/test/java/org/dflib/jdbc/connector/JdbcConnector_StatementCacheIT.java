@@ -0,0 +1,137 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.CacheStats;
+import org.dflib.jdbc.Jdbc;
+import org.dflib.jdbc.connector.statement.StatementCache;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.datasource.PooledDataSource;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JdbcConnector_StatementCacheIT extends BaseDbTest {
+
+    private DefaultJdbcConnector createConnector(int statementCacheSize) {
+        return (DefaultJdbcConnector) Jdbc.connector()
+                .dataSource(adapter.getDb().getDataSource())
+                .statementCacheSize(statementCacheSize)
+                .build();
+    }
+
+    @Test
+    public void tx() {
+
+        DefaultJdbcConnector connector = createConnector(5);
+        String sql = adapter.toNativeSql("insert into \"t1\" (\"id\", \"name\") values (?, ?)");
+
+        Tx.newTransaction(connector).run(c -> {
+            c.sqlSaver(sql).save(1L, "n1");
+            c.sqlSaver(sql).save(2L, "n2");
+            c.sqlSaver(sql).save(3L, "n3");
+        });
+
+        CacheStats stats = connector.getStatementCacheStats();
+        assertEquals(1, stats.getMisses());
+        assertEquals(2, stats.getHits());
+
+        DataFrame df = connector.tableLoader("t1").cols("id", "name").load().sort("id", true);
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2")
+                .expectRow(2, 3L, "n3");
+    }
+
+    @Test
+    public void tx_Disabled() {
+
+        DefaultJdbcConnector connector = createConnector(0);
+        String sql = adapter.toNativeSql("insert into \"t1\" (\"id\", \"name\") values (?, ?)");
+
+        Tx.newTransaction(connector).run(c -> {
+            c.sqlSaver(sql).save(1L, "n1");
+            c.sqlSaver(sql).save(2L, "n2");
+        });
+
+        CacheStats stats = connector.getStatementCacheStats();
+        assertEquals(0, stats.getMisses());
+        assertEquals(0, stats.getHits());
+    }
+
+    @Test
+    public void tx_Eviction() {
+
+        DefaultJdbcConnector connector = createConnector(1);
+        String sql1 = adapter.toNativeSql("insert into \"t1\" (\"id\", \"name\") values (?, ?)");
+        String sql2 = adapter.toNativeSql("update \"t1\" set \"salary\" = ? where \"id\" = ?");
+
+        Tx.newTransaction(connector).run(c -> {
+            c.sqlSaver(sql1).save(1L, "n1");
+            c.sqlSaver(sql2).save(5., 1L);
+            c.sqlSaver(sql1).save(2L, "n2");
+        });
+
+        CacheStats stats = connector.getStatementCacheStats();
+        assertEquals(3, stats.getMisses());
+        assertEquals(0, stats.getHits());
+        assertEquals(2, stats.getEvictions());
+
+        DataFrame df = connector.tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(df, "id", "name", "salary")
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 5.)
+                .expectRow(1, 2L, "n2", null);
+    }
+
+    @Test
+    public void tx_SameStatementInUse() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        DefaultJdbcConnector connector = createConnector(5);
+        String sql = adapter.toNativeSql("select \"id\" from \"t1\" order by \"id\"");
+
+        List<Integer> innerHeights = new ArrayList<>();
+        Tx.newTransaction(connector).run(c -> c.sqlLoader(sql).loadBatches(
+                1,
+                df -> innerHeights.add(c.sqlLoader(sql).load().height())));
+
+        assertEquals(List.of(2, 2), innerHeights);
+
+        // the outer statement is cached, while the inner ones are prepared anew each time
+        CacheStats stats = connector.getStatementCacheStats();
+        assertEquals(3, stats.getMisses());
+        assertEquals(0, stats.getHits());
+    }
+
+    @Test
+    public void pool() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        CacheStats stats = new CacheStats();
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource())
+                .connectionAttachment(() -> new StatementCache(5, stats))
+                .build()) {
+
+            JdbcConnector connector = Jdbc.connector(ds);
+            for (int i = 0; i < 3; i++) {
+                DataFrame df = connector.tableLoader("t1").cols("id").load();
+                new DataFrameAsserts(df, "id").expectHeight(2);
+            }
+
+            assertEquals(1, stats.getMisses());
+            assertEquals(2, stats.getHits());
+        }
+    }
+}
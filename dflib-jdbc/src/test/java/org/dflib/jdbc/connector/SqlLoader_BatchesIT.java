@@ -0,0 +1,121 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlLoader_BatchesIT extends BaseDbTest {
+
+    @Test
+    public void loadBatches() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.)
+                .insert(5L, "n5", 3_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\", \"salary\" from \"t1\" WHERE \"id\" > ? ORDER BY \"id\"");
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .sqlLoader(sql)
+                .loadBatches(2, batches::add, 0L);
+
+        assertEquals(3, batches.size());
+
+        new DataFrameAsserts(batches.get(0), "id", "salary")
+                .expectHeight(2)
+                .expectRow(0, 1L, 50_000.01)
+                .expectRow(1, 2L, 120_000.);
+
+        new DataFrameAsserts(batches.get(1), "id", "salary")
+                .expectHeight(2)
+                .expectRow(0, 3L, 1_000.)
+                .expectRow(1, 4L, 2_000.);
+
+        new DataFrameAsserts(batches.get(2), "id", "salary")
+                .expectHeight(1)
+                .expectRow(0, 5L, 3_000.);
+    }
+
+    @Test
+    public void loadBatches_Limit() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\" ORDER BY \"id\"");
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .sqlLoader(sql)
+                .limit(2)
+                .fetchSize(1)
+                .loadBatches(2, batches::add);
+
+        assertEquals(1, batches.size());
+        new DataFrameAsserts(batches.get(0), "id")
+                .expectHeight(2)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L);
+    }
+
+    @Test
+    public void loadBatches_Empty() {
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\"");
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .sqlLoader(sql)
+                .loadBatches(2, batches::add);
+
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    public void loadBatches_Sampling() {
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\"");
+
+        SqlLoader loader = adapter.createConnector()
+                .sqlLoader(sql)
+                .rowsSample(2, new Random(5));
+
+        assertThrows(IllegalStateException.class, () -> loader.loadBatches(2, df -> {}));
+    }
+
+    @Test
+    public void fetchSize() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        String sql = adapter.toNativeSql("SELECT \"id\" from \"t1\" ORDER BY \"id\"");
+
+        DataFrame df = adapter.createConnector()
+                .sqlLoader(sql)
+                .fetchSize(1)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L)
+                .expectRow(2, 3L);
+    }
+}
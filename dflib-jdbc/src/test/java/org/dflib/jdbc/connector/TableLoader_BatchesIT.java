@@ -0,0 +1,75 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TableLoader_BatchesIT extends BaseDbTest {
+
+    @Test
+    public void loadBatches() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .loadBatches(2, batches::add);
+
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).height());
+        assertEquals(1, batches.get(1).height());
+
+        new DataFrameAsserts(batches.get(0).vConcat(batches.get(1)).sort("id", true), "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L)
+                .expectRow(2, 3L);
+    }
+
+    @Test
+    public void loadBatches_Eq() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(3L);
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .eq(condition)
+                .loadBatches(2, batches::add);
+
+        assertEquals(1, batches.size());
+        new DataFrameAsserts(batches.get(0), adapter.getColumnNames("t1"))
+                .expectHeight(1)
+                .expectRow(0, 3L, "n3", 1_000.);
+    }
+
+    @Test
+    public void loadBatches_EmptyCondition() {
+
+        adapter.getTable("t1").insert(1L, "n1", 50_000.01);
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.empty("id"))
+                .loadBatches(2, batches::add);
+
+        assertEquals(0, batches.size());
+    }
+}
@@ -0,0 +1,238 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TableLoader_ChunkedConditionIT extends BaseDbTest {
+
+    @Test
+    public void eq() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.)
+                .insert(5L, "n5", 3_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(5L, 1L, 3L, 4L, 7L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "name")
+                .eq(condition)
+                .conditionChunkSize(2)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 3L, "n3")
+                .expectRow(2, 4L, "n4")
+                .expectRow(3, 5L, "n5");
+    }
+
+    @Test
+    public void eq_DuplicateKeys() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(1L, 3L, 1L, 3L, 1L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .eq(condition)
+                .conditionChunkSize(1)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 1L)
+                .expectRow(1, 3L);
+    }
+
+    @Test
+    public void eq_MultiColumn() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id", "name").of(
+                1L, "n1",
+                2L, "nX",
+                3L, "n3");
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "name")
+                .eq(condition)
+                .conditionChunkSize(1)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 3L, "n3");
+    }
+
+    @Test
+    public void eq_Limit() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(1L, 2L, 3L, 4L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .eq(condition)
+                .conditionChunkSize(2)
+                .limit(3)
+                .load();
+
+        new DataFrameAsserts(df, "id").expectHeight(3);
+    }
+
+    @Test
+    public void eq_Sample() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(1L, 2L, 3L, 4L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .eq(condition)
+                .conditionChunkSize(2)
+                .rowsSample(2, new Random(5))
+                .load();
+
+        new DataFrameAsserts(df, "id").expectHeight(2);
+    }
+
+    @Test
+    public void eq_InTransaction() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(3L, 2L, 1L);
+
+        DataFrame df = Tx.newTransaction(adapter.createConnector()).call(c -> c
+                .tableLoader("t1")
+                .cols("id")
+                .eq(condition)
+                .conditionChunkSize(1)
+                .load()
+                .sort("id", true));
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L)
+                .expectRow(2, 3L);
+    }
+
+    @Test
+    public void neq_NotChunked() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(1L, 3L);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .neq(condition)
+                .conditionChunkSize(1)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(1)
+                .expectRow(0, 2L);
+    }
+
+    @Test
+    public void deleter_Eq() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        DataFrame condition = DataFrame.foldByRow("id").of(1L, 3L, 4L, 5L, 3L);
+
+        JdbcConnector connector = adapter.createConnector();
+        int deleted = connector.tableDeleter("t1")
+                .eq(condition)
+                .conditionChunkSize(2)
+                .delete();
+        assertEquals(3, deleted);
+
+        DataFrame df = connector.tableLoader("t1").cols("id").load();
+        new DataFrameAsserts(df, "id")
+                .expectHeight(1)
+                .expectRow(0, 2L);
+    }
+
+    @Test
+    public void saver_DeleteUnmatchedRows_ManyKeys() {
+
+        int h = TableLoader.DEFAULT_CONDITION_CHUNK_SIZE + 50;
+        Long[] ids = new Long[h];
+        for (int i = 0; i < h; i++) {
+            ids[i] = (long) i + 1;
+        }
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1").save(DataFrame.foldByRow("id").of((Object[]) ids));
+
+        // keep all rows but the first 20, and add 10 new ones
+        Long[] keptIds = new Long[h - 10];
+        for (int i = 0; i < keptIds.length; i++) {
+            keptIds[i] = (long) i + 21;
+        }
+
+        connector.tableSaver("t1")
+                .mergeByColumns("id")
+                .deleteUnmatchedRows()
+                .save(DataFrame.foldByRow("id").of((Object[]) keptIds));
+
+        DataFrame df = connector.tableLoader("t1").cols("id").load().sort("id", true);
+        new DataFrameAsserts(df, "id")
+                .expectHeight(h - 10)
+                .expectRow(0, 21L)
+                .expectRow(h - 11, (long) h + 10);
+    }
+}
@@ -0,0 +1,229 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TableLoader_PartitionsIT extends BaseDbTest {
+
+    @Test
+    public void partitions() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.)
+                .insert(5L, "n5", 3_000.)
+                .insert(6L, "n6", 4_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "name")
+                .partitions("id", 6)
+                .load();
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(6)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 2L, "n2")
+                .expectRow(2, 3L, "n3")
+                .expectRow(3, 4L, "n4")
+                .expectRow(4, 5L, "n5")
+                .expectRow(5, 6L, "n6");
+    }
+
+    @Test
+    public void partitions_FromPoolThreads() throws Exception {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.);
+
+        TableLoader loader = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .partitions("id", 3);
+
+        // occupying all the pool threads with the loads that would deadlock if they waited for the nested partition
+        // tasks queued to the same pool
+        int loads = ForkJoinPool.commonPool().getParallelism() + 1;
+        List<CompletableFuture<DataFrame>> futures = new ArrayList<>(loads);
+        for (int i = 0; i < loads; i++) {
+            futures.add(CompletableFuture.supplyAsync(loader::load));
+        }
+
+        for (CompletableFuture<DataFrame> f : futures) {
+            new DataFrameAsserts(f.get(30, TimeUnit.SECONDS), "id")
+                    .expectHeight(3)
+                    .expectRow(0, 1L)
+                    .expectRow(2, 3L);
+        }
+    }
+
+    @Test
+    public void partitions_MoreThanValues() {
+
+        adapter.getTable("t1")
+                .insert(2L, "n2", 120_000.)
+                .insert(1L, "n1", 50_000.01);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .partitions("id", 10)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L);
+    }
+
+    @Test
+    public void partitions_Empty() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .partitions("id", 3)
+                .load();
+
+        new DataFrameAsserts(df, "id").expectHeight(0);
+    }
+
+    @Test
+    public void partitions_Doubles_Nulls() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 3_000.)
+                .insert(2L, "n2", null)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "salary")
+                .partitions("salary", 2)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(4)
+                .expectRow(0, 1L, 3_000.)
+                .expectRow(1, 2L, null)
+                .expectRow(2, 3L, 1_000.)
+                .expectRow(3, 4L, 2_000.);
+    }
+
+    @Test
+    public void partitions_Dates() {
+
+        adapter.getTable("t2").insertColumns("bigint", "date")
+                .values(1L, LocalDate.of(2020, 1, 1))
+                .values(2L, LocalDate.of(2021, 1, 1))
+                .values(3L, null)
+                .values(4L, LocalDate.of(2022, 1, 1))
+                .exec();
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t2")
+                .cols("bigint", "date")
+                .partitions("date", 3)
+                .load();
+
+        new DataFrameAsserts(df, "bigint", "date")
+                .expectHeight(4)
+                .expectRow(0, 1L, LocalDate.of(2020, 1, 1))
+                .expectRow(1, 3L, null)
+                .expectRow(2, 2L, LocalDate.of(2021, 1, 1))
+                .expectRow(3, 4L, LocalDate.of(2022, 1, 1));
+    }
+
+    @Test
+    public void partitionBounds() {
+
+        adapter.getTable("t1")
+                .insert(5L, "n5", 3_000.)
+                .insert(1L, "n1", 50_000.01)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .partitionBounds("id", 2L, 4L)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(3)
+                .expectRow(0, 1L)
+                .expectRow(1, 3L)
+                .expectRow(2, 5L);
+    }
+
+    @Test
+    public void partitions_Eq_Limit() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 1_000.)
+                .insert(4L, "n4", 2_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .eq(DataFrame.foldByRow("id").of(4L, 2L, 3L))
+                .partitions("id", 2)
+                .limit(2)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 2L)
+                .expectRow(1, 3L);
+    }
+
+    @Test
+    public void partitions_Tx() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        DataFrame df = Tx.newTransaction(adapter.createConnector()).call(c -> c
+                .tableLoader("t1")
+                .cols("id")
+                .partitions("id", 2)
+                .load());
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 1L)
+                .expectRow(1, 2L);
+    }
+
+    @Test
+    public void partitions_Sampling() {
+
+        TableLoader loader = adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 2)
+                .rowsSample(2, new Random(5));
+
+        assertThrows(IllegalStateException.class, loader::load);
+    }
+}
@@ -0,0 +1,90 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.LongSeries;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TableLoader_PrimitiveColumnsIT extends BaseDbTest {
+
+    @Test
+    public void nullablePrimitives() {
+
+        LocalDateTime ldt = LocalDateTime.of(2019, 2, 3, 1, 2, 5);
+        long epochMillis = Timestamp.valueOf(ldt).getTime();
+
+        adapter.getTable("t2")
+                .insert(5L, 67, 7.8, true, "s1", ldt, null, null, null)
+                .insert(null, null, null, false, null, null, null, null, null);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t2")
+                .cols("bigint", "int", "double", "timestamp")
+                .longCol("bigint", -1L)
+                .intCol("int", -2)
+                .doubleCol("double", Double.NaN)
+                .epochMillisCol("timestamp", 0L)
+                .load();
+
+        new DataFrameAsserts(df, "bigint", "int", "double", "timestamp")
+                .expectHeight(2)
+                .expectLongColumns(0, 3)
+                .expectIntColumns(1)
+                .expectDoubleColumns(2)
+                .expectRow(0, 5L, 67, 7.8, epochMillis)
+                .expectRow(1, -1L, -2, Double.NaN, 0L);
+    }
+
+    @Test
+    public void sqlLoader() {
+
+        adapter.getTable("t2")
+                .insert(5L, 67, 7.8, true, "s1", null, null, null, null)
+                .insert(null, null, null, false, null, null, null, null, null);
+
+        DataFrame df = adapter.createConnector()
+                .sqlLoader(adapter.toNativeSql("select \"int\", \"double\", \"bigint\" from \"t2\" order by \"int\""))
+                .intCol("int", 0)
+                .doubleCol("double", -1.)
+                .load();
+
+        // "bigint" is not configured, so it is loaded as an object Series
+        assertFalse(LongSeries.class.isAssignableFrom(df.getColumn("bigint").getClass()));
+
+        new DataFrameAsserts(df, "int", "double", "bigint")
+                .expectHeight(2)
+                .expectIntColumns("int")
+                .expectDoubleColumns("double")
+                .expectRow(0, 67, 7.8, 5L)
+                .expectRow(1, 0, -1., null);
+    }
+
+    @Test
+    public void partitions() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", null)
+                .insert(3L, "n3", 1_000.);
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "salary")
+                .doubleCol("salary", 0.)
+                .partitions("id", 3)
+                .load();
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(3)
+                .expectDoubleColumns(1)
+                .expectRow(0, 1L, 50_000.01)
+                .expectRow(1, 2L, 0.)
+                .expectRow(2, 3L, 1_000.);
+    }
+}
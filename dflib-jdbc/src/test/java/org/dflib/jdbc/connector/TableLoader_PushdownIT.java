@@ -0,0 +1,233 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.Condition;
+import org.dflib.DataFrame;
+import org.dflib.NumExp;
+import org.dflib.jdbc.connector.condition.ExpConditionTranslator;
+import org.dflib.jdbc.connector.condition.TranslatedCondition;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TableLoader_PushdownIT extends BaseDbTest {
+
+    @BeforeEach
+    void insertData() {
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", null)
+                .insert(3L, null, 1_000.)
+                .insert(4L, "n4", 120_000.)
+                .insert(5L, "n5", 20_000.);
+    }
+
+    private void assertSameAsInMemory(Condition condition) {
+
+        JdbcConnector connector = adapter.createConnector();
+        DataFrame expected = connector.tableLoader("t1").load().rows(condition).select().sort("id", true);
+        DataFrame loaded = connector.tableLoader("t1").rows(condition).load().sort("id", true);
+
+        assertEquals(expected.height(), loaded.height(), condition.toQL());
+        assertEquals(expected.getColumn("id").toList(), loaded.getColumn("id").toList(), condition.toQL());
+    }
+
+    @Test
+    public void rows() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .rows($long("id").gt(1).and($double("salary").lt(100_000.)))
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name", "salary")
+                .expectHeight(2)
+                .expectRow(0, 3L, null, 1_000.)
+                .expectRow(1, 5L, "n5", 20_000.);
+    }
+
+    @Test
+    public void rows_SameAsInMemory() {
+        assertSameAsInMemory($long("id").eq(3L));
+        assertSameAsInMemory($long("id").ge(3));
+        assertSameAsInMemory(((NumExp<Long>) $val(3L)).lt($long("id")));
+        assertSameAsInMemory($col("name").eq("n2"));
+        assertSameAsInMemory($col("name").ne("n2"));
+        assertSameAsInMemory($str("name").isNull());
+        assertSameAsInMemory($str("name").isNotNull());
+        assertSameAsInMemory($long("id").in(1L, 3L, 7L));
+        assertSameAsInMemory($str("name").notIn("n1", "n4"));
+        assertSameAsInMemory($str("name").in());
+        assertSameAsInMemory($double("salary").gt(10_000.).or($str("name").eq("n2")));
+        assertSameAsInMemory(not($double("salary").gt(10_000.)));
+        assertSameAsInMemory(not($col("name").ne("n2").and($long("id").lt(5L))));
+    }
+
+    @Test
+    public void rows_PostFilter() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .rows($long("id").lt(5L).and($str("name").startsWith("n")))
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name", "salary")
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", null)
+                .expectRow(2, 4L, "n4", 120_000.);
+    }
+
+    @Test
+    public void rows_WithEq() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .eq(DataFrame.foldByRow("id").of(1L, 2L, 5L))
+                .rows($double("salary").ge(20_000.))
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name", "salary")
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 5L, "n5", 20_000.);
+    }
+
+    @Test
+    public void translate() {
+
+        ExpConditionTranslator translator = new ExpConditionTranslator(adapter.createConnector());
+
+        TranslatedCondition c1 = translator.translate($long("id").gt(1).and($col("name").ne("n2")));
+        assertEquals("\"id\" > ? and (\"name\" <> ? or \"name\" is null)", c1.getSql());
+        assertArrayEquals(new Object[]{1L, "n2"}, c1.getParams());
+        assertNull(c1.getPostFilter());
+
+        TranslatedCondition c2 = translator.translate(not($int("id").in(1, 2)));
+        assertEquals("not ((\"id\" in (?, ?) and \"id\" is not null))", c2.getSql());
+        assertNull(c2.getPostFilter());
+
+        Condition untranslatable = $str("name").startsWith("n");
+        TranslatedCondition c3 = translator.translate($str("name").isNull().and(untranslatable));
+        assertEquals("\"name\" is null", c3.getSql());
+        assertEquals(untranslatable, c3.getPostFilter());
+
+        TranslatedCondition c4 = translator.translate($long("id").gt(1).or(untranslatable));
+        assertNull(c4.getSql());
+        assertEquals(0, c4.getParams().length);
+
+        // "not" matches NULLs in DFLib
+        TranslatedCondition c5 = translator.translate(not($double("salary").gt(10_000.)));
+        assertEquals("not ((\"salary\" > ? and \"salary\" is not null))", c5.getSql());
+    }
+
+    @Test
+    public void sortLimit() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "salary")
+                .sort($double("salary").desc(), $long("id").asc())
+                .limit(3)
+                .load();
+
+        // Derby puts NULLs first in descending order, same as DFLib
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(3)
+                .expectRow(0, 2L, null)
+                .expectRow(1, 4L, 120_000.)
+                .expectRow(2, 1L, 50_000.01);
+    }
+
+    @Test
+    public void sortLimit_InMemory() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .sort($long("id").add(0L).desc())
+                .limit(2)
+                .load();
+
+        new DataFrameAsserts(df, "id")
+                .expectHeight(2)
+                .expectRow(0, 5L)
+                .expectRow(1, 4L);
+    }
+
+    @Test
+    public void sortLimit_PostFilter() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .rows($str("name").startsWith("n"))
+                .sort("id", false)
+                .limit(2)
+                .load();
+
+        new DataFrameAsserts(df, "id", "name", "salary")
+                .expectHeight(2)
+                .expectRow(0, 5L, "n5", 20_000.)
+                .expectRow(1, 4L, "n4", 120_000.);
+    }
+
+    @Test
+    public void sortLimit_Partitions() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "salary")
+                .rows($double("salary").isNotNull())
+                .partitions("id", 2)
+                .sort("salary", true)
+                .limit(2)
+                .load();
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(2)
+                .expectRow(0, 3L, 1_000.)
+                .expectRow(1, 5L, 20_000.);
+    }
+
+    @Test
+    public void loadBatches_PostFilter() {
+
+        List<DataFrame> batches = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "name")
+                .rows($long("id").gt(1L).and($str("name").startsWith("n")))
+                .sort("id", true)
+                .loadBatches(2, batches::add);
+
+        assertEquals(2, batches.size());
+        new DataFrameAsserts(batches.get(0).vConcat(batches.get(1)), "id", "name")
+                .expectHeight(3)
+                .expectRow(0, 2L, "n2")
+                .expectRow(1, 4L, "n4")
+                .expectRow(2, 5L, "n5");
+    }
+
+    @Test
+    public void loadBatches_PostFilterLimit() {
+        TableLoader loader = adapter.createConnector()
+                .tableLoader("t1")
+                .rows($str("name").startsWith("n"))
+                .limit(2);
+
+        assertThrows(IllegalStateException.class, () -> loader.loadBatches(2, df -> {
+        }));
+    }
+}
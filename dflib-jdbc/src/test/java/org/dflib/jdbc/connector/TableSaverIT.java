@@ -500,6 +500,71 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(1, 3L, "n3", 11_000.);
     }
 
+    @Test
+    public void save_MergeByPk_DeleteUnmatchedRows_Chunks() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 1.)
+                .values(2L, "n2", 2.)
+                .values(3L, "n3", 3.)
+                .values(5L, "n5", 5.)
+                .values(6L, "n6", 6.)
+                .values(8L, "n8", 8.)
+                .values(9L, "n9", 9.)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                7L, "n7", 7.,
+                2L, "n2", 2.,
+                5L, "n5", 5.,
+                4L, "n4", 4.,
+                8L, "n8", 8.);
+
+        adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .deleteUnmatchedRows()
+                .conditionChunkSize(2)
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 2L, "n2", 2.)
+                .expectRow(1, 4L, "n4", 4.)
+                .expectRow(2, 5L, "n5", 5.)
+                .expectRow(3, 7L, "n7", 7.)
+                .expectRow(4, 8L, "n8", 8.);
+    }
+
+    @Test
+    public void save_MergeByColumn_DeleteUnmatchedRows_Chunks() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 1.)
+                .values(2L, "n2", 2.)
+                .values(3L, "n3", 3.)
+                .values(5L, "n5", 5.)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                2L, "n2", 2.,
+                5L, "n5", 5.,
+                4L, "n4", 4.);
+
+        adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByColumns("name")
+                .deleteUnmatchedRows()
+                .conditionChunkSize(2)
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(3)
+                .expectRow(0, 2L, "n2", 2.)
+                .expectRow(1, 4L, "n4", 4.)
+                .expectRow(2, 5L, "n5", 5.);
+    }
+
     @Test
     public void save_MergeByPk_DeleteUnmatchedRows_Batches() {
 
@@ -0,0 +1,55 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class TableSaver_BulkInsertIT extends BaseDbTest {
+
+    @Test
+    public void multipleStatements() {
+
+        // bigger than a single multi-row statement can hold on any DB
+        int h = 12_000;
+
+        DataFrame df = DataFrame.byColumn("id", "name", "salary").of(
+                Series.ofLong(IntStream.range(0, h).mapToLong(i -> i).toArray()),
+                Series.of(IntStream.range(0, h).mapToObj(i -> "n" + i).toArray(String[]::new)),
+                Series.ofDouble(IntStream.range(0, h).mapToDouble(i -> i * 1.5).toArray()));
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1").save(df);
+
+        DataFrame saved = connector.sqlLoader(adapter.toNativeSql("SELECT * FROM \"t1\" ORDER BY \"id\"")).load();
+
+        new DataFrameAsserts(saved, adapter.getColumnNames("t1"))
+                .expectHeight(h)
+                .expectRow(0, 0L, "n0", 0.)
+                .expectRow(333, 333L, "n333", 499.5)
+                .expectRow(h - 1, (long) h - 1, "n" + (h - 1), (h - 1) * 1.5);
+    }
+
+    @Test
+    public void nulls() {
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, null, 50_000.01,
+                2L, "n2", null,
+                3L, "", 1_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1").save(df);
+
+        DataFrame saved = connector.sqlLoader(adapter.toNativeSql("SELECT * FROM \"t1\" ORDER BY \"id\"")).load();
+
+        new DataFrameAsserts(saved, adapter.getColumnNames("t1"))
+                .expectHeight(3)
+                .expectRow(0, 1L, null, 50_000.01)
+                .expectRow(1, 2L, "n2", null)
+                .expectRow(2, 3L, "", 1_000.);
+    }
+}
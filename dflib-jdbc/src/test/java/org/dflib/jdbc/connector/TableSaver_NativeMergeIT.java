@@ -0,0 +1,127 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.junit5.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TableSaver_NativeMergeIT extends BaseDbTest {
+
+    @Test
+    public void mergeByPk() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01,
+                4L, "n4", 20_000.);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .nativeMerge()
+                .save(df);
+
+        assertEquals(3, stats.getRowSaveStatuses().size());
+        assertEquals(0, stats.getSkipCount());
+
+        adapter.getTable("t1_audit").matcher().eq("op", "INSERT").assertMatches(4);
+        adapter.getTable("t1_audit").matcher().eq("op", "UPDATE").assertMatches(1);
+
+        assertT1Contents()
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01)
+                .expectRow(3, 4L, "n4", 20_000.);
+    }
+
+    @Test
+    public void mergeByPk_Batches() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01,
+                4L, "n4", 20_000.);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .nativeMerge()
+                .batchSize(2)
+                .save(df);
+
+        assertEquals(3, stats.getRowSaveStatuses().size());
+
+        assertT1Contents()
+                .expectHeight(3)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 3L, "n3", 60_000.01)
+                .expectRow(2, 4L, "n4", 20_000.);
+    }
+
+    @Test
+    public void mergeByPk_KeysOnly() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id").of(1L, 2L);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .nativeMerge()
+                .save(df);
+
+        new SeriesAsserts(stats.getRowSaveStatuses()).expectData(SaveOp.skip, SaveOp.upsert);
+
+        assertT1Contents()
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, null, null);
+    }
+
+    @Test
+    public void mergeByPk_DeleteUnmatchedRows() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01);
+
+        adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .deleteUnmatchedRows()
+                .nativeMerge()
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 3L, "n3", 60_000.01);
+    }
+
+    private DataFrameAsserts assertT1Contents() {
+        DataFrame df = adapter.createConnector().tableLoader("t1").load().sort("id", true);
+        return new DataFrameAsserts(df, adapter.getColumnNames("t1"));
+    }
+}
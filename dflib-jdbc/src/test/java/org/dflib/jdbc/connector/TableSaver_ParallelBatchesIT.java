@@ -0,0 +1,169 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.SavePhase;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.junit5.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TableSaver_ParallelBatchesIT extends BaseDbTest {
+
+    private static DataFrame rows(long from, long to) {
+        Object[] data = new Object[(int) (to - from) * 3];
+        int i = 0;
+        for (long id = from; id < to; id++) {
+            data[i++] = id;
+            data[i++] = "n" + id;
+            data[i++] = (double) id;
+        }
+
+        return DataFrame.foldByRow("id", "name", "salary").of(data);
+    }
+
+    @Test
+    public void insert() {
+
+        DataFrame df = rows(1, 11);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .batchSize(3)
+                .parallelBatches(3)
+                .save(df);
+
+        assertEquals(10, stats.getInsertCount());
+        assertTrue(stats.getPhaseTime(SavePhase.insert).compareTo(Duration.ZERO) > 0);
+        assertTrue(stats.getTotalTime().compareTo(Duration.ZERO) > 0);
+
+        DataFrame saved = adapter.createConnector().tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, "id", "name", "salary")
+                .expectHeight(10)
+                .expectRow(0, 1L, "n1", 1.)
+                .expectRow(9, 10L, "n10", 10.);
+    }
+
+    @Test
+    public void insert_FromPoolThreads() throws Exception {
+
+        // occupying all the pool threads with the saves that would deadlock if they waited for the nested batch tasks
+        // queued to the same pool
+        int saves = ForkJoinPool.commonPool().getParallelism() + 1;
+        List<CompletableFuture<SaveStats>> futures = new ArrayList<>(saves);
+        for (int i = 0; i < saves; i++) {
+            DataFrame df = rows(i * 10 + 1, i * 10 + 11);
+            futures.add(CompletableFuture.supplyAsync(() -> adapter.createConnector()
+                    .tableSaver("t1")
+                    .batchSize(3)
+                    .parallelBatches(3)
+                    .save(df)));
+        }
+
+        for (CompletableFuture<SaveStats> f : futures) {
+            assertEquals(10, f.get(30, TimeUnit.SECONDS).getInsertCount());
+        }
+
+        DataFrame saved = adapter.createConnector().tableLoader("t1").load();
+        assertEquals(saves * 10, saved.height());
+    }
+
+    @Test
+    public void merge() {
+
+        adapter.getTable("t1")
+                .insert(2L, "n2", 2.)
+                .insert(5L, "x5", 5.)
+                .insert(9L, "x9", 9.);
+
+        DataFrame df = rows(1, 11);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .mergeByPk()
+                .batchSize(2)
+                .parallelBatches(4)
+                .save(df);
+
+        new SeriesAsserts(stats.getRowSaveStatuses()).expectData(
+                SaveOp.insert, SaveOp.skip, SaveOp.insert, SaveOp.insert, SaveOp.update,
+                SaveOp.insert, SaveOp.insert, SaveOp.insert, SaveOp.update, SaveOp.insert);
+
+        assertTrue(stats.getPhaseTime(SavePhase.read).compareTo(Duration.ZERO) > 0);
+        assertTrue(stats.getPhaseTime(SavePhase.update).compareTo(Duration.ZERO) > 0);
+
+        DataFrame saved = adapter.createConnector().tableLoader("t1").load().sort("id", true);
+        new DataFrameAsserts(saved, "id", "name", "salary")
+                .expectHeight(10)
+                .expectRow(4, 5L, "n5", 5.)
+                .expectRow(8, 9L, "n9", 9.);
+    }
+
+    @Test
+    public void deleteTableData() {
+
+        adapter.getTable("t1")
+                .insert(20L, "n20", 20.)
+                .insert(21L, "n21", 21.);
+
+        SaveStats stats = adapter.createConnector()
+                .tableSaver("t1")
+                .deleteTableData()
+                .batchSize(2)
+                .parallelBatches(2)
+                .save(rows(1, 6));
+
+        assertEquals(5, stats.getInsertCount());
+
+        DataFrame saved = adapter.createConnector().tableLoader("t1").cols("id").load().sort("id", true);
+        new DataFrameAsserts(saved, "id")
+                .expectHeight(5)
+                .expectRow(0, 1L)
+                .expectRow(4, 5L);
+    }
+
+    @Test
+    public void inTransaction() {
+
+        JdbcConnector connector = adapter.createConnector();
+
+        // parallelism is ignored within a transaction
+        SaveStats stats = Tx.newTransaction(connector).call(c -> c
+                .tableSaver("t1")
+                .batchSize(3)
+                .parallelBatches(3)
+                .save(rows(1, 8)));
+
+        assertEquals(7, stats.getInsertCount());
+        assertEquals(7, connector.tableLoader("t1").load().height());
+    }
+
+    @Test
+    public void failure() {
+
+        adapter.getTable("t1").insert(7L, "n7", 7.);
+
+        JdbcConnector connector = adapter.createConnector();
+        assertThrows(RuntimeException.class, () -> connector
+                .tableSaver("t1")
+                .batchSize(2)
+                .parallelBatches(2)
+                .save(rows(1, 11)));
+
+        // the batch with the duplicate key is rolled back
+        DataFrame batch = connector.tableLoader("t1").eq(DataFrame.foldByRow("id").of(8L)).load();
+        assertEquals(0, batch.height());
+    }
+}
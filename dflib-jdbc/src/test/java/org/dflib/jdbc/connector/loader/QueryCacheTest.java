@@ -0,0 +1,132 @@
+package org.dflib.jdbc.connector.loader;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCacheTest {
+
+    private static DataFrame df(int height) {
+        int[] data = new int[height];
+        return DataFrame.byColumn("a").of(Series.ofInt(data));
+    }
+
+    @Test
+    public void hitMiss() {
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), 1_000_000);
+
+        DataFrame df1 = cache.get("k1", new String[]{"t1"}, () -> df(2));
+        DataFrame df2 = cache.get("k1", new String[]{"t1"}, () -> df(2));
+        DataFrame df3 = cache.get("k2", new String[]{"t1"}, () -> df(2));
+
+        assertSame(df1, df2);
+        assertNotSame(df1, df3);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    @Test
+    public void ttl() {
+        AtomicLong clock = new AtomicLong();
+        QueryCache cache = new QueryCache(Duration.ofNanos(100), 1_000_000, clock::get);
+
+        DataFrame df1 = cache.get("k1", new String[0], () -> df(2));
+
+        clock.set(99);
+        assertSame(df1, cache.get("k1", new String[0], () -> df(2)));
+
+        clock.set(100);
+        assertNotSame(df1, cache.get("k1", new String[0], () -> df(2)));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void lruEviction() {
+
+        long size = QueryCache.estimateSize(df(100));
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), size * 2);
+
+        DataFrame df1 = cache.get("k1", new String[0], () -> df(100));
+        cache.get("k2", new String[0], () -> df(100));
+
+        // touch "k1", so that "k2" becomes the least recently used
+        cache.get("k1", new String[0], () -> df(100));
+        cache.get("k3", new String[0], () -> df(100));
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(size * 2, cache.getSizeBytes());
+        assertSame(df1, cache.get("k1", new String[0], () -> df(100)));
+    }
+
+    @Test
+    public void tooBig() {
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), 100);
+        cache.get("k1", new String[0], () -> df(100));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void invalidate() {
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), 1_000_000);
+
+        cache.get("k1", new String[]{"t1"}, () -> df(2));
+        cache.get("k2", new String[]{"T1", "t2"}, () -> df(2));
+        cache.get("k3", new String[]{"t2"}, () -> df(2));
+
+        cache.invalidate("t1");
+        assertEquals(1, cache.getEntryCount());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSizeBytes());
+    }
+
+    @Test
+    public void invalidate_Qualified() {
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), 1_000_000);
+
+        cache.get("k1", new String[]{"s1.t1"}, () -> df(2));
+        cache.get("k2", new String[]{"s2.t1"}, () -> df(2));
+        cache.get("k3", new String[]{"t1"}, () -> df(2));
+        cache.get("k4", new String[]{"s1.t2"}, () -> df(2));
+
+        cache.invalidate(TableFQName.forSchemaAndName("S1", "T1"));
+        assertEquals(2, cache.getEntryCount());
+
+        cache.invalidate("t1");
+        assertEquals(1, cache.getEntryCount());
+
+        cache.invalidate(TableFQName.forName("t2"));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void invalidate_DuringLoad() {
+        QueryCache cache = new QueryCache(Duration.ofMinutes(1), 1_000_000);
+
+        cache.get("k1", new String[]{"t1"}, () -> {
+            cache.invalidate("t2");
+            return df(2);
+        });
+
+        // the result may have been loaded before the concurrent change, so it is not cached
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void estimateSize() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of("abc", 1L, null, 2L);
+        assertTrue(QueryCache.estimateSize(df) > QueryCache.estimateSize(df.cols("b").select()));
+    }
+}
@@ -0,0 +1,94 @@
+package org.dflib.jdbc.connector.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetadataCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, String> loader = k -> k + loads.incrementAndGet();
+
+    @Test
+    public void get() {
+        MetadataCache<String, String> cache = new MetadataCache<>(0, 10, clock::get);
+
+        assertEquals("a1", cache.get("a", loader));
+        assertEquals("a1", cache.get("a", loader));
+        assertEquals("b2", cache.get("b", loader));
+
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(2, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void get_Ttl() {
+        MetadataCache<String, String> cache = new MetadataCache<>(100, 10, clock::get);
+
+        assertEquals("a1", cache.get("a", loader));
+
+        clock.set(99);
+        assertEquals("a1", cache.get("a", loader));
+
+        clock.set(100);
+        assertEquals("a2", cache.get("a", loader));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_MaxEntries() {
+        MetadataCache<String, String> cache = new MetadataCache<>(0, 2, clock::get);
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+
+        // "a" becomes the most recently used, so "b" is evicted
+        cache.get("a", loader);
+        cache.get("c", loader);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().getEvictions());
+        assertEquals("a1", cache.get("a", loader));
+        assertEquals("b4", cache.get("b", loader));
+    }
+
+    @Test
+    public void invalidate() {
+        MetadataCache<String, String> cache = new MetadataCache<>(0, 10, clock::get);
+
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.invalidate("a"::equals);
+
+        assertEquals(1, cache.size());
+        assertEquals("a3", cache.get("a", loader));
+        assertEquals("b2", cache.get("b", loader));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_Failure() {
+        MetadataCache<String, String> cache = new MetadataCache<>(0, 10, clock::get);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("a", k -> {
+            throw new IllegalStateException("x");
+        }));
+        assertEquals(0, cache.size());
+
+        // errors are not cached either
+        assertThrows(StackOverflowError.class, () -> cache.get("a", k -> {
+            throw new StackOverflowError();
+        }));
+        assertEquals(0, cache.size());
+
+        assertEquals("a1", cache.get("a", loader));
+    }
+}
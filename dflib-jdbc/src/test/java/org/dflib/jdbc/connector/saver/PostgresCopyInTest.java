@@ -0,0 +1,114 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.connector.statement.ValueConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PostgresCopyInTest {
+
+    private static String csv(Object value) {
+        StringBuilder out = new StringBuilder();
+        PostgresCopyIn.appendCsvValue(out, value);
+        return out.toString();
+    }
+
+    private static String csv(ValueConverter converter, Object value) {
+        return csv(converter.convert(value));
+    }
+
+    private static boolean canEncode(ValueConverter converter, Object value) {
+        return PostgresCopyIn.canEncode(converter.convert(value));
+    }
+
+    @Test
+    public void appendCsvValue_Null() {
+        assertEquals("", csv(null));
+    }
+
+    @Test
+    public void appendCsvValue_String() {
+        assertEquals("\"\"", csv(""));
+        assertEquals("\"a,b\"", csv("a,b"));
+        assertEquals("\"a\"\"b\"", csv("a\"b"));
+        assertEquals("\"a\nb\"", csv("a\nb"));
+    }
+
+    @Test
+    public void appendCsvValue_Numbers() {
+        assertEquals("5", csv(5));
+        assertEquals("-5000000000", csv(-5_000_000_000L));
+        assertEquals("1.5", csv(1.5));
+        assertEquals("12.30", csv(new BigDecimal("12.30")));
+        assertEquals("true", csv(true));
+    }
+
+    @Test
+    public void appendCsvValue_Temporal() {
+        assertEquals("2019-02-03", csv(LocalDate.of(2019, 2, 3)));
+        assertEquals("2019-02-03T01:02:05", csv(LocalDateTime.of(2019, 2, 3, 1, 2, 5)));
+    }
+
+    @Test
+    public void appendCsvValue_Bytes() {
+        assertEquals("\\x030bff", csv(new byte[]{3, 11, -1}));
+    }
+
+    @Test
+    public void appendCsvValue_Enum() {
+        assertEquals("1", csv(ValueConverter.intConverter(), E.b));
+        assertEquals("\"b\"", csv(ValueConverter.stringConverter(), E.b));
+
+        assertFalse(canEncode(ValueConverter.defaultConverter(), E.b));
+        assertThrows(IllegalArgumentException.class, () -> csv(E.b));
+    }
+
+    @Test
+    public void appendCsvValue_Month() {
+        assertEquals("2", csv(ValueConverter.intConverter(), Month.FEBRUARY));
+        assertFalse(canEncode(ValueConverter.defaultConverter(), Month.FEBRUARY));
+    }
+
+    @Test
+    public void appendCsvValue_ZonedDateTime() {
+        ZonedDateTime zdt = ZonedDateTime.of(2019, 2, 3, 1, 2, 5, 0, ZoneOffset.UTC);
+        assertFalse(canEncode(ValueConverter.timestampConverter(), zdt));
+        assertThrows(IllegalArgumentException.class, () -> csv(zdt));
+    }
+
+    @Test
+    public void appendCsvValue_UtilDate() {
+        assertFalse(canEncode(ValueConverter.timestampConverter(), new Date(0)));
+        assertThrows(IllegalArgumentException.class, () -> csv(new Date(0)));
+    }
+
+    @Test
+    public void canCopy() {
+        ValueConverter[] converters = {ValueConverter.intConverter(), ValueConverter.timestampConverter()};
+        PostgresCopyIn copyIn = new PostgresCopyIn(null, null, converters);
+
+        assertTrue(copyIn.canCopy(DataFrame.foldByRow("a", "b").of(
+                E.a, LocalDateTime.of(2019, 2, 3, 1, 2, 5),
+                null, null)));
+
+        assertFalse(copyIn.canCopy(DataFrame.foldByRow("a", "b").of(
+                E.a, LocalDateTime.of(2019, 2, 3, 1, 2, 5),
+                E.b, new Date(0))));
+    }
+
+    enum E {
+        a, b
+    }
+}
@@ -0,0 +1,250 @@
+package org.dflib.jdbc.datasource;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.Jdbc;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledDataSourceIT extends BaseDbTest {
+
+    @Test
+    public void reuse() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            try (Connection c1 = ds.getConnection()) {
+                assertEquals(1, ds.getOpenConnections());
+                assertEquals(0, ds.getIdleConnections());
+            }
+
+            assertEquals(1, ds.getOpenConnections());
+            assertEquals(1, ds.getIdleConnections());
+
+            try (Connection c2 = ds.getConnection()) {
+                assertEquals(1, ds.getOpenConnections());
+                assertEquals(0, ds.getIdleConnections());
+            }
+        }
+    }
+
+    @Test
+    public void maxConnections() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource())
+                .maxConnections(2)
+                .maxQueueWaitMs(50)
+                .build()) {
+
+            try (Connection c1 = ds.getConnection(); Connection c2 = ds.getConnection()) {
+                assertEquals(2, ds.getOpenConnections());
+                assertThrows(SQLException.class, ds::getConnection);
+            }
+
+            try (Connection c3 = ds.getConnection()) {
+                assertEquals(2, ds.getOpenConnections());
+            }
+        }
+    }
+
+    @Test
+    public void idleTimeout() throws SQLException, InterruptedException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource())
+                .minConnections(1)
+                .idleTimeoutMs(1)
+                .build()) {
+
+            Connection c1 = ds.getConnection();
+            Connection c2 = ds.getConnection();
+            c1.close();
+            Thread.sleep(5);
+            c2.close();
+
+            // c1 is evicted, and c2 is kept to satisfy "minConnections"
+            assertEquals(1, ds.getOpenConnections());
+            assertEquals(1, ds.getIdleConnections());
+        }
+    }
+
+    @Test
+    public void idleTimeout_Reaper() throws SQLException, InterruptedException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource())
+                .idleTimeoutMs(20)
+                .build()) {
+
+            ds.getConnection().close();
+            assertEquals(1, ds.getOpenConnections());
+
+            // no more pool activity, the idle connection must be closed in the background
+            for (int i = 0; i < 100 && ds.getOpenConnections() > 0; i++) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, ds.getOpenConnections());
+        }
+    }
+
+    @Test
+    public void minConnections() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource())
+                .minConnections(2)
+                .build()) {
+
+            assertEquals(2, ds.getOpenConnections());
+            assertEquals(2, ds.getIdleConnections());
+
+            try (Connection c1 = ds.getConnection()) {
+                assertEquals(2, ds.getOpenConnections());
+                assertEquals(1, ds.getIdleConnections());
+            }
+        }
+    }
+
+    @Test
+    public void closedConnection() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            Connection c1 = ds.getConnection();
+            c1.close();
+
+            assertTrue(c1.isClosed());
+            assertFalse(c1.isValid(1));
+            assertThrows(SQLException.class, c1::createStatement);
+            assertThrows(SQLException.class, () -> c1.prepareStatement("select 1 from \"t1\""));
+            assertThrows(SQLException.class, () -> c1.setAutoCommit(false));
+            assertThrows(SQLException.class, c1::commit);
+
+            // closing again is a noop
+            c1.close();
+            assertEquals(1, ds.getIdleConnections());
+        }
+    }
+
+    @Test
+    public void rollbackOnRelease() throws SQLException {
+
+        String sql = adapter.toNativeSql("insert into \"t1\" (\"id\", \"name\") values (1, 'n1')");
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            try (Connection c1 = ds.getConnection()) {
+                c1.setAutoCommit(false);
+                try (PreparedStatement st = c1.prepareStatement(sql)) {
+                    st.executeUpdate();
+                }
+
+                // closing without commit
+            }
+
+            DataFrame df = Jdbc.connector(adapter.getDb().getDataSource()).tableLoader("t1").load();
+            assertEquals(0, df.height());
+        }
+    }
+
+    @Test
+    public void restoreStateOnRelease() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            boolean autoCommit;
+            boolean readOnly;
+            int isolation;
+
+            try (Connection c1 = ds.getConnection()) {
+                autoCommit = c1.getAutoCommit();
+                readOnly = c1.isReadOnly();
+                isolation = c1.getTransactionIsolation();
+
+                c1.setAutoCommit(!autoCommit);
+                c1.setReadOnly(!readOnly);
+                c1.setTransactionIsolation(isolation == Connection.TRANSACTION_SERIALIZABLE
+                        ? Connection.TRANSACTION_READ_COMMITTED
+                        : Connection.TRANSACTION_SERIALIZABLE);
+            }
+
+            try (Connection c2 = ds.getConnection()) {
+                assertEquals(1, ds.getOpenConnections());
+                assertEquals(autoCommit, c2.getAutoCommit());
+                assertEquals(readOnly, c2.isReadOnly());
+                assertEquals(isolation, c2.getTransactionIsolation());
+            }
+        }
+    }
+
+    @Test
+    public void close() throws SQLException {
+
+        PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build();
+
+        Connection c1 = ds.getConnection();
+        Connection c2 = ds.getConnection();
+        c1.close();
+        assertEquals(2, ds.getOpenConnections());
+
+        ds.close();
+        assertEquals(1, ds.getOpenConnections());
+
+        c2.close();
+        assertEquals(0, ds.getOpenConnections());
+        assertThrows(SQLException.class, ds::getConnection);
+    }
+
+    @Test
+    public void connector() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.);
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            JdbcConnector connector = Jdbc.connector(ds);
+            for (int i = 0; i < 5; i++) {
+                DataFrame df = connector.tableLoader("t1").cols("id").load();
+                new DataFrameAsserts(df, "id").expectHeight(2);
+            }
+
+            assertEquals(1, ds.getOpenConnections());
+        }
+    }
+
+    @Test
+    public void connector_Close() {
+
+        JdbcConnector connector = Jdbc.connector(adapter.getDb().getDbUrl()).connectionPool(1, 2).build();
+        PooledDataSource ds = (PooledDataSource) connector.getDataSource();
+
+        connector.tableLoader("t1").load();
+        assertEquals(1, ds.getOpenConnections());
+
+        connector.close();
+        assertEquals(0, ds.getOpenConnections());
+        assertThrows(RuntimeException.class, () -> connector.tableLoader("t1").load());
+    }
+
+    @Test
+    public void connector_Close_ProvidedDataSource() throws SQLException {
+
+        try (PooledDataSource ds = PooledDataSource.builder(adapter.getDb().getDataSource()).build()) {
+
+            JdbcConnector connector = Jdbc.connector(ds);
+            connector.tableLoader("t1").load();
+            connector.close();
+
+            // the pool is owned by the caller and should remain open
+            connector.tableLoader("t1").load();
+            assertEquals(1, ds.getOpenConnections());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.dflib.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.dflib.BoolValueMapper;
+import org.dflib.DoubleValueMapper;
+import org.dflib.IntValueMapper;
+import org.dflib.LongValueMapper;
+import org.dflib.Series;
+import org.dflib.ValueMapper;
+import org.dflib.builder.BoolAccum;
+import org.dflib.builder.DoubleAccum;
+import org.dflib.builder.IntAccum;
+import org.dflib.builder.LongAccum;
+import org.dflib.builder.ObjectAccum;
+
+import java.io.IOException;
+
+/**
+ * Accumulates the values of a single column read from a streaming JSON parser. Numeric and boolean tokens of
+ * the primitive columns are parsed directly into primitive accumulators. Other values are read as objects and
+ * converted with the same mappers as used by the DOM-based {@link JsonLoaderWorker}, so that both produce the same
+ * data.
+ */
+abstract class JsonColumnBuilder {
+
+    static JsonColumnBuilder ofObject(ValueMapper<Object, ?> mapper) {
+        return new ObjectBuilder(mapper);
+    }
+
+    static JsonColumnBuilder ofInt(IntValueMapper<Object> mapper) {
+        return new IntBuilder(mapper);
+    }
+
+    static JsonColumnBuilder ofLong(LongValueMapper<Object> mapper) {
+        return new LongBuilder(mapper);
+    }
+
+    static JsonColumnBuilder ofDouble(DoubleValueMapper<Object> mapper) {
+        return new DoubleBuilder(mapper);
+    }
+
+    static JsonColumnBuilder ofBool(BoolValueMapper<Object> mapper) {
+        return new BoolBuilder(mapper);
+    }
+
+    /**
+     * Reads a value starting at the current parser token. For objects and arrays, the parser is left at the closing
+     * token.
+     */
+    static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                // nested objects and arrays are read as Maps and Lists
+                return parser.readValueAs(Object.class);
+        }
+    }
+
+    /**
+     * Appends a value starting at the current parser token.
+     */
+    abstract void add(JsonParser parser) throws IOException;
+
+    /**
+     * Appends a value for the row that has no such property.
+     */
+    abstract void addMissing();
+
+    abstract int size();
+
+    abstract Series<?> toSeries();
+
+    static class ObjectBuilder extends JsonColumnBuilder {
+
+        private final ValueMapper<Object, ?> mapper;
+        private final ObjectAccum<Object> accum;
+
+        ObjectBuilder(ValueMapper<Object, ?> mapper) {
+            this.mapper = mapper;
+            this.accum = new ObjectAccum<>();
+        }
+
+        @Override
+        void add(JsonParser parser) throws IOException {
+            accum.push(mapper.map(readValue(parser)));
+        }
+
+        @Override
+        void addMissing() {
+            accum.push(mapper.map(null));
+        }
+
+        @Override
+        int size() {
+            return accum.size();
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return accum.toSeries();
+        }
+    }
+
+    static class IntBuilder extends JsonColumnBuilder {
+
+        private final IntValueMapper<Object> mapper;
+        private final IntAccum accum;
+
+        IntBuilder(IntValueMapper<Object> mapper) {
+            this.mapper = mapper;
+            this.accum = new IntAccum();
+        }
+
+        @Override
+        void add(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() == JsonParser.NumberType.INT) {
+                accum.pushInt(parser.getIntValue());
+            } else {
+                accum.pushInt(mapper.map(readValue(parser)));
+            }
+        }
+
+        @Override
+        void addMissing() {
+            accum.pushInt(mapper.map(null));
+        }
+
+        @Override
+        int size() {
+            return accum.size();
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return accum.toSeries();
+        }
+    }
+
+    static class LongBuilder extends JsonColumnBuilder {
+
+        private final LongValueMapper<Object> mapper;
+        private final LongAccum accum;
+
+        LongBuilder(LongValueMapper<Object> mapper) {
+            this.mapper = mapper;
+            this.accum = new LongAccum();
+        }
+
+        @Override
+        void add(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                    && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                accum.pushLong(parser.getLongValue());
+            } else {
+                accum.pushLong(mapper.map(readValue(parser)));
+            }
+        }
+
+        @Override
+        void addMissing() {
+            accum.pushLong(mapper.map(null));
+        }
+
+        @Override
+        int size() {
+            return accum.size();
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return accum.toSeries();
+        }
+    }
+
+    static class DoubleBuilder extends JsonColumnBuilder {
+
+        private final DoubleValueMapper<Object> mapper;
+        private final DoubleAccum accum;
+
+        DoubleBuilder(DoubleValueMapper<Object> mapper) {
+            this.mapper = mapper;
+            this.accum = new DoubleAccum();
+        }
+
+        @Override
+        void add(JsonParser parser) throws IOException {
+            switch (parser.currentToken()) {
+                case VALUE_NUMBER_FLOAT:
+                case VALUE_NUMBER_INT:
+                    accum.pushDouble(parser.getDoubleValue());
+                    break;
+                default:
+                    accum.pushDouble(mapper.map(readValue(parser)));
+                    break;
+            }
+        }
+
+        @Override
+        void addMissing() {
+            accum.pushDouble(mapper.map(null));
+        }
+
+        @Override
+        int size() {
+            return accum.size();
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return accum.toSeries();
+        }
+    }
+
+    static class BoolBuilder extends JsonColumnBuilder {
+
+        private final BoolValueMapper<Object> mapper;
+        private final BoolAccum accum;
+
+        BoolBuilder(BoolValueMapper<Object> mapper) {
+            this.mapper = mapper;
+            this.accum = new BoolAccum();
+        }
+
+        @Override
+        void add(JsonParser parser) throws IOException {
+            switch (parser.currentToken()) {
+                case VALUE_TRUE:
+                    accum.pushBool(true);
+                    break;
+                case VALUE_FALSE:
+                    accum.pushBool(false);
+                    break;
+                default:
+                    accum.pushBool(mapper.map(readValue(parser)));
+                    break;
+            }
+        }
+
+        @Override
+        void addMissing() {
+            accum.pushBool(mapper.map(null));
+        }
+
+        @Override
+        int size() {
+            return accum.size();
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return accum.toSeries();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.dflib.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -7,32 +10,53 @@ import com.jayway.jsonpath.Option;
 import org.dflib.BoolValueMapper;
 import org.dflib.DataFrame;
 import org.dflib.DoubleValueMapper;
+import org.dflib.Environment;
 import org.dflib.Extractor;
+import org.dflib.Index;
 import org.dflib.IntValueMapper;
 import org.dflib.LongValueMapper;
+import org.dflib.Series;
 import org.dflib.ValueMapper;
+import org.dflib.concat.SeriesConcat;
+import org.dflib.concurrent.Futures;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * @since 0.8
  */
 public class JsonLoader {
 
+    // the smallest NDJSON line range worth parsing in a separate task
+    private static final int MIN_RANGE_SIZE = 1024 * 1024;
+
+    // allows the streaming parsers to read nested objects and arrays as Maps and Lists
+    private static final JsonFactory STREAM_FACTORY = new MappingJsonFactory();
+
     private final Set<Option> options;
     private final Map<String, Extractor<Map<String, Object>, ?>> extractorPresets;
+    private final Map<String, Supplier<JsonColumnBuilder>> builderPresets;
 
     private String pathExpression;
+    private boolean streaming;
+    private boolean ndjson;
+    private boolean parallelLines;
 
     public JsonLoader() {
         this.pathExpression = "$.*";
@@ -40,6 +64,7 @@ public class JsonLoader {
         options.add(Option.ALWAYS_RETURN_LIST);
 
         this.extractorPresets = new HashMap<>();
+        this.builderPresets = new HashMap<>();
     }
 
     /**
@@ -55,6 +80,47 @@ public class JsonLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to read JSON as a stream of tokens, instead of parsing the entire document into
+     * an in-memory tree before extracting the columns. Row properties are resolved to the columns as they are read,
+     * and the numbers and booleans of the primitive columns (see {@link #intColumn(String)},
+     * {@link #longColumn(String)}, {@link #doubleColumn(String)} and {@link #boolColumn(String)}) are parsed directly
+     * into primitive arrays, so the memory use is close to the size of the resulting DataFrame. Only the "$.*"
+     * (default) and "$" path expressions are supported in this mode.
+     *
+     * @return this loader
+     * @since 1.0.0-M23
+     */
+    public JsonLoader streaming() {
+        this.streaming = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to read "newline-delimited JSON" (a.k.a. "JSON Lines"), with each line containing
+     * a single row object. The data is read as a stream of tokens (see {@link #streaming()}), and the path expression
+     * is ignored.
+     *
+     * @return this loader
+     * @since 1.0.0-M23
+     */
+    public JsonLoader ndjson() {
+        this.ndjson = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to split the "newline-delimited JSON" input into line ranges, and parse them in parallel
+     * using {@link Environment#threadPool()}. Only applies to the {@link #ndjson()} data loaded from a String.
+     *
+     * @return this loader
+     * @since 1.0.0-M23
+     */
+    public JsonLoader parallelLines() {
+        this.parallelLines = true;
+        return this;
+    }
+
     public JsonLoader nullsForMissingLeafs() {
         this.options.add(Option.DEFAULT_PATH_LEAF_TO_NULL);
         return this;
@@ -65,6 +131,7 @@ public class JsonLoader {
      */
     public JsonLoader columnType(String column, ValueMapper<Object, ?> mapper) {
         extractorPresets.put(column, customExtractor(column, mapper));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(mapper));
         return this;
     }
 
@@ -73,6 +140,7 @@ public class JsonLoader {
      */
     public JsonLoader boolColumn(String column) {
         extractorPresets.put(column, boolExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofBool(BoolValueMapper.fromObject()));
         return this;
     }
 
@@ -81,6 +149,7 @@ public class JsonLoader {
      */
     public JsonLoader intColumn(String column) {
         extractorPresets.put(column, intExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofInt(IntValueMapper.fromObject()));
         return this;
     }
 
@@ -89,6 +158,7 @@ public class JsonLoader {
      */
     public JsonLoader intColumn(String column, int forNull) {
         extractorPresets.put(column, intExtractor(column, forNull));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofInt(IntValueMapper.fromObject(forNull)));
         return this;
     }
 
@@ -97,6 +167,7 @@ public class JsonLoader {
      */
     public JsonLoader longColumn(String column) {
         extractorPresets.put(column, longExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofLong(LongValueMapper.fromObject()));
         return this;
     }
 
@@ -105,6 +176,7 @@ public class JsonLoader {
      */
     public JsonLoader longColumn(String column, long forNull) {
         extractorPresets.put(column, longExtractor(column, forNull));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofLong(LongValueMapper.fromObject(forNull)));
         return this;
     }
 
@@ -113,6 +185,7 @@ public class JsonLoader {
      */
     public JsonLoader doubleColumn(String column) {
         extractorPresets.put(column, doubleExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofDouble(DoubleValueMapper.fromObject()));
         return this;
     }
 
@@ -121,6 +194,7 @@ public class JsonLoader {
      */
     public JsonLoader doubleColumn(String column, double forNull) {
         extractorPresets.put(column, doubleExtractor(column, forNull));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofDouble(DoubleValueMapper.fromObject(forNull)));
         return this;
     }
 
@@ -129,6 +203,7 @@ public class JsonLoader {
      */
     public JsonLoader dateColumn(String column) {
         extractorPresets.put(column, dateExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToDate())));
         return this;
     }
 
@@ -137,6 +212,7 @@ public class JsonLoader {
      */
     public JsonLoader dateColumn(String column, DateTimeFormatter formatter) {
         extractorPresets.put(column, dateExtractor(column, formatter));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToDate(formatter))));
         return this;
     }
 
@@ -145,6 +221,7 @@ public class JsonLoader {
      */
     public JsonLoader timeColumn(String column) {
         extractorPresets.put(column, timeExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToTime())));
         return this;
     }
 
@@ -153,6 +230,7 @@ public class JsonLoader {
      */
     public JsonLoader timeColumn(String column, DateTimeFormatter formatter) {
         extractorPresets.put(column, timeExtractor(column, formatter));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToTime(formatter))));
         return this;
     }
 
@@ -161,6 +239,7 @@ public class JsonLoader {
      */
     public JsonLoader dateTimeColumn(String column) {
         extractorPresets.put(column, dateTimeExtractor(column));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToDateTime())));
         return this;
     }
 
@@ -169,20 +248,184 @@ public class JsonLoader {
      */
     public JsonLoader dateTimeColumn(String column, DateTimeFormatter formatter) {
         extractorPresets.put(column, dateTimeExtractor(column, formatter));
+        builderPresets.put(column, () -> JsonColumnBuilder.ofObject(stringMapper(ValueMapper.stringToDateTime(formatter))));
         return this;
     }
 
 
     public DataFrame load(String json) {
+
+        if (ndjson && parallelLines) {
+            return loadLineRanges(json, rangeCount(json.length()));
+        }
+
+        if (ndjson || streaming) {
+            try (JsonParser parser = STREAM_FACTORY.createParser(json)) {
+                return createStreamWorker().load(parser);
+            } catch (IOException e) {
+                throw new RuntimeException("Error parsing JSON: " + e.getMessage(), e);
+            }
+        }
+
         DocumentContext context = JsonPath.parse(json, buildJSONPathConfiguration());
         return load(context);
     }
 
     public DataFrame load(Reader reader) {
+
+        if (ndjson || streaming) {
+            try (JsonParser parser = STREAM_FACTORY.createParser(reader)) {
+                return createStreamWorker().load(parser);
+            } catch (IOException e) {
+                throw new RuntimeException("Error parsing JSON: " + e.getMessage(), e);
+            }
+        }
+
         DocumentContext context = JsonPath.parse(reader, buildJSONPathConfiguration());
         return load(context);
     }
 
+    /**
+     * Loads the data as a sequence of DataFrames with up to "batchSize" rows each, passing each one to the consumer
+     * as soon as it is read. Only one batch is held in memory at a time, so this method can be used to process
+     * the inputs that would not fit in memory as a single DataFrame. The data is always read as a stream of tokens
+     * (see {@link #streaming()}). Each batch only includes the columns found in its rows. If the input has no rows,
+     * the consumer is not invoked.
+     *
+     * @throws IllegalArgumentException if "batchSize" is not positive
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(Reader reader, int batchSize, Consumer<DataFrame> batchConsumer) {
+        checkBatchSize(batchSize);
+
+        try (JsonParser parser = STREAM_FACTORY.createParser(reader)) {
+            createStreamWorker().loadBatches(parser, batchSize, batchConsumer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @see #loadBatches(Reader, int, Consumer)
+     * @since 1.0.0-M23
+     */
+    public void loadBatches(String json, int batchSize, Consumer<DataFrame> batchConsumer) {
+        checkBatchSize(batchSize);
+
+        try (JsonParser parser = STREAM_FACTORY.createParser(json)) {
+            createStreamWorker().loadBatches(parser, batchSize, batchConsumer);
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing JSON: " + e.getMessage(), e);
+        }
+    }
+
+    static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+    }
+
+    // package-private to allow testing the ranges independently of the number of CPUs
+    DataFrame loadLineRanges(String json, int ranges) {
+
+        int len = json.length();
+        if (ranges < 2) {
+            return loadLineRange(json, 0, len);
+        }
+
+        int[] bounds = new int[ranges + 1];
+        for (int i = 1; i < ranges; i++) {
+
+            // each range ends after a line break, so that no line is split between the ranges
+            int end = json.indexOf('\n', Math.max(bounds[i - 1], (int) ((long) len * i / ranges)));
+            bounds[i] = end >= 0 ? end + 1 : len;
+        }
+        bounds[ranges] = len;
+
+        List<Callable<DataFrame>> tasks = new ArrayList<>(ranges);
+        for (int i = 0; i < ranges; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            tasks.add(() -> loadLineRange(json, from, to));
+        }
+
+        DataFrame[] parts = Futures.invokeAll(Environment.commonEnv().threadPool(), tasks).toArray(new DataFrame[0]);
+        return assemble(parts);
+    }
+
+    private DataFrame loadLineRange(String json, int from, int to) {
+        try (JsonParser parser = STREAM_FACTORY.createParser(json.substring(from, to))) {
+            return new JsonStreamLoaderWorker(JsonStreamLoaderWorker.JsonRows.ofRootValues(), builderPresets)
+                    .load(parser);
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing JSON: " + e.getMessage(), e);
+        }
+    }
+
+    protected JsonStreamLoaderWorker createStreamWorker() {
+
+        JsonStreamLoaderWorker.JsonRows rows;
+        if (ndjson) {
+            rows = JsonStreamLoaderWorker.JsonRows.ofRootValues();
+        } else {
+            switch (pathExpression) {
+                case "$.*":
+                    rows = JsonStreamLoaderWorker.JsonRows.ofRootElements();
+                    break;
+                case "$":
+                    rows = JsonStreamLoaderWorker.JsonRows.ofRoot();
+                    break;
+                default:
+                    throw new IllegalStateException(
+                            "Only '$.*' and '$' path expressions are supported when streaming JSON: " + pathExpression);
+            }
+        }
+
+        return new JsonStreamLoaderWorker(rows, builderPresets);
+    }
+
+    // the ranges may have different sets of columns, so the result includes the columns from all the ranges in the
+    // order of their first appearance, with the rows of the ranges that don't have a column filled with nulls
+    private DataFrame assemble(DataFrame[] parts) {
+
+        Set<String> labels = new LinkedHashSet<>();
+        for (DataFrame p : parts) {
+            for (String label : p.getColumnsIndex()) {
+                labels.add(label);
+            }
+        }
+
+        Index columns = Index.of(labels.toArray(new String[0]));
+        int len = parts.length;
+
+        List<Series<?>> concatenated = new ArrayList<>(columns.size());
+        for (String label : columns) {
+            Series<?>[] columnParts = new Series[len];
+            for (int i = 0; i < len; i++) {
+                columnParts[i] = parts[i].getColumnsIndex().contains(label)
+                        ? parts[i].getColumn(label)
+                        : missingColumn(label, parts[i].height());
+            }
+
+            concatenated.add(SeriesConcat.primitiveConcat(columnParts));
+        }
+
+        return DataFrame.byColumn(columns).ofIterable(concatenated);
+    }
+
+    private Series<?> missingColumn(String label, int height) {
+        JsonColumnBuilder builder = JsonStreamLoaderWorker.createEmptyBuilder(builderPresets, label);
+        for (int i = 0; i < height; i++) {
+            builder.addMissing();
+        }
+
+        return builder.toSeries();
+    }
+
+    private static int rangeCount(int length) {
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), length / MIN_RANGE_SIZE));
+    }
+
     protected Configuration buildJSONPathConfiguration() {
         return Configuration.builder().options(options).build();
     }
@@ -258,6 +501,10 @@ public class JsonLoader {
         return Extractor.$col(m -> mapper.map(getString(m, name)));
     }
 
+    private static ValueMapper<Object, ?> stringMapper(ValueMapper<String, ?> mapper) {
+        return v -> mapper.map(v != null ? v.toString() : null);
+    }
+
     private static Object getObject(Map<String, Object> map, String key) {
         if (map == null) {
             return null;
@@ -0,0 +1,190 @@
+package org.dflib.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.dflib.ColumnDataFrame;
+import org.dflib.DataFrame;
+import org.dflib.Index;
+import org.dflib.Series;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Loads a DataFrame from a streaming JSON parser without building an intermediate document. Rows are read one at
+ * a time, and their properties are resolved to the column builders as they are encountered.
+ */
+class JsonStreamLoaderWorker {
+
+    private static final String DEFAULT_SCALAR_COLUMN = "_val";
+
+    private final JsonRows rows;
+    private final Map<String, Supplier<JsonColumnBuilder>> builderPresets;
+    private final LinkedHashMap<String, JsonColumnBuilder> builders;
+    private int height;
+
+    JsonStreamLoaderWorker(JsonRows rows, Map<String, Supplier<JsonColumnBuilder>> builderPresets) {
+        this.rows = rows;
+        this.builderPresets = builderPresets;
+        this.builders = new LinkedHashMap<>();
+    }
+
+    DataFrame load(JsonParser parser) throws IOException {
+        while (rows.next(parser)) {
+            loadRow(parser);
+        }
+
+        return toDataFrame();
+    }
+
+    void loadBatches(JsonParser parser, int batchSize, Consumer<DataFrame> batchConsumer) throws IOException {
+        JsonLoader.checkBatchSize(batchSize);
+
+        while (rows.next(parser)) {
+            loadRow(parser);
+
+            if (height == batchSize) {
+                batchConsumer.accept(toDataFrame());
+                builders.clear();
+                height = 0;
+            }
+        }
+
+        if (height > 0) {
+            batchConsumer.accept(toDataFrame());
+        }
+    }
+
+    protected void loadRow(JsonParser parser) throws IOException {
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String column = parser.currentName();
+                parser.nextToken();
+
+                JsonColumnBuilder builder = builders.computeIfAbsent(column, this::createBuilder);
+
+                // on duplicate property names, keeping the first value
+                if (builder.size() > height) {
+                    parser.skipChildren();
+                } else {
+                    builder.add(parser);
+                }
+            }
+        } else {
+            builders.computeIfAbsent(DEFAULT_SCALAR_COLUMN, this::createBuilder).add(parser);
+        }
+
+        height++;
+
+        // columns not in this record must be filled with nulls
+        for (JsonColumnBuilder b : builders.values()) {
+            if (b.size() < height) {
+                b.addMissing();
+            }
+        }
+    }
+
+    protected DataFrame toDataFrame() {
+        Index columnsIndex = Index.of(builders.keySet().toArray(new String[0]));
+        int w = builders.size();
+        Series[] series = new Series[w];
+
+        for (int i = 0; i < w; i++) {
+            series[i] = builders.get(columnsIndex.get(i)).toSeries();
+        }
+
+        return new ColumnDataFrame(null, columnsIndex, series);
+    }
+
+    protected JsonColumnBuilder createBuilder(String name) {
+        JsonColumnBuilder builder = createEmptyBuilder(builderPresets, name);
+        for (int i = 0; i < height; i++) {
+            builder.addMissing();
+        }
+
+        return builder;
+    }
+
+    static JsonColumnBuilder createEmptyBuilder(Map<String, Supplier<JsonColumnBuilder>> builderPresets, String name) {
+        Supplier<JsonColumnBuilder> preset = builderPresets.get(name);
+        return preset != null ? preset.get() : JsonColumnBuilder.ofObject(v -> v);
+    }
+
+    /**
+     * Positions the parser at the first token of each row of the document.
+     */
+    static abstract class JsonRows {
+
+        /**
+         * Treats each top-level value of the input as a row, as in the "newline-delimited JSON" format.
+         */
+        static JsonRows ofRootValues() {
+            return new JsonRows() {
+                @Override
+                boolean next(JsonParser parser) throws IOException {
+                    return parser.nextToken() != null;
+                }
+            };
+        }
+
+        /**
+         * Treats the top-level object as a single row. Corresponds to the "$" path expression.
+         */
+        static JsonRows ofRoot() {
+            return new JsonRows() {
+
+                private boolean done;
+
+                @Override
+                boolean next(JsonParser parser) throws IOException {
+                    if (done) {
+                        return false;
+                    }
+
+                    done = true;
+                    return parser.nextToken() != null;
+                }
+            };
+        }
+
+        /**
+         * Treats the elements of the top-level array or the property values of the top-level object as rows.
+         * Corresponds to the "$.*" path expression.
+         */
+        static JsonRows ofRootElements() {
+            return new JsonRows() {
+
+                private JsonToken container;
+
+                @Override
+                boolean next(JsonParser parser) throws IOException {
+
+                    if (container == null) {
+                        container = parser.nextToken();
+                        if (container != JsonToken.START_ARRAY && container != JsonToken.START_OBJECT) {
+                            return false;
+                        }
+                    }
+
+                    JsonToken t = parser.nextToken();
+                    if (container == JsonToken.START_ARRAY) {
+                        return t != null && t != JsonToken.END_ARRAY;
+                    }
+
+                    if (t != JsonToken.FIELD_NAME) {
+                        return false;
+                    }
+
+                    parser.nextToken();
+                    return true;
+                }
+            };
+        }
+
+        abstract boolean next(JsonParser parser) throws IOException;
+    }
+}
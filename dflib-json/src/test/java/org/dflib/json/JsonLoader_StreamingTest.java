@@ -0,0 +1,198 @@
+package org.dflib.json;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonLoader_StreamingTest {
+
+    @Test
+    public void listOfObjects_Sparse() {
+        String json = "[{\"a\":1, \"b\":\"B\"},{\"b\":\"C\"},{\"a\":3, \"c\":\"D\"}]";
+
+        DataFrame df = Json.loader().streaming().load(json);
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 1, "B", null)
+                .expectRow(1, null, "C", null)
+                .expectRow(2, 3, null, "D");
+    }
+
+    @Test
+    public void objectProperties() {
+        String json = "{\"a\": {\"x\":1, \"y\":2}, \"b\":{\"x\":3, \"y\":4}}";
+        DataFrame df = Json.loader().streaming().load(new StringReader(json));
+        new DataFrameAsserts(df, "x", "y")
+                .expectHeight(2)
+                .expectRow(0, 1, 2)
+                .expectRow(1, 3, 4);
+    }
+
+    @Test
+    public void object_RootPath() {
+        String json = "{\"a\":1, \"b\":\"B\"}";
+        DataFrame df = Json.loader().streaming().pathExpression("$").load(json);
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(1)
+                .expectRow(0, 1, "B");
+    }
+
+    @Test
+    public void listOfScalars() {
+        DataFrame df = Json.loader().streaming().load("[1, \"x\", null]");
+        new DataFrameAsserts(df, "_val")
+                .expectHeight(3)
+                .expectRow(0, 1)
+                .expectRow(1, "x")
+                .expectRow(2, (Object) null);
+    }
+
+    @Test
+    public void listOfNestedObjects() {
+        String json = "[{\"a\":1, \"b\":{\"x\":1, \"y\":[2, 3]}},{\"a\":2, \"b\":null}]";
+        DataFrame df = Json.loader().streaming().load(json);
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, Map.of("x", 1, "y", List.of(2, 3)))
+                .expectRow(1, 2, null);
+    }
+
+    @Test
+    public void unsupportedPath() {
+        assertThrows(IllegalStateException.class, () -> Json.loader().streaming().pathExpression("$.*.a").load("[]"));
+    }
+
+    @Test
+    public void primitiveColumns() {
+        String json = "[{\"i\":1, \"l\":10000000000, \"d\":1.5, \"b\":true}," +
+                "{\"i\":\"2\", \"l\":2, \"d\":2, \"b\":false}," +
+                "{\"l\":null, \"b\":\"true\"}]";
+
+        DataFrame df = Json.loader()
+                .streaming()
+                .intColumn("i", -1)
+                .longColumn("l", -2L)
+                .doubleColumn("d", -3.)
+                .boolColumn("b")
+                .load(json);
+
+        assertInstanceOf(IntSeries.class, df.getColumn("i"));
+        assertInstanceOf(LongSeries.class, df.getColumn("l"));
+        assertInstanceOf(DoubleSeries.class, df.getColumn("d"));
+        assertInstanceOf(BooleanSeries.class, df.getColumn("b"));
+
+        new DataFrameAsserts(df, "i", "l", "d", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, 10000000000L, 1.5, true)
+                .expectRow(1, 2, 2L, 2., false)
+                .expectRow(2, -1, -2L, -3., true);
+    }
+
+    @Test
+    public void dateColumn() {
+        String json = "[{\"a\":\"2024-01-02\"},{\"a\":null}]";
+        DataFrame df = Json.loader().streaming().dateColumn("a").load(json);
+        new DataFrameAsserts(df, "a")
+                .expectHeight(2)
+                .expectRow(0, LocalDate.of(2024, 1, 2))
+                .expectRow(1, (Object) null);
+    }
+
+    @Test
+    public void ndjson() {
+        String json = "{\"a\":1, \"b\":\"B\"}\n" +
+                "\n" +
+                "{\"b\":\"C\"}\r\n" +
+                "{\"a\":3, \"c\":\"D\"}";
+
+        DataFrame df = Json.loader().ndjson().intColumn("a", 0).load(new StringReader(json));
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 1, "B", null)
+                .expectRow(1, 0, "C", null)
+                .expectRow(2, 3, null, "D");
+    }
+
+    @Test
+    public void loadBatches() {
+        String json = "[{\"a\":1},{\"a\":2},{\"a\":3},{\"a\":4, \"b\":\"x\"},{\"a\":5}]";
+
+        List<DataFrame> batches = new ArrayList<>();
+        Json.loader().intColumn("a").loadBatches(json, 2, batches::add);
+
+        assertEquals(3, batches.size());
+        new DataFrameAsserts(batches.get(0), "a").expectHeight(2).expectRow(0, 1).expectRow(1, 2);
+        new DataFrameAsserts(batches.get(1), "a", "b").expectHeight(2).expectRow(0, 3, null).expectRow(1, 4, "x");
+        new DataFrameAsserts(batches.get(2), "a").expectHeight(1).expectRow(0, 5);
+        assertInstanceOf(IntSeries.class, batches.get(2).getColumn("a"));
+    }
+
+    @Test
+    public void loadBatches_Empty() {
+        List<DataFrame> batches = new ArrayList<>();
+        Json.loader().ndjson().loadBatches(new StringReader(""), 2, batches::add);
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    public void loadBatches_InvalidBatchSize() {
+        List<DataFrame> batches = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> Json.loader().loadBatches("[{\"a\":1}]", 0, batches::add));
+        assertThrows(IllegalArgumentException.class, () -> Json.loader().loadBatches(new StringReader("[]"), -1, batches::add));
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    public void loadLineRanges() {
+        int h = 1_000;
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < h; i++) {
+            json.append("{\"i\":").append(i).append(", \"s\":\"s").append(i).append("\"");
+
+            // a column only present in the last rows
+            if (i >= h - 3) {
+                json.append(", \"x\":").append(i);
+            }
+
+            json.append("}\n");
+        }
+
+        for (int ranges : new int[]{1, 2, 7, 2_000}) {
+            DataFrame df = Json.loader()
+                    .ndjson()
+                    .intColumn("i")
+                    .loadLineRanges(json.toString(), ranges);
+
+            assertInstanceOf(IntSeries.class, df.getColumn("i"), "Ranges: " + ranges);
+            new DataFrameAsserts(df, "i", "s", "x")
+                    .expectHeight(h)
+                    .expectRow(0, 0, "s0", null)
+                    .expectRow(500, 500, "s500", null)
+                    .expectRow(h - 1, h - 1, "s" + (h - 1), h - 1);
+        }
+    }
+
+    @Test
+    public void parallelLines() {
+        DataFrame df = Json.loader().ndjson().parallelLines().load("{\"a\":1}\n{\"a\":2}\n");
+        new DataFrameAsserts(df, "a")
+                .expectHeight(2)
+                .expectRow(0, 1)
+                .expectRow(1, 2);
+    }
+}
@@ -0,0 +1,107 @@
+package org.dflib.parquet;
+
+import org.dflib.row.RowProxy;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utilities for Hive-style partition directory names, i.e. "key=value" path segments, such as
+ * "dt=2026-10-01/region=eu". Special characters of the values are percent-encoded the same way Hive does it.
+ */
+class HivePartitions {
+
+    /**
+     * A directory name value that corresponds to a null partition value.
+     */
+    static final String NULL_VALUE = "__HIVE_DEFAULT_PARTITION__";
+
+    private static final String ESCAPED_CHARS = "\"#%'*/:=?\\{[]^";
+
+    /**
+     * Returns a relative path of the partition directory of the row.
+     */
+    static String path(RowProxy row, String[] partitionCols) {
+
+        StringBuilder path = new StringBuilder();
+        for (String c : partitionCols) {
+            if (path.length() > 0) {
+                path.append('/');
+            }
+
+            Object value = row.get(c);
+            path.append(escape(c)).append('=').append(value != null ? escape(value.toString()) : NULL_VALUE);
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * Parses partition keys and raw values from the "key=value" segments of a relative directory path. Segments that
+     * are not in the "key=value" format are ignored. Null partitions are returned as null values.
+     */
+    static Map<String, String> parse(Path relativeDir) {
+
+        Map<String, String> partitions = new LinkedHashMap<>();
+        if (relativeDir == null) {
+            return partitions;
+        }
+
+        for (Path segment : relativeDir) {
+            String s = segment.toString();
+            int eq = s.indexOf('=');
+            if (eq > 0) {
+                String value = s.substring(eq + 1);
+                partitions.put(unescape(s.substring(0, eq)), NULL_VALUE.equals(value) ? null : unescape(value));
+            }
+        }
+
+        return partitions;
+    }
+
+    static String escape(String value) {
+
+        StringBuilder escaped = null;
+        int len = value.length();
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < ' ' || c == 127 || ESCAPED_CHARS.indexOf(c) >= 0) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(len + 8).append(value, 0, i);
+                }
+
+                escaped.append('%').append(String.format("%02X", (int) c));
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+
+        return escaped != null ? escaped.toString() : value;
+    }
+
+    static String unescape(String value) {
+
+        if (value.indexOf('%') < 0) {
+            return value;
+        }
+
+        StringBuilder unescaped = new StringBuilder(value.length());
+        int len = value.length();
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '%' && i + 2 < len && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+                unescaped.append((char) Integer.parseInt(value.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                unescaped.append(c);
+            }
+        }
+
+        return unescaped.toString();
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f');
+    }
+}
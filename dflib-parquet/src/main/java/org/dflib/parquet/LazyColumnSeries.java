@@ -0,0 +1,113 @@
+package org.dflib.parquet;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.ObjectSeries;
+
+import java.util.function.Supplier;
+
+/**
+ * A placeholder for a Parquet column that is decoded from the file on first access. The decoded Series is cached, so
+ * the file is read at most once per column. The size of the Series is known upfront from the file metadata.
+ */
+class LazyColumnSeries<T> extends ObjectSeries<T> {
+
+    private final int size;
+    private volatile Supplier<Series<T>> source;
+    private volatile Series<T> materialized;
+
+    LazyColumnSeries(int size, Supplier<Series<T>> source) {
+        super(Object.class);
+        this.size = size;
+        this.source = source;
+    }
+
+    boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        return materialize().get(index);
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        materialize().copyTo(to, fromOffset, toOffset, len);
+    }
+
+    // the real type of the column is only known after decoding it
+    @Override
+    public Class<?> getNominalType() {
+        return materialize().getNominalType();
+    }
+
+    @Override
+    public Class<?> getInferredType() {
+        return materialize().getInferredType();
+    }
+
+    @Override
+    public BooleanSeries castAsBool() {
+        return materialize().castAsBool();
+    }
+
+    @Override
+    public DoubleSeries castAsDouble() {
+        return materialize().castAsDouble();
+    }
+
+    @Override
+    public IntSeries castAsInt() {
+        return materialize().castAsInt();
+    }
+
+    @Override
+    public LongSeries castAsLong() {
+        return materialize().castAsLong();
+    }
+
+    @Override
+    public Series<T> materialize() {
+        if (materialized == null) {
+            synchronized (this) {
+                if (materialized == null) {
+                    materialized = source.get();
+
+                    // reset the source reference, as it is no longer needed
+                    source = null;
+                }
+            }
+        }
+
+        return materialized;
+    }
+
+    @Override
+    public Series<T> fillNulls(T value) {
+        return materialize().fillNulls(value);
+    }
+
+    @Override
+    public Series<T> fillNullsFromSeries(Series<? extends T> values) {
+        return materialize().fillNullsFromSeries(values);
+    }
+
+    @Override
+    public Series<T> fillNullsBackwards() {
+        return materialize().fillNullsBackwards();
+    }
+
+    @Override
+    public Series<T> fillNullsForward() {
+        return materialize().fillNullsForward();
+    }
+}
@@ -55,6 +55,15 @@ public class Parquet {
         return new ParquetLoader();
     }
 
+    /**
+     * Returns a loader of a Hive-style partitioned dataset of Parquet files, combined in a single DataFrame.
+     *
+     * @since 1.0.0-M23
+     */
+    public static ParquetDatasetLoader datasetLoader() {
+        return new ParquetDatasetLoader();
+    }
+
     public static ParquetSchemaLoader schemaLoader() {
         return new ParquetSchemaLoader();
     }
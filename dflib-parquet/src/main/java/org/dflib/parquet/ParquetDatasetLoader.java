@@ -0,0 +1,269 @@
+package org.dflib.parquet;
+
+import org.dflib.Condition;
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.Index;
+import org.dflib.Series;
+import org.dflib.ValueMapper;
+import org.dflib.concat.SeriesConcat;
+import org.dflib.concurrent.Futures;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A loader of a Hive-style partitioned Parquet dataset, i.e. a directory tree of Parquet files with the partition
+ * values encoded in the "key=value" subdirectory names, such as "dt=2026-10-01/region=eu/part-0.parquet". Partition
+ * values are parsed from the paths and appended to the result as extra columns. The directories can be pruned with a
+ * condition on the partition columns, in which case the files of the non-matching partitions are never opened. The
+ * remaining files are loaded in parallel using {@link Environment#threadPool()} and assembled in the order of their
+ * paths, preserving primitive columns.
+ *
+ * @see ParquetSaver#partitionBy(String...)
+ * @since 1.0.0-M23
+ */
+public class ParquetDatasetLoader {
+
+    private static final String DEFAULT_GLOB = "*.parquet";
+
+    private ParquetLoader fileLoader;
+    private String glob;
+    private final Map<String, ValueMapper<String, ?>> partitionMappers;
+    private Condition partitionFilter;
+
+    public ParquetDatasetLoader() {
+        this.fileLoader = new ParquetLoader();
+        this.glob = DEFAULT_GLOB;
+        this.partitionMappers = new HashMap<>();
+    }
+
+    /**
+     * Sets a loader used to load each individual file of the dataset. Its column and row configuration is shared by
+     * all the files, and may only reference the columns stored in the files, not the partition columns. Multiple files
+     * are already loaded in parallel, so the loader "parallelRowGroups" setting only applies to single-file datasets.
+     *
+     * @return this loader instance
+     */
+    public ParquetDatasetLoader fileLoader(ParquetLoader fileLoader) {
+        this.fileLoader = Objects.requireNonNull(fileLoader);
+        return this;
+    }
+
+    /**
+     * Sets a "glob" pattern to select the dataset files by name (see
+     * {@link java.nio.file.FileSystem#getPathMatcher(String)} for the syntax). The default pattern is "*.parquet".
+     *
+     * @return this loader instance
+     */
+    public ParquetDatasetLoader glob(String glob) {
+        this.glob = Objects.requireNonNull(glob);
+        return this;
+    }
+
+    /**
+     * Sets a converter of the partition column values parsed from the directory names. By default, partition values
+     * are loaded as Strings. Null partitions are loaded as nulls without calling the mapper.
+     *
+     * @return this loader instance
+     */
+    public ParquetDatasetLoader partitionCol(String column, ValueMapper<String, ?> mapper) {
+        this.partitionMappers.put(column, Objects.requireNonNull(mapper));
+        return this;
+    }
+
+    /**
+     * Configures the loader to only load the partitions matching the condition. The condition is evaluated against
+     * the partition values parsed from the directory names (converted by the {@link #partitionCol(String, ValueMapper)}
+     * mappers), before any files are opened.
+     *
+     * @param condition a condition over the partition columns referenced by name
+     * @return this loader instance
+     */
+    public ParquetDatasetLoader partitions(Condition condition) {
+        this.partitionFilter = Objects.requireNonNull(condition);
+        return this;
+    }
+
+    public DataFrame load(String dirPath) {
+        return load(new File(dirPath));
+    }
+
+    public DataFrame load(File dir) {
+        return load(dir.toPath());
+    }
+
+    /**
+     * Loads all the files under the specified dataset root directory that match the loader "glob" pattern.
+     */
+    public DataFrame load(Path dir) {
+
+        List<Path> files = listFiles(dir);
+        DataFrame partitions = partitions(dir, files);
+
+        if (partitionFilter != null && partitions.width() > 0) {
+            int[] matched = partitionFilter.eval(partitions).indexTrue().toIntArray();
+
+            List<Path> matchedFiles = new ArrayList<>(matched.length);
+            for (int i : matched) {
+                matchedFiles.add(files.get(i));
+            }
+
+            files = matchedFiles;
+            partitions = partitions.rows(matched).select();
+        }
+
+        if (files.isEmpty()) {
+            return DataFrame.empty(partitions.getColumnsIndex());
+        }
+
+        DataFrame[] parts = loadFiles(files);
+        return assemble(files, parts, partitions);
+    }
+
+    private List<Path> listFiles(Path dir) {
+
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            files = paths
+                    .filter(p -> Files.isRegularFile(p) && matcher.matches(p.getFileName()))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading directory: " + dir, e);
+        }
+
+        // directory listing order is undefined, so sort the files to make the row order predictable
+        files.sort(null);
+        return files;
+    }
+
+    private DataFrame partitions(Path dir, List<Path> files) {
+
+        int len = files.size();
+        List<String> keys = null;
+        Object[][] values = null;
+
+        for (int i = 0; i < len; i++) {
+
+            Path file = files.get(i);
+            Map<String, String> partition = HivePartitions.parse(dir.relativize(file).getParent());
+
+            if (keys == null) {
+                keys = new ArrayList<>(partition.keySet());
+                values = new Object[keys.size()][len];
+            } else if (!keys.equals(new ArrayList<>(partition.keySet()))) {
+                throw new RuntimeException("Partitions of '" + file + "' " + partition.keySet()
+                        + " do not match the partitions of '" + files.get(0) + "' " + keys);
+            }
+
+            for (int j = 0; j < values.length; j++) {
+                String key = keys.get(j);
+                values[j][i] = mapValue(key, partition.get(key));
+            }
+        }
+
+        if (keys == null) {
+            return DataFrame.empty();
+        }
+
+        Series<?>[] columns = new Series[values.length];
+        for (int j = 0; j < values.length; j++) {
+            columns[j] = Series.of(values[j]);
+        }
+
+        return DataFrame.byColumn(Index.of(keys.toArray(new String[0]))).of(columns);
+    }
+
+    private Object mapValue(String column, String value) {
+        if (value == null) {
+            return null;
+        }
+
+        ValueMapper<String, ?> mapper = partitionMappers.get(column);
+        return mapper != null ? mapper.map(value) : value;
+    }
+
+    private DataFrame[] loadFiles(List<Path> files) {
+
+        int len = files.size();
+        ParquetLoader loader = this.fileLoader;
+
+        if (len == 1) {
+            return new DataFrame[]{loader.load(files.get(0))};
+        }
+
+        List<Callable<DataFrame>> tasks = new ArrayList<>(len);
+        for (Path file : files) {
+
+            // the row groups are decoded in the file task thread, as nested pool tasks may starve a bounded pool
+            tasks.add(() -> loader.load(file, false));
+        }
+
+        return Futures.invokeAll(Environment.commonEnv().threadPool(), tasks).toArray(new DataFrame[0]);
+    }
+
+    private DataFrame assemble(List<Path> files, DataFrame[] parts, DataFrame partitions) {
+
+        int len = parts.length;
+        Index fileColumns = parts[0].getColumnsIndex();
+
+        for (int i = 1; i < len; i++) {
+            if (!fileColumns.equals(parts[i].getColumnsIndex())) {
+                throw new RuntimeException("Columns of '" + files.get(i) + "' " + parts[i].getColumnsIndex()
+                        + " do not match the columns of '" + files.get(0) + "' " + fileColumns);
+            }
+        }
+
+        int w = fileColumns.size();
+        int pw = partitions.width();
+        List<Series<?>> columns = new ArrayList<>(w + pw);
+        for (int j = 0; j < w; j++) {
+            Series<?>[] columnParts = new Series[len];
+            for (int i = 0; i < len; i++) {
+                columnParts[i] = parts[i].getColumn(j);
+            }
+
+            columns.add(SeriesConcat.primitiveConcat(columnParts));
+        }
+
+        for (int j = 0; j < pw; j++) {
+            columns.add(partitionColumn(partitions.getColumn(j), parts));
+        }
+
+        Index index = pw > 0 ? fileColumns.expand(partitions.getColumnsIndex().toArray()) : fileColumns;
+        return DataFrame.byColumn(index).ofIterable(columns);
+    }
+
+    private static Series<?> partitionColumn(Series<?> partitionValues, DataFrame[] parts) {
+
+        int h = 0;
+        for (DataFrame p : parts) {
+            h += p.height();
+        }
+
+        Object[] data = new Object[h];
+        int offset = 0;
+        for (int i = 0; i < parts.length; i++) {
+            int ph = parts[i].height();
+            Arrays.fill(data, offset, offset + ph, partitionValues.get(i));
+            offset += ph;
+        }
+
+        return Series.of(data);
+    }
+}
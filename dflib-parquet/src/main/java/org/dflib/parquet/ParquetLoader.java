@@ -1,23 +1,37 @@
 package org.dflib.parquet;
 
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.io.LocalInputFile;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.Type;
+import org.dflib.Condition;
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.Extractor;
 import org.dflib.Index;
+import org.dflib.Series;
 import org.dflib.builder.DataFrameAppender;
+import org.dflib.parquet.read.DataFrameColumnChunkReader;
 import org.dflib.parquet.read.DataFrameParquetReaderBuilder;
+import org.dflib.parquet.read.FilterPredicateTranslator;
+import org.dflib.parquet.read.PerChunkCodecFactory;
 import org.dflib.parquet.read.RowExtractorFactory;
 import org.dflib.parquet.read.SchemaProjector;
+import org.dflib.series.DictionarySeries;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @since 1.0.0-M23
@@ -25,6 +39,10 @@ import java.util.List;
 public class ParquetLoader {
 
     private SchemaProjector schemaProjector;
+    private Condition rowFilter;
+    private boolean parallelRowGroups;
+    private boolean lazy;
+    private boolean keepDictionaries;
 
     /**
      * Configures the loader to only process the specified columns, and include them in the DataFrame in the specified
@@ -61,6 +79,62 @@ public class ParquetLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to only include the rows matching the condition. The condition is translated to a Parquet
+     * filter predicate whenever possible, so that the row groups and pages that can't contain any matching rows are
+     * skipped based on the column statistics, dictionaries, bloom filters and page indexes. Column comparisons with
+     * constants, "in" / "notIn", "isNull" / "isNotNull", as well as "and", "or" and "not" combinations of those are
+     * translated. Either way, the condition is applied to the loaded data in memory, so the columns it references must
+     * be included in the loaded columns.
+     *
+     * @param condition a condition over the file columns referenced by name
+     * @return this loader instance
+     */
+    public ParquetLoader rows(Condition condition) {
+        this.rowFilter = Objects.requireNonNull(condition);
+        return this;
+    }
+
+    /**
+     * Configures the loader to decode the row groups of a file in parallel using {@link Environment#threadPool()}.
+     * This speeds up loading of the files with multiple row groups, as decompression and decoding are usually more
+     * expensive than reading the data from disk. Only applies to the files with "flat" schemas of primitive columns.
+     *
+     * @return this loader instance
+     */
+    public ParquetLoader parallelRowGroups() {
+        this.parallelRowGroups = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to return a DataFrame with "lazy" columns, each decoded from the file on first access and
+     * cached. The load itself only reads the file metadata, and accessing a column only reads the chunks of that
+     * column, so the load time and memory use depend on the columns that are actually accessed rather than on the file
+     * width. The file must stay unchanged until all the needed columns are accessed. Call {@link DataFrame#materialize()} to decode all the columns. Only applies to the files
+     * with "flat" schemas of primitive columns.
+     *
+     * @return this loader instance
+     */
+    public ParquetLoader lazy() {
+        this.lazy = true;
+        return this;
+    }
+
+    /**
+     * Configures the loader to load String columns as {@link DictionarySeries}, keeping the dictionary encoding of the
+     * file. Instead of an array of String references, each column is stored as an array of distinct values shared by
+     * all the rows, plus an array of per-row int codes. This reduces memory use for the columns with a small number
+     * of distinct values. When such columns are saved with {@link ParquetSaver}, the distinct values are encoded only
+     * once. Only applies to the files with "flat" schemas of primitive columns.
+     *
+     * @return this loader instance
+     */
+    public ParquetLoader keepDictionaries() {
+        this.keepDictionaries = true;
+        return this;
+    }
+
     public DataFrame load(File file) {
         return load(file.toPath());
     }
@@ -70,29 +144,136 @@ public class ParquetLoader {
     }
 
     public DataFrame load(Path filePath) {
-        try {
+        return load(filePath, parallelRowGroups);
+    }
+
+    // allows the callers that are already running in the thread pool to disable parallel decoding of the row groups
+    DataFrame load(Path filePath, boolean parallelRowGroups) {
+
+        LocalInputFile inputFile = new LocalInputFile(filePath);
 
-            // TODO: to avoid reading the schema twice, is it possible to defer schema extraction to
-            //  DataFrameReadSupport.init(..) ?
+        // row groups are filtered when the reader is opened, so with a row filter the schema required to translate it
+        // has to be read upfront
+        FilterCompat.Filter filter = rowFilter != null
+                ? filter(Parquet.schemaLoader().load(filePath))
+                : FilterCompat.NOOP;
 
-            MessageType fileSchema = Parquet.schemaLoader().load(filePath);
-            MessageType projectedSchema = projectSchema(fileSchema);
+        // the lazy columns are read one by one, and page filtering is not consistent between the reads of individual
+        // columns, as it treats the filter columns that are not read as nulls. So only the row groups are filtered
+        ParquetReadOptions options = readOptions(filter, parallelRowGroups, !lazy);
 
-            DataFrameAppender<Object[]> appender = DataFrame.byArrayRow(mapColumns(projectedSchema))
-                    .columnIndex(createIndex(projectedSchema))
-                    .appender();
+        try (ParquetFileReader fileReader = new ParquetFileReader(inputFile, options)) {
 
-            LocalInputFile inputFile = new LocalInputFile(filePath);
-            ParquetReader<Object[]> reader = new DataFrameParquetReaderBuilder(inputFile, projectedSchema).build();
+            MessageType projectedSchema = projectSchema(fileReader.getFileMetaData().getSchema());
+
+            // "flat" schemas are read column by column, others - row by row
+            DataFrame df;
+            if (!DataFrameColumnChunkReader.supports(projectedSchema)) {
+                df = loadByRow(inputFile, projectedSchema, filter);
+            } else if (lazy) {
+                df = loadLazy(inputFile, projectedSchema, filter, fileReader.getFilteredRecordCount(), parallelRowGroups);
+            } else {
+                df = loadByColumn(fileReader, options, projectedSchema, parallelRowGroups);
+            }
+
+            // the filter predicate may match more rows than the condition, so the condition is applied in memory. For
+            // the lazy columns, only the columns referenced in the condition are decoded here
+            return rowFilter != null ? df.rows(rowFilter).select() : df;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DataFrame loadByColumn(
+            ParquetFileReader fileReader,
+            ParquetReadOptions options,
+            MessageType projectedSchema,
+            boolean parallelRowGroups) throws IOException {
+
+        ExecutorService pool = parallelRowGroups ? Environment.commonEnv().threadPool() : null;
+        PerChunkCodecFactory codecs = options.getCodecFactory() instanceof PerChunkCodecFactory
+                ? (PerChunkCodecFactory) options.getCodecFactory()
+                : null;
+
+        return new DataFrameColumnChunkReader(fileReader, projectedSchema, keepDictionaries).read(pool, codecs);
+    }
+
+    private DataFrame loadLazy(
+            LocalInputFile inputFile,
+            MessageType projectedSchema,
+            FilterCompat.Filter filter,
+            long recordCount,
+            boolean parallelRowGroups) {
+
+        if (recordCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many records to fit in a DataFrame: " + recordCount);
+        }
+
+        // each column is read with the same record filter, so all the columns end up with the same filtered rows
+        List<Type> fields = projectedSchema.getFields();
+        int w = fields.size();
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            MessageType columnSchema = new MessageType(projectedSchema.getName(), fields.get(i));
+            columns[i] = new LazyColumnSeries<>(
+                    (int) recordCount,
+                    () -> loadColumn(inputFile, columnSchema, filter, parallelRowGroups));
+        }
+
+        return DataFrame.byColumn(createIndex(projectedSchema)).of(columns);
+    }
+
+    private <T> Series<T> loadColumn(
+            LocalInputFile inputFile,
+            MessageType columnSchema,
+            FilterCompat.Filter filter,
+            boolean parallelRowGroups) {
+
+        ParquetReadOptions options = readOptions(filter, parallelRowGroups, false);
+        try (ParquetFileReader fileReader = new ParquetFileReader(inputFile, options)) {
+            return loadByColumn(fileReader, options, columnSchema, parallelRowGroups).getColumn(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DataFrame loadByRow(LocalInputFile inputFile, MessageType projectedSchema, FilterCompat.Filter filter) throws IOException {
+
+        DataFrameAppender<Object[]> appender = DataFrame.byArrayRow(mapColumns(projectedSchema))
+                .columnIndex(createIndex(projectedSchema))
+                .appender();
+
+        try (ParquetReader<Object[]> reader = new DataFrameParquetReaderBuilder(inputFile, projectedSchema)
+                .withFilter(filter)
+                .build()) {
 
             Object[] row;
             while ((row = reader.read()) != null) {
                 appender.append(row);
             }
-            return appender.toDataFrame();
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
+
+        return appender.toDataFrame();
+    }
+
+    private ParquetReadOptions readOptions(FilterCompat.Filter filter, boolean parallelRowGroups, boolean filterPages) {
+        PlainParquetConfiguration configuration = new PlainParquetConfiguration();
+        ParquetReadOptions.Builder builder = ParquetReadOptions.builder(configuration)
+                .withRecordFilter(filter)
+                .useColumnIndexFilter(filterPages);
+
+        // default decompressors can't be shared between threads
+        if (parallelRowGroups) {
+            builder.withCodecFactory(new PerChunkCodecFactory(configuration));
+        }
+
+        return builder.build();
+    }
+
+    private FilterCompat.Filter filter(MessageType fileSchema) {
+        FilterPredicate predicate = new FilterPredicateTranslator(fileSchema).translate(rowFilter);
+        return predicate != null ? FilterCompat.get(predicate) : FilterCompat.NOOP;
     }
 
     private MessageType projectSchema(MessageType schema) {
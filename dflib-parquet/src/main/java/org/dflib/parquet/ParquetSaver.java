@@ -1,34 +1,47 @@
 package org.dflib.parquet;
 
-import org.apache.parquet.hadoop.ParquetFileWriter.Mode;
+import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.io.LocalOutputFile;
 import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.GroupBy;
 import org.dflib.Series;
+import org.dflib.concurrent.Futures;
 import org.dflib.parquet.write.ColumnMeta;
-import org.dflib.parquet.write.DataFrameParquetWriterBuilder;
+import org.dflib.parquet.write.DataFrameColumnChunkWriter;
 import org.dflib.parquet.write.DataFrameSchema;
 import org.dflib.parquet.write.DecimalConfig;
 import org.dflib.parquet.write.WriteConfiguration;
-import org.dflib.row.RowProxy;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @since 1.0.0-M23
  */
 public class ParquetSaver {
 
+    static final String PARTITION_FILE_NAME = "part-0.parquet";
+
     private boolean createMissingDirs;
     private TimeUnit timeUnit = TimeUnit.MICROS;
     private CompressionCodec compressionCodec;
     private DecimalConfig decimalConfig;
+    private String[] partitionCols;
+    private long rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+    private int pageSize = ParquetProperties.DEFAULT_PAGE_SIZE;
+    private boolean dictionaryEncoding = ParquetProperties.DEFAULT_IS_DICTIONARY_ENABLED;
+    private String[] bloomFilterCols;
+    private boolean parallelRowGroups;
 
     public ParquetSaver createMissingDirs() {
         this.createMissingDirs = true;
@@ -50,6 +63,78 @@ public class ParquetSaver {
         return this;
     }
 
+    /**
+     * Sets a target uncompressed size of a row group in bytes. The number of rows per row group is calculated from
+     * this size and the estimated size of a row. The default is 128MB.
+     *
+     * @return this saver instance
+     */
+    public ParquetSaver rowGroupSize(long bytes) {
+        this.rowGroupSize = bytes;
+        return this;
+    }
+
+    /**
+     * Sets a target uncompressed size of a column data page in bytes. The default is 1MB.
+     *
+     * @return this saver instance
+     */
+    public ParquetSaver pageSize(int bytes) {
+        this.pageSize = bytes;
+        return this;
+    }
+
+    /**
+     * Enables or disables dictionary encoding of the columns. Dictionary encoding is enabled by default, and makes
+     * the columns with a small number of distinct values more compact. Parquet falls back to plain encoding for the
+     * columns with too many distinct values.
+     *
+     * @return this saver instance
+     */
+    public ParquetSaver dictionaryEncoding(boolean enabled) {
+        this.dictionaryEncoding = enabled;
+        return this;
+    }
+
+    /**
+     * Instructs the saver to write bloom filters for the specified columns, allowing the readers to skip the row groups
+     * that do not contain the values of "equals" predicates over high-cardinality columns. Bloom filters are not
+     * written for the column chunks that are fully dictionary-encoded, as the dictionary serves the same purpose.
+     *
+     * @return this saver instance
+     */
+    public ParquetSaver bloomFilter(String... columns) {
+        this.bloomFilterCols = columns;
+        return this;
+    }
+
+    /**
+     * Configures the saver to encode and compress the row groups in parallel using {@link Environment#threadPool()}.
+     * This speeds up saving of the DataFrames large enough to be split into multiple row groups.
+     *
+     * @return this saver instance
+     */
+    public ParquetSaver parallelRowGroups() {
+        this.parallelRowGroups = true;
+        return this;
+    }
+
+    /**
+     * Switches the saver to the "dataset" mode, writing a Hive-style partitioned dataset instead of a single file. The
+     * DataFrame is split into groups by the values of the partition columns, and each group is written to a separate
+     * file "part-0.parquet" in a "col1=value1/col2=value2/..." subdirectory of the path passed to "save". The files
+     * are written in parallel using {@link Environment#threadPool()}. The partition columns are not stored in the
+     * files, as their values are encoded in the directory names. Existing files of the saved partitions are
+     * overwritten, while the other partitions of the dataset are left untouched.
+     *
+     * @return this saver instance
+     * @see ParquetDatasetLoader
+     */
+    public ParquetSaver partitionBy(String... columns) {
+        this.partitionCols = columns.length > 0 ? columns : null;
+        return this;
+    }
+
     public void save(DataFrame df, File file) {
         save(df, file.toPath());
     }
@@ -59,26 +144,73 @@ public class ParquetSaver {
     }
 
     public void save(DataFrame df, Path filePath) {
+        if (partitionCols != null) {
+            savePartitioned(df, filePath);
+            return;
+        }
+
         createMissingDirsIfNeeded(filePath);
         try {
-            doSave(df, filePath);
+            doSave(df, filePath, parallelRowGroups);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    private void doSave(DataFrame df, Path filePath) throws IOException {
-        DataFrameSchema dataFrameSchema = extractDataFrameSchema(df);
-        try (ParquetWriter<RowProxy> parquetWriter = new DataFrameParquetWriterBuilder(new LocalOutputFile(filePath))
-                .withWriteConfiguration(new WriteConfiguration(timeUnit, decimalConfig))
-                .withSchema(dataFrameSchema)
+    private void doSave(DataFrame df, Path filePath, boolean parallelRowGroups) throws IOException {
+        ExecutorService pool = parallelRowGroups ? Environment.commonEnv().threadPool() : null;
+        WriteConfiguration writeConfiguration = new WriteConfiguration(timeUnit, decimalConfig);
+
+        new DataFrameColumnChunkWriter(new LocalOutputFile(filePath), writeConfiguration, extractDataFrameSchema(df))
+                .withProperties(parquetProperties())
                 .withCompressionCodec(compressionCodecName())
-                .withWriteMode(Mode.OVERWRITE)
-                .build()) {
-            for (RowProxy r : df) {
-                parquetWriter.write(r);
+                .withRowGroupSize(rowGroupSize)
+                .write(df, pool);
+    }
+
+    private ParquetProperties parquetProperties() {
+        ParquetProperties.Builder builder = ParquetProperties.builder()
+                .withPageSize(pageSize)
+                .withDictionaryEncoding(dictionaryEncoding);
+
+        if (bloomFilterCols != null) {
+            for (String c : bloomFilterCols) {
+                builder.withBloomFilterEnabled(c, true);
             }
         }
+
+        return builder.build();
+    }
+
+    private void savePartitioned(DataFrame df, Path dir) {
+
+        // grouping by the partition path instead of the partition columns, as DFLib "group" skips null keys
+        GroupBy groups = df.group(r -> HivePartitions.path(r, partitionCols));
+        List<String> paths = new ArrayList<>(groups.size());
+        for (Object key : groups.getGroupKeys()) {
+            paths.add((String) key);
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            DataFrame partition = groups.getGroup(path).colsExcept(partitionCols).select();
+            Path file = dir.resolve(path).resolve(PARTITION_FILE_NAME);
+
+            tasks.add(() -> {
+                file.getParent().toFile().mkdirs();
+
+                try {
+                    // the partitions are already saved in parallel, and nested pool tasks may starve a bounded pool
+                    doSave(partition, file, false);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                return null;
+            });
+        }
+
+        Futures.invokeAll(Environment.commonEnv().threadPool(), tasks);
     }
 
     private void createMissingDirsIfNeeded(Path filePath) {
@@ -95,13 +227,20 @@ public class ParquetSaver {
         int index = 0;
         for (String column : df.getColumnsIndex()) {
             Series<Object> series = df.getColumn(column);
-            Class<?> inferredType = series.getInferredType();
-            result.add(new ColumnMeta(column, inferredType, index));
+            result.add(new ColumnMeta(column, columnType(series), index));
             index++;
         }
         return new DataFrameSchema(result);
     }
 
+    // the nominal type of primitive and final class Series is exact, so the inference scan of the values is skipped
+    private static Class<?> columnType(Series<?> series) {
+        Class<?> nominalType = series.getNominalType();
+        return nominalType.isPrimitive() || Modifier.isFinal(nominalType.getModifiers())
+                ? nominalType
+                : series.getInferredType();
+    }
+
     private CompressionCodecName compressionCodecName() {
         if (compressionCodec == null) {
             return CompressionCodecName.UNCOMPRESSED;
@@ -0,0 +1,387 @@
+package org.dflib.parquet.read;
+
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type.Repetition;
+import org.dflib.Series;
+import org.dflib.parquet.read.converter.RowConverter;
+import org.dflib.series.DictionarySeries;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pre-sized storage of a single Parquet column values, filled by per-row-group {@link ColumnDecoder}s, each
+ * writing to its own range of positions. Required primitive columns are stored in primitive arrays without boxing. For
+ * optional columns, the values with the definition level below the column max are stored as nulls.
+ */
+abstract class ColumnBuffer {
+
+    static ColumnBuffer of(PrimitiveType type, int size, boolean keepDictionaries) {
+
+        int maxDefinitionLevel = type.isRepetition(Repetition.OPTIONAL) ? 1 : 0;
+
+        if (keepDictionaries && isString(type)) {
+            return new DictionaryBuffer(size, maxDefinitionLevel);
+        }
+
+        if (type.getLogicalTypeAnnotation() != null
+                // check if there's a converter for the logical type
+                && RowConverter.buildFromLogicalTypeConverter(type, v -> {}) != null) {
+            return new ConverterBuffer(type, size, maxDefinitionLevel);
+        }
+
+        PrimitiveTypeName typeName = type.getPrimitiveTypeName();
+        if (maxDefinitionLevel > 0) {
+            switch (typeName) {
+            case INT32:
+                return new ObjectBuffer(size, ColumnReader::getInteger, maxDefinitionLevel);
+            case INT64:
+                return new ObjectBuffer(size, ColumnReader::getLong, maxDefinitionLevel);
+            case FLOAT:
+                return new ObjectBuffer(size, ColumnReader::getFloat, maxDefinitionLevel);
+            case DOUBLE:
+                return new ObjectBuffer(size, ColumnReader::getDouble, maxDefinitionLevel);
+            case BOOLEAN:
+                return new ObjectBuffer(size, ColumnReader::getBoolean, maxDefinitionLevel);
+            default:
+                throw new RuntimeException(typeName + " deserialization not supported");
+            }
+        }
+
+        switch (typeName) {
+        case INT32:
+            return new IntBuffer(size);
+        case INT64:
+            return new LongBuffer(size);
+        case FLOAT:
+            return new ObjectBuffer(size, ColumnReader::getFloat, maxDefinitionLevel);
+        case DOUBLE:
+            return new DoubleBuffer(size);
+        case BOOLEAN:
+            return new BoolBuffer(size);
+        default:
+            throw new RuntimeException(typeName + " deserialization not supported");
+        }
+    }
+
+    private static boolean isString(PrimitiveType type) {
+        LogicalTypeAnnotation logicalType = type.getLogicalTypeAnnotation();
+        return type.getPrimitiveTypeName() == PrimitiveTypeName.BINARY
+                && (LogicalTypeAnnotation.stringType().equals(logicalType)
+                || LogicalTypeAnnotation.enumType().equals(logicalType));
+    }
+
+    /**
+     * Creates a decoder for a single row group that writes the values starting at the specified position.
+     */
+    abstract ColumnDecoder decoder(int offset);
+
+    abstract Series<?> toSeries();
+
+    static class IntBuffer extends ColumnBuffer {
+
+        private final int[] data;
+
+        IntBuffer(int size) {
+            this.data = new int[size];
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ColumnDecoder() {
+                @Override
+                void read(ColumnReader reader, long valueCount) {
+                    for (int i = offset, end = offset + (int) valueCount; i < end; i++) {
+                        data[i] = reader.getInteger();
+                        reader.consume();
+                    }
+                }
+            };
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.ofInt(data);
+        }
+    }
+
+    static class LongBuffer extends ColumnBuffer {
+
+        private final long[] data;
+
+        LongBuffer(int size) {
+            this.data = new long[size];
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ColumnDecoder() {
+                @Override
+                void read(ColumnReader reader, long valueCount) {
+                    for (int i = offset, end = offset + (int) valueCount; i < end; i++) {
+                        data[i] = reader.getLong();
+                        reader.consume();
+                    }
+                }
+            };
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.ofLong(data);
+        }
+    }
+
+    static class DoubleBuffer extends ColumnBuffer {
+
+        private final double[] data;
+
+        DoubleBuffer(int size) {
+            this.data = new double[size];
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ColumnDecoder() {
+                @Override
+                void read(ColumnReader reader, long valueCount) {
+                    for (int i = offset, end = offset + (int) valueCount; i < end; i++) {
+                        data[i] = reader.getDouble();
+                        reader.consume();
+                    }
+                }
+            };
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.ofDouble(data);
+        }
+    }
+
+    static class BoolBuffer extends ColumnBuffer {
+
+        private final boolean[] data;
+
+        BoolBuffer(int size) {
+            this.data = new boolean[size];
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ColumnDecoder() {
+                @Override
+                void read(ColumnReader reader, long valueCount) {
+                    for (int i = offset, end = offset + (int) valueCount; i < end; i++) {
+                        data[i] = reader.getBoolean();
+                        reader.consume();
+                    }
+                }
+            };
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.ofBool(data);
+        }
+    }
+
+    static class ObjectBuffer extends ColumnBuffer {
+
+        private final Object[] data;
+        private final Function<ColumnReader, Object> valueReader;
+        private final int maxDefinitionLevel;
+
+        ObjectBuffer(int size, Function<ColumnReader, Object> valueReader, int maxDefinitionLevel) {
+            this.data = new Object[size];
+            this.valueReader = valueReader;
+            this.maxDefinitionLevel = maxDefinitionLevel;
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ColumnDecoder() {
+                @Override
+                void read(ColumnReader reader, long valueCount) {
+                    for (int i = offset, end = offset + (int) valueCount; i < end; i++) {
+                        if (reader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                            data[i] = valueReader.apply(reader);
+                        }
+
+                        reader.consume();
+                    }
+                }
+            };
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.of(data);
+        }
+    }
+
+    static class ConverterBuffer extends ColumnBuffer {
+
+        private final PrimitiveType type;
+        private final Object[] data;
+        private final int maxDefinitionLevel;
+
+        ConverterBuffer(PrimitiveType type, int size, int maxDefinitionLevel) {
+            this.type = type;
+            this.data = new Object[size];
+            this.maxDefinitionLevel = maxDefinitionLevel;
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new ConverterDecoder(offset);
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return Series.of(data);
+        }
+
+        // the converters cache the decoded dictionary of a column chunk, so each row group needs its own converter
+        class ConverterDecoder extends ColumnDecoder {
+
+            private final PrimitiveConverter converter;
+            private int pos;
+
+            ConverterDecoder(int offset) {
+                this.pos = offset;
+
+                Converter converter = RowConverter.buildFromLogicalTypeConverter(type, v -> data[pos] = v);
+                this.converter = converter.asPrimitiveConverter();
+            }
+
+            @Override
+            PrimitiveConverter getConverter() {
+                return converter;
+            }
+
+            @Override
+            void read(ColumnReader reader, long valueCount) {
+                for (long i = 0; i < valueCount; i++) {
+
+                    // the converter stores the decoded value at the current position
+                    if (reader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                        reader.writeCurrentValueToConverter();
+                    }
+
+                    pos++;
+                    reader.consume();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores String values as a shared dictionary of distinct values and per-row codes. Each row group dictionary is
+     * merged into the shared dictionary once, so that dictionary-encoded values are stored without decoding them to
+     * Strings. The values of the pages that fell back to plain encoding are added to the shared dictionary one by one.
+     */
+    static class DictionaryBuffer extends ColumnBuffer {
+
+        private final int[] codes;
+        private final int maxDefinitionLevel;
+
+        // accessed by the decoders of multiple row groups, possibly in parallel
+        private final List<String> dictionary;
+        private final Map<String, Integer> dictionaryCodes;
+
+        DictionaryBuffer(int size, int maxDefinitionLevel) {
+            this.codes = new int[size];
+            this.maxDefinitionLevel = maxDefinitionLevel;
+            this.dictionary = new ArrayList<>();
+            this.dictionaryCodes = new HashMap<>();
+        }
+
+        @Override
+        ColumnDecoder decoder(int offset) {
+            return new DictionaryDecoder(offset);
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return new DictionarySeries<>(dictionary.toArray(new String[0]), codes);
+        }
+
+        private synchronized int code(String value) {
+            return dictionaryCodes.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        class DictionaryDecoder extends ColumnDecoder {
+
+            private final PrimitiveConverter converter;
+            private int pos;
+
+            DictionaryDecoder(int offset) {
+                this.pos = offset;
+                this.converter = new PrimitiveConverter() {
+
+                    // maps the row group dictionary ids to the shared dictionary codes
+                    private int[] rowGroupCodes;
+
+                    @Override
+                    public boolean hasDictionarySupport() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setDictionary(Dictionary dictionary) {
+                        int maxId = dictionary.getMaxId();
+                        rowGroupCodes = new int[maxId + 1];
+                        for (int i = 0; i <= maxId; i++) {
+                            rowGroupCodes[i] = code(dictionary.decodeToBinary(i).toStringUsingUTF8());
+                        }
+                    }
+
+                    @Override
+                    public void addValueFromDictionary(int dictionaryId) {
+                        codes[pos] = rowGroupCodes[dictionaryId];
+                    }
+
+                    @Override
+                    public void addBinary(Binary value) {
+                        codes[pos] = code(value.toStringUsingUTF8());
+                    }
+                };
+            }
+
+            @Override
+            PrimitiveConverter getConverter() {
+                return converter;
+            }
+
+            @Override
+            void read(ColumnReader reader, long valueCount) {
+                for (long i = 0; i < valueCount; i++) {
+
+                    // the converter stores the code of the value at the current position
+                    if (reader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                        reader.writeCurrentValueToConverter();
+                    } else {
+                        codes[pos] = -1;
+                    }
+
+                    pos++;
+                    reader.consume();
+                }
+            }
+        }
+    }
+}
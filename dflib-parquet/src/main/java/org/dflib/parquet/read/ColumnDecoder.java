@@ -0,0 +1,26 @@
+package org.dflib.parquet.read;
+
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.io.api.PrimitiveConverter;
+
+/**
+ * Decodes the values of a single Parquet column chunk of a row group. Decoders are stateful and are not shared between
+ * row groups, so that the row groups can be decoded in parallel.
+ */
+abstract class ColumnDecoder {
+
+    private static final PrimitiveConverter NO_OP_CONVERTER = new PrimitiveConverter() {
+    };
+
+    /**
+     * Returns a converter that {@link ColumnReader} would use to decode dictionaries and logical types.
+     */
+    PrimitiveConverter getConverter() {
+        return NO_OP_CONVERTER;
+    }
+
+    /**
+     * Reads the specified number of values from the column reader positioned at the start of a row group.
+     */
+    abstract void read(ColumnReader reader, long valueCount);
+}
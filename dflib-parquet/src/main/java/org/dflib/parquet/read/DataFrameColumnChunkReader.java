@@ -0,0 +1,238 @@
+package org.dflib.parquet.read;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReadStore;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.dflib.DataFrame;
+import org.dflib.Index;
+import org.dflib.Series;
+import org.dflib.concurrent.Futures;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a Parquet file into a DataFrame column by column, decoding the pages of each column chunk directly into the
+ * column arrays pre-sized from the row group row counts. Compared to the row-based {@link DataFrameParquetReaderBuilder} reader, this avoids assembling
+ * and re-splitting intermediate rows and boxing of the required primitive values. Only supports "flat" schemas
+ * (see {@link #supports(MessageType)}).
+ *
+ * @since 1.0.0-M23
+ */
+public class DataFrameColumnChunkReader {
+
+    private final ParquetFileReader fileReader;
+    private final MessageType projection;
+    private final boolean keepDictionaries;
+
+    /**
+     * @param fileReader an open file reader. It is the responsibility of the caller to close it.
+     * @param projection a subset of the file schema to read. Must be a "flat" schema.
+     */
+    public DataFrameColumnChunkReader(ParquetFileReader fileReader, MessageType projection) {
+        this(fileReader, projection, false);
+    }
+
+    /**
+     * @param fileReader       an open file reader. It is the responsibility of the caller to close it.
+     * @param projection       a subset of the file schema to read. Must be a "flat" schema.
+     * @param keepDictionaries whether to read String columns as {@link org.dflib.series.DictionarySeries}, keeping
+     *                         the dictionary encoding of the file instead of decoding each value.
+     */
+    public DataFrameColumnChunkReader(ParquetFileReader fileReader, MessageType projection, boolean keepDictionaries) {
+
+        if (!supports(projection)) {
+            throw new IllegalArgumentException("Only flat schemas of non-repeated primitive columns are supported");
+        }
+
+        this.fileReader = fileReader;
+        this.projection = projection;
+        this.keepDictionaries = keepDictionaries;
+    }
+
+    /**
+     * Returns whether the schema can be read by this reader, i.e. whether all its fields are non-repeated primitive
+     * columns.
+     */
+    public static boolean supports(MessageType schema) {
+        for (Type t : schema.getFields()) {
+            if (!t.isPrimitive() || t.isRepetition(Type.Repetition.REPEATED)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the file, decoding the row groups sequentially in the calling thread.
+     */
+    public DataFrame read() throws IOException {
+        return read(null);
+    }
+
+    /**
+     * Reads the file, decoding the row groups in parallel using the provided thread pool. The row groups are read from
+     * the file sequentially, each one submitted for decoding as soon as it is read. Each row group is decoded directly
+     * into its own range of the pre-sized column arrays, so the results are assembled in the row group order without
+     * copying. The file reader must be opened with a {@link PerChunkCodecFactory}, as the default Parquet decompressors
+     * are not thread-safe.
+     *
+     * @param pool a thread pool to decode the row groups. If null, the row groups are decoded in the calling thread.
+     */
+    public DataFrame read(ExecutorService pool) throws IOException {
+        return read(pool, null);
+    }
+
+    /**
+     * Reads the file like {@link #read(ExecutorService)}, releasing the decompressors of each row group as soon as it
+     * is decoded, so that the decompressors of the whole file are not held until the file reader is closed.
+     *
+     * @param pool   a thread pool to decode the row groups. If null, the row groups are decoded in the calling thread.
+     * @param codecs the codec factory the file reader was opened with. If null, the decompressors are released when
+     *               the file reader is closed.
+     */
+    public DataFrame read(ExecutorService pool, PerChunkCodecFactory codecs) throws IOException {
+
+        fileReader.setRequestedSchema(projection);
+
+        List<Type> fields = projection.getFields();
+        int w = fields.size();
+        int h = height(fileReader.getFilteredRecordCount());
+
+        ColumnBuffer[] buffers = new ColumnBuffer[w];
+        ColumnDescriptor[] descriptors = new ColumnDescriptor[w];
+        for (int i = 0; i < w; i++) {
+            Type field = fields.get(i);
+            buffers[i] = ColumnBuffer.of(field.asPrimitiveType(), h, keepDictionaries);
+            descriptors[i] = projection.getColumnDescription(new String[]{field.getName()});
+        }
+
+        String createdBy = fileReader.getFooter().getFileMetaData().getCreatedBy();
+
+        // limiting the number of row groups that were read, but not decoded yet, to cap the memory use
+        int maxPending = Runtime.getRuntime().availableProcessors();
+        Deque<Future<?>> pending = new ArrayDeque<>();
+
+        try {
+            int offset = 0;
+
+            // row groups and pages excluded by the reader record filter (if any) are skipped
+            PageReadStore rowGroup;
+            while ((rowGroup = fileReader.readNextFilteredRowGroup()) != null) {
+
+                long rows = rowGroup.getRowCount();
+                if (offset + rows > h) {
+                    throw new IllegalStateException("Row groups contain more rows than expected: " + h);
+                }
+
+                Runnable releaseCodecs = codecs != null ? codecs.detachCreated() : null;
+                Runnable decoder = rowGroupDecoder(rowGroup, offset, buffers, descriptors, createdBy, releaseCodecs);
+                offset += (int) rows;
+
+                if (pool == null) {
+                    decoder.run();
+                } else {
+                    if (pending.size() >= maxPending) {
+                        Futures.get(pending.poll());
+                    }
+
+                    pending.add(pool.submit(decoder));
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                Futures.get(pending.poll());
+            }
+
+        } catch (RuntimeException | IOException e) {
+            Futures.cancel(pending);
+
+            throw e;
+        }
+
+        Series<?>[] series = new Series[w];
+        for (int i = 0; i < w; i++) {
+            series[i] = buffers[i].toSeries();
+        }
+
+        String[] labels = fields.stream().map(Type::getName).toArray(String[]::new);
+        return DataFrame.byColumn(Index.of(labels)).of(series);
+    }
+
+    private Runnable rowGroupDecoder(
+            PageReadStore rowGroup,
+            int offset,
+            ColumnBuffer[] buffers,
+            ColumnDescriptor[] descriptors,
+            String createdBy,
+            Runnable releaseCodecs) {
+
+        return () -> {
+            try {
+                int w = buffers.length;
+                ColumnDecoder[] decoders = new ColumnDecoder[w];
+                for (int i = 0; i < w; i++) {
+                    decoders[i] = buffers[i].decoder(offset);
+                }
+
+                long rows = rowGroup.getRowCount();
+                ColumnReadStore columns = new ColumnReadStoreImpl(rowGroup, new DecodersConverter(decoders), projection, createdBy);
+
+                for (int i = 0; i < w; i++) {
+                    ColumnReader reader = columns.getColumnReader(descriptors[i]);
+                    decoders[i].read(reader, rows);
+                }
+            } finally {
+                // the row group decompressors are no longer needed
+                if (releaseCodecs != null) {
+                    releaseCodecs.run();
+                }
+            }
+        };
+    }
+
+    private static int height(long recordCount) {
+        if (recordCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many records to fit in a DataFrame: " + recordCount);
+        }
+
+        return (int) recordCount;
+    }
+
+    /**
+     * A converter that provides per-column converters to the {@link ColumnReadStore}.
+     */
+    private static class DecodersConverter extends GroupConverter {
+
+        private final ColumnDecoder[] decoders;
+
+        DecodersConverter(ColumnDecoder[] decoders) {
+            this.decoders = decoders;
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return decoders[fieldIndex].getConverter();
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+}
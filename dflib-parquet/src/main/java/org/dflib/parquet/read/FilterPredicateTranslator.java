@@ -0,0 +1,337 @@
+package org.dflib.parquet.read;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.LogicalTypeAnnotation.TimestampLogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import org.dflib.Condition;
+import org.dflib.exp.ConditionTranslator;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.apache.parquet.schema.LogicalTypeAnnotation.dateType;
+import static org.apache.parquet.schema.LogicalTypeAnnotation.enumType;
+import static org.apache.parquet.schema.LogicalTypeAnnotation.stringType;
+
+/**
+ * Translates DFLib {@link Condition} expressions to Parquet {@link FilterPredicate}s that allow the reader to skip row
+ * groups and pages based on column statistics, dictionaries, bloom filters and page indexes. Supports comparisons of
+ * named columns with constants, "in" / "notIn", "isNull" / "isNotNull", as well as "and", "or" and "not" combinations
+ * of those.
+ *
+ * <p>The produced predicate is not necessarily exact. It is guaranteed to match all the rows matched by the condition,
+ * but may match some other rows as well, so the condition must still be applied to the loaded data. E.g., parts of a
+ * top-level "and" that can't be translated are simply omitted from the predicate.</p>
+ *
+ * @since 1.0.0-M23
+ */
+public class FilterPredicateTranslator extends ConditionTranslator<FilterPredicate, PrimitiveType> {
+
+    private final MessageType schema;
+
+    public FilterPredicateTranslator(MessageType schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Returns a predicate matching a superset of rows matched by the condition, or null if the condition can't be
+     * translated.
+     */
+    public FilterPredicate translate(Condition condition) {
+
+        FilterPredicate predicate = null;
+        for (Condition part : conjuncts(condition)) {
+            FilterPredicate partPredicate = translate(part, false);
+            if (partPredicate != null) {
+                predicate = predicate != null ? FilterApi.and(predicate, partPredicate) : partPredicate;
+            }
+        }
+
+        return predicate;
+    }
+
+    @Override
+    protected PrimitiveType column(String name) {
+
+        if (name == null || !schema.containsField(name)) {
+            return null;
+        }
+
+        Type type = schema.getType(name);
+        return type.isPrimitive() && !type.isRepetition(Type.Repetition.REPEATED) ? type.asPrimitiveType() : null;
+    }
+
+    @Override
+    protected FilterPredicate and(List<FilterPredicate> predicates) {
+        FilterPredicate predicate = predicates.get(0);
+        for (int i = 1; i < predicates.size(); i++) {
+            predicate = FilterApi.and(predicate, predicates.get(i));
+        }
+
+        return predicate;
+    }
+
+    @Override
+    protected FilterPredicate or(List<FilterPredicate> predicates) {
+        FilterPredicate predicate = predicates.get(0);
+        for (int i = 1; i < predicates.size(); i++) {
+            predicate = FilterApi.or(predicate, predicates.get(i));
+        }
+
+        return predicate;
+    }
+
+    @Override
+    protected FilterPredicate not(FilterPredicate predicate) {
+        return FilterApi.not(predicate);
+    }
+
+    /**
+     * Returns a Parquet comparison. Parquet comparisons (other than "notEq") never match NULLs, and their inversion by
+     * "not" doesn't match NULLs either, which is accounted for by the superclass.
+     */
+    @Override
+    protected FilterPredicate compare(PrimitiveType column, String op, Object value) {
+
+        String path = column.getName();
+
+        switch (column.getPrimitiveTypeName()) {
+            case INT32:
+                Integer i = toInt(column, value);
+                return i != null ? compare(FilterApi.intColumn(path), op, i) : null;
+            case INT64:
+                Long l = toLong(column, value);
+                return l != null ? compare(FilterApi.longColumn(path), op, l) : null;
+            case FLOAT:
+                Float f = toFloat(column, value);
+                return f != null ? compare(FilterApi.floatColumn(path), op, f) : null;
+            case DOUBLE:
+                Double d = toDouble(column, value);
+                return d != null ? compare(FilterApi.doubleColumn(path), op, d) : null;
+            case BOOLEAN:
+                Boolean b = toBoolean(column, value);
+                return b != null ? compareEq(FilterApi.booleanColumn(path), op, b) : null;
+            case BINARY:
+                // only checking for equality, as Parquet orders binary values by bytes, while Strings are compared
+                // by UTF-16 chars, which is not always the same
+                Binary s = toBinary(column, value);
+                return s != null ? compareEq(FilterApi.binaryColumn(path), op, s) : null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected FilterPredicate in(PrimitiveType column, Object[] values, boolean negated) {
+
+        if (values.length == 0) {
+            return null;
+        }
+
+        String path = column.getName();
+
+        switch (column.getPrimitiveTypeName()) {
+            case INT32:
+                return in(FilterApi.intColumn(path), values, v -> toInt(column, v), negated);
+            case INT64:
+                return in(FilterApi.longColumn(path), values, v -> toLong(column, v), negated);
+            case FLOAT:
+                return in(FilterApi.floatColumn(path), values, v -> toFloat(column, v), negated);
+            case DOUBLE:
+                return in(FilterApi.doubleColumn(path), values, v -> toDouble(column, v), negated);
+            case BOOLEAN:
+                return in(FilterApi.booleanColumn(path), values, v -> toBoolean(column, v), negated);
+            case BINARY:
+                return in(FilterApi.binaryColumn(path), values, v -> toBinary(column, v), negated);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected FilterPredicate nullCheck(PrimitiveType column, boolean isNull) {
+
+        String path = column.getName();
+
+        switch (column.getPrimitiveTypeName()) {
+            case INT32:
+                return compareEq(FilterApi.intColumn(path), isNull ? "=" : "!=", null);
+            case INT64:
+                return compareEq(FilterApi.longColumn(path), isNull ? "=" : "!=", null);
+            case FLOAT:
+                return compareEq(FilterApi.floatColumn(path), isNull ? "=" : "!=", null);
+            case DOUBLE:
+                return compareEq(FilterApi.doubleColumn(path), isNull ? "=" : "!=", null);
+            case BOOLEAN:
+                return compareEq(FilterApi.booleanColumn(path), isNull ? "=" : "!=", null);
+            case BINARY:
+            case FIXED_LEN_BYTE_ARRAY:
+                return compareEq(FilterApi.binaryColumn(path), isNull ? "=" : "!=", null);
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate compare(
+            C column,
+            String op,
+            T value) {
+
+        switch (op) {
+            case "<":
+                return FilterApi.lt(column, value);
+            case "<=":
+                return FilterApi.ltEq(column, value);
+            case ">":
+                return FilterApi.gt(column, value);
+            case ">=":
+                return FilterApi.gtEq(column, value);
+            default:
+                return compareEq(column, op, value);
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsEqNotEq> FilterPredicate compareEq(
+            C column,
+            String op,
+            T value) {
+
+        switch (op) {
+            case "=":
+                return FilterApi.eq(column, value);
+            case "!=":
+                return FilterApi.notEq(column, value);
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsEqNotEq> FilterPredicate in(
+            C column,
+            Object[] values,
+            Function<Object, T> converter,
+            boolean negated) {
+
+        Set<T> set = new HashSet<>();
+        for (Object v : values) {
+            T converted = converter.apply(v);
+            if (converted == null) {
+                return null;
+            }
+
+            set.add(converted);
+        }
+
+        return negated ? FilterApi.notIn(column, set) : FilterApi.in(column, set);
+    }
+
+    // DFLib compares values of different types as unequal (e.g. Integer 1 and Long 1), so to match a superset of the
+    // rows, the constants are only translated if their type is the same as the type of the loaded column values
+
+    private static Integer toInt(PrimitiveType column, Object value) {
+
+        LogicalTypeAnnotation type = column.getLogicalTypeAnnotation();
+        if (type == null || type.equals(LogicalTypeAnnotation.intType(32, true))) {
+            return value instanceof Integer ? (Integer) value : null;
+        }
+
+        if (type.equals(LogicalTypeAnnotation.intType(16, true))) {
+            return value instanceof Short ? ((Short) value).intValue() : null;
+        }
+
+        if (type.equals(LogicalTypeAnnotation.intType(8, true))) {
+            return value instanceof Byte ? ((Byte) value).intValue() : null;
+        }
+
+        if (type.equals(dateType())) {
+            return value instanceof LocalDate ? Math.toIntExact(((LocalDate) value).toEpochDay()) : null;
+        }
+
+        return null;
+    }
+
+    private static Long toLong(PrimitiveType column, Object value) {
+
+        LogicalTypeAnnotation type = column.getLogicalTypeAnnotation();
+        if (type == null || type.equals(LogicalTypeAnnotation.intType(64, true))) {
+            return value instanceof Long ? (Long) value : null;
+        }
+
+        if (type instanceof TimestampLogicalTypeAnnotation) {
+            TimestampLogicalTypeAnnotation timestamp = (TimestampLogicalTypeAnnotation) type;
+
+            Instant instant;
+            if (timestamp.isAdjustedToUTC() && value instanceof Instant) {
+                instant = (Instant) value;
+            } else if (!timestamp.isAdjustedToUTC() && value instanceof LocalDateTime) {
+                instant = ((LocalDateTime) value).toInstant(ZoneOffset.UTC);
+            } else {
+                return null;
+            }
+
+            return toTimeFromEpoch(instant, timestamp.getUnit());
+        }
+
+        return null;
+    }
+
+    private static Long toTimeFromEpoch(Instant instant, LogicalTypeAnnotation.TimeUnit unit) {
+
+        long secs = instant.getEpochSecond();
+        long nanos = instant.getNano();
+
+        // only exact values can be compared, so the values with precision beyond the column unit are not translated
+        try {
+            switch (unit) {
+                case MILLIS:
+                    return nanos % 1_000_000L == 0
+                            ? Math.addExact(Math.multiplyExact(secs, 1_000L), nanos / 1_000_000L)
+                            : null;
+                case MICROS:
+                    return nanos % 1_000L == 0
+                            ? Math.addExact(Math.multiplyExact(secs, 1_000_000L), nanos / 1_000L)
+                            : null;
+                case NANOS:
+                    return Math.addExact(Math.multiplyExact(secs, 1_000_000_000L), nanos);
+                default:
+                    return null;
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Float toFloat(PrimitiveType column, Object value) {
+        return column.getLogicalTypeAnnotation() == null && value instanceof Float ? (Float) value : null;
+    }
+
+    private static Double toDouble(PrimitiveType column, Object value) {
+        return column.getLogicalTypeAnnotation() == null && value instanceof Double ? (Double) value : null;
+    }
+
+    private static Boolean toBoolean(PrimitiveType column, Object value) {
+        return column.getLogicalTypeAnnotation() == null && value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    private static Binary toBinary(PrimitiveType column, Object value) {
+
+        LogicalTypeAnnotation type = column.getLogicalTypeAnnotation();
+        if (stringType().equals(type) || enumType().equals(type)) {
+            return value instanceof String ? Binary.fromString((String) value) : null;
+        }
+
+        return null;
+    }
+}
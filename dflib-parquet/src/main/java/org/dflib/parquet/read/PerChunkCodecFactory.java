@@ -0,0 +1,82 @@
+package org.dflib.parquet.read;
+
+import org.apache.parquet.compression.CompressionCodecFactory;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A codec factory that creates a new decompressor for each column chunk. The decompressors of the standard
+ * {@link CodecFactory} are cached and reused by all the chunks, and are not thread-safe, so this factory is required
+ * when decoding row groups of the same file in parallel. The decompressors of a row group can be released as soon as
+ * the row group is decoded (see {@link #detachCreated()}). Those that were not are released by {@link #release()}.
+ *
+ * @since 1.0.0-M23
+ */
+public class PerChunkCodecFactory implements CompressionCodecFactory {
+
+    private final ParquetConfiguration configuration;
+    private final Set<CodecFactory> factories;
+    private final Queue<CodecFactory> created;
+
+    public PerChunkCodecFactory(ParquetConfiguration configuration) {
+        this.configuration = configuration;
+        this.factories = ConcurrentHashMap.newKeySet();
+        this.created = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Returns an operation that releases the decompressors created since the previous call. Should be called right
+     * after reading a row group, with the returned operation run when the row group is decoded, so that the
+     * decompressors of the decoded row groups are not held until the file is closed.
+     */
+    public Runnable detachCreated() {
+
+        List<CodecFactory> detached = new ArrayList<>();
+        CodecFactory f;
+        while ((f = created.poll()) != null) {
+            detached.add(f);
+        }
+
+        return () -> detached.forEach(this::release);
+    }
+
+    @Override
+    public BytesInputCompressor getCompressor(CompressionCodecName codecName) {
+        return newFactory().getCompressor(codecName);
+    }
+
+    @Override
+    public BytesInputDecompressor getDecompressor(CompressionCodecName codecName) {
+        return newFactory().getDecompressor(codecName);
+    }
+
+    @Override
+    public void release() {
+        created.clear();
+        for (CodecFactory f : factories) {
+            release(f);
+        }
+    }
+
+    // a factory may be released concurrently by the decoding thread and on file close, but only one of them succeeds
+    private void release(CodecFactory f) {
+        if (factories.remove(f)) {
+            f.release();
+        }
+    }
+
+    private CodecFactory newFactory() {
+        CodecFactory f = new CodecFactory(configuration, 0);
+        factories.add(f);
+        created.add(f);
+        return f;
+    }
+}
@@ -3,8 +3,8 @@ package org.dflib.parquet.write;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+import org.apache.parquet.column.ColumnWriter;
 import org.apache.parquet.io.api.Binary;
-import org.apache.parquet.io.api.RecordConsumer;
 
 class BigDecimalWrite {
 
@@ -22,22 +22,33 @@ class BigDecimalWrite {
         this.mapper = calcMapper(decimalConfig.getPrecision());
     }
 
-    void write(RecordConsumer recordConsumer, Object value) {
+    void write(ColumnWriter columnWriter, Object value) {
         BigDecimal dec = rescaleIfPossible((BigDecimal) value);
         switch (mapper) {
         case INT:
-            recordConsumer.addInteger(dec.unscaledValue().intValue());
+            columnWriter.write(dec.unscaledValue().intValue(), 0, 1);
             break;
         case LONG:
-            recordConsumer.addLong(dec.unscaledValue().longValue());
+            columnWriter.write(dec.unscaledValue().longValue(), 0, 1);
             break;
         case BINARY:
             byte[] a = dec.unscaledValue().toByteArray();
-            recordConsumer.addBinary(Binary.fromConstantByteArray(a));
+            columnWriter.write(Binary.fromConstantByteArray(a), 0, 1);
             break;
         }
     }
 
+    int valueSize() {
+        switch (mapper) {
+        case INT:
+            return 4;
+        case LONG:
+            return 8;
+        default:
+            return 16;
+        }
+    }
+
     private DecimalMapper calcMapper(int precision) {
         if (precision <= 9) {
             return DecimalMapper.INT;
@@ -0,0 +1,345 @@
+package org.dflib.parquet.write;
+
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.ColumnWriter;
+import org.apache.parquet.io.api.Binary;
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.parquet.write.InstantWrite.InstantToLong;
+import org.dflib.parquet.write.LocalDateTimeWrite.LocalDateTimeToLong;
+import org.dflib.series.DictionarySeries;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.dflib.parquet.write.InstantWrite.getInstantMapper;
+import static org.dflib.parquet.write.LocalDateTimeWrite.getLocalDateTimeMapper;
+
+/**
+ * Writes a range of values of a single DataFrame column to a Parquet column writer. Primitive Series are written
+ * without boxing.
+ */
+abstract class ColumnEncoder {
+
+    // the number of values to sample to estimate the size of the variable length values
+    private static final int SIZE_SAMPLE = 1000;
+
+    static ColumnEncoder of(ColumnMeta column, Series<?> data, WriteConfiguration writeConfiguration) {
+
+        String name = column.getInferredTypeName();
+        switch (name) {
+        case "int":
+            return new IntEncoder((IntSeries) data);
+        case "java.lang.Integer":
+            return new ObjectEncoder(data, 4, (w, v) -> w.write((Integer) v, 0, 1));
+        case "long":
+            return new LongEncoder((LongSeries) data);
+        case "java.lang.Long":
+            return new ObjectEncoder(data, 8, (w, v) -> w.write((Long) v, 0, 1));
+
+        case "java.lang.Byte":
+        case "java.lang.Short":
+            return new ObjectEncoder(data, 4, (w, v) -> w.write(((Number) v).intValue(), 0, 1));
+
+        case "java.lang.Float":
+            return new ObjectEncoder(data, 4, (w, v) -> w.write((Float) v, 0, 1));
+        case "double":
+            return new DoubleEncoder((DoubleSeries) data);
+        case "java.lang.Double":
+            return new ObjectEncoder(data, 8, (w, v) -> w.write((Double) v, 0, 1));
+
+        case "boolean":
+            return new BoolEncoder((BooleanSeries) data);
+        case "java.lang.Boolean":
+            return new ObjectEncoder(data, 1, (w, v) -> w.write((Boolean) v, 0, 1));
+
+        case "java.lang.String":
+            return data instanceof DictionarySeries
+                    ? new DictionaryEncoder((DictionarySeries<?>) data, v -> Binary.fromString((String) v))
+                    : new BinaryEncoder(data, v -> Binary.fromString((String) v));
+
+        case "java.util.UUID":
+            return new ObjectEncoder(data, 16, (w, v) -> w.write(uuidToBinary(v), 0, 1));
+
+        case "java.math.BigDecimal":
+            BigDecimalWrite bigDecimalWrite = new BigDecimalWrite(writeConfiguration.getDecimalConfig());
+            return new ObjectEncoder(data, bigDecimalWrite.valueSize(), bigDecimalWrite::write);
+
+        case "java.time.LocalDate":
+            return new ObjectEncoder(data, 4, (w, v) -> w.write((int) ((LocalDate) v).toEpochDay(), 0, 1));
+        case "java.time.LocalTime":
+            switch (writeConfiguration.getTimeUnit()) {
+            case MILLIS:
+                return new ObjectEncoder(data, 4,
+                        (w, v) -> w.write((int) (((LocalTime) v).toNanoOfDay() / 1_000_000L), 0, 1));
+            case MICROS:
+                return new ObjectEncoder(data, 8, (w, v) -> w.write(((LocalTime) v).toNanoOfDay() / 1_000L, 0, 1));
+            case NANOS:
+                return new ObjectEncoder(data, 8, (w, v) -> w.write(((LocalTime) v).toNanoOfDay(), 0, 1));
+            default:
+                throw new IllegalArgumentException("Invalid " + writeConfiguration.getTimeUnit());
+            }
+        case "java.time.LocalDateTime":
+            LocalDateTimeToLong localDateMapper = getLocalDateTimeMapper(writeConfiguration.getTimeUnit());
+            return new ObjectEncoder(data, 8, (w, v) -> w.write(localDateMapper.map((LocalDateTime) v), 0, 1));
+        case "java.time.Instant":
+            InstantToLong instantMapper = getInstantMapper(writeConfiguration.getTimeUnit());
+            return new ObjectEncoder(data, 8, (w, v) -> w.write(instantMapper.map((Instant) v), 0, 1));
+
+        default:
+            if (column.isEnum()) {
+                return new BinaryEncoder(data, v -> Binary.fromString(((Enum<?>) v).name()));
+            }
+            throw new IllegalArgumentException("Unsupported type " + name);
+        }
+    }
+
+    /**
+     * Writes the column values in the [from, to) range, ending a record in the store after each value.
+     */
+    abstract void write(ColumnWriteStore store, ColumnWriter writer, int from, int to);
+
+    /**
+     * Returns an estimated uncompressed size of a single column value in bytes.
+     */
+    abstract int estimateValueSize();
+
+    private static Binary uuidToBinary(Object value) {
+        UUID uuid = (UUID) value;
+        byte[] arr = new byte[16];
+        ByteBuffer bb = ByteBuffer.wrap(arr);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return Binary.fromConstantByteArray(arr);
+    }
+
+    @FunctionalInterface
+    interface ValueWriter {
+        void write(ColumnWriter writer, Object value);
+    }
+
+    static class IntEncoder extends ColumnEncoder {
+
+        private final IntSeries data;
+
+        IntEncoder(IntSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                writer.write(data.getInt(i), 0, 0);
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+            return 4;
+        }
+    }
+
+    static class LongEncoder extends ColumnEncoder {
+
+        private final LongSeries data;
+
+        LongEncoder(LongSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                writer.write(data.getLong(i), 0, 0);
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+            return 8;
+        }
+    }
+
+    static class DoubleEncoder extends ColumnEncoder {
+
+        private final DoubleSeries data;
+
+        DoubleEncoder(DoubleSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                writer.write(data.getDouble(i), 0, 0);
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+            return 8;
+        }
+    }
+
+    static class BoolEncoder extends ColumnEncoder {
+
+        private final BooleanSeries data;
+
+        BoolEncoder(BooleanSeries data) {
+            this.data = data;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                writer.write(data.getBool(i), 0, 0);
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+            return 1;
+        }
+    }
+
+    static class ObjectEncoder extends ColumnEncoder {
+
+        private final Series<?> data;
+        private final int valueSize;
+        private final ValueWriter valueWriter;
+
+        ObjectEncoder(Series<?> data, int valueSize, ValueWriter valueWriter) {
+            this.data = data;
+            this.valueSize = valueSize;
+            this.valueWriter = valueWriter;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                Object v = data.get(i);
+                if (v != null) {
+                    valueWriter.write(writer, v);
+                } else {
+                    writer.writeNull(0, 0);
+                }
+
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+            return valueSize;
+        }
+    }
+
+    static class BinaryEncoder extends ColumnEncoder {
+
+        private final Series<?> data;
+        private final Function<Object, Binary> converter;
+
+        BinaryEncoder(Series<?> data, Function<Object, Binary> converter) {
+            this.data = data;
+            this.converter = converter;
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                Object v = data.get(i);
+                if (v != null) {
+                    writer.write(converter.apply(v), 0, 1);
+                } else {
+                    writer.writeNull(0, 0);
+                }
+
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+
+            int h = data.size();
+            int step = Math.max(1, h / SIZE_SAMPLE);
+
+            long size = 0;
+            int count = 0;
+            for (int i = 0; i < h; i += step) {
+                Object v = data.get(i);
+                if (v != null) {
+                    // a value is stored with its 4-byte length
+                    size += converter.apply(v).length() + 4;
+                    count++;
+                }
+            }
+
+            return count > 0 ? (int) (size / count) : 1;
+        }
+    }
+
+    /**
+     * Writes a dictionary-backed Series, converting each distinct value to a Parquet Binary only once.
+     */
+    static class DictionaryEncoder extends ColumnEncoder {
+
+        private final int[] codes;
+        private final Binary[] dictionary;
+
+        DictionaryEncoder(DictionarySeries<?> data, Function<Object, Binary> converter) {
+            this.codes = data.getCodes().toIntArray();
+
+            Series<?> values = data.getDictionary();
+            int len = values.size();
+            this.dictionary = new Binary[len];
+            for (int i = 0; i < len; i++) {
+                Object v = values.get(i);
+                dictionary[i] = v != null ? converter.apply(v) : null;
+            }
+        }
+
+        @Override
+        void write(ColumnWriteStore store, ColumnWriter writer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                int code = codes[i];
+                Binary v = code >= 0 ? dictionary[code] : null;
+                if (v != null) {
+                    writer.write(v, 0, 1);
+                } else {
+                    writer.writeNull(0, 0);
+                }
+
+                store.endRecord();
+            }
+        }
+
+        @Override
+        int estimateValueSize() {
+
+            int len = dictionary.length;
+            if (len == 0) {
+                return 1;
+            }
+
+            long size = 0;
+            for (Binary b : dictionary) {
+                size += b != null ? b.length() + 4 : 0;
+            }
+
+            return (int) Math.max(1, size / len);
+        }
+    }
+}
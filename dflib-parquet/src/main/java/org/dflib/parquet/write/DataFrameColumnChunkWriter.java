@@ -0,0 +1,259 @@
+package org.dflib.parquet.write;
+
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.compression.CompressionCodecFactory.BytesInputCompressor;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.schema.MessageType;
+import org.dflib.DataFrame;
+import org.dflib.concurrent.Futures;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes a DataFrame to a Parquet file column by column, encoding each column chunk directly from the column Series.
+ * This avoids per-row dispatching and boxing of the primitive values. Row group boundaries are calculated upfront from the estimated row size, so the row groups
+ * can be encoded and compressed independently of each other, optionally in parallel.
+ *
+ * @since 1.0.0-M23
+ */
+public class DataFrameColumnChunkWriter {
+
+    private final OutputFile outputFile;
+    private final WriteConfiguration writeConfiguration;
+    private final DataFrameSchema schema;
+
+    private ParquetProperties properties;
+    private CompressionCodecName compressionCodec;
+    private long rowGroupSize;
+
+    public DataFrameColumnChunkWriter(OutputFile outputFile, WriteConfiguration writeConfiguration, DataFrameSchema schema) {
+        this.outputFile = outputFile;
+        this.writeConfiguration = writeConfiguration;
+        this.schema = schema;
+
+        this.properties = ParquetProperties.builder().build();
+        this.compressionCodec = CompressionCodecName.UNCOMPRESSED;
+        this.rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Sets Parquet encoding properties, such as page size, dictionary encoding and bloom filters.
+     */
+    public DataFrameColumnChunkWriter withProperties(ParquetProperties properties) {
+        this.properties = properties;
+        return this;
+    }
+
+    public DataFrameColumnChunkWriter withCompressionCodec(CompressionCodecName compressionCodec) {
+        this.compressionCodec = compressionCodec;
+        return this;
+    }
+
+    /**
+     * Sets a target uncompressed size of a row group in bytes. The number of rows in each row group is calculated
+     * from this size and the estimated size of a row.
+     */
+    public DataFrameColumnChunkWriter withRowGroupSize(long rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+        return this;
+    }
+
+    /**
+     * Writes the DataFrame, encoding the row groups sequentially in the calling thread.
+     */
+    public void write(DataFrame df) throws IOException {
+        write(df, null);
+    }
+
+    /**
+     * Writes the DataFrame, encoding and compressing the row groups in parallel using the provided thread pool. The
+     * encoded row groups are appended to the file in order as soon as they are ready.
+     *
+     * @param pool a thread pool to encode the row groups. If null, the row groups are encoded in the calling thread.
+     */
+    public void write(DataFrame df, ExecutorService pool) throws IOException {
+
+        MessageType parquetSchema = new ParquetSchemaCompiler(writeConfiguration).compileSchema(schema);
+
+        List<ColumnMeta> columns = schema.getColumns();
+        int w = columns.size();
+        ColumnEncoder[] encoders = new ColumnEncoder[w];
+        MessageType[] columnSchemas = new MessageType[w];
+        int rowSize = 0;
+        for (int i = 0; i < w; i++) {
+            ColumnMeta column = columns.get(i);
+            encoders[i] = ColumnEncoder.of(column, df.getColumn(column.getIndex()), writeConfiguration);
+            columnSchemas[i] = new MessageType(parquetSchema.getName(), parquetSchema.getType(i));
+            rowSize += encoders[i].estimateValueSize();
+        }
+
+        int h = df.height();
+        int rowGroupRows = (int) Math.max(1, Math.min(h, rowGroupSize / Math.max(1, rowSize)));
+
+        // limiting the number of row groups that were encoded, but not written yet, to cap the memory use
+        int maxPending = Runtime.getRuntime().availableProcessors();
+        Deque<Future<EncodedRowGroup>> pending = new ArrayDeque<>();
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        ParquetFileWriter fileWriter = new ParquetFileWriter(
+                outputFile,
+                parquetSchema,
+                ParquetFileWriter.Mode.OVERWRITE,
+                rowGroupSize,
+                ParquetWriter.MAX_PADDING_SIZE_DEFAULT,
+                null,
+                properties);
+
+        try {
+            fileWriter.start();
+
+            for (int from = 0; from < h; from += rowGroupRows) {
+                int to = Math.min(h, from + rowGroupRows);
+                int rgFrom = from;
+
+                if (pool == null) {
+                    encodeRowGroup(encoders, parquetSchema, columnSchemas, rgFrom, to).writeTo(fileWriter);
+                } else {
+                    if (pending.size() >= maxPending) {
+                        Futures.get(pending.poll()).writeTo(fileWriter);
+                    }
+
+                    pending.add(pool.submit(() -> aborted.get()
+                            ? null
+                            : encodeRowGroup(encoders, parquetSchema, columnSchemas, rgFrom, to)));
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                Futures.get(pending.poll()).writeTo(fileWriter);
+            }
+
+            fileWriter.end(Map.of(ParquetWriter.OBJECT_MODEL_NAME_PROP, "DFLib"));
+
+        } catch (RuntimeException | IOException e) {
+            aborted.set(true);
+            releasePending(pending);
+
+            try {
+                fileWriter.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the row groups that are still being encoded, and releases the buffers and the codecs of all the
+     * pending row groups. The tasks that haven't started yet return null, as the write is aborted.
+     */
+    private static void releasePending(Deque<Future<EncodedRowGroup>> pending) {
+
+        // not cancelling the running tasks, as their results would be lost without releasing their resources
+        for (Future<EncodedRowGroup> f : pending) {
+
+            EncodedRowGroup rowGroup;
+            try {
+                rowGroup = f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | CancellationException e) {
+                continue;
+            }
+
+            if (rowGroup != null) {
+                rowGroup.release();
+            }
+        }
+
+        pending.clear();
+    }
+
+    private EncodedRowGroup encodeRowGroup(
+            ColumnEncoder[] encoders,
+            MessageType parquetSchema,
+            MessageType[] columnSchemas,
+            int from,
+            int to) {
+
+        // each row group is compressed with its own codec instances, as those can't be shared between threads
+        CodecFactory codecFactory = new CodecFactory(new PlainParquetConfiguration(), properties.getPageSizeThreshold());
+
+        // the compressor is passed as the generic BytesInputCompressor, as the constructors taking the Hadoop-specific
+        // BytesCompressor are deprecated. The files are not encrypted, so the encryptor is null, and the row group
+        // ordinal, only used for encryption, is unset
+        BytesInputCompressor compressor = codecFactory.getCompressor(compressionCodec);
+        ColumnChunkPageWriteStore pages = new ColumnChunkPageWriteStore(
+                compressor,
+                parquetSchema,
+                properties.getAllocator(),
+                properties.getColumnIndexTruncateLength(),
+                properties.getPageWriteChecksumEnabled(),
+                null,
+                -1);
+
+        // each column is written via its own single-column store sharing the row group page store, so that the page
+        // size checks are done per column, while the column values are written sequentially
+        EncodedRowGroup rowGroup = new EncodedRowGroup(pages, codecFactory, to - from);
+        try {
+            for (int i = 0; i < encoders.length; i++) {
+                ColumnWriteStore store = properties.newColumnWriteStore(columnSchemas[i], pages, pages);
+                encoders[i].write(store, store.getColumnWriter(columnSchemas[i].getColumns().get(0)), from, to);
+
+                // flushes the buffered pages, dictionary and bloom filter of the column to the page store
+                store.close();
+            }
+        } catch (RuntimeException e) {
+            rowGroup.release();
+            throw e;
+        }
+
+        return rowGroup;
+    }
+
+    private static class EncodedRowGroup {
+
+        private final ColumnChunkPageWriteStore pages;
+        private final CodecFactory codecFactory;
+        private final int rows;
+
+        EncodedRowGroup(ColumnChunkPageWriteStore pages, CodecFactory codecFactory, int rows) {
+            this.pages = pages;
+            this.codecFactory = codecFactory;
+            this.rows = rows;
+        }
+
+        void writeTo(ParquetFileWriter fileWriter) throws IOException {
+            try {
+                fileWriter.startBlock(rows);
+                pages.flushToFileWriter(fileWriter);
+                fileWriter.endBlock();
+            } finally {
+                release();
+            }
+        }
+
+        void release() {
+            pages.close();
+            codecFactory.release();
+        }
+    }
+}
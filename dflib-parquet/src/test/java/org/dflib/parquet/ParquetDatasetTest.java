@@ -0,0 +1,114 @@
+package org.dflib.parquet;
+
+import org.dflib.DataFrame;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetDatasetTest extends BaseParquetTest {
+
+    private static Path dataset;
+
+    @BeforeAll
+    static void saveDataset() {
+        dataset = tempPath("dataset");
+
+        Parquet.saver().partitionBy("year", "region").save(DataFrame.foldByRow("id", "year", "region", "amount").of(
+                1, 2024, "eu", 10.5,
+                2, 2025, "us", 11.5,
+                3, 2024, "eu", 12.5,
+                4, 2025, "eu", 13.5,
+                5, 2024, null, 14.5,
+                6, 2025, "a/b=c", 15.5), dataset);
+    }
+
+    @Test
+    public void save_Layout() {
+        assertTrue(Files.isRegularFile(dataset.resolve("year=2024/region=eu/part-0.parquet")));
+        assertTrue(Files.isRegularFile(dataset.resolve("year=2024/region=" + HivePartitions.NULL_VALUE + "/part-0.parquet")));
+        assertTrue(Files.isRegularFile(dataset.resolve("year=2025/region=a%2Fb%3Dc/part-0.parquet")));
+
+        // partition columns are not stored in the files
+        new DataFrameAsserts(Parquet.load(dataset.resolve("year=2024/region=eu/part-0.parquet")), "id", "amount")
+                .expectHeight(2)
+                .expectRow(0, 1, 10.5)
+                .expectRow(1, 3, 12.5);
+    }
+
+    @Test
+    public void load() {
+        DataFrame df = Parquet.datasetLoader().load(dataset).sort($int("id").asc());
+
+        new DataFrameAsserts(df, "id", "amount", "year", "region")
+                .expectHeight(6)
+                .expectRow(0, 1, 10.5, "2024", "eu")
+                .expectRow(1, 2, 11.5, "2025", "us")
+                .expectRow(2, 3, 12.5, "2024", "eu")
+                .expectRow(3, 4, 13.5, "2025", "eu")
+                .expectRow(4, 5, 14.5, "2024", null)
+                .expectRow(5, 6, 15.5, "2025", "a/b=c");
+    }
+
+    @Test
+    public void load_Partitions() {
+        DataFrame df = Parquet.datasetLoader()
+                .partitionCol("year", Integer::valueOf)
+                .partitions($int("year").eq(2024).and($str("region").isNotNull()))
+                .load(dataset);
+
+        new DataFrameAsserts(df, "id", "amount", "year", "region")
+                .expectHeight(2)
+                .expectRow(0, 1, 10.5, 2024, "eu")
+                .expectRow(1, 3, 12.5, 2024, "eu");
+    }
+
+    @Test
+    public void load_Partitions_NoMatches() {
+        DataFrame df = Parquet.datasetLoader()
+                .partitions($str("region").eq("xx"))
+                .load(dataset);
+
+        new DataFrameAsserts(df, "year", "region").expectHeight(0);
+    }
+
+    @Test
+    public void load_FileLoader() {
+        DataFrame df = Parquet.datasetLoader()
+                .fileLoader(Parquet.loader().cols("id").rows($int("id").gt(4)))
+                .load(dataset)
+                .sort($int("id").asc());
+
+        new DataFrameAsserts(df, "id", "year", "region")
+                .expectHeight(2)
+                .expectRow(0, 5, "2024", null)
+                .expectRow(1, 6, "2025", "a/b=c");
+    }
+
+    @Test
+    public void save_Overwrite() {
+        Path root = tempPath("dataset_overwrite");
+
+        Parquet.saver().partitionBy("p").save(DataFrame.foldByRow("p", "v").of("x", 1, "y", 2), root);
+        Parquet.saver().partitionBy("p").save(DataFrame.foldByRow("p", "v").of("x", 3), root);
+
+        DataFrame df = Parquet.datasetLoader().load(root);
+        new DataFrameAsserts(df, "v", "p")
+                .expectHeight(2)
+                .expectRow(0, 3, "x")
+                .expectRow(1, 2, "y");
+    }
+
+    @Test
+    public void escape() {
+        String value = "a/b=c%d:e\n";
+        assertTrue(HivePartitions.escape(value).indexOf('/') < 0);
+        assertEquals(value, HivePartitions.unescape(HivePartitions.escape(value)));
+    }
+}
@@ -0,0 +1,121 @@
+package org.dflib.parquet;
+
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.LocalInputFile;
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.dflib.Exp.$int;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetLoader_ColumnChunkTest extends BaseParquetTest {
+
+    @Test
+    public void primitiveColumns() {
+
+        DataFrame df = DataFrame.byColumn("i", "l", "d", "b").of(
+                Series.ofInt(1, 2, 3),
+                Series.ofLong(4L, 5L, 6L),
+                Series.ofDouble(7.1, 8.2, 9.3),
+                Series.ofBool(true, false, true));
+
+        Path file = tempPath("primitiveColumns.parquet");
+        Parquet.saver().save(df, file);
+
+        DataFrame loaded = Parquet.loader().load(file);
+
+        assertInstanceOf(IntSeries.class, loaded.getColumn("i"));
+        assertInstanceOf(LongSeries.class, loaded.getColumn("l"));
+        assertInstanceOf(DoubleSeries.class, loaded.getColumn("d"));
+        assertInstanceOf(BooleanSeries.class, loaded.getColumn("b"));
+
+        new DataFrameAsserts(loaded, "i", "l", "d", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, 4L, 7.1, true)
+                .expectRow(1, 2, 5L, 8.2, false)
+                .expectRow(2, 3, 6L, 9.3, true);
+    }
+
+    @Test
+    public void nullableColumns() {
+
+        DataFrame df = DataFrame.foldByRow("i", "s", "d").of(
+                1, "a", null,
+                null, null, 2.5,
+                3, "c", 3.5);
+
+        Path file = tempPath("nullableColumns.parquet");
+        Parquet.saver().save(df, file);
+
+        new DataFrameAsserts(Parquet.loader().load(file), "i", "s", "d")
+                .expectHeight(3)
+                .expectRow(0, 1, "a", null)
+                .expectRow(1, null, null, 2.5)
+                .expectRow(2, 3, "c", 3.5);
+    }
+
+    @Test
+    public void multipleRowGroups() throws IOException {
+
+        Path file = tempPath("multipleRowGroups.parquet");
+        DataFrame df = saveWithRowGroups(file, null);
+
+        DataFrame loaded = Parquet.loader().load(file);
+        assertEquals(df.height(), loaded.height());
+        assertInstanceOf(IntSeries.class, loaded.getColumn("i"));
+        assertEquals(df.getColumn("i").toList(), loaded.getColumn("i").toList());
+        assertEquals(df.getColumn("s").toList(), loaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void multipleRowGroups_Parallel() throws IOException {
+
+        Path file = tempPath("multipleRowGroups_Parallel.parquet");
+        DataFrame df = saveWithRowGroups(file, CompressionCodec.GZIP);
+
+        DataFrame loaded = Parquet.loader().parallelRowGroups().load(file);
+        assertEquals(df.height(), loaded.height());
+        assertInstanceOf(IntSeries.class, loaded.getColumn("i"));
+        assertEquals(df.getColumn("i").toList(), loaded.getColumn("i").toList());
+        assertEquals(df.getColumn("s").toList(), loaded.getColumn("s").toList());
+
+        DataFrame filtered = Parquet.loader().parallelRowGroups().rows($int("i").lt(3)).load(file);
+        new DataFrameAsserts(filtered, "i", "s")
+                .expectHeight(3)
+                .expectRow(0, 0, "s0")
+                .expectRow(1, 1, "s1")
+                .expectRow(2, 2, "s2");
+    }
+
+    private static DataFrame saveWithRowGroups(Path file, CompressionCodec codec) throws IOException {
+
+        int h = 5_000;
+        int[] ints = new int[h];
+        String[] strings = new String[h];
+        for (int i = 0; i < h; i++) {
+            ints[i] = i;
+            strings[i] = "s" + i % 10;
+        }
+
+        DataFrame df = DataFrame.byColumn("i", "s").of(Series.ofInt(ints), Series.of(strings));
+
+        Parquet.saver().compression(codec).rowGroupSize(1024L).save(df, file);
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            assertTrue(reader.getRowGroups().size() > 1, "Expected multiple row groups");
+        }
+
+        return df;
+    }
+}
@@ -0,0 +1,110 @@
+package org.dflib.parquet;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.series.DictionarySeries;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.dflib.Exp.$int;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class ParquetLoader_DictionaryTest extends BaseParquetTest {
+
+    private static final int H = 5_000;
+
+    private static DataFrame df;
+    private static Path file;
+
+    @BeforeAll
+    static void saveFile() {
+        int[] ints = new int[H];
+        String[] strings = new String[H];
+        for (int i = 0; i < H; i++) {
+            ints[i] = i;
+            strings[i] = i % 7 == 0 ? null : "s" + i % 10;
+        }
+
+        df = DataFrame.byColumn("i", "s").of(Series.ofInt(ints), Series.of(strings));
+
+        // multiple row groups, each with its own dictionary
+        file = tempPath("dictionary_rowGroups.parquet");
+        Parquet.saver().rowGroupSize(4096L).save(df, file);
+    }
+
+    @Test
+    public void load() {
+        DataFrame loaded = Parquet.loader().keepDictionaries().load(file);
+
+        DictionarySeries<?> s = assertInstanceOf(DictionarySeries.class, loaded.getColumn("s"));
+        assertEquals(10, s.getDictionary().size());
+        assertEquals(df.getColumn("s").toList(), s.toList());
+        assertEquals(df.getColumn("i").toList(), loaded.getColumn("i").toList());
+    }
+
+    @Test
+    public void load_Parallel() {
+        DataFrame loaded = Parquet.loader().keepDictionaries().parallelRowGroups().load(file);
+
+        DictionarySeries<?> s = assertInstanceOf(DictionarySeries.class, loaded.getColumn("s"));
+        assertEquals(10, s.getDictionary().size());
+        assertEquals(df.getColumn("s").toList(), s.toList());
+    }
+
+    @Test
+    public void load_Rows() {
+        DataFrame loaded = Parquet.loader().keepDictionaries().rows($int("i").ge(4990)).load(file);
+
+        DictionarySeries<?> s = assertInstanceOf(DictionarySeries.class, loaded.getColumn("s"));
+        assertEquals(df.getColumn("s").tail(10).toList(), s.toList());
+    }
+
+    @Test
+    public void load_PlainEncoded() {
+        Path plainFile = tempPath("dictionary_plain.parquet");
+        Parquet.saver().dictionaryEncoding(false).save(df, plainFile);
+
+        DataFrame loaded = Parquet.loader().keepDictionaries().load(plainFile);
+
+        DictionarySeries<?> s = assertInstanceOf(DictionarySeries.class, loaded.getColumn("s"));
+        assertEquals(10, s.getDictionary().size());
+        assertEquals(df.getColumn("s").toList(), s.toList());
+    }
+
+    @Test
+    public void save() {
+        DataFrame loaded = Parquet.loader().keepDictionaries().load(file);
+
+        Path copy = tempPath("dictionary_copy.parquet");
+        Parquet.saver().save(loaded, copy);
+
+        DataFrame reloaded = Parquet.loader().load(copy);
+        assertEquals(df.getColumn("s").toList(), reloaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void load_Enum() {
+        Path enumFile = tempPath("dictionary_enum.parquet");
+        Parquet.saver().save(DataFrame.foldByRow("e").of(X.a, X.b, null, X.a), enumFile);
+
+        DataFrame loaded = Parquet.loader().keepDictionaries().load(enumFile);
+        assertInstanceOf(DictionarySeries.class, loaded.getColumn("e"));
+        new DataFrameAsserts(loaded, "e")
+                .expectHeight(4)
+                .expectRow(0, "a")
+                .expectRow(1, "b")
+                .expectRow(2, (Object) null)
+                .expectRow(3, "a");
+
+        assertEquals(List.of("a", "b"), ((DictionarySeries<?>) loaded.getColumn("e")).getDictionary().toList());
+    }
+
+    enum X {
+        a, b
+    }
+}
@@ -0,0 +1,119 @@
+package org.dflib.parquet;
+
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetLoader_LazyTest extends BaseParquetTest {
+
+    private static Path file;
+
+    @BeforeAll
+    static void saveFile() {
+        file = tempPath("lazy.parquet");
+        Parquet.saver().save(DataFrame.byColumn("a", "b", "c").of(
+                Series.ofInt(1, 2, 3, 4),
+                Series.of("x", null, "z", "w"),
+                Series.ofDouble(1.5, 2.5, 3.5, 4.5)), file);
+    }
+
+    @Test
+    public void load() {
+        DataFrame df = Parquet.loader().lazy().load(file);
+
+        assertEquals(4, df.height());
+        assertFalse(lazyColumn(df, "a").isMaterialized());
+        assertFalse(lazyColumn(df, "b").isMaterialized());
+        assertFalse(lazyColumn(df, "c").isMaterialized());
+
+        assertEquals("z", df.getColumn("b").get(2));
+
+        assertFalse(lazyColumn(df, "a").isMaterialized());
+        assertTrue(lazyColumn(df, "b").isMaterialized());
+        assertFalse(lazyColumn(df, "c").isMaterialized());
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(4)
+                .expectRow(0, 1, "x", 1.5)
+                .expectRow(1, 2, null, 2.5)
+                .expectRow(2, 3, "z", 3.5)
+                .expectRow(3, 4, "w", 4.5);
+    }
+
+    @Test
+    public void materialize() {
+        DataFrame df = Parquet.loader().lazy().load(file).materialize();
+        assertInstanceOf(IntSeries.class, df.getColumn("a"));
+        assertEquals(Series.ofInt(1, 2, 3, 4).toList(), df.getColumn("a").toList());
+    }
+
+    @Test
+    public void primitiveExp() {
+        DataFrame df = Parquet.loader().lazy().load(file);
+
+        assertEquals(int.class, df.getColumn("a").getNominalType());
+        assertInstanceOf(IntSeries.class, df.getColumn("a").castAsInt());
+
+        Series<?> doubled = $int("a").mul(2).eval(df);
+        assertEquals(Series.ofInt(2, 4, 6, 8).toList(), doubled.toList());
+        assertEquals(Series.ofDouble(3., 5., 7., 9.).toList(), $double("c").mul(2.).eval(df).toList());
+    }
+
+    @Test
+    public void cols() {
+        DataFrame df = Parquet.loader().lazy().cols("c", "a").load(file);
+
+        new DataFrameAsserts(df, "c", "a")
+                .expectHeight(4)
+                .expectRow(0, 1.5, 1)
+                .expectRow(3, 4.5, 4);
+    }
+
+    @Test
+    public void rows() {
+        DataFrame df = Parquet.loader().lazy().rows($int("a").gt(2)).load(file);
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(2)
+                .expectRow(0, 3, "z", 3.5)
+                .expectRow(1, 4, "w", 4.5);
+    }
+
+    @Test
+    public void rows_RowGroups() {
+        int h = 5_000;
+        int[] ints = new int[h];
+        String[] strings = new String[h];
+        for (int i = 0; i < h; i++) {
+            ints[i] = i;
+            strings[i] = "s" + i;
+        }
+
+        Path rowGroupsFile = tempPath("lazy_rowGroups.parquet");
+        Parquet.saver()
+                .rowGroupSize(4096L)
+                .save(DataFrame.byColumn("i", "s").of(Series.ofInt(ints), Series.of(strings)), rowGroupsFile);
+
+        DataFrame df = Parquet.loader().lazy().rows($int("i").ge(4998)).load(rowGroupsFile);
+
+        new DataFrameAsserts(df, "i", "s")
+                .expectHeight(2)
+                .expectRow(0, 4998, "s4998")
+                .expectRow(1, 4999, "s4999");
+    }
+
+    private static LazyColumnSeries<?> lazyColumn(DataFrame df, String column) {
+        return assertInstanceOf(LazyColumnSeries.class, df.getColumn(column));
+    }
+}
@@ -0,0 +1,183 @@
+package org.dflib.parquet;
+
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.LocalInputFile;
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.parquet.read.FilterPredicateTranslator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetLoader_RowsTest extends BaseParquetTest {
+
+    private static Path rowGroupsFile;
+    private static Path nullsFile;
+
+    @BeforeAll
+    static void saveFiles() throws IOException {
+
+        // multiple row groups with sorted "i" values, so that each row group has a distinct value range
+        int h = 5_000;
+        int[] ints = new int[h];
+        String[] strings = new String[h];
+        for (int i = 0; i < h; i++) {
+            ints[i] = i;
+            strings[i] = "s" + i % 10;
+        }
+
+        rowGroupsFile = tempPath("rows_rowGroups.parquet");
+        Parquet.saver()
+                .rowGroupSize(1024L)
+                .save(DataFrame.byColumn("i", "s").of(Series.ofInt(ints), Series.of(strings)), rowGroupsFile);
+
+        nullsFile = tempPath("rows_nulls.parquet");
+        Parquet.saver().save(DataFrame.foldByRow("a", "b", "c").of(
+                1, "x", LocalDate.of(2024, 1, 1),
+                null, "y", LocalDate.of(2024, 1, 2),
+                5, null, LocalDate.of(2024, 1, 3),
+                7, "x", null), nullsFile);
+    }
+
+    @Test
+    public void comparison() {
+        DataFrame df = Parquet.loader().rows($int("i").ge(4998)).load(rowGroupsFile);
+
+        new DataFrameAsserts(df, "i", "s")
+                .expectHeight(2)
+                .expectRow(0, 4998, "s8")
+                .expectRow(1, 4999, "s9");
+    }
+
+    @Test
+    public void comparison_Flipped() {
+        DataFrame df = Parquet.loader().rows($dateVal(LocalDate.of(2024, 1, 2)).gt($date("c"))).load(nullsFile);
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(1)
+                .expectRow(0, 1, "x", LocalDate.of(2024, 1, 1));
+    }
+
+    @Test
+    public void in() {
+        DataFrame df = Parquet.loader().rows($int("i").in(3, 4001, 10_000)).load(rowGroupsFile);
+
+        new DataFrameAsserts(df, "i", "s")
+                .expectHeight(2)
+                .expectRow(0, 3, "s3")
+                .expectRow(1, 4001, "s1");
+    }
+
+    @Test
+    public void and_PartiallyTranslated() {
+        DataFrame df = Parquet.loader()
+                .rows($int("i").lt(100).and($str("s").startsWith("s7")))
+                .load(rowGroupsFile);
+
+        assertEquals(10, df.height());
+        assertEquals(List.of(7, 17, 27, 37, 47, 57, 67, 77, 87, 97), df.getColumn("i").toList());
+    }
+
+    @Test
+    public void untranslated() {
+        DataFrame df = Parquet.loader()
+                .rows($str("s").startsWith("s7").and($int("i").add(1).eq(8)))
+                .load(rowGroupsFile);
+
+        new DataFrameAsserts(df, "i", "s")
+                .expectHeight(1)
+                .expectRow(0, 7, "s7");
+    }
+
+    @Test
+    public void cols() {
+        DataFrame df = Parquet.loader()
+                .cols("i")
+                .rows($int("i").eq(4))
+                .load(rowGroupsFile);
+
+        new DataFrameAsserts(df, "i")
+                .expectHeight(1)
+                .expectRow(0, 4);
+    }
+
+    @Test
+    public void nulls() {
+
+        new DataFrameAsserts(Parquet.loader().rows($col("a").ne(5)).load(nullsFile), "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 1, "x", LocalDate.of(2024, 1, 1))
+                .expectRow(1, null, "y", LocalDate.of(2024, 1, 2))
+                .expectRow(2, 7, "x", null);
+
+        new DataFrameAsserts(Parquet.loader().rows($col("b").isNull()).load(nullsFile), "a", "b", "c")
+                .expectHeight(1)
+                .expectRow(0, 5, null, LocalDate.of(2024, 1, 3));
+
+        new DataFrameAsserts(Parquet.loader().rows($str("b").eq("x").or($col("a").isNull())).load(nullsFile), "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 1, "x", LocalDate.of(2024, 1, 1))
+                .expectRow(1, null, "y", LocalDate.of(2024, 1, 2))
+                .expectRow(2, 7, "x", null);
+    }
+
+    @Test
+    public void negation() {
+        DataFrame expected = Parquet.loader().load(nullsFile).rows(not($int("a").gt(4))).select();
+        DataFrame df = Parquet.loader().rows(not($int("a").gt(4))).load(nullsFile);
+
+        assertEquals(expected.height(), df.height());
+        assertEquals(expected.getColumn("a").toList(), df.getColumn("a").toList());
+    }
+
+    @Test
+    public void date() {
+        new DataFrameAsserts(Parquet.loader().rows($date("c").ge(LocalDate.of(2024, 1, 2))).load(nullsFile), "a", "b", "c")
+                .expectHeight(2)
+                .expectRow(0, null, "y", LocalDate.of(2024, 1, 2))
+                .expectRow(1, 5, null, LocalDate.of(2024, 1, 3));
+    }
+
+    @Test
+    public void rowGroupsSkipped() throws IOException {
+
+        FilterPredicate predicate = new FilterPredicateTranslator(Parquet.schemaLoader().load(rowGroupsFile))
+                .translate($int("i").ge(4998));
+        assertNotNull(predicate);
+
+        ParquetReadOptions options = ParquetReadOptions.builder(new PlainParquetConfiguration())
+                .withRecordFilter(FilterCompat.get(predicate))
+                .build();
+
+        try (ParquetFileReader reader = new ParquetFileReader(new LocalInputFile(rowGroupsFile), options)) {
+            assertEquals(1, reader.getRowGroups().size());
+            assertTrue(reader.getRecordCount() < 5_000, "Row groups were not skipped: " + reader.getRecordCount());
+        }
+    }
+
+    @Test
+    public void translate_Unsupported() {
+        FilterPredicateTranslator translator = new FilterPredicateTranslator(Parquet.schemaLoader().load(rowGroupsFile));
+
+        assertNull(translator.translate($str("s").startsWith("s1")));
+
+        // Long constant for an int column
+        assertNull(translator.translate($col("i").eq(5L)));
+        assertNotNull(translator.translate($str("s").eq("s1")));
+    }
+}
@@ -0,0 +1,146 @@
+package org.dflib.parquet;
+
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.io.LocalInputFile;
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetSaver_RowGroupsTest extends BaseParquetTest {
+
+    private static final int H = 5_000;
+
+    private static DataFrame df() {
+        int[] ints = new int[H];
+        String[] strings = new String[H];
+        for (int i = 0; i < H; i++) {
+            ints[i] = i;
+            strings[i] = i % 7 == 0 ? null : "s" + i % 10;
+        }
+
+        return DataFrame.byColumn("i", "s").of(Series.ofInt(ints), Series.of(strings));
+    }
+
+    @Test
+    public void rowGroupSize() throws IOException {
+        Path file = tempPath("rowGroupSize.parquet");
+        Parquet.saver().rowGroupSize(4096L).save(df(), file);
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            List<BlockMetaData> rowGroups = reader.getRowGroups();
+            assertTrue(rowGroups.size() > 1, "Expected multiple row groups: " + rowGroups.size());
+            assertEquals(H, rowGroups.stream().mapToLong(BlockMetaData::getRowCount).sum());
+        }
+
+        DataFrame loaded = Parquet.loader().load(file);
+        assertInstanceOf(IntSeries.class, loaded.getColumn("i"));
+        assertEquals(df().getColumn("i").toList(), loaded.getColumn("i").toList());
+        assertEquals(df().getColumn("s").toList(), loaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void parallelRowGroups() {
+        Path file = tempPath("parallelRowGroups.parquet");
+        Parquet.saver()
+                .rowGroupSize(4096L)
+                .compression(CompressionCodec.GZIP)
+                .parallelRowGroups()
+                .save(df(), file);
+
+        DataFrame loaded = Parquet.loader().load(file);
+        new DataFrameAsserts(loaded, "i", "s")
+                .expectHeight(H)
+                .expectRow(0, 0, null)
+                .expectRow(1, 1, "s1")
+                .expectRow(H - 1, H - 1, "s9");
+
+        assertEquals(df().getColumn("s").toList(), loaded.getColumn("s").toList());
+    }
+
+    @Test
+    public void parallelRowGroups_Failure() {
+        Path file = tempPath("parallelRowGroups_Failure.parquet");
+
+        // the value in the last row group doesn't fit the decimal precision
+        BigDecimal[] decimals = new BigDecimal[H];
+        Arrays.fill(decimals, new BigDecimal("1.50"));
+        decimals[H - 1] = new BigDecimal("12345.50");
+        DataFrame df = df().cols("d").merge(Series.of(decimals));
+
+        assertThrows(RuntimeException.class, () -> Parquet.saver()
+                .rowGroupSize(4096L)
+                .bigDecimal(4, 2)
+                .parallelRowGroups()
+                .save(df, file));
+
+        // the pending row groups are released, and the saver is usable after a failure
+        Parquet.saver().rowGroupSize(4096L).parallelRowGroups().save(df(), file);
+        assertEquals(H, Parquet.loader().load(file).height());
+    }
+
+    @Test
+    public void dictionaryEncoding() throws IOException {
+        Path dictionaryFile = tempPath("dictionary.parquet");
+        Parquet.saver().save(df(), dictionaryFile);
+        assertTrue(encodings(dictionaryFile, 1).stream().anyMatch(Encoding::usesDictionary));
+
+        Path plainFile = tempPath("noDictionary.parquet");
+        Parquet.saver().dictionaryEncoding(false).save(df(), plainFile);
+        assertFalse(encodings(plainFile, 1).stream().anyMatch(Encoding::usesDictionary));
+
+        assertEquals(df().getColumn("s").toList(), Parquet.loader().load(plainFile).getColumn("s").toList());
+    }
+
+    @Test
+    public void pageSize() throws IOException {
+        Path file = tempPath("pageSize.parquet");
+        Parquet.saver().pageSize(512).dictionaryEncoding(false).save(df(), file);
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            ColumnChunkMetaData column = reader.getRowGroups().get(0).getColumns().get(0);
+            assertTrue(reader.readOffsetIndex(column).getPageCount() > 1);
+        }
+
+        assertEquals(df().getColumn("i").toList(), Parquet.loader().load(file).getColumn("i").toList());
+    }
+
+    @Test
+    public void bloomFilter() throws IOException {
+        Path file = tempPath("bloomFilter.parquet");
+
+        // bloom filters are skipped for fully dictionary-encoded columns
+        Parquet.saver().dictionaryEncoding(false).bloomFilter("s").save(df(), file);
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            List<ColumnChunkMetaData> columns = reader.getRowGroups().get(0).getColumns();
+            assertNull(reader.readBloomFilter(columns.get(0)));
+            assertNotNull(reader.readBloomFilter(columns.get(1)));
+        }
+    }
+
+    private static Set<Encoding> encodings(Path file, int column) throws IOException {
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            return reader.getRowGroups().get(0).getColumns().get(column).getEncodings();
+        }
+    }
+}
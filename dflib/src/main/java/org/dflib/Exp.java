@@ -11,6 +11,7 @@ import org.dflib.exp.bool.AndCondition;
 import org.dflib.exp.bool.BoolColumn;
 import org.dflib.exp.bool.BoolConstExp;
 import org.dflib.exp.bool.ConditionFactory;
+import org.dflib.exp.bool.InCondition;
 import org.dflib.exp.bool.OrCondition;
 import org.dflib.exp.datetime.DateColumn;
 import org.dflib.exp.datetime.DateConstExp;
@@ -506,14 +507,14 @@ public interface Exp<T> {
      * @since 0.18
      */
     default Condition in(Object... values) {
-        return MapCondition1.map("in", this, s -> s.in(values));
+        return new InCondition<>(this, values, false);
     }
 
     /**
      * @since 0.18
      */
     default Condition notIn(Object... values) {
-        return MapCondition1.map("in", this, s -> s.notIn(values));
+        return new InCondition<>(this, values, true);
     }
 
     default Condition isNull() {
@@ -1,9 +1,17 @@
 package org.dflib.concat;
 
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
 import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.series.ArraySeries;
+import org.dflib.series.BooleanArraySeries;
+import org.dflib.series.DoubleArraySeries;
 import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+import java.util.Arrays;
 
 import static java.util.Arrays.asList;
 
@@ -46,6 +54,52 @@ public class SeriesConcat {
         return new ArraySeries<>(data);
     }
 
+    /**
+     * Concatenates Series that may be of different types, producing a primitive Series if all the non-empty Series
+     * are primitive Series of the same kind. Empty Series are ignored when checking the types, as they are often
+     * untyped (e.g., those produced from a source with no rows).
+     *
+     * @since 1.0.0-M23
+     */
+    public static Series<?> primitiveConcat(Series<?>... concat) {
+
+        Series<?>[] nonEmpty = Arrays.stream(concat).filter(s -> s.size() > 0).toArray(Series[]::new);
+        switch (nonEmpty.length) {
+            case 0:
+                return concat.length > 0 ? concat[0] : Series.of();
+            case 1:
+                return nonEmpty[0];
+        }
+
+        if (allInstancesOf(nonEmpty, IntSeries.class)) {
+            return intConcat(Arrays.copyOf(nonEmpty, nonEmpty.length, IntSeries[].class));
+        }
+
+        if (allInstancesOf(nonEmpty, LongSeries.class)) {
+            return longConcat(Arrays.copyOf(nonEmpty, nonEmpty.length, LongSeries[].class));
+        }
+
+        if (allInstancesOf(nonEmpty, DoubleSeries.class)) {
+            return doubleConcat(Arrays.copyOf(nonEmpty, nonEmpty.length, DoubleSeries[].class));
+        }
+
+        if (allInstancesOf(nonEmpty, BooleanSeries.class)) {
+            return boolConcat(Arrays.copyOf(nonEmpty, nonEmpty.length, BooleanSeries[].class));
+        }
+
+        return concat((Series<Object>[]) nonEmpty);
+    }
+
+    private static boolean allInstancesOf(Series<?>[] series, Class<?> type) {
+        for (Series<?> s : series) {
+            if (!type.isInstance(s)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public static IntSeries intConcat(IntSeries... concat) {
         return intConcat(asList(concat));
     }
@@ -72,4 +126,103 @@ public class SeriesConcat {
 
         return new IntArraySeries(data);
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static LongSeries longConcat(LongSeries... concat) {
+        return longConcat(asList(concat));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static LongSeries longConcat(Iterable<LongSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (LongSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        long[] data = new long[h];
+        int offset = 0;
+        for (LongSeries s : concat) {
+            int len = s.size();
+            s.copyToLong(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new LongArraySeries(data);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static DoubleSeries doubleConcat(DoubleSeries... concat) {
+        return doubleConcat(asList(concat));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static DoubleSeries doubleConcat(Iterable<DoubleSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (DoubleSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        double[] data = new double[h];
+        int offset = 0;
+        for (DoubleSeries s : concat) {
+            int len = s.size();
+            s.copyToDouble(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new DoubleArraySeries(data);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static BooleanSeries boolConcat(BooleanSeries... concat) {
+        return boolConcat(asList(concat));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static BooleanSeries boolConcat(Iterable<BooleanSeries> concat) {
+        int h = 0;
+        int total = 0;
+        for (BooleanSeries s : concat) {
+            h += s.size();
+            total++;
+        }
+
+        if (total == 1) {
+            return concat.iterator().next();
+        }
+
+        boolean[] data = new boolean[h];
+        int offset = 0;
+        for (BooleanSeries s : concat) {
+            int len = s.size();
+            s.copyToBool(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new BooleanArraySeries(data);
+    }
 }
@@ -0,0 +1,125 @@
+package org.dflib.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Utilities for running groups of tasks on a thread pool and waiting for their results. Task failures are rethrown to
+ * the caller unwrapped (if they are RuntimeExceptions), and the tasks of a failed group that are still running are
+ * cancelled. A group started from a task that is itself running on a pool is run in the caller thread, as blocking a
+ * pool thread on the tasks queued to the same pool may deadlock once all the pool threads are waiting.
+ *
+ * @since 1.0.0-M23
+ */
+public class Futures {
+
+    private static final ThreadLocal<Boolean> IN_PARALLEL_TASK = new ThreadLocal<>();
+
+    /**
+     * Returns true if the current thread is running a pool task, i.e., either a task started via this class or
+     * {@link #parallelTask(Runnable)}, or any task of a ForkJoinPool. Such a thread should not block waiting for
+     * other tasks of the same pool.
+     */
+    public static boolean inParallelTask() {
+        return ForkJoinTask.inForkJoinPool() || IN_PARALLEL_TASK.get() != null;
+    }
+
+    /**
+     * Wraps a task submitted to a thread pool, so that the nested parallel operations started by the task are
+     * detected by {@link #inParallelTask()}.
+     */
+    public static Runnable parallelTask(Runnable task) {
+        return () -> {
+            Boolean outer = IN_PARALLEL_TASK.get();
+            IN_PARALLEL_TASK.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                if (outer == null) {
+                    IN_PARALLEL_TASK.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Submits all the tasks to the pool, and waits for them to finish, returning the results in the order of the
+     * tasks. If any of the tasks fails, the remaining tasks are cancelled, and the failure is rethrown. If called from
+     * a pool task (see {@link #inParallelTask()}), the tasks are run one by one in the calling thread instead.
+     */
+    public static <T> List<T> invokeAll(ExecutorService pool, List<? extends Callable<T>> tasks) {
+
+        if (inParallelTask()) {
+            return callAll(tasks);
+        }
+
+        int len = tasks.size();
+        List<Future<T>> futures = new ArrayList<>(len);
+        for (Callable<T> t : tasks) {
+            FutureTask<T> f = new FutureTask<>(t);
+            pool.execute(parallelTask(f));
+            futures.add(f);
+        }
+
+        List<T> results = new ArrayList<>(len);
+        try {
+            for (Future<T> f : futures) {
+                results.add(get(f));
+            }
+        } catch (RuntimeException e) {
+            cancel(futures);
+            throw e;
+        }
+
+        return results;
+    }
+
+    private static <T> List<T> callAll(List<? extends Callable<T>> tasks) {
+
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Callable<T> t : tasks) {
+            try {
+                results.add(t.call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Error running a parallel task", e);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Waits for the task to finish and returns its result. A task failure is rethrown as is if it is a
+     * RuntimeException, or wrapped in a RuntimeException otherwise.
+     */
+    public static <T> T get(Future<T> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException("Error running a parallel task", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a parallel task", e);
+        }
+    }
+
+    /**
+     * Cancels the tasks, interrupting those that are already running.
+     */
+    public static void cancel(Iterable<? extends Future<?>> tasks) {
+        for (Future<?> t : tasks) {
+            t.cancel(true);
+        }
+    }
+}
@@ -34,6 +34,24 @@ public class Column<T> implements Exp<T> {
         this.position = position;
     }
 
+    /**
+     * Returns the column name, or null if this is a positional column.
+     *
+     * @since 1.0.0-M23
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the column position, or -1 if this is a named column.
+     *
+     * @since 1.0.0-M23
+     */
+    public int getPosition() {
+        return position;
+    }
+
     @Override
     public String toString() {
         return toQL();
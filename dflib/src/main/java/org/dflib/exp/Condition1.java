@@ -20,6 +20,20 @@ public abstract class Condition1<F> implements Condition {
         this.exp = exp;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Exp<F> getExp() {
+        return exp;
+    }
+
     @Override
     public String toString() {
         return toQL();
@@ -22,6 +22,27 @@ public abstract class Condition2<L, R> implements Condition {
         this.right = right;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Exp<L> getLeft() {
+        return left;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Exp<R> getRight() {
+        return right;
+    }
+
     @Override
     public String toString() {
         return toQL();
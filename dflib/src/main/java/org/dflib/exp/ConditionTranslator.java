@@ -0,0 +1,246 @@
+package org.dflib.exp;
+
+import org.dflib.Condition;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.exp.bool.AndCondition;
+import org.dflib.exp.bool.InCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A base class for translating DFLib {@link Condition} expressions to the filters of external data sources, such as
+ * SQL or file format predicates. Walks the condition tree, recognizing comparisons of named columns with constants,
+ * "in" / "notIn", "isNull" / "isNotNull", as well as "and", "or" and "not" combinations of those. Emitting the
+ * predicates is left to subclasses.
+ *
+ * <p>The translation preserves the DFLib NULL semantics. Data source predicates usually don't match NULLs, neither
+ * in their direct nor in their inverted form, while DFLib conditions may match NULLs, e.g., "$col("a").ne(5)" or
+ * "not($int("a").gt(5))". So each column predicate is combined with a null check when needed, based on the result
+ * of the DFLib condition for a NULL value.</p>
+ *
+ * @param <P> the type of translated predicates
+ * @param <C> the type of resolved column references
+ * @since 1.0.0-M23
+ */
+public abstract class ConditionTranslator<P, C> {
+
+    // maps a comparison to the one with the swapped arguments
+    private static final Map<String, String> FLIPPED_COMPARISONS = Map.of(
+            "=", "=",
+            "!=", "!=",
+            "<", ">",
+            "<=", ">=",
+            ">", "<",
+            ">=", "<=");
+
+    // a single-null Series used to find out how DFLib conditions treat NULLs
+    private static final Series<Object> NULL_PROBE = Series.of((Object) null);
+
+    /**
+     * Splits a condition into the parts of its top-level "and", that can be translated independently of each other.
+     */
+    protected static Condition[] conjuncts(Condition condition) {
+        return condition instanceof AndCondition
+                ? ((AndCondition) condition).getArgs()
+                : new Condition[]{condition};
+    }
+
+    /**
+     * Translates the condition to an equivalent predicate, returning null if the condition can't be translated.
+     *
+     * @param negated whether the condition is inside an odd number of "not" conditions
+     */
+    protected P translate(Condition condition, boolean negated) {
+
+        if (condition instanceof ConjunctiveConditionN) {
+            return translateConjunctive((ConjunctiveConditionN) condition, negated);
+        }
+
+        if (condition instanceof ConjunctiveCondition1) {
+            return translateNot((ConjunctiveCondition1) condition, negated);
+        }
+
+        if (condition instanceof InCondition) {
+            return translateIn((InCondition<?>) condition, negated);
+        }
+
+        if (condition instanceof Condition1) {
+            return translateNullCheck((Condition1<?>) condition);
+        }
+
+        if (condition instanceof Condition2) {
+            return translateComparison((Condition2<?, ?>) condition, negated);
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves a named column, returning null if the column can't be used in a predicate.
+     */
+    protected abstract C column(String name);
+
+    protected abstract P and(List<P> predicates);
+
+    protected abstract P or(List<P> predicates);
+
+    protected abstract P not(P predicate);
+
+    /**
+     * Returns a predicate that checks if the column is null or not null, or null if the check can't be translated.
+     */
+    protected abstract P nullCheck(C column, boolean isNull);
+
+    /**
+     * Returns a column comparison with a constant, or null if the comparison can't be translated. The predicate
+     * doesn't need to match NULLs.
+     *
+     * @param op one of "=", "!=", "<", "<=", ">", ">="
+     */
+    protected abstract P compare(C column, String op, Object value);
+
+    /**
+     * Returns a predicate checking that the column values are in (or not in) the array, or null if it can't be
+     * translated. The predicate doesn't need to match NULLs.
+     *
+     * @param values possibly empty array of values
+     */
+    protected abstract P in(C column, Object[] values, boolean negated);
+
+    private P translateConjunctive(ConjunctiveConditionN condition, boolean negated) {
+
+        String op = condition.getOpName();
+        if (!"and".equals(op) && !"or".equals(op)) {
+            return null;
+        }
+
+        Condition[] args = condition.getArgs();
+        List<P> predicates = new ArrayList<>(args.length);
+        for (Condition arg : args) {
+
+            P predicate = translate(arg, negated);
+            if (predicate == null) {
+                return null;
+            }
+
+            predicates.add(predicate);
+        }
+
+        return "and".equals(op) ? and(predicates) : or(predicates);
+    }
+
+    private P translateNot(ConjunctiveCondition1 condition, boolean negated) {
+
+        if (!"not".equals(condition.getOpName())) {
+            return null;
+        }
+
+        P predicate = translate(condition.getArg(), !negated);
+        return predicate != null ? not(predicate) : null;
+    }
+
+    private P translateNullCheck(Condition1<?> condition) {
+
+        String op = condition.getOpName();
+        C column = column(condition.getExp());
+        if (column == null) {
+            return null;
+        }
+
+        if ("isNull".equals(op)) {
+            return nullCheck(column, true);
+        } else if ("isNotNull".equals(op)) {
+            return nullCheck(column, false);
+        }
+
+        return null;
+    }
+
+    private P translateIn(InCondition<?> condition, boolean negated) {
+
+        C column = column(condition.getExp());
+        if (column == null) {
+            return null;
+        }
+
+        P predicate = in(column, condition.getValues(), condition.isNegated());
+        return predicate != null ? nullSafe(condition, column, predicate, negated) : null;
+    }
+
+    private P translateComparison(Condition2<?, ?> condition, boolean negated) {
+
+        C column;
+        Exp<?> constant;
+        String op;
+
+        C leftColumn = column(condition.getLeft());
+        if (leftColumn != null) {
+            column = leftColumn;
+            constant = condition.getRight();
+            op = FLIPPED_COMPARISONS.containsKey(condition.getOpName()) ? condition.getOpName() : null;
+        } else {
+            column = column(condition.getRight());
+            constant = condition.getLeft();
+            op = FLIPPED_COMPARISONS.get(condition.getOpName());
+        }
+
+        if (column == null || op == null || !isConstant(constant)) {
+            return null;
+        }
+
+        Object value;
+        try {
+            value = constant.eval(NULL_PROBE).get(0);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        P predicate = compare(column, op, value);
+        return predicate != null ? nullSafe(condition, column, predicate, negated) : null;
+    }
+
+    /**
+     * Amends a column predicate to match NULLs the same way as the DFLib condition does.
+     */
+    private P nullSafe(Condition condition, C column, P predicate, boolean negated) {
+
+        boolean matchesNull;
+        try {
+            matchesNull = condition.eval(NULL_PROBE).getBool(0);
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        if (matchesNull) {
+            P isNull = nullCheck(column, true);
+            return isNull != null ? or(List.of(predicate, isNull)) : null;
+        } else if (negated) {
+            P isNotNull = nullCheck(column, false);
+            return isNotNull != null ? and(List.of(predicate, isNotNull)) : null;
+        } else {
+            return predicate;
+        }
+    }
+
+    private C column(Exp<?> exp) {
+        return exp instanceof Column ? column(((Column<?>) exp).getName()) : null;
+    }
+
+    private static boolean isConstant(Exp<?> exp) {
+
+        if (exp instanceof ExpScalar1) {
+            return true;
+        }
+
+        // type conversions of constants are added implicitly by the typed expressions, e.g. "$long("a").gt(5)"
+        if (exp instanceof Exp1) {
+            Exp1<?, ?> exp1 = (Exp1<?, ?>) exp;
+            return exp1.getOpName().startsWith("castAs") && isConstant(exp1.getExp());
+        }
+
+        return false;
+    }
+}
@@ -18,6 +18,20 @@ public abstract class ConjunctiveCondition1 implements Condition {
         this.arg = arg;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Condition getArg() {
+        return arg;
+    }
+
     @Override
     public String toString() {
         return toQL();
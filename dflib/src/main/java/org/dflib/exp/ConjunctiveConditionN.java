@@ -28,6 +28,20 @@ public abstract class ConjunctiveConditionN implements Condition {
         this.args = args;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Condition[] getArgs() {
+        return args;
+    }
+
     @Override
     public String toString() {
         return toQL();
@@ -21,6 +21,20 @@ public abstract class Exp1<F, T> implements Exp<T> {
         this.type = type;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Exp<F> getExp() {
+        return exp;
+    }
+
     @Override
     public String toString() {
         return toQL();
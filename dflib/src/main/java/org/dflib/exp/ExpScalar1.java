@@ -21,6 +21,13 @@ public abstract class ExpScalar1<T> implements Exp<T> {
         this.type = Objects.requireNonNull(type);
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public T getValue() {
+        return value;
+    }
+
     @Override
     public String toString() {
         return toQL();
@@ -0,0 +1,56 @@
+package org.dflib.exp.bool;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.exp.Condition1;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A condition that checks whether the argument values are present (or absent) in a fixed set of values.
+ *
+ * @since 1.0.0-M23
+ */
+public class InCondition<F> extends Condition1<F> {
+
+    private final Object[] values;
+    private final boolean negated;
+
+    public InCondition(Exp<F> exp, Object[] values, boolean negated) {
+        super(negated ? "not in" : "in", exp);
+        this.values = values;
+        this.negated = negated;
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    public boolean isNegated() {
+        return negated;
+    }
+
+    @Override
+    public String toQL() {
+        return exp.toQL() + " " + getOpName() + " " + valuesToQL();
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return exp.toQL(df) + " " + getOpName() + " " + valuesToQL();
+    }
+
+    @Override
+    protected BooleanSeries doEval(Series<F> s) {
+        return negated ? s.notIn(values) : s.in(values);
+    }
+
+    private String valuesToQL() {
+        return Arrays.stream(values)
+                .map(v -> Exp.$val(v).toQL())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -22,6 +22,20 @@ public class ExpSorter implements Sorter {
         this.ascending = ascending;
     }
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public Exp<?> getExp() {
+        return exp;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
     @Override
     public IntComparator eval(DataFrame df) {
         Series<?> column = exp.eval(df);
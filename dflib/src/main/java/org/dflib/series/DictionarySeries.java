@@ -0,0 +1,224 @@
+package org.dflib.series;
+
+import org.dflib.BooleanSeries;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.range.Range;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A Series of values stored as a shared dictionary of distinct values and per-row int codes pointing to the dictionary
+ * positions. Null values are stored as negative codes. This is a compact representation of the columns with a small
+ * number of distinct values, e.g. those loaded from dictionary-encoded columns of columnar file formats.
+ *
+ * @since 1.0.0-M23
+ */
+public class DictionarySeries<T> extends ObjectSeries<T> {
+
+    private final T[] dictionary;
+    private final int[] codes;
+
+    /**
+     * @param dictionary distinct values of the Series. The array is not copied, and must not be modified by the caller.
+     * @param codes      per-row positions in the dictionary, with negative values denoting nulls. The array is not
+     *                   copied, and must not be modified by the caller.
+     */
+    public DictionarySeries(T[] dictionary, int[] codes) {
+        super(dictionary.getClass().getComponentType());
+        this.dictionary = dictionary;
+        this.codes = codes;
+    }
+
+    /**
+     * Returns a Series of distinct values referenced by the codes.
+     */
+    public Series<T> getDictionary() {
+        return new ArraySeries<>(dictionary);
+    }
+
+    /**
+     * Returns a Series of per-row dictionary positions, with negative values denoting nulls.
+     */
+    public IntSeries getCodes() {
+        return new IntArraySeries(codes);
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public T get(int index) {
+        int code = codes[index];
+        return code >= 0 ? dictionary[code] : null;
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public Series<T> materialize() {
+        return this;
+    }
+
+    @Override
+    public Series<T> selectRange(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == codes.length) {
+            return this;
+        }
+
+        Range.checkRange(fromInclusive, toExclusive - fromInclusive, codes.length);
+        return new DictionarySeries<>(dictionary, Arrays.copyOfRange(codes, fromInclusive, toExclusive));
+    }
+
+    @Override
+    public Series<T> select(IntSeries positions) {
+
+        int len = positions.size();
+        int[] selected = new int[len];
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+
+            // skipped positions (index < 0) are found in joins
+            selected[i] = p < 0 ? -1 : codes[p];
+        }
+
+        return new DictionarySeries<>(dictionary, selected);
+    }
+
+    @Override
+    public Series<T> select(BooleanSeries positions) {
+
+        int len = codes.length;
+        if (len != positions.size()) {
+            throw new IllegalArgumentException("Positions size " + positions.size() + " is not the same as this size " + len);
+        }
+
+        int[] selected = new int[positions.countTrue()];
+        int j = 0;
+        for (int i = 0; i < len; i++) {
+            if (positions.getBool(i)) {
+                selected[j++] = codes[i];
+            }
+        }
+
+        return new DictionarySeries<>(dictionary, selected);
+    }
+
+    @Override
+    public Series<T> fillNulls(T value) {
+
+        int len = codes.length;
+        int[] filled = null;
+        int valueCode = -1;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+
+                if (filled == null) {
+                    filled = Arrays.copyOf(codes, len);
+                    valueCode = dictionaryCode(value);
+                }
+
+                filled[i] = valueCode;
+            }
+        }
+
+        if (filled == null) {
+            return this;
+        }
+
+        if (valueCode < dictionary.length) {
+            return new DictionarySeries<>(dictionary, filled);
+        }
+
+        // the fill value may not fit the dictionary array component type, so keeping the typed array only if it does
+        T[] expanded = dictionary.getClass().getComponentType().isInstance(value)
+                ? Arrays.copyOf(dictionary, dictionary.length + 1)
+                : (T[]) Arrays.copyOf(dictionary, dictionary.length + 1, Object[].class);
+
+        expanded[valueCode] = value;
+        return new DictionarySeries<>(expanded, filled);
+    }
+
+    // returns the position of the value in the dictionary, or the dictionary length if the value is not there
+    private int dictionaryCode(T value) {
+        int len = dictionary.length;
+        for (int i = 0; i < len; i++) {
+            if (Objects.equals(dictionary[i], value)) {
+                return i;
+            }
+        }
+
+        return len;
+    }
+
+    @Override
+    public Series<T> fillNullsFromSeries(Series<? extends T> values) {
+
+        int len = codes.length;
+        Object[] data = new Object[len];
+        for (int i = 0; i < len; i++) {
+            int code = codes[i];
+            data[i] = code >= 0 ? dictionary[code] : values.get(i);
+        }
+
+        return new ArraySeries<>((T[]) data);
+    }
+
+    @Override
+    public Series<T> fillNullsBackwards() {
+
+        int len = codes.length;
+        int[] filled = null;
+        int next = -1;
+
+        for (int i = len - 1; i >= 0; i--) {
+            if (codes[i] < 0) {
+                if (next >= 0) {
+                    if (filled == null) {
+                        filled = Arrays.copyOf(codes, len);
+                    }
+
+                    filled[i] = next;
+                }
+            } else {
+                next = codes[i];
+            }
+        }
+
+        return filled != null ? new DictionarySeries<>(dictionary, filled) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsForward() {
+
+        int len = codes.length;
+        int[] filled = null;
+        int prev = -1;
+
+        for (int i = 0; i < len; i++) {
+            if (codes[i] < 0) {
+                if (prev >= 0) {
+                    if (filled == null) {
+                        filled = Arrays.copyOf(codes, len);
+                    }
+
+                    filled[i] = prev;
+                }
+            } else {
+                prev = codes[i];
+            }
+        }
+
+        return filled != null ? new DictionarySeries<>(dictionary, filled) : this;
+    }
+}
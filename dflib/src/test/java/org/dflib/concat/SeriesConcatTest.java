@@ -1,5 +1,9 @@
 package org.dflib.concat;
 
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
@@ -7,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 public class SeriesConcatTest {
 
@@ -30,4 +36,42 @@ public class SeriesConcatTest {
         Series<String> c = SeriesConcat.concat(ss);
         new SeriesAsserts(c).expectData("m", "n", "a", "b", "d");
     }
+
+    @Test
+    public void longConcat() {
+        LongSeries c = SeriesConcat.longConcat(Series.ofLong(1L, 2L), Series.ofLong(), Series.ofLong(3L));
+        new SeriesAsserts(c).expectData(1L, 2L, 3L);
+    }
+
+    @Test
+    public void doubleConcat() {
+        DoubleSeries c = SeriesConcat.doubleConcat(Series.ofDouble(1.1, 2.2), Series.ofDouble(3.3));
+        new SeriesAsserts(c).expectData(1.1, 2.2, 3.3);
+    }
+
+    @Test
+    public void boolConcat() {
+        BooleanSeries c = SeriesConcat.boolConcat(Series.ofBool(true), Series.ofBool(false, true));
+        new SeriesAsserts(c).expectData(true, false, true);
+    }
+
+    @Test
+    public void primitiveConcat() {
+        Series<?> c = SeriesConcat.primitiveConcat(Series.ofInt(1, 2), Series.of(), Series.ofInt(3));
+        assertInstanceOf(IntSeries.class, c);
+        new SeriesAsserts(c).expectData(1, 2, 3);
+    }
+
+    @Test
+    public void primitiveConcat_Mixed() {
+        Series<?> c = SeriesConcat.primitiveConcat(Series.ofInt(1, 2), Series.ofLong(3L), Series.of("x"));
+        assertFalse(c instanceof IntSeries);
+        new SeriesAsserts(c).expectData(1, 2, 3L, "x");
+    }
+
+    @Test
+    public void primitiveConcat_AllEmpty() {
+        Series<?> c = SeriesConcat.primitiveConcat(Series.ofLong(), Series.of());
+        new SeriesAsserts(c).expectData();
+    }
 }
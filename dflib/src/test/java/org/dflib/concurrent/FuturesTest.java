@@ -0,0 +1,84 @@
+package org.dflib.concurrent;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FuturesTest {
+
+    private static ExecutorService pool;
+
+    @BeforeAll
+    static void createPool() {
+        pool = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    static void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void invokeAll() {
+        List<Callable<String>> tasks = List.of(() -> "a", () -> "b", () -> "c");
+        assertEquals(List.of("a", "b", "c"), Futures.invokeAll(pool, tasks));
+    }
+
+    @Test
+    public void invokeAll_RuntimeException() {
+        List<Callable<String>> tasks = List.of(() -> "a", () -> {
+            throw new IllegalStateException("x");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> Futures.invokeAll(pool, tasks));
+        assertEquals("x", e.getMessage());
+    }
+
+    @Test
+    public void invokeAll_CheckedException() {
+        List<Callable<String>> tasks = List.of(() -> {
+            throw new IOException("x");
+        });
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> Futures.invokeAll(pool, tasks));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    public void invokeAll_Nested() {
+
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            // the nested tasks would wait forever for the only pool thread if they were submitted to the pool
+            List<Callable<List<String>>> tasks = List.of(() -> Futures.invokeAll(singleThread, List.of(
+                    () -> "a",
+                    () -> String.valueOf(Futures.inParallelTask()))));
+
+            assertEquals(List.of(List.of("a", "true")), Futures.invokeAll(singleThread, tasks));
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void inParallelTask() {
+        assertFalse(Futures.inParallelTask());
+
+        boolean[] inTask = new boolean[1];
+        Futures.parallelTask(() -> inTask[0] = Futures.inParallelTask()).run();
+        assertTrue(inTask[0]);
+        assertFalse(Futures.inParallelTask());
+    }
+}
@@ -0,0 +1,101 @@
+package org.dflib.exp;
+
+import org.dflib.Condition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConditionTranslatorTest {
+
+    private static final StringTranslator translator = new StringTranslator();
+
+    @Test
+    public void comparison() {
+        assertEquals("a > 5", translator.translate($int("a").gt(5)));
+        assertEquals("a = x", translator.translate($val("x").eq($str("a"))));
+        assertEquals("(a != x or a isNull)", translator.translate($str("a").ne("x")));
+        assertNull(translator.translate($int("a").gt($int("b"))));
+        assertNull(translator.translate($int("x").gt(5)));
+    }
+
+    @Test
+    public void comparison_ImplicitCast() {
+        assertEquals("a > 5", translator.translate($long("a").gt(5)));
+    }
+
+    @Test
+    public void in() {
+        assertEquals("a in [1, 2]", translator.translate($int("a").in(1, 2)));
+        assertEquals("(a notIn [1, 2] or a isNull)", translator.translate($int("a").notIn(1, 2)));
+    }
+
+    @Test
+    public void nullCheck() {
+        assertEquals("a isNull", translator.translate($int("a").isNull()));
+        assertEquals("a isNotNull", translator.translate($int("a").isNotNull()));
+    }
+
+    @Test
+    public void andOrNot() {
+        assertEquals("(a > 1 and a < 5)", translator.translate($int("a").gt(1).and($int("a").lt(5))));
+        assertEquals("(a > 1 or a isNull)", translator.translate($int("a").gt(1).or($int("a").isNull())));
+
+        // "not" in DFLib matches NULLs, so the nested predicate must not match them
+        assertEquals("not((a > 1 and a isNotNull))", translator.translate(not($int("a").gt(1))));
+        assertNull(translator.translate($int("a").gt(1).or($str("a").startsWith("x"))));
+    }
+
+    @Test
+    public void conjuncts() {
+        Condition c = $int("a").gt(1).and($str("a").startsWith("x"));
+        assertEquals(2, ConditionTranslator.conjuncts(c).length);
+        assertEquals(1, ConditionTranslator.conjuncts($int("a").gt(1)).length);
+    }
+
+    static class StringTranslator extends ConditionTranslator<String, String> {
+
+        String translate(Condition condition) {
+            return translate(condition, false);
+        }
+
+        @Override
+        protected String column(String name) {
+            return "a".equals(name) ? name : null;
+        }
+
+        @Override
+        protected String and(List<String> predicates) {
+            return "(" + String.join(" and ", predicates) + ")";
+        }
+
+        @Override
+        protected String or(List<String> predicates) {
+            return "(" + String.join(" or ", predicates) + ")";
+        }
+
+        @Override
+        protected String not(String predicate) {
+            return "not(" + predicate + ")";
+        }
+
+        @Override
+        protected String nullCheck(String column, boolean isNull) {
+            return column + (isNull ? " isNull" : " isNotNull");
+        }
+
+        @Override
+        protected String compare(String column, String op, Object value) {
+            return column + " " + op + " " + value;
+        }
+
+        @Override
+        protected String in(String column, Object[] values, boolean negated) {
+            return column + (negated ? " notIn " : " in ") + Arrays.toString(values);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.dflib.exp.condition;
+
+import org.dflib.Condition;
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InConditionTest {
+
+    @Test
+    public void in() {
+        Series<String> s = Series.of("a", "b", null, "c");
+
+        Condition c = $str(0).in("a", "c");
+        new BoolSeriesAsserts(c.eval(s)).expectData(true, false, false, true);
+    }
+
+    @Test
+    public void notIn() {
+        Series<String> s = Series.of("a", "b", null, "c");
+
+        Condition c = $str(0).notIn("a", "c");
+        new BoolSeriesAsserts(c.eval(s)).expectData(false, true, true, false);
+    }
+
+    @Test
+    public void toQL() {
+        assertEquals("a in ('x',2)", $col("a").in("x", 2).toQL());
+        assertEquals("a not in (1)", $col("a").notIn(1).toQL());
+
+        DataFrame df = DataFrame.foldByRow("b").of(1);
+        assertEquals("b in (1)", $int(0).in(1).toQL(df));
+    }
+}
@@ -0,0 +1,92 @@
+package org.dflib.series;
+
+import org.dflib.Series;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DictionarySeriesTest {
+
+    @Test
+    public void get() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{1, 0, -1, 1});
+
+        assertEquals(String.class, s.getNominalType());
+        new SeriesAsserts(s).expectData("b", "a", null, "b");
+        new SeriesAsserts(s.getDictionary()).expectData("a", "b");
+        new SeriesAsserts(s.getCodes()).expectData(1, 0, -1, 1);
+    }
+
+    @Test
+    public void fillNulls() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+        new SeriesAsserts(s.fillNulls("x")).expectData("x", "a", "x", "b");
+
+        DictionarySeries<String> noNulls = new DictionarySeries<>(new String[]{"a"}, new int[]{0, 0});
+        assertSame(noNulls, noNulls.fillNulls("x"));
+    }
+
+    @Test
+    public void fillNulls_ValueInDictionary() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+
+        DictionarySeries<String> filled = assertInstanceOf(DictionarySeries.class, s.fillNulls("b"));
+        new SeriesAsserts(filled).expectData("b", "a", "b", "b");
+        new SeriesAsserts(filled.getDictionary()).expectData("a", "b");
+    }
+
+    @Test
+    public void fillNulls_OtherType() {
+        DictionarySeries<Object> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, 1});
+        new SeriesAsserts(s.fillNulls(5)).expectData(5, "a", "b");
+    }
+
+    @Test
+    public void selectRange() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+
+        DictionarySeries<String> range = assertInstanceOf(DictionarySeries.class, s.selectRange(1, 4));
+        new SeriesAsserts(range).expectData("a", null, "b");
+        new SeriesAsserts(range.getDictionary()).expectData("a", "b");
+        new SeriesAsserts(s.selectRange(2, 2)).expectData();
+    }
+
+    @Test
+    public void select_Positions() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+
+        Series<String> selected = s.select(Series.ofInt(3, -1, 1, 3));
+        assertInstanceOf(DictionarySeries.class, selected);
+        new SeriesAsserts(selected).expectData("b", null, "a", "b");
+    }
+
+    @Test
+    public void select_Booleans() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+
+        Series<String> selected = s.select(Series.ofBool(false, true, true, true));
+        assertInstanceOf(DictionarySeries.class, selected);
+        new SeriesAsserts(selected).expectData("a", null, "b");
+    }
+
+    @Test
+    public void fillNullsForward() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1, -1});
+        new SeriesAsserts(s.fillNullsForward()).expectData(null, "a", "a", "b", "b");
+    }
+
+    @Test
+    public void fillNullsBackwards() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1, -1});
+        new SeriesAsserts(s.fillNullsBackwards()).expectData("a", "a", "b", "b", null);
+    }
+
+    @Test
+    public void fillNullsFromSeries() {
+        DictionarySeries<String> s = new DictionarySeries<>(new String[]{"a", "b"}, new int[]{-1, 0, -1, 1});
+        new SeriesAsserts(s.fillNullsFromSeries(new ArraySeries<>("w", "x", "y", "z"))).expectData("w", "a", "y", "b");
+    }
+}